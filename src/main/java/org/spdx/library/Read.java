@@ -35,6 +35,7 @@ import org.spdx.library.model.TypedValue;
 import org.spdx.storage.IModelStore;
 import org.spdx.storage.IModelStore.IModelStoreLock;
 import org.spdx.storage.ISerializableModelStore;
+import org.spdx.storage.streaming.IModelItemVisitor;
 
 /**
  * Supports reading SPDX documents from an existing ModelStore
@@ -113,6 +114,29 @@ public class Read {
 		}
 	}
 	
+	/**
+	 * Passes the items of an SPDX document stored in the modelStore one at a time to a writer.  The items
+	 * are partitioned by type with the SPDX document first and ordered by ID within each type.
+	 * 
+	 * @param modelStore  Storage for the model objects
+	 * @param documentUri SPDX Document URI for a document associated with this
+	 *                    model
+	 * @param writer      Writer for the items - a writer for a serialization format can be opened with
+	 *                    <code>openWriter</code> on the serializer
+	 * @throws InvalidSPDXAnalysisException
+	 */
+	public static void serialize(ISerializableModelStore modelStore, String documentUri, IModelItemVisitor writer) throws InvalidSPDXAnalysisException {
+		Objects.requireNonNull(modelStore, "Model store can not be null");
+		Objects.requireNonNull(documentUri, "Document URI can not be null");
+		Objects.requireNonNull(writer, "Writer can not be null");
+		IModelStoreLock lock = modelStore.enterCriticalSection(documentUri, true);
+		try {
+			modelStore.serialize(documentUri, writer);
+		} finally {
+			modelStore.leaveCriticalSection(lock);
+		}
+	}
+	
 	/**
 	 * Write the SPDX document stored in the modelStore to a file
 	 * @param modelStore Storage for the model objects
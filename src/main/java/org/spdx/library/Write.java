@@ -28,6 +28,7 @@ import org.spdx.storage.IModelStore;
 import org.spdx.storage.ISerializableModelStore;
 import org.spdx.storage.IModelStore.IModelStoreLock;
 import org.spdx.storage.IModelStore.ModelUpdate;
+import org.spdx.storage.streaming.IModelItemVisitor;
 
 /**
  * Static class to provide write operations to the model.  
@@ -86,6 +87,23 @@ public class Write {
 		}
 	}
 	
+	/**
+	 * Deserialize a document from an input stream passing each item to a visitor as it is parsed.  The items
+	 * are not stored in the model store unless the serializer does not support streaming.
+	 * @param modelStore Serializer for the format of the input stream
+	 * @param stream Input stream to deserialize the data
+	 * @param visitor Visitor for the items in the document - a <code>ModelStoreItemLoader</code> can be used to load the items into another store
+	 * @return document URI of the deserialized document
+	 * @throws InvalidSPDXAnalysisException
+	 * @throws IOException
+	 */
+	public static String deSerialize(ISerializableModelStore modelStore, InputStream stream, IModelItemVisitor visitor) throws InvalidSPDXAnalysisException, IOException {
+		Objects.requireNonNull(modelStore, "Model store can not be null");
+		Objects.requireNonNull(stream, "Stream can not be null");
+		Objects.requireNonNull(visitor, "Visitor can not be null");
+		return modelStore.deSerialize(stream, visitor);
+	}
+	
 	/**
 	 * Reads a file into a model store
 	 * @param modelStore
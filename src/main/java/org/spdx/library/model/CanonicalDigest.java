@@ -0,0 +1,335 @@
+/**
+ * Copyright (c) 2026 Source Auditor Inc.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * 
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.library.model;
+
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.spdx.Configuration;
+import org.spdx.library.InvalidSPDXAnalysisException;
+import org.spdx.library.SpdxConstants;
+import org.spdx.library.model.license.SpdxNoAssertionLicense;
+import org.spdx.storage.IModelStore;
+import org.spdx.storage.IModelStore.IdType;
+import org.spdx.storage.IRevisionedModelStore;
+
+/**
+ * Canonical content digests for model objects used to speed up <code>ModelObject.equivalent</code>.
+ * 
+ * The digest is a 64 bit hash over the normalized property values of a model object computed
+ * bottom up through any nested model objects.  Equivalent objects always have the same digest,
+ * so objects with different digests can be rejected without a property by property comparison.
+ * Objects with the same digest still require a full comparison.
+ * 
+ * Values whose equivalence can not be captured in a digest - objects of classes which
+ * override <code>equals</code> or <code>equivalent</code>, SPDX elements and individual URI values
+ * in collections - hash to a single wildcard value.
+ * 
+ * Digests are memoized per model store revision and are only used for stores implementing
+ * <code>IRevisionedModelStore</code>.  Digests are disabled by default and can be enabled with the
+ * <code>org.spdx.canonicalDigestsEnabled</code> configuration property or <code>setEnabled</code>.
+ * 
+ * @author Gary O'Neall
+ *
+ */
+public final class CanonicalDigest {
+	
+	static final String ENABLED_PROPERTY = "org.spdx.canonicalDigestsEnabled";
+	
+	private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+	private static final long FNV_PRIME = 0x100000001b3L;
+	
+	/**
+	 * Token for values which may be equivalent to any other wildcard value
+	 */
+	static final long WILDCARD = 0x5744434152444c57L;
+	
+	private static volatile boolean enabled = Boolean.parseBoolean(
+			Configuration.getInstance().getProperty(ENABLED_PROPERTY, "false"));
+	
+	/**
+	 * Memoized digests - store to (document URI + ID) to {revision, digest}
+	 */
+	private static final Map<IModelStore, Map<String, long[]>> digestCache = 
+			Collections.synchronizedMap(new WeakHashMap<>());
+	
+	private static final Map<Class<?>, Boolean> wildcardClasses = new ConcurrentHashMap<>();
+	private static final Map<Class<?>, Boolean> wildcardMemberClasses = new ConcurrentHashMap<>();
+	
+	private CanonicalDigest() {
+		// static only
+	}
+	
+	/**
+	 * @return true if digests are used in equivalence comparisons
+	 */
+	public static boolean isEnabled() {
+		return enabled;
+	}
+	
+	/**
+	 * @param enabled if true, use digests in equivalence comparisons
+	 */
+	public static void setEnabled(boolean enabled) {
+		CanonicalDigest.enabled = enabled;
+		if (!enabled) {
+			clearCache();
+		}
+	}
+	
+	/**
+	 * Remove all memoized digests
+	 */
+	public static void clearCache() {
+		digestCache.clear();
+	}
+	
+	/**
+	 * @param modelObject
+	 * @return true if digests are enabled and can be memoized for the model object
+	 */
+	static boolean isAvailable(ModelObject modelObject) {
+		return enabled && modelObject.getModelStore() instanceof IRevisionedModelStore;
+	}
+	
+	/**
+	 * @param modelObject
+	 * @return digest for the properties of the model object - the object's own class is always used
+	 * even if the class overrides <code>equivalent</code>
+	 * @throws InvalidSPDXAnalysisException
+	 */
+	static long digest(ModelObject modelObject) throws InvalidSPDXAnalysisException {
+		IModelStore store = modelObject.getModelStore();
+		if (!(store instanceof IRevisionedModelStore)) {
+			return computeDigest(modelObject);
+		}
+		long revision = ((IRevisionedModelStore)store).getRevision();
+		String key = modelObject.getDocumentUri() + "#" + modelObject.getId();
+		Map<String, long[]> storeCache;
+		synchronized(digestCache) {
+			storeCache = digestCache.get(store);
+			if (storeCache == null) {
+				storeCache = new ConcurrentHashMap<>();
+				digestCache.put(store, storeCache);
+			}
+		}
+		long[] cached = storeCache.get(key);
+		if (cached != null && cached[0] == revision) {
+			return cached[1];
+		}
+		// the revision is read before computing so that a concurrent change will invalidate the result
+		long retval = computeDigest(modelObject);
+		storeCache.put(key, new long[] {revision, retval});
+		return retval;
+	}
+	
+	private static long computeDigest(ModelObject modelObject) throws InvalidSPDXAnalysisException {
+		long retval = hashString(modelObject.getClass().getName());
+		for (String propertyName:modelObject.getPropertyValueNames()) {
+			if (SpdxConstants.PROP_RELATED_SPDX_ELEMENT.equals(propertyName)) {
+				continue;	// may be ignored in the comparison
+			}
+			Optional<Object> value = modelObject.getObjectPropertyValue(propertyName);
+			if (!value.isPresent() || isEquivalentToNull(value.get(), propertyName)) {
+				continue;
+			}
+			Long valueToken = propertyValueToken(value.get());
+			if (valueToken != null) {
+				// the sum makes the digest independent of the property order
+				retval += mix(hashString(propertyName) ^ valueToken);
+			}
+		}
+		return mix(retval);
+	}
+	
+	/**
+	 * Must be consistent with <code>ModelObject.isEquivalentToNull</code>
+	 */
+	private static boolean isEquivalentToNull(Object value, String propertyName) {
+		if (value instanceof ModelCollection) {
+			return ((ModelCollection<?>)value).size() == 0;
+		} else if (value instanceof SpdxNoAssertionLicense) {
+			return true;
+		} else if (SpdxConstants.PROP_PACKAGE_FILES_ANALYZED.equals(propertyName)) {
+			return value instanceof Boolean && (Boolean)value;
+		} else {
+			return false;
+		}
+	}
+	
+	/**
+	 * @param value property value
+	 * @return token for the property value or null if the value is equivalent to no value
+	 * @throws InvalidSPDXAnalysisException
+	 */
+	private static Long propertyValueToken(Object value) throws InvalidSPDXAnalysisException {
+		if (value instanceof ModelCollection) {
+			return collectionToken(((ModelCollection<?>)value).toImmutableList());
+		} else if (value instanceof List) {
+			return collectionToken((List<?>)value);
+		} else if (value instanceof IndividualUriValue) {
+			// Individual URI values are compared by URI and the NONE and NOASSERTION URI's match their strings
+			String uri = ((IndividualUriValue)value).getIndividualURI();
+			if (SpdxConstants.URI_VALUE_NOASSERTION.equals(uri)) {
+				return null;
+			} else if (SpdxConstants.URI_VALUE_NONE.equals(uri)) {
+				return stringToken(SpdxConstants.NONE_VALUE);
+			} else {
+				return hashString("uri:" + uri);
+			}
+		} else if (value instanceof ModelObject) {
+			ModelObject modelObject = (ModelObject)value;
+			return isWildcardClass(modelObject.getClass()) ? WILDCARD : digest(modelObject);
+		} else if (value instanceof String) {
+			String normalized = ((String)value).replaceAll("\r\n", "\n").trim();
+			return SpdxConstants.NOASSERTION_VALUE.equals(normalized) ? null : stringToken(normalized);
+		} else {
+			return simpleValueToken(value);
+		}
+	}
+	
+	private static long stringToken(String s) {
+		return hashString("s:" + s);
+	}
+	
+	private static Long simpleValueToken(Object value) {
+		if (value instanceof Boolean || value instanceof Number || value instanceof Enum) {
+			return hashString(value.getClass().getName() + ":" + value.toString());
+		} else {
+			return WILDCARD;
+		}
+	}
+	
+	/**
+	 * @param list
+	 * @return token for the collection based on the size and the distinct member tokens or null if any member can not be tokenized
+	 * @throws InvalidSPDXAnalysisException
+	 */
+	private static long collectionToken(List<?> list) throws InvalidSPDXAnalysisException {
+		long[] tokens = memberTokens(list);
+		if (tokens == null) {
+			return WILDCARD;
+		}
+		Arrays.sort(tokens);
+		long retval = mix(list.size());
+		long last = 0;
+		for (int i = 0; i < tokens.length; i++) {
+			if (i == 0 || tokens[i] != last) {
+				retval = mix(retval * FNV_PRIME + tokens[i]);
+				last = tokens[i];
+			}
+		}
+		return retval;
+	}
+	
+	/**
+	 * Collection members are compared using <code>equals</code> before <code>equivalent</code> so
+	 * the member tokens must be consistent with both
+	 * @param list collection members
+	 * @return tokens for each of the members in list order or null if any member can not be tokenized
+	 * @throws InvalidSPDXAnalysisException
+	 */
+	static long[] memberTokens(List<?> list) throws InvalidSPDXAnalysisException {
+		long[] retval = new long[list.size()];
+		int i = 0;
+		for (Object member:list) {
+			Long token = memberToken(member);
+			if (token == null) {
+				return null;
+			}
+			retval[i++] = token;
+		}
+		return retval;
+	}
+	
+	private static Long memberToken(Object member) throws InvalidSPDXAnalysisException {
+		if (member instanceof String) {
+			return stringToken((String)member);	// contains compares the strings without normalization
+		} else if (member instanceof IndividualUriValue) {
+			return WILDCARD;
+		} else if (member instanceof ModelObject) {
+			ModelObject modelObject = (ModelObject)member;
+			if (isWildcardMemberClass(modelObject.getClass())) {
+				return WILDCARD;
+			}
+			if (!IdType.Anonymous.equals(modelObject.getModelStore().getIdType(modelObject.getId()))) {
+				// equals is based on the ID only
+				return null;
+			}
+			return digest(modelObject);
+		} else if (member instanceof Boolean || member instanceof Number) {
+			return simpleValueToken(member);
+		} else {
+			return null;
+		}
+	}
+	
+	/**
+	 * @param clazz model object class
+	 * @return true if objects of the class may be equivalent to objects with different content
+	 */
+	private static boolean isWildcardClass(Class<?> clazz) {
+		return wildcardClasses.computeIfAbsent(clazz, c -> 
+			SpdxElement.class.isAssignableFrom(c) || 
+			overrides(c, "equivalent", ModelObject.class, boolean.class));
+	}
+	
+	/**
+	 * @param clazz model object class
+	 * @return true if objects of the class may be equal or equivalent to objects with different content
+	 */
+	private static boolean isWildcardMemberClass(Class<?> clazz) {
+		return wildcardMemberClasses.computeIfAbsent(clazz, c -> 
+			isWildcardClass(c) || overrides(c, "equals", Object.class));
+	}
+	
+	private static boolean overrides(Class<?> clazz, String methodName, Class<?>... parameterTypes) {
+		try {
+			Method method = clazz.getMethod(methodName, parameterTypes);
+			return !ModelObject.class.equals(method.getDeclaringClass());
+		} catch (NoSuchMethodException | SecurityException e) {
+			return true;
+		}
+	}
+	
+	private static long hashString(String s) {
+		long retval = FNV_OFFSET_BASIS;
+		for (byte b:s.getBytes(StandardCharsets.UTF_8)) {
+			retval ^= (b & 0xff);
+			retval *= FNV_PRIME;
+		}
+		return retval;
+	}
+	
+	/**
+	 * Finalizer from SplitMix64 to spread the bits of combined hashes
+	 */
+	private static long mix(long value) {
+		long retval = value;
+		retval = (retval ^ (retval >>> 30)) * 0xbf58476d1ce4e5b9L;
+		retval = (retval ^ (retval >>> 27)) * 0x94d049bb133111ebL;
+		return retval ^ (retval >>> 31);
+	}
+}
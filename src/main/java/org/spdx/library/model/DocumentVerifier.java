@@ -0,0 +1,355 @@
+/**
+ * Copyright (c) 2026 Source Auditor Inc.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * 
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.library.model;
+
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.stream.Collectors;
+
+import org.spdx.library.InvalidSPDXAnalysisException;
+import org.spdx.library.ModelCopyManager;
+import org.spdx.storage.IModelStore;
+import org.spdx.storage.IRevisionedModelStore;
+
+/**
+ * Verifies all of the SPDX elements in an SPDX document in parallel.
+ * 
+ * The document is partitioned by SPDX element.  Each element is verified separately
+ * treating all other elements in the document as already verified, so the elements
+ * can be verified independently in a fork join pool.  The warnings for each element
+ * are reported once with the name of the element rather than the path from the SPDX document
+ * to the element.  Elements in the document not reachable from the SPDX document are also verified.
+ * 
+ * If the model store implements <code>IRevisionedModelStore</code>, the results for each
+ * element are kept and <code>verifyChanges</code> only re-verifies elements which have been
+ * created or changed since the last verification.  An element is considered changed if the element
+ * or any non-element object it references (e.g. checksums, annotations, relationships or licenses)
+ * has been modified.
+ * 
+ * @author Gary O'Neall
+ *
+ */
+public class DocumentVerifier {
+	
+	/**
+	 * Number of elements verified in a single fork join task
+	 */
+	static final int VERIFY_BATCH_SIZE = 128;
+	
+	/**
+	 * Verification results for a single element
+	 */
+	private static class ElementResult {
+		String type;
+		List<String> warnings;
+		
+		ElementResult(String type, List<String> warnings) {
+			this.type = type;
+			this.warnings = warnings;
+		}
+	}
+	
+	/**
+	 * Verified ID's for the verification of a single element - all other elements in the document
+	 * are treated as already verified
+	 */
+	private static class IsolatedVerifiedIds extends AbstractSet<String> {
+		private final Set<String> elementIds;
+		private final String elementId;
+		private final Set<String> verifiedIds = new HashSet<>();
+		
+		/**
+		 * @param elementIds ID's of all elements in the document
+		 * @param elementId ID of the element being verified
+		 */
+		IsolatedVerifiedIds(Set<String> elementIds, String elementId) {
+			this.elementIds = elementIds;
+			this.elementId = elementId;
+		}
+
+		@Override
+		public boolean contains(Object id) {
+			return verifiedIds.contains(id) || (!elementId.equals(id) && elementIds.contains(id));
+		}
+
+		@Override
+		public boolean add(String id) {
+			return verifiedIds.add(id);
+		}
+
+		@Override
+		public Iterator<String> iterator() {
+			return Collections.unmodifiableSet(verifiedIds).iterator();
+		}
+
+		@Override
+		public int size() {
+			return verifiedIds.size();
+		}
+	}
+	
+	/**
+	 * Verifies a batch of elements
+	 */
+	private class VerifyTask extends RecursiveTask<List<ElementResult>> {
+		private static final long serialVersionUID = 1L;
+		
+		private final List<String> ids;
+		private final List<String> types;
+		private final Set<String> elementIds;
+		private final String specVersion;
+		
+		VerifyTask(List<String> ids, List<String> types, Set<String> elementIds, String specVersion) {
+			this.ids = ids;
+			this.types = types;
+			this.elementIds = elementIds;
+			this.specVersion = specVersion;
+		}
+
+		@Override
+		protected List<ElementResult> compute() {
+			List<ElementResult> retval = new ArrayList<>(ids.size());
+			for (int i = 0; i < ids.size(); i++) {
+				retval.add(new ElementResult(types.get(i), verifyElement(ids.get(i), types.get(i), elementIds, specVersion)));
+			}
+			return retval;
+		}
+	}
+	
+	private final IModelStore modelStore;
+	private final String documentUri;
+	private final ModelCopyManager copyManager;
+	private final ForkJoinPool pool;
+	
+	/**
+	 * Results of the last verification by element ID
+	 */
+	private Map<String, ElementResult> lastResults = null;
+	private String lastSpecVersion = null;
+	private long lastRevision = -1;
+	private int lastVerifiedCount = 0;
+	
+	/**
+	 * Create a verifier using the common fork join pool
+	 * @param document SPDX document to verify
+	 */
+	public DocumentVerifier(SpdxDocument document) {
+		this(document, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * @param document SPDX document to verify
+	 * @param pool pool used to run the verifications
+	 */
+	public DocumentVerifier(SpdxDocument document, ForkJoinPool pool) {
+		Objects.requireNonNull(document, "Document can not be null");
+		Objects.requireNonNull(pool, "Pool can not be null");
+		this.modelStore = document.getModelStore();
+		this.documentUri = document.getDocumentUri();
+		this.copyManager = document.getCopyManager();
+		this.pool = pool;
+	}
+	
+	/**
+	 * Verify all elements in the document
+	 * @param specVersion Version of the SPDX spec to verify against
+	 * @return Any verification errors or warnings for the elements in the document
+	 * @throws InvalidSPDXAnalysisException on errors reading the elements from the model store
+	 */
+	public synchronized List<String> verify(String specVersion) throws InvalidSPDXAnalysisException {
+		lastResults = null;
+		return verifyChanges(specVersion);
+	}
+	
+	/**
+	 * Verify only the elements created or changed since the last verification.  The results
+	 * of the last verification are used for unchanged elements.  If the model store does
+	 * not track revisions or the spec version differs from the last verification, all elements
+	 * are verified.
+	 * @param specVersion Version of the SPDX spec to verify against
+	 * @return Any verification errors or warnings for the elements in the document
+	 * @throws InvalidSPDXAnalysisException on errors reading the elements from the model store
+	 */
+	public synchronized List<String> verifyChanges(String specVersion) throws InvalidSPDXAnalysisException {
+		Objects.requireNonNull(specVersion, "Spec version can not be null");
+		boolean incremental = modelStore instanceof IRevisionedModelStore && Objects.nonNull(lastResults) &&
+				specVersion.equals(lastSpecVersion);
+		// The revision is read before verifying so that concurrent changes are re-verified next time
+		long startRevision = modelStore instanceof IRevisionedModelStore ? ((IRevisionedModelStore)modelStore).getDocumentRevision(documentUri) : -1;
+		Map<String, String> elementTypes = new HashMap<>();
+		List<String> elementIdList = new ArrayList<>();
+		for (TypedValue tv:modelStore.getAllItems(documentUri, null).collect(Collectors.toList())) {
+			if (isElementType(tv.getType())) {
+				elementIdList.add(tv.getId());
+				elementTypes.put(tv.getId(), tv.getType());
+			}
+		}
+		Set<String> elementIds = Collections.unmodifiableSet(elementTypes.keySet());
+		List<String> idsToVerify = new ArrayList<>();
+		List<String> typesToVerify = new ArrayList<>();
+		for (String id:elementIdList) {
+			ElementResult lastResult = incremental ? lastResults.get(id) : null;
+			if (Objects.isNull(lastResult) || !lastResult.type.equals(elementTypes.get(id)) ||
+					isChanged(id, elementIds)) {
+				idsToVerify.add(id);
+				typesToVerify.add(elementTypes.get(id));
+			}
+		}
+		List<VerifyTask> tasks = new ArrayList<>();
+		for (int start = 0; start < idsToVerify.size(); start += VERIFY_BATCH_SIZE) {
+			int end = Math.min(start + VERIFY_BATCH_SIZE, idsToVerify.size());
+			tasks.add(new VerifyTask(idsToVerify.subList(start, end), typesToVerify.subList(start, end), 
+					elementIds, specVersion));
+		}
+		invokeAll(tasks);
+		Map<String, ElementResult> results = new HashMap<>();
+		int index = 0;
+		for (VerifyTask task:tasks) {
+			for (ElementResult result:task.join()) {
+				results.put(idsToVerify.get(index++), result);
+			}
+		}
+		List<String> retval = new ArrayList<>();
+		Map<String, ElementResult> newResults = new HashMap<>();
+		for (String id:elementIdList) {
+			ElementResult result = results.get(id);
+			if (Objects.isNull(result)) {
+				result = lastResults.get(id);
+			}
+			newResults.put(id, result);
+			retval.addAll(result.warnings);
+		}
+		lastResults = newResults;
+		lastSpecVersion = specVersion;
+		lastRevision = startRevision;
+		lastVerifiedCount = idsToVerify.size();
+		return retval;
+	}
+	
+	/**
+	 * @return number of elements verified in the last verification
+	 */
+	int getLastVerifiedCount() {
+		return lastVerifiedCount;
+	}
+	
+	private void invokeAll(List<VerifyTask> tasks) {
+		if (tasks.isEmpty()) {
+			return;
+		}
+		if (ForkJoinTask.inForkJoinPool()) {
+			ForkJoinTask.invokeAll(tasks);
+		} else {
+			pool.invoke(new RecursiveAction() {
+				private static final long serialVersionUID = 1L;
+
+				@Override
+				protected void compute() {
+					ForkJoinTask.invokeAll(tasks);
+				}
+			});
+		}
+	}
+	
+	/**
+	 * @param type SPDX type
+	 * @return true if the type is an SPDX element
+	 */
+	private static boolean isElementType(String type) {
+		try {
+			return SpdxElement.class.isAssignableFrom(SpdxModelFactory.typeToClass(type));
+		} catch (InvalidSPDXAnalysisException e) {
+			return false;
+		}
+	}
+	
+	/**
+	 * @param id ID of the element to verify
+	 * @param type type of the element to verify
+	 * @param elementIds ID's for all elements in the document
+	 * @param specVersion Version of the SPDX spec to verify against
+	 * @return warnings for the element
+	 */
+	private List<String> verifyElement(String id, String type, Set<String> elementIds, String specVersion) {
+		ModelObject element;
+		try {
+			element = SpdxModelFactory.getModelObject(modelStore, documentUri, id, type, copyManager, false);
+		} catch (InvalidSPDXAnalysisException e) {
+			List<String> retval = new ArrayList<>();
+			retval.add("Error getting element "+id+": "+e.getMessage());
+			return retval;
+		}
+		return element.verify(new IsolatedVerifiedIds(elementIds, id), specVersion);
+	}
+	
+	/**
+	 * @param elementId ID of the element
+	 * @param elementIds ID's of all elements in the document
+	 * @return true if the element or any non-element item referenced by the element was modified after the last verification
+	 * @throws InvalidSPDXAnalysisException
+	 */
+	private boolean isChanged(String elementId, Set<String> elementIds) throws InvalidSPDXAnalysisException {
+		IRevisionedModelStore store = (IRevisionedModelStore)modelStore;
+		Set<String> visited = new HashSet<>();
+		List<String> toCheck = new ArrayList<>();
+		toCheck.add(elementId);
+		visited.add(elementId);
+		while (!toCheck.isEmpty()) {
+			String id = toCheck.remove(toCheck.size() - 1);
+			if (store.getRevision(documentUri, id) > lastRevision) {
+				return true;
+			}
+			for (String propertyName:store.getPropertyValueNames(documentUri, id)) {
+				if (store.isCollectionProperty(documentUri, id, propertyName)) {
+					Iterator<Object> iter = store.listValues(documentUri, id, propertyName);
+					while (iter.hasNext()) {
+						addReference(iter.next(), elementIds, visited, toCheck);
+					}
+				} else {
+					Optional<Object> value = store.getValue(documentUri, id, propertyName);
+					if (value.isPresent()) {
+						addReference(value.get(), elementIds, visited, toCheck);
+					}
+				}
+			}
+		}
+		return false;
+	}
+	
+	private void addReference(Object value, Set<String> elementIds, Set<String> visited, List<String> toCheck) {
+		if (value instanceof TypedValue) {
+			String id = ((TypedValue)value).getId();
+			if (!elementIds.contains(id) && visited.add(id) && modelStore.exists(documentUri, id)) {
+				toCheck.add(id);
+			}
+		}
+	}
+}
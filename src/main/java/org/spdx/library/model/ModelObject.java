@@ -19,8 +19,11 @@ package org.spdx.library.model;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -107,7 +110,7 @@ public abstract class ModelObject {
 	
 	// the following fields are for debugging when equivalent returns false
 	enum NotEquivalent {
-		DIFFERENT_CLASS, MISSING_PROPERTY, PROPERTY_NOT_EQUIVALENT, COMPARE_PROPERTY_MISSING};
+		DIFFERENT_CLASS, MISSING_PROPERTY, PROPERTY_NOT_EQUIVALENT, COMPARE_PROPERTY_MISSING, DIFFERENT_DIGEST};
 	static class NotEquivalentReason {
 		NotEquivalent reason;
 		String property = null;
@@ -779,6 +782,11 @@ public abstract class ModelObject {
 			lastNotEquivalentReason = new NotEquivalentReason(NotEquivalent.DIFFERENT_CLASS);
 			return false;
 		}
+		if (CanonicalDigest.isAvailable(this) && CanonicalDigest.isAvailable(compare) &&
+				CanonicalDigest.digest(this) != CanonicalDigest.digest(compare)) {
+			lastNotEquivalentReason = new NotEquivalentReason(NotEquivalent.DIFFERENT_DIGEST);
+			return false;
+		}
 		List<String> propertyValueNames = getPropertyValueNames();
 		List<String> comparePropertyValueNames = new ArrayList<String>(compare.getPropertyValueNames());	// create a copy since we're going to modify it
 		for (String propertyName:propertyValueNames) {
@@ -953,6 +961,13 @@ public abstract class ModelObject {
 		if (firstList.size() != secondList.size()) {
 			return false;
 		}
+		if (CanonicalDigest.isAvailable(this)) {
+			long[] firstTokens = CanonicalDigest.memberTokens(firstList);
+			long[] secondTokens = firstTokens == null ? null : CanonicalDigest.memberTokens(secondList);
+			if (secondTokens != null) {
+				return areEquivalent(firstList, firstTokens, secondList, secondTokens, ignoreRelatedElements);
+			}
+		}
 		for (Object item : firstList) {
 			if (!containsEqualOrEquivalentItem(secondList, item, ignoreRelatedElements)) {
 				return false;
@@ -966,6 +981,45 @@ public abstract class ModelObject {
 		return true;
 	}
 
+	/**
+	 * Checks if for each item on either list, there is an item in the other list that is equivalent
+	 * only comparing the items which have the same digest token.
+	 * @param firstTokens digest tokens for the first list members
+	 * @param secondTokens digest tokens for the second list members
+	 * @param ignoreRelatedElements Whether related elements should be ignored in the comparison
+	 */
+	private boolean areEquivalent(List<?> firstList, long[] firstTokens, List<?> secondList, long[] secondTokens,
+			boolean ignoreRelatedElements) throws InvalidSPDXAnalysisException {
+		Map<Long, List<Object>> firstByToken = groupByToken(firstList, firstTokens);
+		Map<Long, List<Object>> secondByToken = groupByToken(secondList, secondTokens);
+		if (!firstByToken.keySet().equals(secondByToken.keySet())) {
+			return false;
+		}
+		for (Entry<Long, List<Object>> entry:firstByToken.entrySet()) {
+			List<Object> firstCandidates = entry.getValue();
+			List<Object> secondCandidates = secondByToken.get(entry.getKey());
+			for (Object item : firstCandidates) {
+				if (!containsEqualOrEquivalentItem(secondCandidates, item, ignoreRelatedElements)) {
+					return false;
+				}
+			}
+			for (Object item : secondCandidates) {
+				if (!containsEqualOrEquivalentItem(firstCandidates, item, ignoreRelatedElements)) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	private static Map<Long, List<Object>> groupByToken(List<?> list, long[] tokens) {
+		Map<Long, List<Object>> retval = new HashMap<>();
+		for (int i = 0; i < tokens.length; i++) {
+			retval.computeIfAbsent(tokens[i], k -> new ArrayList<>(1)).add(list.get(i));
+		}
+		return retval;
+	}
+
 	private boolean containsEqualOrEquivalentItem(List<?> list, Object itemToFind,
 												  boolean ignoreRelatedElements) throws InvalidSPDXAnalysisException {
 		if (list.contains(itemToFind)) {
@@ -25,6 +25,7 @@ import org.slf4j.LoggerFactory;
 import org.spdx.library.InvalidSPDXAnalysisException;
 import org.spdx.library.ModelCopyManager;
 import org.spdx.library.SpdxObjectNotInStoreException;
+import org.spdx.library.model.license.ListedLicenseReferences;
 import org.spdx.storage.IModelStore;
 
 /**
@@ -117,7 +118,9 @@ public class ModelStorageClassConverter {
 		} else if (value instanceof ModelObject) {
 			ModelObject mValue = (ModelObject)value;
 			if (!mValue.getModelStore().equals(stModelStore) || !mValue.getDocumentUri().equals(stDocumentUri)) {
-				if (Objects.nonNull(copyManager)) {
+				if (ListedLicenseReferences.isEnabled() && ListedLicenseReferences.isListedLicenseObject(mValue)) {
+					return ListedLicenseReferences.toReference(mValue);
+				} else if (Objects.nonNull(copyManager)) {
 					return copyManager.copy(stModelStore, stDocumentUri, 
 							mValue.getModelStore(), mValue.getDocumentUri(), mValue.getId(), mValue.getType());
 				} else {
@@ -26,6 +26,7 @@ import org.spdx.library.ModelCopyManager;
 import org.spdx.library.SpdxConstants;
 import org.spdx.library.model.enumerations.SpdxEnumFactory;
 import org.spdx.library.model.license.ExternalExtractedLicenseInfo;
+import org.spdx.library.model.license.ListedLicenseReferences;
 import org.spdx.library.model.license.SpdxNoAssertionLicense;
 import org.spdx.library.model.license.SpdxNoneLicense;
 import org.spdx.storage.IModelStore;
@@ -84,8 +85,8 @@ public class SimpleUriValue implements IndividualUriValue {
 	}
 	
 	/**
-	 * inflate the value back to either an Enum (if the URI matches), an ExternalSpdxElement if it matches the pattern of an external SPDX element 
-	 * or returns itself otherwise
+	 * inflate the value back to either an Enum (if the URI matches), an ExternalSpdxElement if it matches the pattern of an external SPDX element,
+	 * a listed license or exception if it references an SPDX listed license or exception, or returns itself otherwise
 	 * @param store
 	 * @param documentUri
 	 * @param copyManager if non-null, implicitly copy any referenced properties from other model stores
@@ -108,6 +109,10 @@ public class SimpleUriValue implements IndividualUriValue {
 			return new SpdxNoneLicense(store, documentUri);
 		} else if (SpdxConstants.URI_VALUE_NOASSERTION.equals(uri)) {
 			return new SpdxNoAssertionLicense(store, documentUri);
+		}
+		ModelObject listedLicense = ListedLicenseReferences.resolve(uri);
+		if (Objects.nonNull(listedLicense)) {
+			return listedLicense;
 		} else {
 			logger.warn("URI "+uri+" does not match any model object or enumeration");
 			return this;
@@ -16,7 +16,7 @@
 */
 package org.spdx.library.model.license;
 
-import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
@@ -88,44 +88,39 @@ public class ConjunctiveLicenseSet extends LicenseSet {
 	 * Conjunctive license sets can contain other conjunctive license sets as members.  Logically,
 	 * the members of these "sub-conjunctive license sets" could be direct members and have the same
 	 * meaning.
+	 * The flattened members are cached until the model store is modified for model stores which track revisions.
 	 * @return all members "flattening out" conjunctive license sets which are members of this set
 	 * @throws SpdxInvalidTypeException 
 	 */
 	public List<AnyLicenseInfo> getFlattenedMembers() throws InvalidSPDXAnalysisException {
+		return getCanonicalMembers().toList();
+	}
+	
+	@Override
+	Collection<AnyLicenseInfo> collectFlattenedMembers() throws InvalidSPDXAnalysisException {
 		HashSet<AnyLicenseInfo> retval = new HashSet<>();	// Use a set since any duplicated elements would be still considered equal
 		Iterator<AnyLicenseInfo> iter = this.getMembers().iterator();
 		while (iter.hasNext()) {
 			AnyLicenseInfo li = iter.next();
 			if (li instanceof ConjunctiveLicenseSet) {
 				// we need to flatten this out
-				List<AnyLicenseInfo> members = ((ConjunctiveLicenseSet)li).getFlattenedMembers();
-				for (int i = 0; i < members.size(); i++) {
-					retval.add(members.get(i));
-				}
+				retval.addAll(((ConjunctiveLicenseSet)li).getFlattenedMembers());
 			} else {
 				retval.add(li);
 			}
 		}
-		List<AnyLicenseInfo> retvallist = new ArrayList<>();
-		retvallist.addAll(retval);
-		return retvallist;
+		return retval;
 	}
 
 	@Override
 	public int hashCode() {
 		// We override equals and hashcode to take into account flattening of the license set
 		// Calculate a hashcode by XOR'ing all of the hashcodes of the license set
-		int retval = 41;	// Prime number
-		List<AnyLicenseInfo> allMembers;
 		try {
-			allMembers = this.getFlattenedMembers();
+			return getCanonicalMembers().hashCode;
 		} catch (InvalidSPDXAnalysisException e) {
 			throw new RuntimeException("Error getting license set members",e);
 		}
-		for (AnyLicenseInfo licenseInfo:allMembers) {
-			retval = retval ^ licenseInfo.hashCode();
-		}
-		return retval;
 	}
 
 	/* (non-Javadoc)
@@ -141,28 +136,11 @@ public class ConjunctiveLicenseSet extends LicenseSet {
 			// covers o == null, as null is not an instance of anything
 			return false;
 		}
-		ConjunctiveLicenseSet comp = (ConjunctiveLicenseSet)o;
-		List<AnyLicenseInfo> compInfos;
 		try {
-			compInfos = comp.getFlattenedMembers();
-		} catch (InvalidSPDXAnalysisException e) {
-			throw new RuntimeException("Error getting compare license set members",e);
-		}
-		List<AnyLicenseInfo> myInfos;
-		try {
-			myInfos = this.getFlattenedMembers();
+			return getCanonicalMembers().membersEqual(((ConjunctiveLicenseSet)o).getCanonicalMembers());
 		} catch (InvalidSPDXAnalysisException e) {
 			throw new RuntimeException("Error getting license set members",e);
 		}
-		if (compInfos.size() != myInfos.size()) {
-			return false;
-		}
-		for (AnyLicenseInfo myInfo:myInfos) {
-			if (!compInfos.contains(myInfo)) {
-				return false;
-			}
-		}
-		return true;
 	}
 	
 	/* (non-Javadoc)
@@ -177,36 +155,7 @@ public class ConjunctiveLicenseSet extends LicenseSet {
 	}
 
 	protected boolean setsEquivalent(ConjunctiveLicenseSet compare) throws InvalidSPDXAnalysisException {
-		List<AnyLicenseInfo> compInfos;
-		try {
-			compInfos = compare.getFlattenedMembers();
-		} catch (InvalidSPDXAnalysisException e) {
-			throw new RuntimeException("Error getting compare license set members",e);
-		}
-		List<AnyLicenseInfo> myInfos;
-		try {
-			myInfos = this.getFlattenedMembers();
-		} catch (InvalidSPDXAnalysisException e) {
-			throw new RuntimeException("Error getting license set members",e);
-		}
-		if (compInfos.size() != myInfos.size()) {
-			return false;
-		}
-		for (AnyLicenseInfo myInfo:myInfos) {
-			if (!compInfos.contains(myInfo)) {
-				boolean found = false;
-				for (AnyLicenseInfo compInfo:compInfos) {
-					if (myInfo.equivalent(compInfo)) {
-						found = true;
-						break;
-					}
-				}
-				if (!found) {
-					return false;
-				}
-			}
-		}
-		return true;
+		return getCanonicalMembers().membersEquivalent(compare.getCanonicalMembers());
 	}
 
 	@Override
@@ -16,7 +16,7 @@
 */
 package org.spdx.library.model.license;
 
-import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
@@ -86,17 +86,11 @@ public class DisjunctiveLicenseSet extends LicenseSet {
 	
 	@Override
 	public int hashCode() {
-		int retval = 41;	// Prime number
-		List<AnyLicenseInfo> allMembers;
 		try {
-			allMembers = this.getFlattenedMembers();
+			return getCanonicalMembers().hashCode;
 		} catch (InvalidSPDXAnalysisException e) {
 			throw new RuntimeException(e);
 		}
-		for (AnyLicenseInfo member:allMembers) {
-			retval = retval ^ member.hashCode();
-		}
-		return retval;
 	}
 	
 	/* (non-Javadoc)
@@ -111,38 +105,27 @@ public class DisjunctiveLicenseSet extends LicenseSet {
 			// covers o == null, as null is not an instance of anything
 			return false;
 		}
-		DisjunctiveLicenseSet comp = (DisjunctiveLicenseSet)o;
-		List<AnyLicenseInfo> compInfos;
 		try {
-			compInfos = comp.getFlattenedMembers();
+			return getCanonicalMembers().membersEqual(((DisjunctiveLicenseSet)o).getCanonicalMembers());
 		} catch (InvalidSPDXAnalysisException e) {
 			throw new RuntimeException(e);
 		}
-		List<AnyLicenseInfo> myInfos;
-		try {
-			myInfos = this.getFlattenedMembers();
-		} catch (InvalidSPDXAnalysisException e) {
-			throw new RuntimeException(e);
-		}
-		if (compInfos.size() != myInfos.size()) {
-			return false;
-		}
-		for (AnyLicenseInfo myInfo:myInfos) {
-			if (!compInfos.contains(myInfo)) {
-				return false;
-			}
-		}
-		return true;
 	}
 	
 	/**
 	 * Disjunctive license sets can contain other conjunctive license sets as members.  Logically,
 	 * the members of these "sub-disjunctive license sets" could be direct members and have the same
 	 * meaning.
+	 * The flattened members are cached until the model store is modified for model stores which track revisions.
 	 * @return all members "flattening out" disjunctive license sets which are members of this set
 	 * @throws SpdxInvalidTypeException 
 	 */
 	protected List<AnyLicenseInfo> getFlattenedMembers() throws InvalidSPDXAnalysisException {
+		return getCanonicalMembers().toList();
+	}
+	
+	@Override
+	Collection<AnyLicenseInfo> collectFlattenedMembers() throws InvalidSPDXAnalysisException {
 		HashSet<AnyLicenseInfo> retval = new HashSet<>();	// Use a set since any duplicated elements would be still considered equal
 		Iterator<AnyLicenseInfo> iter = this.getMembers().iterator();
 		while (iter.hasNext()) {
@@ -154,9 +137,7 @@ public class DisjunctiveLicenseSet extends LicenseSet {
 				retval.add(li);
 			}
 		}
-		ArrayList<AnyLicenseInfo> retvallist = new ArrayList<>();
-		retvallist.addAll(retval);
-		return retvallist;
+		return retval;
 	}
 
 	/* (non-Javadoc)
@@ -171,36 +152,7 @@ public class DisjunctiveLicenseSet extends LicenseSet {
 	}
 
 	private boolean setsEquivalent(DisjunctiveLicenseSet compare) throws InvalidSPDXAnalysisException {
-		List<AnyLicenseInfo> compInfos;
-		try {
-			compInfos = compare.getFlattenedMembers();
-		} catch (InvalidSPDXAnalysisException e) {
-			throw new RuntimeException("Error getting compare license set members",e);
-		}
-		List<AnyLicenseInfo> myInfos;
-		try {
-			myInfos = this.getFlattenedMembers();
-		} catch (InvalidSPDXAnalysisException e) {
-			throw new RuntimeException("Error getting license set members",e);
-		}
-		if (compInfos.size() != myInfos.size()) {
-			return false;
-		}
-		for (AnyLicenseInfo myInfo:myInfos) {
-			if (!compInfos.contains(myInfo)) {
-				boolean found = false;
-				for (AnyLicenseInfo compInfo:compInfos) {
-					if (myInfo.equivalent(compInfo)) {
-						found = true;
-						break;
-					}
-				}
-				if (!found) {
-					return false;
-				}
-			}
-		}
-		return true;
+		return getCanonicalMembers().membersEquivalent(compare.getCanonicalMembers());
 	}
 
 	@Override
@@ -0,0 +1,221 @@
+/**
+ * Copyright (c) 2026 Source Auditor Inc.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * 
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.library.model.license;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.spdx.Configuration;
+
+/**
+ * Bounded approximately least recently used cache of parsed license expressions.
+ * 
+ * The cache is keyed by the license expression with leading and trailing white space removed
+ * and all other white space collapsed to a single space.  White space is the same set of
+ * characters which separate tokens in the <code>LicenseExpressionParser</code>.  Only successfully parsed expressions
+ * are cached.  Since listed license IDs are resolved when parsed, the cache is cleared whenever
+ * the listed licenses are reset or initialized.
+ * 
+ * Lookups do not lock.  Each entry records the value of an access clock which only advances when
+ * an expression is added, so repeated hits do not write to shared state.  When the cache grows past
+ * its maximum size a single thread evicts the least recently used entries in a batch down to
+ * <code>EVICTION_FACTOR</code> of the maximum size while other threads continue to use the cache.
+ * 
+ * The maximum number of cached expressions is set by the <code>org.spdx.licenseExpressionCacheSize</code>
+ * configuration property - a size of 0 disables the cache.
+ * 
+ * @author Gary O'Neall
+ *
+ */
+class LicenseExpressionCache {
+	
+	static final Logger logger = LoggerFactory.getLogger(LicenseExpressionCache.class.getName());
+	
+	static final String CACHE_SIZE_PROPERTY = "org.spdx.licenseExpressionCacheSize";
+	static final int DEFAULT_CACHE_SIZE = 1000;
+	static final double EVICTION_FACTOR = 0.9;
+	
+	/**
+	 * Cached expression along with the access clock when it was last used
+	 */
+	private static class CacheEntry {
+		final LicenseExpressionNode node;
+		volatile long lastAccess;
+		
+		CacheEntry(LicenseExpressionNode node, long lastAccess) {
+			this.node = node;
+			this.lastAccess = lastAccess;
+		}
+	}
+	
+	/**
+	 * Cached expressions parsed with a single instance of the listed licenses
+	 */
+	private static class Generation {
+		final ListedLicenses listedLicenses;
+		final Map<String, CacheEntry> entries = new ConcurrentHashMap<>();
+		
+		Generation(ListedLicenses listedLicenses) {
+			this.listedLicenses = listedLicenses;
+		}
+	}
+	
+	private final int maxSize;
+	private final AtomicLong clock = new AtomicLong();
+	private final AtomicBoolean evicting = new AtomicBoolean(false);
+	private final AtomicReference<Generation> generation = new AtomicReference<>(new Generation(null));
+	
+	/**
+	 * @param maxSize maximum number of expressions to cache - 0 disables the cache
+	 */
+	LicenseExpressionCache(int maxSize) {
+		this.maxSize = maxSize;
+	}
+	
+	/**
+	 * @return cache sized from the configuration
+	 */
+	static LicenseExpressionCache fromConfiguration() {
+		String sizeStr = Configuration.getInstance().getProperty(CACHE_SIZE_PROPERTY, String.valueOf(DEFAULT_CACHE_SIZE));
+		int size;
+		try {
+			size = Integer.parseInt(sizeStr.trim());
+		} catch (NumberFormatException e) {
+			logger.warn("Invalid license expression cache size "+sizeStr+" - using default of "+DEFAULT_CACHE_SIZE);
+			size = DEFAULT_CACHE_SIZE;
+		}
+		return new LicenseExpressionCache(Math.max(0, size));
+	}
+	
+	/**
+	 * @param expression license expression
+	 * @return the expression with white space normalized for use as a cache key
+	 */
+	static String normalize(String expression) {
+		StringBuilder sb = new StringBuilder(expression.length());
+		boolean pendingSpace = false;
+		for (int i = 0; i < expression.length(); i++) {
+			char ch = expression.charAt(i);
+			if (LicenseExpressionParser.isWhitespace(ch)) {
+				pendingSpace = sb.length() > 0;
+			} else {
+				if (pendingSpace) {
+					sb.append(' ');
+					pendingSpace = false;
+				}
+				sb.append(ch);
+			}
+		}
+		return sb.toString();
+	}
+	
+	/**
+	 * Parses the license expression or returns the previously parsed expression
+	 * @param expression license expression
+	 * @return the parsed expression
+	 * @throws LicenseParserException if the expression is not a valid license expression
+	 */
+	LicenseExpressionNode parse(String expression) throws LicenseParserException {
+		if (maxSize == 0 || expression == null) {
+			return LicenseExpressionParser.parseExpressionNode(expression);
+		}
+		String key = normalize(expression);
+		Generation current = currentGeneration();
+		CacheEntry entry = current.entries.get(key);
+		if (entry != null) {
+			long now = clock.get();
+			if (entry.lastAccess != now) {
+				entry.lastAccess = now;
+			}
+			return entry.node;
+		}
+		LicenseExpressionNode retval = LicenseExpressionParser.parseExpressionNode(expression);
+		current.entries.putIfAbsent(key, new CacheEntry(retval, clock.incrementAndGet()));
+		if (current.entries.size() > maxSize) {
+			evict(current);
+		}
+		return retval;
+	}
+	
+	/**
+	 * @return the generation for the current listed licenses - starting a new generation if the listed licenses have changed
+	 */
+	private Generation currentGeneration() {
+		ListedLicenses currentListedLicenses = ListedLicenses.getListedLicenses();
+		Generation current = generation.get();
+		while (current.listedLicenses != currentListedLicenses) {
+			generation.compareAndSet(current, new Generation(currentListedLicenses));
+			current = generation.get();
+		}
+		return current;
+	}
+	
+	/**
+	 * Remove the least recently used entries until the generation is at the eviction size.  Only one
+	 * thread evicts at a time - other threads which find the cache over size return immediately.
+	 * @param current generation to evict from
+	 */
+	private void evict(Generation current) {
+		if (!evicting.compareAndSet(false, true)) {
+			return;
+		}
+		try {
+			int targetSize = (int)(maxSize * EVICTION_FACTOR);
+			int excess = current.entries.size() - targetSize;
+			if (excess <= 0) {
+				return;
+			}
+			List<Map.Entry<String, CacheEntry>> entries = new ArrayList<>(current.entries.entrySet());
+			long[] accessTimes = new long[entries.size()];
+			Integer[] order = new Integer[entries.size()];
+			for (int i = 0; i < accessTimes.length; i++) {
+				accessTimes[i] = entries.get(i).getValue().lastAccess;
+				order[i] = i;
+			}
+			Arrays.sort(order, (a, b) -> Long.compare(accessTimes[a], accessTimes[b]));
+			for (int i = 0; i < Math.min(excess, order.length); i++) {
+				Map.Entry<String, CacheEntry> entry = entries.get(order[i]);
+				current.entries.remove(entry.getKey(), entry.getValue());
+			}
+		} finally {
+			evicting.set(false);
+		}
+	}
+	
+	/**
+	 * Remove all cached expressions
+	 */
+	void clear() {
+		generation.get().entries.clear();
+	}
+	
+	/**
+	 * @return number of cached expressions
+	 */
+	int size() {
+		return generation.get().entries.size();
+	}
+}
@@ -0,0 +1,167 @@
+/**
+ * Copyright (c) 2026 Source Auditor Inc.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * 
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.library.model.license;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.Nullable;
+
+import org.spdx.Configuration;
+import org.spdx.library.InvalidSPDXAnalysisException;
+import org.spdx.library.ModelCopyManager;
+import org.spdx.library.model.SpdxModelFactory;
+import org.spdx.library.model.TypedValue;
+import org.spdx.storage.IModelStore;
+import org.spdx.storage.IRevisionedModelStore;
+
+/**
+ * Interns the anonymous license expression objects (license sets, or later operators and
+ * with exception operators) created by the license expression parser.
+ * 
+ * When enabled, parsing a license expression which is structurally identical to an expression
+ * previously parsed into the same model store and document reuses the stored object rather than
+ * creating a new anonymous object.  The order of the members of license sets is ignored when
+ * comparing expressions.  A document where many files share the same license expression
+ * then holds a single stored copy of the expression.
+ * 
+ * Since interned objects are shared, modifying a parsed license expression (e.g. adding a member
+ * to a license set) would modify every use of the expression.  For model stores implementing
+ * <code>IRevisionedModelStore</code> an interned object which has been modified since it was created
+ * is no longer reused.  For other model stores, parsed license expressions should not be modified
+ * when interning is enabled.
+ * 
+ * Interning is disabled by default and can be enabled with the <code>org.spdx.internLicenseExpressions</code>
+ * configuration property or <code>setEnabled</code>.
+ * 
+ * @author Gary O'Neall
+ *
+ */
+public final class LicenseExpressionInterner {
+	
+	static final String ENABLED_PROPERTY = "org.spdx.internLicenseExpressions";
+	
+	private static volatile boolean enabled = Boolean.parseBoolean(
+			Configuration.getInstance().getProperty(ENABLED_PROPERTY, "false"));
+	
+	/**
+	 * Interned objects - store to document URI to canonical expression to the interned object
+	 */
+	private static final Map<IModelStore, Map<String, Map<LicenseExpressionNode, InternedLicense>>> internedLicenses = 
+			Collections.synchronizedMap(new WeakHashMap<>());
+	
+	/**
+	 * Stored object for an interned expression
+	 */
+	private static class InternedLicense {
+		final String id;
+		final String type;
+		final long revision;
+		
+		InternedLicense(String id, String type, long revision) {
+			this.id = id;
+			this.type = type;
+			this.revision = revision;
+		}
+	}
+	
+	private LicenseExpressionInterner() {
+		// static class
+	}
+	
+	/**
+	 * @return true if license expression interning is enabled
+	 */
+	public static boolean isEnabled() {
+		return enabled;
+	}
+	
+	/**
+	 * @param enable true to enable interning of license expressions
+	 */
+	public static void setEnabled(boolean enable) {
+		enabled = enable;
+		if (!enable) {
+			clearCache();
+		}
+	}
+	
+	/**
+	 * Remove all interned expressions - objects already created remain in their model stores
+	 */
+	public static void clearCache() {
+		internedLicenses.clear();
+	}
+	
+	/**
+	 * @param node parsed expression
+	 * @param store model store
+	 * @param documentUri document URI
+	 * @param copyManager copy manager for the returned object
+	 * @return the previously stored object for the expression or null if the expression has not been interned
+	 * @throws InvalidSPDXAnalysisException
+	 */
+	static @Nullable AnyLicenseInfo getInterned(LicenseExpressionNode node, IModelStore store, String documentUri,
+			@Nullable ModelCopyManager copyManager) throws InvalidSPDXAnalysisException {
+		Map<String, Map<LicenseExpressionNode, InternedLicense>> documentMap = internedLicenses.get(store);
+		if (Objects.isNull(documentMap)) {
+			return null;
+		}
+		Map<LicenseExpressionNode, InternedLicense> expressionMap = documentMap.get(documentUri);
+		if (Objects.isNull(expressionMap)) {
+			return null;
+		}
+		LicenseExpressionNode canonical = node.canonical();
+		InternedLicense interned = expressionMap.get(canonical);
+		if (Objects.isNull(interned)) {
+			return null;
+		}
+		Optional<TypedValue> typedValue = store.getTypedValue(documentUri, interned.id);
+		if (!typedValue.isPresent() || !interned.type.equals(typedValue.get().getType()) ||
+				(store instanceof IRevisionedModelStore && 
+						((IRevisionedModelStore)store).getRevision(documentUri, interned.id) != interned.revision)) {
+			// deleted or modified since interned
+			expressionMap.remove(canonical, interned);
+			return null;
+		}
+		return (AnyLicenseInfo)SpdxModelFactory.getModelObject(store, documentUri, interned.id, 
+				interned.type, copyManager, false);
+	}
+	
+	/**
+	 * Intern a newly created object for an expression
+	 * @param node parsed expression
+	 * @param license stored object for the expression
+	 * @throws InvalidSPDXAnalysisException
+	 */
+	static void intern(LicenseExpressionNode node, AnyLicenseInfo license) throws InvalidSPDXAnalysisException {
+		IModelStore store = license.getModelStore();
+		long revision = store instanceof IRevisionedModelStore ? 
+				((IRevisionedModelStore)store).getRevision(license.getDocumentUri(), license.getId()) : 0;
+		Map<String, Map<LicenseExpressionNode, InternedLicense>> documentMap;
+		synchronized(internedLicenses) {
+			documentMap = internedLicenses.computeIfAbsent(store, s -> new ConcurrentHashMap<>());
+		}
+		documentMap.computeIfAbsent(license.getDocumentUri(), d -> new ConcurrentHashMap<>())
+				.put(node.canonical(), new InternedLicense(license.getId(), license.getType(), revision));
+	}
+}
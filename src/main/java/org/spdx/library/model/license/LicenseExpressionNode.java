@@ -0,0 +1,262 @@
+/**
+ * Copyright (c) 2026 Source Auditor Inc.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * 
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.library.model.license;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import javax.annotation.Nullable;
+
+/**
+ * Immutable node of a parsed SPDX license expression.
+ * 
+ * The node tree is independent of any model store and can be shared between threads
+ * and reused to create the equivalent <code>AnyLicenseInfo</code> in any model store
+ * using <code>LicenseExpressionParser.toLicenseInfo</code>.  Listed license and listed exception
+ * IDs are resolved to their case sensitive form when parsed.  License references are resolved
+ * against the model store only when converted to an <code>AnyLicenseInfo</code>.
+ * 
+ * @author Gary O'Neall
+ *
+ */
+public final class LicenseExpressionNode {
+	
+	/**
+	 * Kind of license expression node
+	 */
+	public enum Kind {
+		/**
+		 * NOASSERTION as the complete license expression
+		 */
+		NOASSERTION,
+		/**
+		 * NONE as the complete license expression
+		 */
+		NONE,
+		/**
+		 * SPDX listed license - the ID is the case sensitive listed license ID
+		 */
+		LISTED_LICENSE,
+		/**
+		 * Reference to a license in the document - any ID which is not a listed license
+		 */
+		LICENSE_REF,
+		/**
+		 * Reference to a license in an external document - the ID contains a <code>:</code>
+		 */
+		EXTERNAL_LICENSE_REF,
+		/**
+		 * <code>+</code> operator - the single child is the license
+		 */
+		OR_LATER,
+		/**
+		 * <code>WITH</code> operator - the single child is the license and the ID is the exception ID
+		 */
+		WITH,
+		/**
+		 * <code>AND</code> operator with two or more children
+		 */
+		AND,
+		/**
+		 * <code>OR</code> operator with two or more children
+		 */
+		OR
+	}
+	
+	static final LicenseExpressionNode NOASSERTION_NODE = new LicenseExpressionNode(Kind.NOASSERTION, null, false, Collections.emptyList());
+	static final LicenseExpressionNode NONE_NODE = new LicenseExpressionNode(Kind.NONE, null, false, Collections.emptyList());
+	
+	private final Kind kind;
+	private final String id;
+	private final boolean listedException;
+	private final List<LicenseExpressionNode> children;
+	private final int hashCode;
+	
+	/**
+	 * Lazily computed string form
+	 */
+	private volatile String stringForm = null;
+	
+	/**
+	 * Lazily computed canonical form
+	 */
+	private volatile LicenseExpressionNode canonicalForm = null;
+	
+	private LicenseExpressionNode(Kind kind, @Nullable String id, boolean listedException, List<LicenseExpressionNode> children) {
+		this.kind = kind;
+		this.id = id;
+		this.listedException = listedException;
+		this.children = children;
+		this.hashCode = Objects.hash(kind, id, listedException, children);
+	}
+	
+	/**
+	 * @param kind one of the license kinds (LISTED_LICENSE, LICENSE_REF or EXTERNAL_LICENSE_REF)
+	 * @param id license ID
+	 * @return a license node
+	 */
+	static LicenseExpressionNode license(Kind kind, String id) {
+		Objects.requireNonNull(id, "License ID can not be null");
+		return new LicenseExpressionNode(kind, id, false, Collections.emptyList());
+	}
+	
+	/**
+	 * @param license simple license
+	 * @return node for the license or later
+	 */
+	static LicenseExpressionNode orLater(LicenseExpressionNode license) {
+		return new LicenseExpressionNode(Kind.OR_LATER, null, false, Collections.singletonList(license));
+	}
+	
+	/**
+	 * @param license simple license or or later operator
+	 * @param exceptionId exception ID
+	 * @param listedException true if the exception ID is an SPDX listed exception
+	 * @return node for the license with the exception
+	 */
+	static LicenseExpressionNode with(LicenseExpressionNode license, String exceptionId, boolean listedException) {
+		Objects.requireNonNull(exceptionId, "Exception ID can not be null");
+		return new LicenseExpressionNode(Kind.WITH, exceptionId, listedException, Collections.singletonList(license));
+	}
+	
+	/**
+	 * @param kind AND or OR
+	 * @param members members of the set
+	 * @return node for the license set
+	 */
+	static LicenseExpressionNode set(Kind kind, List<LicenseExpressionNode> members) {
+		return new LicenseExpressionNode(kind, null, false, Collections.unmodifiableList(new ArrayList<>(members)));
+	}
+
+	/**
+	 * @return the kind of node
+	 */
+	public Kind getKind() {
+		return kind;
+	}
+
+	/**
+	 * @return the license ID for license nodes, the exception ID for WITH nodes, otherwise null
+	 */
+	public @Nullable String getId() {
+		return id;
+	}
+
+	/**
+	 * @return true if this is a WITH node and the exception is an SPDX listed exception
+	 */
+	public boolean isListedException() {
+		return listedException;
+	}
+
+	/**
+	 * @return the child nodes in expression order
+	 */
+	public List<LicenseExpressionNode> getChildren() {
+		return children;
+	}
+	
+	/**
+	 * @return true if this node is a simple license (which may be used with the + operator)
+	 */
+	public boolean isSimpleLicense() {
+		return Kind.LISTED_LICENSE.equals(kind) || Kind.LICENSE_REF.equals(kind) || Kind.EXTERNAL_LICENSE_REF.equals(kind);
+	}
+	
+	/**
+	 * @return equivalent node where the members of every AND and OR node are sorted by their string form
+	 */
+	public LicenseExpressionNode canonical() {
+		LicenseExpressionNode retval = canonicalForm;
+		if (Objects.isNull(retval)) {
+			if (children.isEmpty()) {
+				retval = this;
+			} else {
+				List<LicenseExpressionNode> canonicalChildren = new ArrayList<>(children.size());
+				for (LicenseExpressionNode child:children) {
+					canonicalChildren.add(child.canonical());
+				}
+				if (Kind.AND.equals(kind) || Kind.OR.equals(kind)) {
+					canonicalChildren.sort((a, b) -> a.toString().compareTo(b.toString()));
+				}
+				retval = canonicalChildren.equals(children) ? this : 
+					new LicenseExpressionNode(kind, id, listedException, Collections.unmodifiableList(canonicalChildren));
+				retval.canonicalForm = retval;
+			}
+			canonicalForm = retval;
+		}
+		return retval;
+	}
+	
+	@Override
+	public int hashCode() {
+		return hashCode;
+	}
+	
+	@Override
+	public boolean equals(Object o) {
+		if (o == this) {
+			return true;
+		}
+		if (!(o instanceof LicenseExpressionNode)) {
+			return false;
+		}
+		LicenseExpressionNode compare = (LicenseExpressionNode)o;
+		return hashCode == compare.hashCode && kind.equals(compare.kind) && Objects.equals(id, compare.id) && 
+				listedException == compare.listedException && children.equals(compare.children);
+	}
+	
+	@Override
+	public String toString() {
+		String retval = stringForm;
+		if (Objects.isNull(retval)) {
+			StringBuilder sb = new StringBuilder();
+			appendTo(sb, false);
+			retval = sb.toString();
+			stringForm = retval;
+		}
+		return retval;
+	}
+	
+	private void appendTo(StringBuilder sb, boolean nested) {
+		switch (kind) {
+			case NOASSERTION: sb.append(LicenseInfoFactory.NOASSERTION_LICENSE_NAME); break;
+			case NONE: sb.append(LicenseInfoFactory.NONE_LICENSE_NAME); break;
+			case OR_LATER: children.get(0).appendTo(sb, true); sb.append('+'); break;
+			case WITH: children.get(0).appendTo(sb, true); sb.append(" WITH ").append(id); break;
+			case AND: 
+			case OR:
+				if (nested) {
+					sb.append('(');
+				}
+				for (int i = 0; i < children.size(); i++) {
+					if (i > 0) {
+						sb.append(Kind.AND.equals(kind) ? " AND " : " OR ");
+					}
+					children.get(i).appendTo(sb, true);
+				}
+				if (nested) {
+					sb.append(')');
+				}
+				break;
+			default: sb.append(id);
+		}
+	}
+}
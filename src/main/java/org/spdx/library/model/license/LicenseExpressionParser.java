@@ -18,14 +18,14 @@
 package org.spdx.library.model.license;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.EmptyStackException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Stack;
+
+import javax.annotation.Nullable;
 
 import org.spdx.library.InvalidSPDXAnalysisException;
 import org.spdx.library.ModelCopyManager;
@@ -51,11 +51,12 @@ public class LicenseExpressionParser {
 	};
 	static final String LEFT_PAREN = "(";
 	static final String RIGHT_PAREN = ")";
+	static final String OR_LATER_TOKEN = "+";
 	static final Map<String, Operator> OPERATOR_MAP = new HashMap<>();
 	public static final String UNINITIALIZED_LICENSE_TEXT = "[Initialized with license Parser.  The actual license text is not available]";
 	
 	static {
-		OPERATOR_MAP.put("+", Operator.OR_LATER);
+		OPERATOR_MAP.put(OR_LATER_TOKEN, Operator.OR_LATER);
 		OPERATOR_MAP.put("AND", Operator.AND);
 		OPERATOR_MAP.put("OR", Operator.OR);
 		OPERATOR_MAP.put("WITH", Operator.WITH);
@@ -76,19 +77,30 @@ public class LicenseExpressionParser {
 	 */
 	static AnyLicenseInfo parseLicenseExpression(String expression, IModelStore store, 
 			String documentUri, ModelCopyManager copyManager) throws InvalidSPDXAnalysisException {
+		LicenseExpressionNode node = parseExpressionNode(expression);
+		Objects.requireNonNull(store, "Model store can not be null");
+		Objects.requireNonNull(documentUri, "Document URI can not be null");
+		return toLicenseInfo(node, store, documentUri, copyManager);
+	}
+	
+	/**
+	 * Parses a license expression into a model store independent expression tree
+	 * @param expression Expression to be parsed
+	 * @return the root node of the parsed license expression
+	 * @throws LicenseParserException if the expression is not a valid license expression
+	 */
+	static LicenseExpressionNode parseExpressionNode(String expression) throws LicenseParserException {
 		if (expression == null || expression.trim().isEmpty()) {
 			throw new LicenseParserException("Empty license expression");
 		}
-		Objects.requireNonNull(store, "Model store can not be null");
-		Objects.requireNonNull(documentUri, "Document URI can not be null");
 		String[] tokens  = tokenizeExpression(expression);
 		if (tokens.length == 1 && tokens[0].equals(SpdxConstants.NOASSERTION_VALUE)) {
-			return new SpdxNoAssertionLicense();
+			return LicenseExpressionNode.NOASSERTION_NODE;
 		} else if (tokens.length == 1 && tokens[0].equals(SpdxConstants.NONE_VALUE)) {
-			return new SpdxNoneLicense();
+			return LicenseExpressionNode.NONE_NODE;
 		} else {
 			try {
-				return parseLicenseExpression(tokens, store, documentUri, copyManager);
+				return parseLicenseExpression(tokens);
 			} catch (LicenseParserException ex) {
 				// Add the expression to the error message to provide additional information to the user
 				throw new LicenseParserException(ex.getMessage()+" License expression: '"+expression+"'", ex);
@@ -99,173 +111,219 @@ public class LicenseExpressionParser {
 	}
 
 	/**
-	 * A custom tokenizer since there is not white space between parents and pluses
+	 * @param ch character
+	 * @return true if the character separates tokens in a license expression
+	 */
+	static boolean isWhitespace(char ch) {
+		return ch == ' ' || ch == '\t' || ch == '\n' || ch == '\u000B' || ch == '\f' || ch == '\r';
+	}
+
+	/**
+	 * A custom single pass tokenizer since there is not white space between parens and pluses.
+	 * Leading left parenthesis and trailing right parenthesis and pluses are separated from 
+	 * each white space delimited word
 	 * @param expression
 	 * @return
 	 */
 	private static String[] tokenizeExpression(String expression) {
-		String[] startTokens = expression.split("\\s");
-		List<String> endTokens = new ArrayList<>();
-		for (String token : startTokens) {
-			processPreToken(token, endTokens);
+		List<String> tokens = new ArrayList<>();
+		int len = expression.length();
+		int wordStart = 0;
+		while (wordStart < len) {
+			while (wordStart < len && isWhitespace(expression.charAt(wordStart))) {
+				wordStart++;
+			}
+			int wordEnd = wordStart;
+			while (wordEnd < len && !isWhitespace(expression.charAt(wordEnd))) {
+				wordEnd++;
+			}
+			int tokenStart = wordStart;
+			while (tokenStart < wordEnd && expression.charAt(tokenStart) == '(') {
+				tokens.add(LEFT_PAREN);
+				tokenStart++;
+			}
+			int tokenEnd = wordEnd;
+			while (tokenEnd > tokenStart && (expression.charAt(tokenEnd - 1) == ')' || expression.charAt(tokenEnd - 1) == '+')) {
+				tokenEnd--;
+			}
+			if (tokenEnd > tokenStart) {
+				tokens.add(expression.substring(tokenStart, tokenEnd));
+			}
+			for (int i = tokenEnd; i < wordEnd; i++) {
+				tokens.add(expression.charAt(i) == ')' ? RIGHT_PAREN : OR_LATER_TOKEN);
+			}
+			wordStart = wordEnd;
 		}
-		return endTokens.toArray(new String[endTokens.size()]);
+		return tokens.toArray(new String[tokens.size()]);
 	}
-
+	
 	/**
-	 * @param preToken
-	 * @param tokenList
+	 * Finds the matching right parenthesis for every left parenthesis in a single pass
+	 * @param tokens
+	 * @return array where the value for the index of each left parenthesis is the index of the matching right parenthesis or -1 if not found
 	 */
-	private static void processPreToken(String preToken,
-			List<String> tokenList) {
-		if (preToken.isEmpty()) {
-			return;
-		} else if (preToken.startsWith("(")) {
-			tokenList.add("(");
-			processPreToken(preToken.substring(1), tokenList);
-		} else if (preToken.endsWith(")")) {
-			processPreToken(preToken.substring(0, preToken.length()-1), tokenList);
-			tokenList.add(")");
-		} else if (preToken.endsWith("+")) {
-			processPreToken(preToken.substring(0, preToken.length()-1), tokenList);
-			tokenList.add("+");
-		} else {
-			tokenList.add(preToken);
+	private static int[] findMatchingParens(String[] tokens) {
+		int[] retval = new int[tokens.length];
+		int[] openParens = new int[tokens.length];
+		int numOpen = 0;
+		for (int i = 0; i < tokens.length; i++) {
+			retval[i] = -1;
+			if (LEFT_PAREN.equals(tokens[i])) {
+				openParens[numOpen++] = i;
+			} else if (RIGHT_PAREN.equals(tokens[i]) && numOpen > 0) {
+				retval[openParens[--numOpen]] = i;
+			}
+		}
+		return retval;
+	}
+	
+	/**
+	 * Conjunctive or disjunctive license set which may still have members added while parsing
+	 */
+	private static class PendingSet {
+		final LicenseExpressionNode.Kind kind;
+		final List<LicenseExpressionNode> members = new ArrayList<>();
+		
+		PendingSet(LicenseExpressionNode.Kind kind) {
+			this.kind = kind;
 		}
 	}
 
 	/**
-	 * Parses a tokenized license expression into a license for use in the RDF Parser
+	 * Parses a tokenized license expression into a license expression tree using the shunting yard algorithm.
+	 * 
+	 * Parenthesized expressions are parsed iteratively by saving the operand and operator stack positions on a 
+	 * group stack, so each token is visited once.  Operands are either <code>LicenseExpressionNode</code>s or 
+	 * <code>PendingSet</code>s which allow AND and OR terms to be merged without copying the members.
 	 * @param tokens
-	 * @param store
-	 * @param documentUri
-	 * @param copyManager if non-null, allows for copying of any properties set which use other model stores or document URI's
 	 * @return
-	 * @throws InvalidSPDXAnalysisException 
+	 * @throws LicenseParserException 
 	 */
-	private static AnyLicenseInfo parseLicenseExpression(String[] tokens, IModelStore store, 
-			String documentUri, ModelCopyManager copyManager) throws InvalidSPDXAnalysisException {
+	private static LicenseExpressionNode parseLicenseExpression(String[] tokens) throws LicenseParserException {
 		if (tokens == null || tokens.length == 0) {
 			throw new LicenseParserException("Expected license expression");
 		}
-		Stack<AnyLicenseInfo> operandStack = new Stack<AnyLicenseInfo>();
-		Stack<Operator> operatorStack = new Stack<Operator>(); 
+		int[] matchingParens = findMatchingParens(tokens);
+		Object[] operands = new Object[tokens.length];
+		int numOperands = 0;
+		Operator[] operators = new Operator[tokens.length];
+		int numOperators = 0;
+		// for each open group - the operand base, operator base and right paren index
+		int[] groups = new int[tokens.length * 3];
+		int numGroups = 0;
+		int operandBase = 0;
+		int operatorBase = 0;
+		int groupEnd = tokens.length;
 		int tokenIndex = 0;
 		String token;
 		while (tokenIndex < tokens.length) {
 			token = tokens[tokenIndex++];
+			Operator operator;
 			// left operand
 			if (LEFT_PAREN.equals(token)) {
-				int rightParenIndex = findMatchingParen(tokens, tokenIndex);
+				int rightParenIndex = matchingParens[tokenIndex - 1];
 				if (rightParenIndex < 0) {
 					throw new LicenseParserException("Missing right parenthesis");
 				}
-				String[] nestedTokens = Arrays.copyOfRange(tokens, tokenIndex, rightParenIndex);
-				operandStack.push(parseLicenseExpression(nestedTokens, store, documentUri, copyManager));
-				tokenIndex = rightParenIndex + 1;		
-			} else if (OPERATOR_MAP.get(token) == null) {	// assumed to be a simple licensing type
-				operandStack.push(parseSimpleLicenseToken(token, store, documentUri, copyManager));
+				if (rightParenIndex == tokenIndex) {
+					throw new LicenseParserException("Expected license expression");
+				}
+				groups[numGroups * 3] = operandBase;
+				groups[numGroups * 3 + 1] = operatorBase;
+				groups[numGroups * 3 + 2] = groupEnd;
+				numGroups++;
+				operandBase = numOperands;
+				operatorBase = numOperators;
+				groupEnd = rightParenIndex;
+			} else if (tokenIndex - 1 == groupEnd) {
+				// right parenthesis closing the current group
+				while (numOperators > operatorBase) {
+					numOperands = evaluateExpression(operators[--numOperators], operands, numOperands, operandBase);
+				}
+				if (numOperands <= operandBase) {
+					throw new EmptyStackException();
+				}
+				if (numOperands > operandBase + 1) {
+					throw new LicenseParserException("Invalid license expression.  Expecting more operands.");
+				}
+				numGroups--;
+				operandBase = groups[numGroups * 3];
+				operatorBase = groups[numGroups * 3 + 1];
+				groupEnd = groups[numGroups * 3 + 2];
+			} else if ((operator = OPERATOR_MAP.get(token)) == null) {	// assumed to be a simple licensing type
+				operands[numOperands++] = parseSimpleLicenseToken(token);
+			} else if (operator == Operator.WITH) {
+				// special processing here since With must be with an exception, not a licenseInfo
+				if (numOperators > operatorBase && Operator.OR_LATER.equals(operators[numOperators - 1])) {
+					numOperands = evaluateExpression(operators[--numOperators], operands, numOperands, operandBase);
+				}
+				if (tokenIndex >= groupEnd) {
+					throw new LicenseParserException("Missing exception clause");
+				}
+				token = tokens[tokenIndex++];
+				Optional<String> exceptionId = Optional.empty();
+				if (LicenseInfoFactory.isSpdxListedExceptionId(token)) {
+					exceptionId = LicenseInfoFactory.listedExceptionIdCaseSensitive(token);
+				}
+				if (!exceptionId.isPresent() && token.startsWith(SpdxConstants.NON_STD_LICENSE_ID_PRENUM)) {
+					throw new LicenseParserException("WITH must be followed by a license exception. "+token+" is a Listed License type.");
+				}
+				if (numOperands <= operandBase) {
+					throw new EmptyStackException();
+				}
+				Object operand = operands[numOperands - 1];
+				if (!(operand instanceof LicenseExpressionNode) || 
+						!(((LicenseExpressionNode)operand).isSimpleLicense() || 
+								LicenseExpressionNode.Kind.OR_LATER.equals(((LicenseExpressionNode)operand).getKind()))) {
+					throw new LicenseParserException("License with exception is not of type SimpleLicensingInfo or OrLaterOperator");
+				}
+				operands[numOperands - 1] = LicenseExpressionNode.with((LicenseExpressionNode)operand, 
+						exceptionId.orElse(token), exceptionId.isPresent());
 			} else {
-				Operator operator = OPERATOR_MAP.get(token);
-				if (operator == Operator.WITH) {
-					// special processing here since With must be with an exception, not a licenseInfo
-					if (!operatorStack.isEmpty() && Operator.OR_LATER.equals(operatorStack.peek())) {
-						Operator tosOperator = operatorStack.pop();
-						evaluateExpression(tosOperator, operandStack, store, documentUri, copyManager);
-					}
-					if (tokenIndex >= tokens.length) {
-						throw new LicenseParserException("Missing exception clause");
-					}
-					token = tokens[tokenIndex++];
-					LicenseException licenseException = null;
-					Optional<String> exceptionId = Optional.empty();
-					if (LicenseInfoFactory.isSpdxListedExceptionId(token)) {
-						exceptionId = LicenseInfoFactory.listedExceptionIdCaseSensitive(token);
-					}
-					if (exceptionId.isPresent()) {
-						licenseException = LicenseInfoFactory.getListedExceptionById(exceptionId.get());
-					} else if (token.startsWith(SpdxConstants.NON_STD_LICENSE_ID_PRENUM)) {
-						throw new LicenseParserException("WITH must be followed by a license exception. "+token+" is a Listed License type.");
-					} else {
-						licenseException = (ListedLicenseException) SpdxModelFactory.createModelObject(store, 
-								documentUri, token, SpdxConstants.CLASS_SPDX_LISTED_LICENSE_EXCEPTION, copyManager);
-					}
-					AnyLicenseInfo operand = operandStack.pop();
-					if (operand == null) {
-						throw new LicenseParserException("Missing license for with clause");
-					}
-					if (!((operand instanceof SimpleLicensingInfo) || (operand instanceof OrLaterOperator))) {
-						throw new LicenseParserException("License with exception is not of type SimpleLicensingInfo or OrLaterOperator");
-					}
-					WithExceptionOperator weo = new WithExceptionOperator(store, documentUri, store.getNextId(IdType.Anonymous, documentUri), copyManager, true);
-					weo.setLicense(operand);
-					weo.setException(licenseException);
-					operandStack.push(weo);			
-				} else {
-					// process in order of precedence using the shunting yard algorithm
-					while (!operatorStack.isEmpty() && 
-							operatorStack.peek().ordinal() <= operator.ordinal()) {
-						Operator tosOperator = operatorStack.pop();
-						evaluateExpression(tosOperator, operandStack, store, documentUri, copyManager);
-					}
-					operatorStack.push(operator);
+				// process in order of precedence using the shunting yard algorithm
+				while (numOperators > operatorBase && 
+						operators[numOperators - 1].ordinal() <= operator.ordinal()) {
+					numOperands = evaluateExpression(operators[--numOperators], operands, numOperands, operandBase);
 				}
+				operators[numOperators++] = operator;
 			}
 		}
 		// go through the rest of the stack
-		while (!operatorStack.isEmpty()) {
-			Operator tosOperator = operatorStack.pop();
-			evaluateExpression(tosOperator, operandStack, store, documentUri, copyManager);
+		while (numOperators > 0) {
+			numOperands = evaluateExpression(operators[--numOperators], operands, numOperands, 0);
+		}
+		if (numOperands == 0) {
+			throw new EmptyStackException();
 		}
-		AnyLicenseInfo retval = operandStack.pop();
-		if (!operandStack.isEmpty()) {
+		if (numOperands > 1) {
 			throw new LicenseParserException("Invalid license expression.  Expecting more operands.");
 		}
-		return retval;
+		return toNode(operands[0]);
 	}
-
+	
 	/**
-	 * Returns the index of the rightmost parenthesis or -1 if not found
-	 * @param tokens
-	 * @return
+	 * @param operand license expression node or pending set
+	 * @return the license expression node for the operand
 	 */
-	private static int findMatchingParen(String[] tokens, int startToken) {
-		if (tokens == null) {
-			return -1;
-		}
-		int nestCount = 0;
-		for (int i = startToken; i < tokens.length; i++) {
-			if (LEFT_PAREN.equals(tokens[i])) {
-				nestCount++;
-			} else if (RIGHT_PAREN.equals(tokens[i])) {
-				if (nestCount == 0) {
-					return i;
-				} else {
-					nestCount--;
-				}
-			}
+	private static LicenseExpressionNode toNode(Object operand) {
+		if (operand instanceof PendingSet) {
+			return LicenseExpressionNode.set(((PendingSet)operand).kind, ((PendingSet)operand).members);
+		} else {
+			return (LicenseExpressionNode)operand;
 		}
-		return -1;
 	}
 
 	/**
-	 * Converts a string token into its equivalent license
+	 * Converts a string token into its equivalent license node
 	 * checking for a listed license
 	 * @param token
-	 * @param store
-	 * @param documentUri 
-	 * @param copyManager
 	 * @return
-	 * @throws InvalidSPDXAnalysisException 
 	 */
-	private static AnyLicenseInfo parseSimpleLicenseToken(String token, IModelStore store, String documentUri,
-			ModelCopyManager copyManager) throws InvalidSPDXAnalysisException {
+	private static LicenseExpressionNode parseSimpleLicenseToken(String token) {
 		Objects.requireNonNull(token, "Token can not be null");
-		Objects.requireNonNull(store, "Model store can not be null");
-		Objects.requireNonNull(documentUri, "Document URI can not be null");
 		if (token.contains(":")) {
 			// External License Ref
-			return new ExternalExtractedLicenseInfo(store, documentUri, token, copyManager, true);
+			return LicenseExpressionNode.license(LicenseExpressionNode.Kind.EXTERNAL_LICENSE_REF, token);
 		} 
 		Optional<String> licenseId = Optional.empty();
 		if (LicenseInfoFactory.isSpdxListedLicenseId(token)) {	
@@ -273,60 +331,44 @@ public class LicenseExpressionParser {
 			licenseId = LicenseInfoFactory.listedLicenseIdCaseSensitive(token);
 		}
 		if (licenseId.isPresent()) {
-			if (!store.exists(documentUri, licenseId.get())) {
-				SpdxListedLicense listedLicense = LicenseInfoFactory.getListedLicenseById(licenseId.get());
-				if (Objects.nonNull(copyManager)) {
-					// copy to the local store
-					copyManager.copy(store, documentUri, token, listedLicense.getModelStore(), 
-							listedLicense.getDocumentUri(), token, SpdxConstants.CLASS_SPDX_LISTED_LICENSE);
-				}
-			}
-			return (AnyLicenseInfo) ModelStorageClassConverter.storedObjectToModelObject(
-					new TypedValue(licenseId.get(), SpdxConstants.CLASS_SPDX_LISTED_LICENSE), 
-					documentUri, store, copyManager);
+			return LicenseExpressionNode.license(LicenseExpressionNode.Kind.LISTED_LICENSE, licenseId.get());
 		} else {
 			// LicenseRef
-			Optional<String> caseSensitiveId = store.getCaseSensisitiveId(documentUri, token);
-			ExtractedLicenseInfo localLicense = null;
-			if (caseSensitiveId.isPresent()) {
-				localLicense = new ExtractedLicenseInfo(store, documentUri, caseSensitiveId.get(), copyManager, false);
-				
-			} else {
-				localLicense = (ExtractedLicenseInfo) SpdxModelFactory.createModelObject(
-						store, documentUri, token, SpdxConstants.CLASS_SPDX_EXTRACTED_LICENSING_INFO, copyManager);
-				localLicense.setExtractedText(UNINITIALIZED_LICENSE_TEXT);
-			}
-			return localLicense;
+			return LicenseExpressionNode.license(LicenseExpressionNode.Kind.LICENSE_REF, token);
 		}
 	}
 
 	/**
-	 * Evaluate the given operator using paramaeters in the parameter stack
+	 * Evaluate the given operator using paramaeters in the operand stack
 	 * @param operator
-	 * @param operandStack
-	 * @param copyManager
-	 * @throws InvalidSPDXAnalysisException 
+	 * @param operands operand stack
+	 * @param numOperands number of operands on the stack
+	 * @param operandBase index of the first operand in the current parenthesized group
+	 * @return the number of operands on the stack after the evaluation
+	 * @throws LicenseParserException 
 	 */
-	private static void evaluateExpression(Operator operator,
-			Stack<AnyLicenseInfo> operandStack, IModelStore store, 
-			String documentUri, ModelCopyManager copyManager) throws InvalidSPDXAnalysisException {
+	private static int evaluateExpression(Operator operator,
+			Object[] operands, int numOperands, int operandBase) throws LicenseParserException {
 		if (operator == Operator.OR_LATER) {
 			// unary operator
-			AnyLicenseInfo license = operandStack.pop();
-			if (!(license instanceof SimpleLicensingInfo)) {
+			if (numOperands <= operandBase) {
+				throw new EmptyStackException();
+			}
+			Object license = operands[numOperands - 1];
+			if (!(license instanceof LicenseExpressionNode) || !((LicenseExpressionNode)license).isSimpleLicense()) {
 				throw new LicenseParserException("Missing license for the '+' or later operator");
 			}
-			OrLaterOperator olo = new OrLaterOperator(store, documentUri, store.getNextId(IdType.Anonymous, documentUri), copyManager, true);
-			olo.setLicense((SimpleLicensingInfo)license);
-			operandStack.push(olo);
+			operands[numOperands - 1] = LicenseExpressionNode.orLater((LicenseExpressionNode)license);
+			return numOperands;
 		} else {
 			// binary operator
-			AnyLicenseInfo operand2 = operandStack.pop();
-			AnyLicenseInfo operand1 = operandStack.pop();
-			if (operand1 == null || operand2 == null) {
-				throw new LicenseParserException("Missing operands for the "+operator.toString()+" operator");
+			if (numOperands <= operandBase + 1) {
+				throw new EmptyStackException();
 			}
-			operandStack.push(evaluateBinary(operator, operand1, operand2, store, documentUri, copyManager));
+			Object operand2 = operands[--numOperands];
+			operands[numOperands] = null;
+			operands[numOperands - 1] = evaluateBinary(operator, operands[numOperands - 1], operand2);
+			return numOperands;
 		}		
 	}
 
@@ -335,39 +377,167 @@ public class LicenseExpressionParser {
 	 * @param tosOperator
 	 * @param operand1
 	 * @param operand2
-	 * @param copyManager
 	 * @return
-	 * @throws InvalidSPDXAnalysisException 
+	 * @throws LicenseParserException 
 	 */
-	private static AnyLicenseInfo evaluateBinary(Operator tosOperator,
-			AnyLicenseInfo operand1, AnyLicenseInfo operand2, IModelStore store, 
-			String documentUri, ModelCopyManager copyManager) throws InvalidSPDXAnalysisException {
+	private static PendingSet evaluateBinary(Operator tosOperator,
+			Object operand1, Object operand2) throws LicenseParserException {
+		LicenseExpressionNode.Kind kind;
 		if (tosOperator == Operator.AND) {
-			if (operand1 instanceof ConjunctiveLicenseSet) {
-				// just merge into operand1
-				((ConjunctiveLicenseSet) operand1).addMember(operand2);
-				return operand1;
-			} else {
+			kind = LicenseExpressionNode.Kind.AND;
+		} else if (tosOperator == Operator.OR) {
+			kind = LicenseExpressionNode.Kind.OR;
+		} else {
+			throw new LicenseParserException("Unknown operator "+tosOperator.toString());
+		}
+		PendingSet retval;
+		if (operand1 instanceof PendingSet && kind.equals(((PendingSet)operand1).kind)) {
+			// just merge into operand1
+			retval = (PendingSet)operand1;
+		} else {
+			retval = new PendingSet(kind);
+			retval.members.add(toNode(operand1));
+		}
+		retval.members.add(toNode(operand2));
+		return retval;
+	}
+	
+	/**
+	 * Creates the license for a parsed license expression in a model store
+	 * @param node root of the parsed license expression
+	 * @param store Store containing any extractedLicenseInfos - if any extractedLicenseInfos by ID already exist, they will be used.  If
+	 * none exist for an ID, they will be added.
+	 * @param documentUri Document URI for the document containing any extractedLicenseInfos
+	 * @param copyManager if non-null, allows for copying of any properties set which use other model stores or document URI's
+	 * @return the license for the expression in the model store
+	 * @throws InvalidSPDXAnalysisException 
+	 */
+	static AnyLicenseInfo toLicenseInfo(LicenseExpressionNode node, IModelStore store, 
+			String documentUri, @Nullable ModelCopyManager copyManager) throws InvalidSPDXAnalysisException {
+		Objects.requireNonNull(node, "License expression can not be null");
+		Objects.requireNonNull(store, "Model store can not be null");
+		Objects.requireNonNull(documentUri, "Document URI can not be null");
+		switch (node.getKind()) {
+			case NOASSERTION: return new SpdxNoAssertionLicense();
+			case NONE: return new SpdxNoneLicense();
+			case EXTERNAL_LICENSE_REF: return new ExternalExtractedLicenseInfo(store, documentUri, node.getId(), copyManager, true);
+			case LISTED_LICENSE: return toListedLicense(node.getId(), store, documentUri, copyManager);
+			case LICENSE_REF: return toExtractedLicense(node.getId(), store, documentUri, copyManager);
+			default: {
+				if (LicenseExpressionInterner.isEnabled()) {
+					AnyLicenseInfo interned = LicenseExpressionInterner.getInterned(node, store, documentUri, copyManager);
+					if (Objects.nonNull(interned)) {
+						return interned;
+					}
+					AnyLicenseInfo retval = toOperatorLicense(node, store, documentUri, copyManager);
+					LicenseExpressionInterner.intern(node, retval);
+					return retval;
+				} else {
+					return toOperatorLicense(node, store, documentUri, copyManager);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Creates a new anonymous license for a license set or operator node
+	 * @param node license set, or later or with exception expression node
+	 * @param store
+	 * @param documentUri
+	 * @param copyManager
+	 * @return the new license for the expression in the model store
+	 * @throws InvalidSPDXAnalysisException
+	 */
+	private static AnyLicenseInfo toOperatorLicense(LicenseExpressionNode node, IModelStore store, 
+			String documentUri, @Nullable ModelCopyManager copyManager) throws InvalidSPDXAnalysisException {
+		switch (node.getKind()) {
+			case OR_LATER: {
+				OrLaterOperator olo = new OrLaterOperator(store, documentUri, store.getNextId(IdType.Anonymous, documentUri), copyManager, true);
+				olo.setLicense((SimpleLicensingInfo)toLicenseInfo(node.getChildren().get(0), store, documentUri, copyManager));
+				return olo;
+			}
+			case WITH: {
+				LicenseException licenseException;
+				if (node.isListedException()) {
+					licenseException = LicenseInfoFactory.getListedExceptionById(node.getId());
+				} else {
+					licenseException = (ListedLicenseException) SpdxModelFactory.createModelObject(store, 
+							documentUri, node.getId(), SpdxConstants.CLASS_SPDX_LISTED_LICENSE_EXCEPTION, copyManager);
+				}
+				AnyLicenseInfo operand = toLicenseInfo(node.getChildren().get(0), store, documentUri, copyManager);
+				WithExceptionOperator weo = new WithExceptionOperator(store, documentUri, store.getNextId(IdType.Anonymous, documentUri), copyManager, true);
+				weo.setLicense(operand);
+				weo.setException(licenseException);
+				return weo;
+			}
+			case AND: {
 				ConjunctiveLicenseSet retval = new ConjunctiveLicenseSet(store, documentUri, 
 						store.getNextId(IdType.Anonymous, documentUri), copyManager, true);
-				retval.addMember(operand1);
-				retval.addMember(operand2);
+				for (LicenseExpressionNode member:node.getChildren()) {
+					retval.addMember(toLicenseInfo(member, store, documentUri, copyManager));
+				}
 				return retval;
 			}
-		} else if (tosOperator == Operator.OR) {
-			if (operand1 instanceof DisjunctiveLicenseSet) {
-				// just merge into operand1
-				((DisjunctiveLicenseSet) operand1).addMember(operand2);
-				return operand1;
-			} else {
+			case OR: {
 				DisjunctiveLicenseSet retval = new DisjunctiveLicenseSet(store, documentUri, 
 						store.getNextId(IdType.Anonymous, documentUri), copyManager, true);
-				retval.addMember(operand1);
-				retval.addMember(operand2);
+				for (LicenseExpressionNode member:node.getChildren()) {
+					retval.addMember(toLicenseInfo(member, store, documentUri, copyManager));
+				}
 				return retval;
 			}
+			default: throw new LicenseParserException("Unknown license expression type "+node.getKind().toString());
+		}
+	}
+	
+	/**
+	 * @param licenseId case sensitive listed license ID
+	 * @param store
+	 * @param documentUri
+	 * @param copyManager
+	 * @return the listed license in the store, copying the listed license to the store if not already present
+	 * unless listed license references are enabled
+	 * @throws InvalidSPDXAnalysisException
+	 */
+	private static AnyLicenseInfo toListedLicense(String licenseId, IModelStore store, String documentUri,
+			@Nullable ModelCopyManager copyManager) throws InvalidSPDXAnalysisException {
+		if (!store.exists(documentUri, licenseId)) {
+			if (ListedLicenseReferences.isEnabled()) {
+				// the listed license is stored as a reference when set as a property value
+				return ListedLicenseReferences.getReadOnlyListedLicense(licenseId);
+			}
+			SpdxListedLicense listedLicense = LicenseInfoFactory.getListedLicenseById(licenseId);
+			if (Objects.nonNull(copyManager)) {
+				// copy to the local store
+				copyManager.copy(store, documentUri, licenseId, listedLicense.getModelStore(), 
+						listedLicense.getDocumentUri(), licenseId, SpdxConstants.CLASS_SPDX_LISTED_LICENSE);
+			}
+		}
+		return (AnyLicenseInfo) ModelStorageClassConverter.storedObjectToModelObject(
+				new TypedValue(licenseId, SpdxConstants.CLASS_SPDX_LISTED_LICENSE), 
+				documentUri, store, copyManager);
+	}
+	
+	/**
+	 * @param token license reference ID
+	 * @param store
+	 * @param documentUri
+	 * @param copyManager
+	 * @return the existing extracted license with a case insensitive match of the ID or a new extracted license if none exist
+	 * @throws InvalidSPDXAnalysisException
+	 */
+	private static AnyLicenseInfo toExtractedLicense(String token, IModelStore store, String documentUri,
+			@Nullable ModelCopyManager copyManager) throws InvalidSPDXAnalysisException {
+		Optional<String> caseSensitiveId = store.getCaseSensisitiveId(documentUri, token);
+		ExtractedLicenseInfo localLicense = null;
+		if (caseSensitiveId.isPresent()) {
+			localLicense = new ExtractedLicenseInfo(store, documentUri, caseSensitiveId.get(), copyManager, false);
+			
 		} else {
-			throw new LicenseParserException("Unknown operator "+tosOperator.toString());
+			localLicense = (ExtractedLicenseInfo) SpdxModelFactory.createModelObject(
+					store, documentUri, token, SpdxConstants.CLASS_SPDX_EXTRACTED_LICENSING_INFO, copyManager);
+			localLicense.setExtractedText(UNINITIALIZED_LICENSE_TEXT);
 		}
+		return localLicense;
 	}
 }
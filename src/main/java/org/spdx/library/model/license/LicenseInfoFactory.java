@@ -41,6 +41,11 @@ public class LicenseInfoFactory {
 	public static final String NOASSERTION_LICENSE_NAME = "NOASSERTION";
 	public static final String NONE_LICENSE_NAME = "NONE";
 	
+	/**
+	 * Cache of parsed license expressions shared across all model stores
+	 */
+	private static final LicenseExpressionCache expressionCache = LicenseExpressionCache.fromConfiguration();
+	
 	/**
 	 * @param licenseId SPDX Listed License ID
 	 * @return SPDX listed license or null if the ID is not in the SPDX license list
@@ -83,7 +88,7 @@ public class LicenseInfoFactory {
 			copyManager = DefaultModelStore.getDefaultCopyManager();
 		}
 		try {
-			return LicenseExpressionParser.parseLicenseExpression(licenseString, store, documentUri, copyManager);
+			return LicenseExpressionParser.toLicenseInfo(expressionCache.parse(licenseString), store, documentUri, copyManager);
 		} catch (LicenseParserException e) {
 			throw new InvalidLicenseStringException(e.getMessage(),e);
 		} catch (InvalidSPDXAnalysisException e) {
@@ -110,6 +115,52 @@ public class LicenseInfoFactory {
 	public static AnyLicenseInfo parseSPDXLicenseString(String licenseString) throws InvalidLicenseStringException {
 		return parseSPDXLicenseString(licenseString, null, null, null);
 	}
+	
+	/**
+	 * Parses a license string into a model store independent expression tree.  Parsed expressions
+	 * are cached - see the <code>org.spdx.licenseExpressionCacheSize</code> configuration property.
+	 * @param licenseString String conforming to the license expression syntax
+	 * @return the root node of the parsed expression
+	 * @throws InvalidLicenseStringException 
+	 */
+	public static LicenseExpressionNode parseLicenseExpressionNode(String licenseString) throws InvalidLicenseStringException {
+		try {
+			return expressionCache.parse(licenseString);
+		} catch (LicenseParserException e) {
+			throw new InvalidLicenseStringException(e.getMessage(),e);
+		}
+	}
+	
+	/**
+	 * Creates the license for a parsed license expression in a model store
+	 * @param expression expression parsed by <code>parseLicenseExpressionNode</code>
+	 * @param store Store containing any extractedLicenseInfos - if any extractedLicenseInfos by ID already exist, they will be used.  If
+	 * none exist for an ID, they will be added.  If null, the default model store will be used.
+	 * @param documentUri Document URI for the document containing any extractedLicenseInfos - if null, the default model document URI will be used.
+	 * @param copyManager if non-null, allows for copying of any properties set which use other model stores or document URI's
+	 * @return the license for the expression
+	 * @throws InvalidSPDXAnalysisException
+	 */
+	public static AnyLicenseInfo toLicenseInfo(LicenseExpressionNode expression, @Nullable IModelStore store, 
+			@Nullable String documentUri, @Nullable ModelCopyManager copyManager) throws InvalidSPDXAnalysisException {
+		if (Objects.isNull(store)) {
+			store = DefaultModelStore.getDefaultModelStore();
+		}
+		if (Objects.isNull(documentUri)) {
+			documentUri = DefaultModelStore.getDefaultDocumentUri();
+		}
+		if (Objects.isNull(copyManager)) {
+			copyManager = DefaultModelStore.getDefaultCopyManager();
+		}
+		return LicenseExpressionParser.toLicenseInfo(expression, store, documentUri, copyManager);
+	}
+	
+	/**
+	 * Remove all cached parsed license expressions
+	 */
+	public static void clearLicenseExpressionCache() {
+		expressionCache.clear();
+	}
 
 
 
@@ -23,9 +23,13 @@ import org.spdx.library.SpdxConstants;
 import org.spdx.library.model.SpdxInvalidTypeException;
 import org.spdx.storage.IModelStore;
 import org.spdx.storage.IModelStore.IdType;
+import org.spdx.storage.IRevisionedModelStore;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
@@ -45,6 +49,121 @@ public abstract class LicenseSet extends AnyLicenseInfo {
 	
 	Collection<AnyLicenseInfo> members;
 	
+	/**
+	 * Flattened members of a license set sorted by hash code.  Used for hashing, equality and equivalence.
+	 */
+	static final class CanonicalMembers {
+		/**
+		 * Model store revision when the members were collected or -1 if the model store does not track revisions
+		 */
+		final long revision;
+		final AnyLicenseInfo[] members;
+		final int[] hashCodes;
+		final int hashCode;
+		
+		CanonicalMembers(long revision, Collection<AnyLicenseInfo> flattenedMembers) {
+			this.revision = revision;
+			int size = flattenedMembers.size();
+			AnyLicenseInfo[] unsorted = flattenedMembers.toArray(new AnyLicenseInfo[size]);
+			int[] unsortedHashCodes = new int[size];
+			Integer[] order = new Integer[size];
+			for (int i = 0; i < size; i++) {
+				unsortedHashCodes[i] = unsorted[i].hashCode();
+				order[i] = i;
+			}
+			Arrays.sort(order, Comparator.comparingInt(i -> unsortedHashCodes[i]));
+			this.members = new AnyLicenseInfo[size];
+			this.hashCodes = new int[size];
+			int hash = 41;	// Prime number
+			for (int i = 0; i < size; i++) {
+				members[i] = unsorted[order[i]];
+				hashCodes[i] = unsortedHashCodes[order[i]];
+				hash = hash ^ hashCodes[i];
+			}
+			this.hashCode = hash;
+		}
+		
+		/**
+		 * @param member license to search for
+		 * @return true if a member is equal to member
+		 */
+		boolean contains(AnyLicenseInfo member) {
+			int hash = member.hashCode();
+			int index = Arrays.binarySearch(hashCodes, hash);
+			if (index < 0) {
+				return false;
+			}
+			while (index > 0 && hashCodes[index - 1] == hash) {
+				index--;
+			}
+			while (index < hashCodes.length && hashCodes[index] == hash) {
+				if (member.equals(members[index])) {
+					return true;
+				}
+				index++;
+			}
+			return false;
+		}
+		
+		/**
+		 * @param compare
+		 * @return true if the members are equal ignoring order
+		 */
+		boolean membersEqual(CanonicalMembers compare) {
+			if (compare == this) {
+				return true;
+			}
+			if (members.length != compare.members.length || hashCode != compare.hashCode || 
+					!Arrays.equals(hashCodes, compare.hashCodes)) {
+				return false;
+			}
+			for (int i = 0; i < members.length; i++) {
+				if (!members[i].equals(compare.members[i]) && !compare.contains(members[i])) {
+					return false;
+				}
+			}
+			return true;
+		}
+		
+		/**
+		 * @param compare
+		 * @return true if every member is equal to or equivalent to a member of compare
+		 * @throws InvalidSPDXAnalysisException
+		 */
+		boolean membersEquivalent(CanonicalMembers compare) throws InvalidSPDXAnalysisException {
+			if (members.length != compare.members.length) {
+				return false;
+			}
+			for (AnyLicenseInfo myInfo:members) {
+				if (!compare.contains(myInfo)) {
+					boolean found = false;
+					for (AnyLicenseInfo compInfo:compare.members) {
+						if (myInfo.equivalent(compInfo)) {
+							found = true;
+							break;
+						}
+					}
+					if (!found) {
+						return false;
+					}
+				}
+			}
+			return true;
+		}
+		
+		/**
+		 * @return a new modifiable list of the members
+		 */
+		List<AnyLicenseInfo> toList() {
+			return new ArrayList<>(Arrays.asList(members));
+		}
+	}
+	
+	/**
+	 * Cached canonical members - only used for model stores which track revisions
+	 */
+	private volatile CanonicalMembers canonicalMembers = null;
+	
 	
 	/**
 	 * @throws InvalidSPDXAnalysisException
@@ -110,6 +229,35 @@ public abstract class LicenseSet extends AnyLicenseInfo {
 		members.remove(member);
 	}
 
+	/**
+	 * Collects the members of the set flattening out any license sets which have the same meaning as direct members
+	 * @return the unique flattened members of the set
+	 * @throws InvalidSPDXAnalysisException
+	 */
+	Collection<AnyLicenseInfo> collectFlattenedMembers() throws InvalidSPDXAnalysisException {
+		return new HashSet<>(getMembers());
+	}
+	
+	/**
+	 * The canonical members are cached until the model store is modified for model stores which implement
+	 * <code>IRevisionedModelStore</code>.
+	 * @return the flattened members of the set sorted by hash code
+	 * @throws InvalidSPDXAnalysisException
+	 */
+	CanonicalMembers getCanonicalMembers() throws InvalidSPDXAnalysisException {
+		IModelStore store = getModelStore();
+		if (!(store instanceof IRevisionedModelStore)) {
+			return new CanonicalMembers(-1, collectFlattenedMembers());
+		}
+		long revision = ((IRevisionedModelStore)store).getRevision();
+		CanonicalMembers retval = canonicalMembers;
+		if (Objects.isNull(retval) || retval.revision != revision) {
+			retval = new CanonicalMembers(revision, collectFlattenedMembers());
+			canonicalMembers = retval;
+		}
+		return retval;
+	}
+
 	@Override
 	protected List<String> _verify(Set<String> verifiedIds, String specVersion) {
 		List<String> retval = new ArrayList<>();
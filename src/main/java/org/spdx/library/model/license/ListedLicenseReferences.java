@@ -0,0 +1,267 @@
+/**
+ * Copyright (c) 2026 Source Auditor Inc.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * 
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.library.model.license;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import javax.annotation.Nullable;
+
+import org.spdx.Configuration;
+import org.spdx.library.InvalidSPDXAnalysisException;
+import org.spdx.library.ModelCopyManager;
+import org.spdx.library.SpdxConstants;
+import org.spdx.library.model.IndividualUriValue;
+import org.spdx.library.model.ModelObject;
+import org.spdx.library.model.SimpleUriValue;
+import org.spdx.library.model.SpdxModelFactory;
+import org.spdx.library.model.TypedValue;
+import org.spdx.storage.IModelStore;
+import org.spdx.storage.listedlicense.IListedLicenseStore;
+
+/**
+ * Stores references to SPDX listed licenses and listed exceptions in place of copies.
+ * 
+ * When enabled, setting a property of a model object to a listed license or listed exception from 
+ * the <code>ListedLicenses</code> store stores the listed license URI (e.g. <code>http://spdx.org/licenses/MIT</code>)
+ * rather than copying the license text, template, cross references and other properties into the local model store.  
+ * The license expression parser also returns the shared listed license for listed license IDs not already in the 
+ * local store.  Stored references are resolved against the current <code>ListedLicenses</code> when the property 
+ * value is read.
+ * 
+ * Listed licenses and exceptions resolved from references are shared by all documents and are read only - any attempt
+ * to modify them throws an <code>InvalidSPDXAnalysisException</code>.  Copy the listed license into the local
+ * model store to modify it.
+ * 
+ * Serializers which require the listed license properties in the local model store should call <code>materialize</code>
+ * to copy the referenced listed licenses and replace the references prior to serializing.
+ * 
+ * Referencing is disabled by default and can be enabled with the <code>org.spdx.referenceListedLicenses</code>
+ * configuration property or <code>setEnabled</code>.  References in the form stored by this class
+ * (<code>http://spdx.org/licenses/[id]</code>) are resolved whether or not referencing is enabled so that documents 
+ * stored while referencing was enabled remain readable.  Listed license URL's in other forms 
+ * (<code>https://spdx.org/licenses/[id]</code>) are only resolved while referencing is enabled.
+ * 
+ * @author Gary O'Neall
+ *
+ */
+public final class ListedLicenseReferences {
+	
+	static final String ENABLED_PROPERTY = "org.spdx.referenceListedLicenses";
+	
+	private static volatile boolean enabled = Boolean.parseBoolean(
+			Configuration.getInstance().getProperty(ENABLED_PROPERTY, "false"));
+	
+	/**
+	 * Read only view of the current listed license store - replaced when the listed licenses are reset
+	 */
+	private static volatile ReadOnlyListedLicenseStore readOnlyStore = null;
+	
+	private ListedLicenseReferences() {
+		// static class
+	}
+	
+	/**
+	 * @return true if listed licenses are stored as references
+	 */
+	public static boolean isEnabled() {
+		return enabled;
+	}
+	
+	/**
+	 * @param enable true to store listed licenses as references rather than copies
+	 */
+	public static void setEnabled(boolean enable) {
+		enabled = enable;
+	}
+	
+	/**
+	 * @param value model object
+	 * @return true if the value is a listed license or listed exception stored in a listed license store
+	 */
+	public static boolean isListedLicenseObject(ModelObject value) {
+		return (value instanceof SpdxListedLicense || value instanceof ListedLicenseException) &&
+				value.getModelStore() instanceof IListedLicenseStore &&
+				SpdxConstants.LISTED_LICENSE_URL.equals(value.getDocumentUri());
+	}
+	
+	/**
+	 * @param value listed license or listed exception
+	 * @return value to store in place of a copy of the listed license or exception
+	 * @throws InvalidSPDXAnalysisException
+	 */
+	public static SimpleUriValue toReference(ModelObject value) throws InvalidSPDXAnalysisException {
+		return new SimpleUriValue(SpdxConstants.LISTED_LICENSE_NAMESPACE_PREFIX + value.getId());
+	}
+	
+	/**
+	 * @param uri URI of a stored reference
+	 * @return the listed license or exception ID if the URI is a stored reference or, if referencing is enabled, 
+	 * a listed license URL
+	 */
+	static Optional<String> referencedId(String uri) {
+		String id;
+		if (uri.startsWith(SpdxConstants.LISTED_LICENSE_NAMESPACE_PREFIX)) {
+			id = uri.substring(SpdxConstants.LISTED_LICENSE_NAMESPACE_PREFIX.length());
+		} else if (enabled && uri.startsWith(SpdxConstants.LISTED_LICENSE_URL)) {
+			id = uri.substring(SpdxConstants.LISTED_LICENSE_URL.length());
+		} else {
+			return Optional.empty();
+		}
+		if (id.isEmpty() || id.indexOf('/') >= 0 || id.indexOf('#') >= 0) {
+			return Optional.empty();
+		}
+		return Optional.of(id);
+	}
+	
+	/**
+	 * @param listedLicenses current listed licenses
+	 * @return read only view of the listed license store
+	 */
+	private static ReadOnlyListedLicenseStore getReadOnlyStore(ListedLicenses listedLicenses) {
+		IListedLicenseStore listedLicenseStore = (IListedLicenseStore)listedLicenses.getLicenseModelStore();
+		ReadOnlyListedLicenseStore retval = readOnlyStore;
+		if (Objects.isNull(retval) || retval.getListedLicenseStore() != listedLicenseStore) {
+			retval = new ReadOnlyListedLicenseStore(listedLicenseStore);
+			readOnlyStore = retval;
+		}
+		return retval;
+	}
+	
+	/**
+	 * @param licenseId case sensitive listed license ID
+	 * @return read only listed license shared by all documents
+	 * @throws InvalidSPDXAnalysisException
+	 */
+	static SpdxListedLicense getReadOnlyListedLicense(String licenseId) throws InvalidSPDXAnalysisException {
+		return (SpdxListedLicense)SpdxModelFactory.createModelObject(getReadOnlyStore(ListedLicenses.getListedLicenses()), 
+				SpdxConstants.LISTED_LICENSE_URL, licenseId, SpdxConstants.CLASS_SPDX_LISTED_LICENSE, null);
+	}
+	
+	/**
+	 * @param uri URI of a stored value
+	 * @return the read only listed license or listed exception referenced by the URI or null if the URI does not reference a listed license or exception
+	 * @throws InvalidSPDXAnalysisException
+	 */
+	public static @Nullable ModelObject resolve(String uri) throws InvalidSPDXAnalysisException {
+		Optional<String> id = referencedId(uri);
+		if (!id.isPresent()) {
+			return null;
+		}
+		ListedLicenses listedLicenses = ListedLicenses.getListedLicenses();
+		Optional<String> licenseId = listedLicenses.listedLicenseIdCaseSensitive(id.get());
+		if (licenseId.isPresent()) {
+			return SpdxModelFactory.createModelObject(getReadOnlyStore(listedLicenses), SpdxConstants.LISTED_LICENSE_URL, 
+					licenseId.get(), SpdxConstants.CLASS_SPDX_LISTED_LICENSE, null);
+		}
+		Optional<String> exceptionId = listedLicenses.listedExceptionIdCaseSensitive(id.get());
+		if (exceptionId.isPresent()) {
+			return SpdxModelFactory.createModelObject(getReadOnlyStore(listedLicenses), SpdxConstants.LISTED_LICENSE_URL, 
+					exceptionId.get(), SpdxConstants.CLASS_SPDX_LISTED_LICENSE_EXCEPTION, null);
+		} else {
+			return null;
+		}
+	}
+	
+	/**
+	 * @param uri URI of a stored value
+	 * @return the model class of the listed license or exception referenced by the URI or null if the URI does not reference a listed license or exception
+	 */
+	public static @Nullable Class<?> getReferencedClass(String uri) {
+		Optional<String> id = referencedId(uri);
+		if (!id.isPresent()) {
+			return null;
+		}
+		ListedLicenses listedLicenses = ListedLicenses.getListedLicenses();
+		if (listedLicenses.isSpdxListedLicenseId(id.get())) {
+			return SpdxListedLicense.class;
+		} else if (listedLicenses.isSpdxListedExceptionId(id.get())) {
+			return ListedLicenseException.class;
+		} else {
+			return null;
+		}
+	}
+	
+	/**
+	 * @param storedValue value stored in a model store
+	 * @return the listed license or exception referenced by the stored value or null if the value is not a reference
+	 * @throws InvalidSPDXAnalysisException
+	 */
+	private static @Nullable ModelObject resolveStoredValue(Object storedValue) throws InvalidSPDXAnalysisException {
+		if (!(storedValue instanceof IndividualUriValue)) {
+			return null;
+		}
+		return resolve(((IndividualUriValue)storedValue).getIndividualURI());
+	}
+	
+	/**
+	 * Copy all listed licenses and exceptions referenced in a document into the model store and replace the references
+	 * with the copies.  This should not be called while the document is being modified.
+	 * @param store model store containing the document
+	 * @param documentUri URI of the document
+	 * @param copyManager copy manager used to copy the listed licenses
+	 * @return number of references replaced
+	 * @throws InvalidSPDXAnalysisException
+	 */
+	public static int materialize(IModelStore store, String documentUri, ModelCopyManager copyManager) throws InvalidSPDXAnalysisException {
+		Objects.requireNonNull(store, "Model store can not be null");
+		Objects.requireNonNull(documentUri, "Document URI can not be null");
+		Objects.requireNonNull(copyManager, "Copy manager can not be null");
+		int retval = 0;
+		// collect the items first since copying creates new items in the store
+		List<TypedValue> items = store.getAllItems(documentUri, null).collect(Collectors.toList());
+		for (TypedValue item:items) {
+			for (String propertyName:store.getPropertyValueNames(documentUri, item.getId())) {
+				if (store.isCollectionProperty(documentUri, item.getId(), propertyName)) {
+					List<Object> references = new ArrayList<>();
+					Iterator<Object> iter = store.listValues(documentUri, item.getId(), propertyName);
+					while (iter.hasNext()) {
+						Object value = iter.next();
+						if (Objects.nonNull(resolveStoredValue(value))) {
+							references.add(value);
+						}
+					}
+					for (Object reference:references) {
+						TypedValue copy = copy(resolveStoredValue(reference), store, documentUri, copyManager);
+						store.removeValueFromCollection(documentUri, item.getId(), propertyName, reference);
+						store.addValueToCollection(documentUri, item.getId(), propertyName, copy);
+						retval++;
+					}
+				} else {
+					Optional<Object> value = store.getValue(documentUri, item.getId(), propertyName);
+					if (value.isPresent()) {
+						ModelObject listed = resolveStoredValue(value.get());
+						if (Objects.nonNull(listed)) {
+							store.setValue(documentUri, item.getId(), propertyName, copy(listed, store, documentUri, copyManager));
+							retval++;
+						}
+					}
+				}
+			}
+		}
+		return retval;
+	}
+	
+	private static TypedValue copy(ModelObject listed, IModelStore store, String documentUri, ModelCopyManager copyManager) throws InvalidSPDXAnalysisException {
+		return copyManager.copy(store, documentUri, listed.getModelStore(), listed.getDocumentUri(), listed.getId(), listed.getType());
+	}
+}
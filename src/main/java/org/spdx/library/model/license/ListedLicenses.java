@@ -46,7 +46,10 @@ public class ListedLicenses {
 
     boolean onlyUseLocalLicenses;
 	private IListedLicenseStore licenseModelStore;
-	private static ListedLicenses listedLicenses = null;
+	/**
+	 * Volatile so that the singleton can be read without taking the lock once initialized
+	 */
+	private static volatile ListedLicenses listedLicenses = null;
 	/**
 	 * Lock for any modifications to the underlying licenseModelStore
 	 */
@@ -97,13 +100,7 @@ public class ListedLicenses {
 	}
 
 	public static ListedLicenses getListedLicenses() {
-	    ListedLicenses retval = null;
-	    listedLicenseModificationLock.readLock().lock();
-	    try {
-	        retval = listedLicenses;
-	    } finally {
-	        listedLicenseModificationLock.readLock().unlock();
-	    }
+	    ListedLicenses retval = listedLicenses;
 	    if (Objects.isNull(retval)) {
 	        listedLicenseModificationLock.writeLock().lock();
 	        try {
@@ -0,0 +1,145 @@
+/**
+ * Copyright (c) 2026 Source Auditor Inc.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * 
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.library.model.license;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.spdx.library.InvalidSPDXAnalysisException;
+import org.spdx.storage.listedlicense.IListedLicenseStore;
+import org.spdx.storage.simple.ExtendedSpdxStore;
+
+/**
+ * Listed license store which rejects all modifications to the underlying listed license store.
+ * 
+ * Listed licenses and exceptions resolved from stored references are shared by every document
+ * referencing them, so the model objects are created in this store to prevent one document from
+ * modifying the listed licenses seen by all other documents.
+ * 
+ * @author Gary O'Neall
+ *
+ */
+final class ReadOnlyListedLicenseStore extends ExtendedSpdxStore implements IListedLicenseStore {
+	
+	private final IListedLicenseStore listedLicenseStore;
+
+	/**
+	 * @param listedLicenseStore listed license store to read from
+	 */
+	ReadOnlyListedLicenseStore(IListedLicenseStore listedLicenseStore) {
+		super(Objects.requireNonNull(listedLicenseStore, "Listed license store can not be null"));
+		this.listedLicenseStore = listedLicenseStore;
+	}
+	
+	/**
+	 * @return the listed license store read by this store
+	 */
+	IListedLicenseStore getListedLicenseStore() {
+		return listedLicenseStore;
+	}
+	
+	private InvalidSPDXAnalysisException readOnly(String id) {
+		return new InvalidSPDXAnalysisException("Can not modify referenced listed license or exception "+id+
+				".  Copy the listed license into the local model store to modify it.");
+	}
+
+	@Override
+	public void create(String documentUri, String id, String type) throws InvalidSPDXAnalysisException {
+		throw readOnly(id);
+	}
+
+	@Override
+	public void setValue(String documentUri, String id, String propertyName, Object value) throws InvalidSPDXAnalysisException {
+		// the license exception constructor sets the exception ID - setting a property to its current value is not a modification
+		Optional<Object> currentValue = super.getValue(documentUri, id, propertyName);
+		if (!currentValue.isPresent() || !currentValue.get().equals(value)) {
+			throw readOnly(id);
+		}
+	}
+
+	@Override
+	public String getNextId(IdType idType, String documentUri) throws InvalidSPDXAnalysisException {
+		throw new InvalidSPDXAnalysisException("Can not create new items in the referenced listed licenses");
+	}
+
+	@Override
+	public void removeProperty(String documentUri, String id, String propertyName) throws InvalidSPDXAnalysisException {
+		throw readOnly(id);
+	}
+
+	@Override
+	public boolean removeValueFromCollection(String documentUri, String id, String propertyName, Object value) throws InvalidSPDXAnalysisException {
+		throw readOnly(id);
+	}
+
+	@Override
+	public void clearValueCollection(String documentUri, String id, String propertyName) throws InvalidSPDXAnalysisException {
+		throw readOnly(id);
+	}
+
+	@Override
+	public boolean addValueToCollection(String documentUri, String id, String propertyName, Object value) throws InvalidSPDXAnalysisException {
+		throw readOnly(id);
+	}
+
+	@Override
+	public void delete(String documentUri, String elementId) throws InvalidSPDXAnalysisException {
+		throw readOnly(elementId);
+	}
+	
+	@Override
+	public void close() throws Exception {
+		// the listed license store is shared and is not closed by this store
+	}
+
+	@Override
+	public List<String> getSpdxListedLicenseIds() {
+		return listedLicenseStore.getSpdxListedLicenseIds();
+	}
+
+	@Override
+	public String getLicenseListVersion() {
+		return listedLicenseStore.getLicenseListVersion();
+	}
+
+	@Override
+	public boolean isSpdxListedLicenseId(String listedLicenseDocumentUri, String licenseId) {
+		return listedLicenseStore.isSpdxListedLicenseId(listedLicenseDocumentUri, licenseId);
+	}
+
+	@Override
+	public boolean isSpdxListedExceptionId(String listedLicenseDocumentUri, String exceptionId) {
+		return listedLicenseStore.isSpdxListedExceptionId(listedLicenseDocumentUri, exceptionId);
+	}
+
+	@Override
+	public List<String> getSpdxListedExceptionIds() {
+		return listedLicenseStore.getSpdxListedExceptionIds();
+	}
+
+	@Override
+	public Optional<String> listedLicenseIdCaseSensitive(String licenseId) {
+		return listedLicenseStore.listedLicenseIdCaseSensitive(licenseId);
+	}
+
+	@Override
+	public Optional<String> listedExceptionIdCaseSensitive(String exceptionId) {
+		return listedLicenseStore.listedExceptionIdCaseSensitive(exceptionId);
+	}
+}
@@ -65,7 +65,9 @@ public abstract class SimpleLicensingInfo extends AnyLicenseInfo {
 			@Nullable ModelCopyManager copyManager, boolean create)
 			throws InvalidSPDXAnalysisException {
 		super(modelStore, documentUri, id, copyManager, create);
-		if (!(this instanceof IndividualUriValue)) {
+		if (!(this instanceof IndividualUriValue) &&
+				!id.equals(modelStore.getValue(documentUri, id, SpdxConstants.PROP_LICENSE_ID).orElse(null))) {
+			// only update if changed to avoid modifying the store when reading an existing license
 		    setPropertyValue(SpdxConstants.PROP_LICENSE_ID, id);  // Needs to be set as a property per spec
 		}
 	}
@@ -0,0 +1,56 @@
+/**
+ * Copyright (c) 2026 Source Auditor Inc.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * 
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.storage;
+
+import org.spdx.library.InvalidSPDXAnalysisException;
+
+/**
+ * A model store which tracks a revision number that changes whenever the store is modified.
+ * 
+ * Callers can use the revision to cache values computed from the store content - a value
+ * computed at one revision is still valid as long as the revision has not changed.
+ * @author Gary O'Neall
+ *
+ */
+public interface IRevisionedModelStore extends IModelStore {
+
+	/**
+	 * The revision is incremented after every change to any document in the store
+	 * including creating, updating and deleting items and properties
+	 * @return the current revision of the store
+	 */
+	public long getRevision();
+	
+	/**
+	 * Item revisions in a document are comparable with the document revision - any change to the document made after 
+	 * the document revision is read results in an item revision greater than the document revision
+	 * @param documentUri document URI
+	 * @return the current revision of the document
+	 */
+	public default long getDocumentRevision(String documentUri) {
+		return getRevision();
+	}
+	
+	/**
+	 * @param documentUri document URI for the item
+	 * @param id ID of the item
+	 * @return the revision of the store when the item was created or last modified
+	 * @throws InvalidSPDXAnalysisException if the item does not exist
+	 */
+	public long getRevision(String documentUri, String id) throws InvalidSPDXAnalysisException;
+}
@@ -22,6 +22,11 @@ import java.io.InputStream;
 import java.io.OutputStream;
 
 import org.spdx.library.InvalidSPDXAnalysisException;
+import org.spdx.storage.streaming.IModelItemVisitor;
+import org.spdx.storage.streaming.IModelItemWriter;
+import org.spdx.storage.streaming.ModelStoreItemReader;
+import org.spdx.storage.streaming.ModelStoreItemReader.ItemOrder;
+import org.spdx.storage.streaming.StoreModelItemWriter;
 
 /**
  * A model store that can be serialized and de-serialized to and from a <code>Stream</code>
@@ -39,6 +44,31 @@ public interface ISerializableModelStore extends IModelStore {
 	 */
 	public void serialize(String documentUri, OutputStream stream)  throws InvalidSPDXAnalysisException, IOException;
 	
+	/**
+	 * Pass the items stored in the documentUri one at a time to a writer or visitor.  The items are partitioned
+	 * by type with the SPDX document first and are ordered by ID within each type.  Only the item being
+	 * written is copied from this store.
+	 * @param documentUri URI for the document to be serialized
+	 * @param writer writer or visitor for the items - the writer is not closed
+	 * @throws InvalidSPDXAnalysisException
+	 */
+	public default void serialize(String documentUri, IModelItemVisitor writer) throws InvalidSPDXAnalysisException {
+		new ModelStoreItemReader(this, ItemOrder.TYPE_AND_ID).read(documentUri, writer);
+	}
+	
+	/**
+	 * Open an incremental serializer for a document in the format of this store.  Items can be written
+	 * as soon as all of their properties are known.  Serializers which can write incrementally should
+	 * override this method.  The default implementation stores the written items in this store and
+	 * serializes the document when it is ended.
+	 * @param stream output stream to serialize to - closed when the writer is closed
+	 * @return writer for the items of a document
+	 * @throws InvalidSPDXAnalysisException
+	 */
+	public default IModelItemWriter openWriter(OutputStream stream) throws InvalidSPDXAnalysisException {
+		return new StoreModelItemWriter(this, stream);
+	}
+	
 	/**
 	 * Deserialize / read an SPDX document from a stream
 	 * @param stream input stream to deserialize from
@@ -48,4 +78,21 @@ public interface ISerializableModelStore extends IModelStore {
 	 * @throws IOException
 	 */
 	public String deSerialize(InputStream stream, boolean overwrite) throws InvalidSPDXAnalysisException, IOException;
+	
+	/**
+	 * Deserialize an SPDX document from a stream passing each item to a visitor as it is parsed rather than
+	 * storing the items in this store.  Serializers which can parse incrementally should override this method
+	 * so that the memory used is bounded.  The default implementation deserializes the whole document into
+	 * this store and then visits the items in the order returned by <code>getAllItems</code>.
+	 * @param stream input stream to deserialize from
+	 * @param visitor visitor for the items in the document
+	 * @return document URI of the document
+	 * @throws InvalidSPDXAnalysisException
+	 * @throws IOException
+	 */
+	public default String deSerialize(InputStream stream, IModelItemVisitor visitor) throws InvalidSPDXAnalysisException, IOException {
+		String documentUri = deSerialize(stream, false);
+		new ModelStoreItemReader(this).read(documentUri, visitor);
+		return documentUri;
+	}
 }
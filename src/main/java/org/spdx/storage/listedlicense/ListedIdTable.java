@@ -0,0 +1,117 @@
+/**
+ * Copyright (c) 2026 Source Auditor Inc.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * 
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.storage.listedlicense;
+
+import java.util.Collection;
+import java.util.Collections;
+
+import javax.annotation.Nullable;
+
+/**
+ * Immutable case insensitive table of listed license or exception IDs.
+ * 
+ * The IDs are stored in an open addressing hash table sized to at most half full, hashed on the
+ * case folded characters so that lookups do not allocate a lower case copy of the ID.  Since the
+ * table is never modified after construction, it can be safely read without locking once published
+ * through a volatile field - the model store publishes a new table whenever the IDs change.
+ * 
+ * @author Gary O'Neall
+ *
+ */
+final class ListedIdTable {
+	
+	static final ListedIdTable EMPTY = new ListedIdTable(Collections.emptyList());
+	
+	private final String[] slots;
+	private final int mask;
+	private final int size;
+	
+	/**
+	 * @param ids case sensitive IDs - if IDs differ only by case, the first one is kept
+	 */
+	ListedIdTable(Collection<String> ids) {
+		int capacity = 2;
+		while (capacity < ids.size() * 2) {
+			capacity <<= 1;
+		}
+		slots = new String[capacity];
+		mask = capacity - 1;
+		int count = 0;
+		for (String id:ids) {
+			int slot = hash(id) & mask;
+			while (slots[slot] != null && !slots[slot].equalsIgnoreCase(id)) {
+				slot = (slot + 1) & mask;
+			}
+			if (slots[slot] == null) {
+				slots[slot] = id;
+				count++;
+			}
+		}
+		size = count;
+	}
+	
+	/**
+	 * @param c character
+	 * @return case folded character consistent with <code>String.equalsIgnoreCase</code>
+	 */
+	private static char fold(char c) {
+		if (c < 128) {
+			return c >= 'A' && c <= 'Z' ? (char)(c + ('a' - 'A')) : c;
+		}
+		return Character.toLowerCase(Character.toUpperCase(c));
+	}
+	
+	private static int hash(String id) {
+		int h = 0;
+		for (int i = 0; i < id.length(); i++) {
+			h = 31 * h + fold(id.charAt(i));
+		}
+		return h ^ (h >>> 16);
+	}
+	
+	/**
+	 * @param id case insensitive ID
+	 * @return the ID with the case used in the table or null if the ID is not in the table
+	 */
+	@Nullable String get(String id) {
+		int slot = hash(id) & mask;
+		String candidate;
+		while ((candidate = slots[slot]) != null) {
+			if (candidate.equalsIgnoreCase(id)) {
+				return candidate;
+			}
+			slot = (slot + 1) & mask;
+		}
+		return null;
+	}
+	
+	/**
+	 * @param id case insensitive ID
+	 * @return true if the ID is in the table
+	 */
+	boolean contains(String id) {
+		return get(id) != null;
+	}
+	
+	/**
+	 * @return number of IDs in the table
+	 */
+	int size() {
+		return size;
+	}
+}
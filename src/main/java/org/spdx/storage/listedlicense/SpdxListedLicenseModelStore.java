@@ -79,6 +79,11 @@ public abstract class SpdxListedLicenseModelStore implements IListedLicenseStore
 	 * Map of lower case to correct case exception IDs
 	 */
 	Map<String, String> exceptionIds = new HashMap<>();
+	/**
+	 * Immutable lock free copies of the license and exception IDs published whenever the ID maps change
+	 */
+	private volatile ListedIdTable licenseIdTable = ListedIdTable.EMPTY;
+	private volatile ListedIdTable exceptionIdTable = ListedIdTable.EMPTY;
 	Map<String, LicenseJson> listedLicenseCache = null;
 	Map<String, ExceptionJson> listedExceptionCache = null;
 	Map<String, CrossRefJson> crossRefs = new HashMap<>();
@@ -183,9 +188,18 @@ public abstract class SpdxListedLicenseModelStore implements IListedLicenseStore
             	}
             }
         } finally {
+            publishIdTables();
             listedLicenseModificationLock.writeLock().unlock();
         }
 	}
+	
+	/**
+	 * Publish new ID tables from the license and exception ID maps - must be called within the write lock
+	 */
+	private void publishIdTables() {
+		licenseIdTable = new ListedIdTable(licenseIds.values());
+		exceptionIdTable = new ListedIdTable(exceptionIds.values());
+	}
 
 	/* (non-Javadoc)
 	 * @see org.spdx.storage.IModelStore#exists(java.lang.String, java.lang.String)
@@ -195,11 +209,12 @@ public abstract class SpdxListedLicenseModelStore implements IListedLicenseStore
 		if (!SpdxConstants.LISTED_LICENSE_URL.equals(documentUri)) {
 			return false;
 		}
+		if (licenseIdTable.contains(id) || exceptionIdTable.contains(id)) {
+			return true;
+		}
 		listedLicenseModificationLock.readLock().lock();
 		try {
-			return this.licenseIds.containsKey(id.toLowerCase()) || 
-					this.exceptionIds.containsKey(id.toLowerCase()) ||
-					this.crossRefs.containsKey(id);
+			return this.crossRefs.containsKey(id);
 		} finally {
 			listedLicenseModificationLock.readLock().unlock();
 		}
@@ -228,6 +243,7 @@ public abstract class SpdxListedLicenseModelStore implements IListedLicenseStore
 					throw new DuplicateSpdxIdException("ID "+id+" already exists.");
 				}
 				this.licenseIds.put(id.toLowerCase(), id);
+				publishIdTables();
 				this.listedLicenseCache.put(id, new LicenseJson(id));
 			} else if (SpdxConstants.CLASS_SPDX_LISTED_LICENSE_EXCEPTION.equals(type)) {
 				if (this.licenseIds.containsKey(id.toLowerCase()) || this.exceptionIds.containsKey(id.toLowerCase())) {
@@ -235,6 +251,7 @@ public abstract class SpdxListedLicenseModelStore implements IListedLicenseStore
 					throw new DuplicateSpdxIdException("ID "+id+" already exists.");
 				}
 				this.exceptionIds.put(id.toLowerCase(), id);
+				publishIdTables();
 				this.listedExceptionCache.put(id,  new ExceptionJson(id));
 			}
 		} finally {
@@ -809,12 +826,7 @@ public abstract class SpdxListedLicenseModelStore implements IListedLicenseStore
 	 * @return true if the licenseId belongs to an SPDX listed license
 	 */
 	public boolean isSpdxListedLicenseId(String listedLicenseDocumentUri, String licenseId) {
-		this.listedLicenseModificationLock.readLock().lock();
-		try {
-			return this.licenseIds.containsKey(licenseId.toLowerCase());
-		} finally {
-			this.listedLicenseModificationLock.readLock().unlock();
-		}
+		return licenseIdTable.contains(licenseId);
 	}
 	
 	/**
@@ -823,12 +835,7 @@ public abstract class SpdxListedLicenseModelStore implements IListedLicenseStore
 	 * @return true if the exceptionId belongs to an SPDX listed exception
 	 */
 	public boolean isSpdxListedExceptionId(String listedLicenseDocumentUri, String exceptionId) {
-		this.listedLicenseModificationLock.readLock().lock();
-		try {
-			return this.exceptionIds.containsKey(exceptionId.toLowerCase());
-		} finally {
-			this.listedLicenseModificationLock.readLock().unlock();
-		}
+		return exceptionIdTable.contains(exceptionId);
 	}
 	
 	@Override
@@ -1153,23 +1160,13 @@ public abstract class SpdxListedLicenseModelStore implements IListedLicenseStore
 	
 	@Override
 	public Optional<String> listedLicenseIdCaseSensitive(String licenseId) {
-		listedLicenseModificationLock.readLock().lock();
-		try {
-			return Optional.ofNullable(this.licenseIds.get(licenseId.toLowerCase()));
-		} finally {
-			listedLicenseModificationLock.readLock().unlock();
-		}
+		return Optional.ofNullable(licenseIdTable.get(licenseId));
 	}
 	
 	
 	@Override
 	public Optional<String> listedExceptionIdCaseSensitive(String exceptionId) {
-		listedLicenseModificationLock.readLock().lock();
-		try {
-			return Optional.ofNullable(this.exceptionIds.get(exceptionId.toLowerCase()));
-		} finally {
-			listedLicenseModificationLock.readLock().unlock();
-		}
+		return Optional.ofNullable(exceptionIdTable.get(exceptionId));
 	}
 	
 	@Override
@@ -1194,9 +1191,11 @@ public abstract class SpdxListedLicenseModelStore implements IListedLicenseStore
 			if (licenseIds.containsKey(id.toLowerCase())) {
 				this.listedLicenseCache.remove(id);
 				this.licenseIds.remove(id.toLowerCase());
+				publishIdTables();
 			} else if (exceptionIds.containsKey(id.toLowerCase())) {
 				this.listedExceptionCache.remove(id);
 				this.exceptionIds.remove(id.toLowerCase());
+				publishIdTables();
 			} else if (crossRefs.containsKey(id)) {
 				this.crossRefs.remove(id);
 			} else {
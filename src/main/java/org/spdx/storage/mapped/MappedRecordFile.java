@@ -0,0 +1,151 @@
+/**
+ * Copyright (c) 2026 Source Auditor Inc.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * 
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.storage.mapped;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Append only file of variable length records accessed through memory mapped segments.
+ * 
+ * The file is mapped in fixed size segments as it grows.  Records may span segments.  The
+ * file is deleted when it is closed.  This class is not thread safe - access is synchronized
+ * by the owning store.
+ * 
+ * @author Gary O'Neall
+ *
+ */
+class MappedRecordFile implements Closeable {
+	
+	private final Path file;
+	private final FileChannel channel;
+	private final int segmentShift;
+	private final int segmentMask;
+	private final List<MappedByteBuffer> segments = new ArrayList<>();
+	private long size = 0;
+
+	/**
+	 * @param file file to create - any existing file is truncated
+	 * @param segmentSize size of each mapped segment - must be a power of two
+	 * @throws IOException
+	 */
+	MappedRecordFile(Path file, int segmentSize) throws IOException {
+		if (segmentSize <= 0 || Integer.bitCount(segmentSize) != 1) {
+			throw new IllegalArgumentException("Segment size must be a power of two");
+		}
+		this.file = file;
+		this.segmentShift = Integer.numberOfTrailingZeros(segmentSize);
+		this.segmentMask = segmentSize - 1;
+		this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+				StandardOpenOption.READ, StandardOpenOption.WRITE);
+	}
+	
+	/**
+	 * @return the path of the underlying file
+	 */
+	Path getFile() {
+		return file;
+	}
+	
+	/**
+	 * @return number of bytes written to the file
+	 */
+	long size() {
+		return size;
+	}
+	
+	/**
+	 * Append a record to the end of the file
+	 * @param record bytes to append
+	 * @return position of the record in the file
+	 * @throws IOException
+	 */
+	long append(byte[] record) throws IOException {
+		long position = size;
+		int offset = 0;
+		while (offset < record.length) {
+			MappedByteBuffer segment = segment(size >>> segmentShift);
+			int segmentOffset = (int)(size & segmentMask);
+			int count = Math.min(record.length - offset, segmentMask + 1 - segmentOffset);
+			segment.position(segmentOffset);
+			segment.put(record, offset, count);
+			offset += count;
+			size += count;
+		}
+		return position;
+	}
+	
+	/**
+	 * @param position position of the record returned by <code>append</code>
+	 * @param length length of the record
+	 * @return the bytes for the record
+	 * @throws IOException
+	 */
+	byte[] read(long position, int length) throws IOException {
+		if (position < 0 || position + length > size) {
+			throw new IOException("Record at "+position+" with length "+length+" is outside of the file");
+		}
+		byte[] retval = new byte[length];
+		int offset = 0;
+		long current = position;
+		while (offset < length) {
+			MappedByteBuffer segment = segments.get((int)(current >>> segmentShift));
+			int segmentOffset = (int)(current & segmentMask);
+			int count = Math.min(length - offset, segmentMask + 1 - segmentOffset);
+			segment.position(segmentOffset);
+			segment.get(retval, offset, count);
+			offset += count;
+			current += count;
+		}
+		return retval;
+	}
+	
+	private MappedByteBuffer segment(long index) throws IOException {
+		while (segments.size() <= index) {
+			long start = ((long)segments.size()) << segmentShift;
+			segments.add(channel.map(MapMode.READ_WRITE, start, segmentMask + 1L));
+		}
+		return segments.get((int)index);
+	}
+
+	/**
+	 * Closes and deletes the file
+	 */
+	@Override
+	public void close() throws IOException {
+		segments.clear();
+		try {
+			channel.close();
+		} finally {
+			try {
+				Files.deleteIfExists(file);
+			} catch (IOException e) {
+				// the mapped segments may prevent deletion on some platforms until they are garbage collected
+				file.toFile().deleteOnExit();
+			}
+		}
+	}
+}
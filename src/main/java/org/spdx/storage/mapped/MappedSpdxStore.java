@@ -0,0 +1,837 @@
+/**
+ * Copyright (c) 2026 Source Auditor Inc.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * 
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.storage.mapped;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+import javax.annotation.Nullable;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.spdx.library.InvalidSPDXAnalysisException;
+import org.spdx.library.SpdxConstants;
+import org.spdx.library.model.DuplicateSpdxIdException;
+import org.spdx.library.model.ModelCollection;
+import org.spdx.library.model.SpdxIdInUseException;
+import org.spdx.library.model.SpdxIdNotFoundException;
+import org.spdx.library.model.TypedValue;
+import org.spdx.library.model.license.LicenseInfoFactory;
+import org.spdx.storage.IRevisionedModelStore;
+import org.spdx.storage.ISerializableModelStore;
+import org.spdx.storage.simple.StoreRecordCodec;
+import org.spdx.storage.simple.StoredTypedItem;
+import org.spdx.storage.streaming.IModelItemVisitor;
+import org.spdx.storage.streaming.ModelItem;
+
+/**
+ * SPDX store which keeps the item properties in a memory mapped file so that the size of the
+ * documents which can be processed is not limited by the heap.
+ * 
+ * Only a small index entry for each item (ID, type, record location, reference count and revision) is
+ * kept on the heap.  The properties of the most recently used items are cached on the heap as
+ * <code>StoredTypedItem</code>s.  When a modified item is evicted from the cache, its properties are
+ * encoded in a compact binary record and appended to the mapped file.  The file is compacted when
+ * the space used by replaced records exceeds the space used by the live records.
+ * 
+ * Items referenced by a <code>TypedValue</code> must be created before the reference is stored and
+ * items can not be deleted while they are referenced - the same as the <code>InMemSpdxStore</code>.
+ * 
+ * The serialization format is a binary dump of the records for a document and is only intended
+ * for checkpointing and transferring documents between mapped stores.
+ * 
+ * The store is thread safe - all operations on the index, cache and file are synchronized.  The backing
+ * file is deleted when the store is closed.
+ * 
+ * @author Gary O'Neall
+ *
+ */
+public class MappedSpdxStore implements IRevisionedModelStore, ISerializableModelStore {
+	
+	static final Logger logger = LoggerFactory.getLogger(MappedSpdxStore.class);
+	
+	public static final int DEFAULT_HOT_ITEM_CAPACITY = 10000;
+	static final int DEFAULT_SEGMENT_SIZE = 1 << 26;
+	static final int SERIALIZATION_MAGIC = 0x53504D31;	// SPM1
+	
+	static final String GENERATED = "gnrtd";
+	static final String ANON_PREFIX = "__anon__";
+	private static final Set<String> LITERAL_VALUE_SET = new HashSet<String>(Arrays.asList(SpdxConstants.LITERAL_VALUES));
+
+	/**
+	 * On heap index entry for an item
+	 */
+	private static class ItemEntry {
+		final String documentUri;
+		final String id;
+		final String type;
+		long position = -1;	// -1 if no record has been written
+		int length = 0;
+		int referenceCount = 0;
+		long revision = 0;
+		boolean dirty = false;
+		
+		ItemEntry(String documentUri, String id, String type) {
+			this.documentUri = documentUri;
+			this.id = id;
+			this.type = type;
+		}
+	}
+	
+	private final Path directory;
+	private final int segmentSize;
+	private final int hotItemCapacity;
+	private final StoreRecordCodec codec = new StoreRecordCodec(StoreRecordCodec.SymbolMode.TABLE);
+	/**
+	 * Map of document URI to the index entries for the document keyed by the lower case ID in creation order
+	 */
+	private final Map<String, Map<String, ItemEntry>> documents = new LinkedHashMap<>();
+	/**
+	 * Most recently used items in access order - entries do not override equals so are compared by identity
+	 */
+	private final LinkedHashMap<ItemEntry, StoredTypedItem> hotItems = new LinkedHashMap<>(16, 0.75f, true);
+	private MappedRecordFile records;
+	private long liveBytes = 0;
+	private long revision = 0;
+	private int nextNextLicenseId = 0;
+	private int nextNextDocumentId = 0;
+	private int nextNextSpdxId = 0;
+	private int nextAnonId = 0;
+	
+	private final ReadWriteLock transactionLock = new ReentrantReadWriteLock();
+	
+	private final IModelStoreLock readLock = new IModelStoreLock() {
+
+		@Override
+		public void unlock() {
+			transactionLock.readLock().unlock();
+		}
+		
+	};
+	
+	private final IModelStoreLock writeLock = new IModelStoreLock() {
+
+		@Override
+		public void unlock() {
+			transactionLock.writeLock().unlock();
+		}
+		
+	};
+	
+	/**
+	 * Create a store with the backing file in the default temporary directory
+	 * @throws InvalidSPDXAnalysisException on I/O errors creating the backing file
+	 */
+	public MappedSpdxStore() throws InvalidSPDXAnalysisException {
+		this(Paths.get(System.getProperty("java.io.tmpdir")), DEFAULT_HOT_ITEM_CAPACITY);
+	}
+	
+	/**
+	 * @param directory directory for the backing file
+	 * @param hotItemCapacity maximum number of items cached on the heap
+	 * @throws InvalidSPDXAnalysisException on I/O errors creating the backing file
+	 */
+	public MappedSpdxStore(Path directory, int hotItemCapacity) throws InvalidSPDXAnalysisException {
+		this(directory, hotItemCapacity, DEFAULT_SEGMENT_SIZE);
+	}
+	
+	/**
+	 * @param directory directory for the backing file
+	 * @param hotItemCapacity maximum number of items cached on the heap
+	 * @param segmentSize size of the mapped segments of the backing file - must be a power of two
+	 * @throws InvalidSPDXAnalysisException on I/O errors creating the backing file
+	 */
+	MappedSpdxStore(Path directory, int hotItemCapacity, int segmentSize) throws InvalidSPDXAnalysisException {
+		Objects.requireNonNull(directory, "Directory can not be null");
+		if (hotItemCapacity < 1) {
+			throw new IllegalArgumentException("Hot item capacity must be at least 1");
+		}
+		this.directory = directory;
+		this.hotItemCapacity = hotItemCapacity;
+		this.segmentSize = segmentSize;
+		this.records = newRecordFile();
+	}
+	
+	private MappedRecordFile newRecordFile() throws InvalidSPDXAnalysisException {
+		try {
+			return new MappedRecordFile(Files.createTempFile(directory, "spdxstore", ".dat"), segmentSize);
+		} catch (IOException e) {
+			throw new InvalidSPDXAnalysisException("I/O error creating the mapped store file in "+directory, e);
+		}
+	}
+	
+	/**
+	 * @return the backing file for the store
+	 */
+	public synchronized Path getFile() {
+		return records.getFile();
+	}
+	
+	/**
+	 * @return number of items currently cached on the heap
+	 */
+	public synchronized int getHotItemCount() {
+		return hotItems.size();
+	}
+	
+	private ItemEntry getEntry(String documentUri, String id) throws SpdxIdNotFoundException {
+		Map<String, ItemEntry> idMap = documents.get(documentUri);
+		if (idMap == null) {
+			throw new SpdxIdNotFoundException("Document URI "+documentUri+" was not found in the mapped store.  The ID must first be created before getting or setting property values.");
+		}
+		ItemEntry entry = idMap.get(id.toLowerCase());
+		if (entry == null) {
+			throw new SpdxIdNotFoundException("ID "+id+" was not found in the mapped store.  The ID must first be created before getting or setting property values.");
+		}
+		return entry;
+	}
+	
+	/**
+	 * @param entry index entry for the item
+	 * @return the item from the cache, reading it from the file if it is not cached
+	 * @throws InvalidSPDXAnalysisException
+	 */
+	private StoredTypedItem loadItem(ItemEntry entry) throws InvalidSPDXAnalysisException {
+		StoredTypedItem item = hotItems.get(entry);
+		if (item == null) {
+			item = new StoredTypedItem(entry.documentUri, entry.id, entry.type);
+			if (entry.position >= 0) {
+				try {
+					codec.decode(records.read(entry.position, entry.length), item);
+				} catch (IOException e) {
+					throw new InvalidSPDXAnalysisException("I/O error reading item "+entry.id, e);
+				}
+			}
+			hotItems.put(entry, item);
+			evict();
+		}
+		return item;
+	}
+	
+	/**
+	 * Record a modification to an item
+	 * @param entry index entry for the modified item
+	 */
+	private void modified(ItemEntry entry) {
+		entry.dirty = true;
+		entry.revision = ++revision;
+	}
+	
+	/**
+	 * Evict the least recently used items until the cache is within capacity, writing any modified items
+	 * @throws InvalidSPDXAnalysisException
+	 */
+	private void evict() throws InvalidSPDXAnalysisException {
+		while (hotItems.size() > hotItemCapacity) {
+			Iterator<Map.Entry<ItemEntry, StoredTypedItem>> iter = hotItems.entrySet().iterator();
+			Map.Entry<ItemEntry, StoredTypedItem> eldest = iter.next();
+			if (eldest.getKey().dirty) {
+				writeRecord(eldest.getKey(), eldest.getValue());
+			}
+			iter.remove();
+		}
+	}
+	
+	private void writeRecord(ItemEntry entry, StoredTypedItem item) throws InvalidSPDXAnalysisException {
+		byte[] record = codec.encode(item);
+		long position;
+		try {
+			position = records.append(record);
+		} catch (IOException e) {
+			throw new InvalidSPDXAnalysisException("I/O error writing item "+entry.id, e);
+		}
+		if (entry.position >= 0) {
+			liveBytes -= entry.length;
+		}
+		entry.position = position;
+		entry.length = record.length;
+		entry.dirty = false;
+		liveBytes += record.length;
+		if (records.size() - liveBytes > Math.max(liveBytes, segmentSize)) {
+			compact();
+		}
+	}
+	
+	/**
+	 * Rewrite the live records to a new file reclaiming the space used by replaced and deleted records
+	 * @throws InvalidSPDXAnalysisException on I/O errors
+	 */
+	public synchronized void compact() throws InvalidSPDXAnalysisException {
+		List<ItemEntry> entries = new ArrayList<>();
+		for (Map<String, ItemEntry> idMap:documents.values()) {
+			for (ItemEntry entry:idMap.values()) {
+				if (entry.position >= 0) {
+					entries.add(entry);
+				}
+			}
+		}
+		MappedRecordFile newRecords = newRecordFile();
+		long[] newPositions = new long[entries.size()];
+		try {
+			for (int i = 0; i < newPositions.length; i++) {
+				ItemEntry entry = entries.get(i);
+				newPositions[i] = newRecords.append(records.read(entry.position, entry.length));
+			}
+		} catch (IOException e) {
+			try {
+				newRecords.close();
+			} catch (IOException e1) {
+				logger.warn("Error closing partially compacted file", e1);
+			}
+			throw new InvalidSPDXAnalysisException("I/O error compacting the mapped store", e);
+		}
+		for (int i = 0; i < newPositions.length; i++) {
+			entries.get(i).position = newPositions[i];
+		}
+		MappedRecordFile oldRecords = records;
+		records = newRecords;
+		liveBytes = newRecords.size();
+		try {
+			oldRecords.close();
+		} catch (IOException e) {
+			logger.warn("Error closing the mapped store file "+oldRecords.getFile(), e);
+		}
+	}
+	
+	/**
+	 * Write all modified items to the backing file
+	 * @throws InvalidSPDXAnalysisException on I/O errors
+	 */
+	public synchronized void flush() throws InvalidSPDXAnalysisException {
+		for (Map.Entry<ItemEntry, StoredTypedItem> hot:hotItems.entrySet()) {
+			if (hot.getKey().dirty) {
+				writeRecord(hot.getKey(), hot.getValue());
+			}
+		}
+	}
+	
+	private void incReference(String documentUri, Object value) throws SpdxIdNotFoundException {
+		if (value instanceof TypedValue) {
+			getEntry(documentUri, ((TypedValue)value).getId()).referenceCount++;
+		}
+	}
+	
+	private void decReference(String documentUri, @Nullable Object value) {
+		if (value instanceof TypedValue) {
+			Map<String, ItemEntry> idMap = documents.get(documentUri);
+			ItemEntry entry = idMap == null ? null : idMap.get(((TypedValue)value).getId().toLowerCase());
+			if (entry != null && entry.referenceCount > 0) {
+				entry.referenceCount--;
+			}
+		}
+	}
+	
+	/**
+	 * Decrement the reference counts for all typed values in a property
+	 * @param documentUri document URI for the item
+	 * @param item item containing the property
+	 * @param propertyName name of the property
+	 * @throws InvalidSPDXAnalysisException
+	 */
+	private void decReferences(String documentUri, StoredTypedItem item, String propertyName) throws InvalidSPDXAnalysisException {
+		if (item.isCollectionProperty(propertyName)) {
+			Iterator<Object> iter = item.getValueList(propertyName);
+			while (iter.hasNext()) {
+				decReference(documentUri, iter.next());
+			}
+		} else {
+			decReference(documentUri, item.getValue(propertyName));
+		}
+	}
+
+	@Override
+	public synchronized boolean exists(String documentUri, String id) {
+		Map<String, ItemEntry> idMap = documents.get(documentUri);
+		return idMap != null && idMap.containsKey(id.toLowerCase());
+	}
+
+	@Override
+	public synchronized void create(String documentUri, String id, String type) throws InvalidSPDXAnalysisException {
+		Objects.requireNonNull(documentUri, "Document URI can not be null");
+		Objects.requireNonNull(id, "ID can not be null");
+		ItemEntry entry = new ItemEntry(documentUri, id, type);
+		// validates the type
+		new TypedValue(id, type);
+		Map<String, ItemEntry> idMap = documents.computeIfAbsent(documentUri, uri -> new LinkedHashMap<>());
+		if (Objects.nonNull(idMap.putIfAbsent(id.toLowerCase(), entry))) {
+			throw new DuplicateSpdxIdException("ID "+id+" already exists.");
+		}
+		updateNextIds(id);
+		entry.revision = ++revision;
+	}
+	
+	/**
+	 * Update the next generated ID numbers if the ID is a generated ID
+	 * @param id
+	 */
+	private void updateNextIds(String id) {
+		int markerIndex = id.indexOf(GENERATED);
+		if (markerIndex < 0) {
+			return;
+		}
+		String prefix = id.substring(0, markerIndex);
+		int num;
+		try {
+			num = Integer.parseInt(id.substring(markerIndex + GENERATED.length()));
+		} catch (NumberFormatException e) {
+			return;
+		}
+		if (num < 0 || num == Integer.MAX_VALUE) {
+			return;
+		}
+		if (SpdxConstants.NON_STD_LICENSE_ID_PRENUM.equals(prefix)) {
+			nextNextLicenseId = Math.max(nextNextLicenseId, num + 1);
+		} else if (SpdxConstants.EXTERNAL_DOC_REF_PRENUM.equals(prefix)) {
+			nextNextDocumentId = Math.max(nextNextDocumentId, num + 1);
+		} else if (SpdxConstants.SPDX_ELEMENT_REF_PRENUM.equals(prefix)) {
+			nextNextSpdxId = Math.max(nextNextSpdxId, num + 1);
+		} else if (ANON_PREFIX.equals(prefix)) {
+			nextAnonId = Math.max(nextAnonId, num + 1);
+		}
+	}
+
+	@Override
+	public synchronized List<String> getPropertyValueNames(String documentUri, String id) throws InvalidSPDXAnalysisException {
+		return loadItem(getEntry(documentUri, id)).getPropertyValueNames();
+	}
+
+	@Override
+	public synchronized void setValue(String documentUri, String id, String propertyName, Object value) throws InvalidSPDXAnalysisException {
+		ItemEntry entry = getEntry(documentUri, id);
+		if (value instanceof TypedValue) {
+			getEntry(documentUri, ((TypedValue)value).getId());
+		}
+		StoredTypedItem item = loadItem(entry);
+		List<Object> previousValues = new ArrayList<>();
+		if (item.isCollectionProperty(propertyName)) {
+			Iterator<Object> iter = item.getValueList(propertyName);
+			while (iter.hasNext()) {
+				previousValues.add(iter.next());
+			}
+		} else if (Objects.nonNull(item.getValue(propertyName))) {
+			previousValues.add(item.getValue(propertyName));
+		}
+		item.setValue(propertyName, value);
+		incReference(documentUri, value);
+		for (Object previousValue:previousValues) {
+			decReference(documentUri, previousValue);
+		}
+		modified(entry);
+	}
+
+	@Override
+	public synchronized Optional<Object> getValue(String documentUri, String id, String propertyName) throws InvalidSPDXAnalysisException {
+		StoredTypedItem item = loadItem(getEntry(documentUri, id));
+		if (item.isCollectionProperty(propertyName)) {
+			logger.warn("Returning a collection for a getValue call for property "+propertyName);
+			return Optional.of(new ModelCollection<>(this, documentUri, id, propertyName, null, null));
+		} else {
+			return Optional.ofNullable(item.getValue(propertyName));
+		}
+	}
+
+	@Override
+	public synchronized String getNextId(IdType idType, String documentUri) throws InvalidSPDXAnalysisException {
+		switch (idType) {
+			case Anonymous: return ANON_PREFIX+GENERATED+String.valueOf(nextAnonId++);
+			case LicenseRef: return SpdxConstants.NON_STD_LICENSE_ID_PRENUM+GENERATED+String.valueOf(nextNextLicenseId++);
+			case DocumentRef: return SpdxConstants.EXTERNAL_DOC_REF_PRENUM+GENERATED+String.valueOf(nextNextDocumentId++);
+			case SpdxId: return SpdxConstants.SPDX_ELEMENT_REF_PRENUM+GENERATED+String.valueOf(nextNextSpdxId++);
+			case ListedLicense: throw new InvalidSPDXAnalysisException("Can not generate a license ID for a Listed License");
+			case Literal: throw new InvalidSPDXAnalysisException("Can not generate a license ID for a Literal");
+			default: throw new InvalidSPDXAnalysisException("Unknown ID type for next ID: "+idType.toString());
+		}
+	}
+
+	@Override
+	public synchronized void removeProperty(String documentUri, String id, String propertyName) throws InvalidSPDXAnalysisException {
+		ItemEntry entry = getEntry(documentUri, id);
+		StoredTypedItem item = loadItem(entry);
+		decReferences(documentUri, item, propertyName);
+		item.removeProperty(propertyName);
+		modified(entry);
+	}
+
+	@Override
+	public synchronized List<String> getDocumentUris() {
+		return Collections.unmodifiableList(new ArrayList<>(documents.keySet()));
+	}
+
+	@Override
+	public synchronized Stream<TypedValue> getAllItems(String documentUri, @Nullable String typeFilter) throws InvalidSPDXAnalysisException {
+		Objects.requireNonNull(documentUri, "Document URI can not be null");
+		List<TypedValue> allItems = new ArrayList<>();
+		Map<String, ItemEntry> idMap = documents.get(documentUri);
+		if (Objects.nonNull(idMap)) {
+			for (ItemEntry entry:idMap.values()) {
+				if (Objects.isNull(typeFilter) || typeFilter.equals(entry.type)) {
+					allItems.add(new TypedValue(entry.id, entry.type));
+				}
+			}
+		}
+		return Collections.unmodifiableList(allItems).stream();
+	}
+
+	@Override
+	public IModelStoreLock enterCriticalSection(String documentUri, boolean readLockRequested) {
+		if (readLockRequested) {
+			this.transactionLock.readLock().lock();
+			return readLock;
+		} else {
+			this.transactionLock.writeLock().lock();
+			return writeLock;
+		}
+	}
+
+	@Override
+	public void leaveCriticalSection(IModelStoreLock lock) {
+		lock.unlock();
+	}
+
+	@Override
+	public synchronized boolean removeValueFromCollection(String documentUri, String id, String propertyName, Object value) throws InvalidSPDXAnalysisException {
+		ItemEntry entry = getEntry(documentUri, id);
+		boolean result = loadItem(entry).removeValueFromList(propertyName, value);
+		if (result) {
+			decReference(documentUri, value);
+			modified(entry);
+		}
+		return result;
+	}
+
+	@Override
+	public synchronized int collectionSize(String documentUri, String id, String propertyName) throws InvalidSPDXAnalysisException {
+		return loadItem(getEntry(documentUri, id)).collectionSize(propertyName);
+	}
+
+	@Override
+	public synchronized boolean collectionContains(String documentUri, String id, String propertyName, Object value) throws InvalidSPDXAnalysisException {
+		return loadItem(getEntry(documentUri, id)).collectionContains(propertyName, value);
+	}
+
+	@Override
+	public synchronized void clearValueCollection(String documentUri, String id, String propertyName) throws InvalidSPDXAnalysisException {
+		ItemEntry entry = getEntry(documentUri, id);
+		StoredTypedItem item = loadItem(entry);
+		decReferences(documentUri, item, propertyName);
+		item.clearPropertyValueList(propertyName);
+		modified(entry);
+	}
+
+	@Override
+	public synchronized boolean addValueToCollection(String documentUri, String id, String propertyName, Object value) throws InvalidSPDXAnalysisException {
+		ItemEntry entry = getEntry(documentUri, id);
+		if (value instanceof TypedValue) {
+			getEntry(documentUri, ((TypedValue)value).getId());
+		}
+		boolean result = loadItem(entry).addValueToList(propertyName, value);
+		incReference(documentUri, value);
+		modified(entry);
+		return result;
+	}
+
+	@Override
+	public synchronized Iterator<Object> listValues(String documentUri, String id, String propertyName) throws InvalidSPDXAnalysisException {
+		return loadItem(getEntry(documentUri, id)).getValueList(propertyName);
+	}
+
+	@Override
+	public synchronized boolean isCollectionMembersAssignableTo(String documentUri, String id, String propertyName, Class<?> clazz) throws InvalidSPDXAnalysisException {
+		return loadItem(getEntry(documentUri, id)).isCollectionMembersAssignableTo(propertyName, clazz);
+	}
+
+	@Override
+	public synchronized boolean isPropertyValueAssignableTo(String documentUri, String id, String propertyName, Class<?> clazz) throws InvalidSPDXAnalysisException {
+		return loadItem(getEntry(documentUri, id)).isPropertyValueAssignableTo(propertyName, clazz);
+	}
+
+	@Override
+	public synchronized boolean isCollectionProperty(String documentUri, String id, String propertyName) throws InvalidSPDXAnalysisException {
+		return loadItem(getEntry(documentUri, id)).isCollectionProperty(propertyName);
+	}
+
+	@Override
+	public IdType getIdType(String id) {
+		if (id.startsWith(ANON_PREFIX+GENERATED)) {
+			return IdType.Anonymous;
+		}
+		if (id.startsWith(SpdxConstants.NON_STD_LICENSE_ID_PRENUM)) {
+			return IdType.LicenseRef;
+		}
+		if (id.startsWith(SpdxConstants.EXTERNAL_DOC_REF_PRENUM)) {
+			return IdType.DocumentRef;
+		}
+		if (id.startsWith(SpdxConstants.SPDX_ELEMENT_REF_PRENUM)) {
+			return IdType.SpdxId;
+		}
+		if (LITERAL_VALUE_SET.contains(id)) {
+			return IdType.Literal;
+		}
+		if (LicenseInfoFactory.isSpdxListedLicenseId(id) || LicenseInfoFactory.isSpdxListedExceptionId(id)) {
+			return IdType.ListedLicense;
+		} else {
+			return IdType.Unkown;
+		}
+	}
+
+	@Override
+	public synchronized Optional<String> getCaseSensisitiveId(String documentUri, String caseInsensisitiveId) {
+		Map<String, ItemEntry> idMap = documents.get(documentUri);
+		if (Objects.isNull(idMap)) {
+			return Optional.empty();
+		}
+		ItemEntry entry = idMap.get(caseInsensisitiveId.toLowerCase());
+		return Objects.isNull(entry) ? Optional.empty() : Optional.of(entry.id);
+	}
+
+	@Override
+	public synchronized Optional<TypedValue> getTypedValue(String documentUri, String id) throws InvalidSPDXAnalysisException {
+		Map<String, ItemEntry> idMap = documents.get(documentUri);
+		ItemEntry entry = Objects.isNull(idMap) ? null : idMap.get(id.toLowerCase());
+		if (Objects.isNull(entry)) {
+			return Optional.empty();
+		}
+		return Optional.of(new TypedValue(entry.id, entry.type));
+	}
+
+	@Override
+	public synchronized void delete(String documentUri, String id) throws InvalidSPDXAnalysisException {
+		Objects.requireNonNull(documentUri, "Missing Document URI");
+		Objects.requireNonNull(id, "Missing ID");
+		ItemEntry entry = getEntry(documentUri, id);
+		if (entry.referenceCount > 0) {
+			logger.error("Can not delete ID "+id+".  It is in use");
+			throw new SpdxIdInUseException("Can not delete ID "+id+".  It is in use.");
+		}
+		StoredTypedItem item = loadItem(entry);
+		for (String propertyName:item.getPropertyValueNames()) {
+			decReferences(documentUri, item, propertyName);
+		}
+		hotItems.remove(entry);
+		documents.get(documentUri).remove(id.toLowerCase());
+		if (entry.position >= 0) {
+			liveBytes -= entry.length;
+		}
+		revision++;
+	}
+
+	@Override
+	public synchronized long getRevision() {
+		return revision;
+	}
+
+	@Override
+	public synchronized long getRevision(String documentUri, String id) throws InvalidSPDXAnalysisException {
+		return getEntry(documentUri, id).revision;
+	}
+
+	/**
+	 * Serialize the document in the binary record format of this store
+	 */
+	@Override
+	public synchronized void serialize(String documentUri, OutputStream stream) throws InvalidSPDXAnalysisException, IOException {
+		Map<String, ItemEntry> idMap = documents.get(documentUri);
+		if (Objects.isNull(idMap)) {
+			throw new SpdxIdNotFoundException("Document URI "+documentUri+" was not found in the mapped store.");
+		}
+		flush();
+		DataOutputStream out = new DataOutputStream(stream);
+		out.writeInt(SERIALIZATION_MAGIC);
+		out.writeUTF(documentUri);
+		List<String> symbols = codec.getSymbols();
+		out.writeInt(symbols.size());
+		for (String symbol:symbols) {
+			out.writeUTF(symbol);
+		}
+		out.writeInt(idMap.size());
+		for (ItemEntry entry:idMap.values()) {
+			out.writeUTF(entry.id);
+			out.writeUTF(entry.type);
+			out.writeInt(entry.length);
+			if (entry.position >= 0) {
+				out.write(records.read(entry.position, entry.length));
+			}
+		}
+		out.flush();
+	}
+
+	/**
+	 * Consumer for the serialized records of a document
+	 */
+	@FunctionalInterface
+	private interface RecordConsumer {
+		void accept(String id, String type, byte[] record, StoreRecordCodec recordCodec) throws InvalidSPDXAnalysisException;
+	}
+	
+	/**
+	 * @param in stream serialized by a <code>MappedSpdxStore</code>
+	 * @return the document URI from the start of the stream
+	 * @throws InvalidSPDXAnalysisException if the stream was not serialized by a mapped store
+	 * @throws IOException
+	 */
+	private static String readDocumentUri(DataInputStream in) throws InvalidSPDXAnalysisException, IOException {
+		if (in.readInt() != SERIALIZATION_MAGIC) {
+			throw new InvalidSPDXAnalysisException("Stream was not serialized by a mapped SPDX store");
+		}
+		return in.readUTF();
+	}
+	
+	/**
+	 * Read the records following the document URI passing each to the consumer
+	 * @param in stream positioned after the document URI
+	 * @param consumer consumer for the records
+	 * @throws InvalidSPDXAnalysisException
+	 * @throws IOException
+	 */
+	private static void readRecords(DataInputStream in, RecordConsumer consumer) throws InvalidSPDXAnalysisException, IOException {
+		int symbolCount = in.readInt();
+		List<String> symbols = new ArrayList<>(symbolCount);
+		for (int i = 0; i < symbolCount; i++) {
+			symbols.add(in.readUTF());
+		}
+		StoreRecordCodec recordCodec = new StoreRecordCodec(symbols);
+		int itemCount = in.readInt();
+		for (int i = 0; i < itemCount; i++) {
+			String id = in.readUTF();
+			String type = in.readUTF();
+			byte[] record = new byte[in.readInt()];
+			in.readFully(record);
+			consumer.accept(id, type, record, recordCodec);
+		}
+	}
+
+	/**
+	 * Deserialize a document serialized by a <code>MappedSpdxStore</code>
+	 */
+	@Override
+	public synchronized String deSerialize(InputStream stream, boolean overwrite) throws InvalidSPDXAnalysisException, IOException {
+		DataInputStream in = new DataInputStream(stream);
+		String documentUri = readDocumentUri(in);
+		if (documents.containsKey(documentUri)) {
+			if (!overwrite) {
+				throw new InvalidSPDXAnalysisException("Document "+documentUri+" already exists in the store");
+			}
+			removeDocument(documentUri);
+		}
+		Map<String, ItemEntry> idMap = new LinkedHashMap<>();
+		documents.put(documentUri, idMap);
+		List<TypedValue> references = new ArrayList<>();
+		try {
+			readRecords(in, (id, type, record, recordCodec) -> {
+				ItemEntry entry = new ItemEntry(documentUri, id, type);
+				if (Objects.nonNull(idMap.putIfAbsent(id.toLowerCase(), entry))) {
+					throw new DuplicateSpdxIdException("ID "+id+" already exists.");
+				}
+				updateNextIds(id);
+				entry.revision = ++revision;
+				if (record.length > 0) {
+					StoredTypedItem item = new StoredTypedItem(documentUri, id, type);
+					recordCodec.decode(record, item);
+					item.forEachTypedValue(references::add);
+					writeRecord(entry, item);
+				}
+			});
+			for (TypedValue reference:references) {
+				incReference(documentUri, reference);
+			}
+		} catch (InvalidSPDXAnalysisException | IOException | RuntimeException e) {
+			removeDocument(documentUri);
+			throw e;
+		}
+		return documentUri;
+	}
+	
+	/**
+	 * Deserialize a document serialized by a <code>MappedSpdxStore</code> passing each item to the visitor
+	 * as it is read without storing the items in this store
+	 */
+	@Override
+	public String deSerialize(InputStream stream, IModelItemVisitor visitor) throws InvalidSPDXAnalysisException, IOException {
+		DataInputStream in = new DataInputStream(stream);
+		String documentUri = readDocumentUri(in);
+		visitor.startDocument(documentUri);
+		readRecords(in, (id, type, record, recordCodec) -> {
+			StoredTypedItem item = new StoredTypedItem(documentUri, id, type);
+			if (record.length > 0) {
+				recordCodec.decode(record, item);
+			}
+			ModelItem.Builder builder = new ModelItem.Builder(documentUri, id, type);
+			for (String propertyName:item.getPropertyValueNames()) {
+				if (item.isCollectionProperty(propertyName)) {
+					builder.addCollectionProperty(propertyName);
+					Iterator<Object> iter = item.getValueList(propertyName);
+					while (iter.hasNext()) {
+						builder.addValueToCollection(propertyName, iter.next());
+					}
+				} else {
+					builder.setValue(propertyName, item.getValue(propertyName));
+				}
+			}
+			visitor.visit(builder.build());
+		});
+		visitor.endDocument(documentUri);
+		return documentUri;
+	}
+	
+	/**
+	 * Remove all items for a document
+	 * @param documentUri
+	 */
+	private void removeDocument(String documentUri) {
+		Map<String, ItemEntry> idMap = documents.remove(documentUri);
+		if (Objects.nonNull(idMap)) {
+			for (ItemEntry entry:idMap.values()) {
+				hotItems.remove(entry);
+				if (entry.position >= 0) {
+					liveBytes -= entry.length;
+				}
+			}
+		}
+		revision++;
+	}
+
+	/**
+	 * Closes and deletes the backing file
+	 */
+	@Override
+	public synchronized void close() throws Exception {
+		hotItems.clear();
+		documents.clear();
+		records.close();
+	}
+}
@@ -0,0 +1,40 @@
+/**
+ * Copyright (c) 2026 Source Auditor Inc.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * 
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.storage.metrics;
+
+import javax.annotation.Nullable;
+
+/**
+ * Receives the measurements made by an <code>InstrumentedSpdxStore</code>.
+ * 
+ * The listener is called on the thread performing the store operation after the operation
+ * completes so implementations must be thread safe and should not block or allocate.
+ * 
+ * @author Gary O'Neall
+ *
+ */
+@FunctionalInterface
+public interface IStoreMetricsListener {
+	
+	/**
+	 * @param documentUri URI of the document the operation was performed on or null if the operation is not for a document
+	 * @param operation operation performed
+	 * @param nanos elapsed time of the operation in nanoseconds
+	 */
+	public void operationCompleted(@Nullable String documentUri, StoreOperation operation, long nanos);
+}
@@ -0,0 +1,323 @@
+/**
+ * Copyright (c) 2026 Source Auditor Inc.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * 
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.storage.metrics;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.spdx.library.InvalidSPDXAnalysisException;
+import org.spdx.library.model.TypedValue;
+import org.spdx.storage.IModelStore;
+import org.spdx.storage.simple.ExtendedSpdxStore;
+
+/**
+ * Model store which measures each call to an underlying model store and passes the elapsed
+ * time to a metrics listener.
+ * 
+ * The time waiting in <code>enterCriticalSection</code> is reported as a lock wait and the time
+ * from acquiring the lock until it is released is reported as a lock hold.  For <code>getAllItems</code>
+ * and <code>listValues</code> the time to return the stream or iterator is measured, not the time
+ * to consume it.
+ * 
+ * @author Gary O'Neall
+ *
+ */
+public class InstrumentedSpdxStore extends ExtendedSpdxStore {
+	
+	/**
+	 * Lock which records the hold time when it is released
+	 */
+	private class InstrumentedLock implements IModelStoreLock {
+		private final String documentUri;
+		private final IModelStoreLock baseLock;
+		private final StoreOperation holdOperation;
+		private final long acquired;
+		
+		private InstrumentedLock(String documentUri, IModelStoreLock baseLock, StoreOperation holdOperation) {
+			this.documentUri = documentUri;
+			this.baseLock = baseLock;
+			this.holdOperation = holdOperation;
+			this.acquired = System.nanoTime();
+		}
+
+		@Override
+		public void unlock() {
+			long start = System.nanoTime();
+			baseLock.unlock();
+			listener.operationCompleted(documentUri, holdOperation, start - acquired);
+		}
+	}
+	
+	private final IStoreMetricsListener listener;
+
+	/**
+	 * @param baseStore store to measure
+	 * @param listener listener for the measurements
+	 */
+	public InstrumentedSpdxStore(IModelStore baseStore, IStoreMetricsListener listener) {
+		super(Objects.requireNonNull(baseStore, "Base store can not be null"));
+		this.listener = Objects.requireNonNull(listener, "Listener can not be null");
+	}
+	
+	/**
+	 * @return listener for the measurements
+	 */
+	public IStoreMetricsListener getListener() {
+		return listener;
+	}
+	
+	private void record(String documentUri, StoreOperation operation, long start) {
+		listener.operationCompleted(documentUri, operation, System.nanoTime() - start);
+	}
+
+	@Override
+	public boolean exists(String documentUri, String id) {
+		long start = System.nanoTime();
+		try {
+			return super.exists(documentUri, id);
+		} finally {
+			record(documentUri, StoreOperation.EXISTS, start);
+		}
+	}
+
+	@Override
+	public void create(String documentUri, String id, String type) throws InvalidSPDXAnalysisException {
+		long start = System.nanoTime();
+		try {
+			super.create(documentUri, id, type);
+		} finally {
+			record(documentUri, StoreOperation.CREATE, start);
+		}
+	}
+
+	@Override
+	public List<String> getPropertyValueNames(String documentUri, String id) throws InvalidSPDXAnalysisException {
+		long start = System.nanoTime();
+		try {
+			return super.getPropertyValueNames(documentUri, id);
+		} finally {
+			record(documentUri, StoreOperation.GET_PROPERTY_VALUE_NAMES, start);
+		}
+	}
+
+	@Override
+	public void setValue(String documentUri, String id, String propertyName, Object value) throws InvalidSPDXAnalysisException {
+		long start = System.nanoTime();
+		try {
+			super.setValue(documentUri, id, propertyName, value);
+		} finally {
+			record(documentUri, StoreOperation.SET_VALUE, start);
+		}
+	}
+
+	@Override
+	public Optional<Object> getValue(String documentUri, String id, String propertyName) throws InvalidSPDXAnalysisException {
+		long start = System.nanoTime();
+		try {
+			return super.getValue(documentUri, id, propertyName);
+		} finally {
+			record(documentUri, StoreOperation.GET_VALUE, start);
+		}
+	}
+
+	@Override
+	public String getNextId(IdType idType, String documentUri) throws InvalidSPDXAnalysisException {
+		long start = System.nanoTime();
+		try {
+			return super.getNextId(idType, documentUri);
+		} finally {
+			record(documentUri, StoreOperation.GET_NEXT_ID, start);
+		}
+	}
+
+	@Override
+	public void removeProperty(String documentUri, String id, String propertyName) throws InvalidSPDXAnalysisException {
+		long start = System.nanoTime();
+		try {
+			super.removeProperty(documentUri, id, propertyName);
+		} finally {
+			record(documentUri, StoreOperation.REMOVE_PROPERTY, start);
+		}
+	}
+
+	@Override
+	public List<String> getDocumentUris() {
+		long start = System.nanoTime();
+		try {
+			return super.getDocumentUris();
+		} finally {
+			record(null, StoreOperation.GET_DOCUMENT_URIS, start);
+		}
+	}
+
+	@Override
+	public Stream<TypedValue> getAllItems(String documentUri, String typeFilter) throws InvalidSPDXAnalysisException {
+		long start = System.nanoTime();
+		try {
+			return super.getAllItems(documentUri, typeFilter);
+		} finally {
+			record(documentUri, StoreOperation.GET_ALL_ITEMS, start);
+		}
+	}
+
+	@Override
+	public boolean removeValueFromCollection(String documentUri, String id, String propertyName, Object value) throws InvalidSPDXAnalysisException {
+		long start = System.nanoTime();
+		try {
+			return super.removeValueFromCollection(documentUri, id, propertyName, value);
+		} finally {
+			record(documentUri, StoreOperation.REMOVE_VALUE_FROM_COLLECTION, start);
+		}
+	}
+
+	@Override
+	public int collectionSize(String documentUri, String id, String propertyName) throws InvalidSPDXAnalysisException {
+		long start = System.nanoTime();
+		try {
+			return super.collectionSize(documentUri, id, propertyName);
+		} finally {
+			record(documentUri, StoreOperation.COLLECTION_SIZE, start);
+		}
+	}
+
+	@Override
+	public boolean collectionContains(String documentUri, String id, String propertyName, Object value) throws InvalidSPDXAnalysisException {
+		long start = System.nanoTime();
+		try {
+			return super.collectionContains(documentUri, id, propertyName, value);
+		} finally {
+			record(documentUri, StoreOperation.COLLECTION_CONTAINS, start);
+		}
+	}
+
+	@Override
+	public void clearValueCollection(String documentUri, String id, String propertyName) throws InvalidSPDXAnalysisException {
+		long start = System.nanoTime();
+		try {
+			super.clearValueCollection(documentUri, id, propertyName);
+		} finally {
+			record(documentUri, StoreOperation.CLEAR_VALUE_COLLECTION, start);
+		}
+	}
+
+	@Override
+	public boolean addValueToCollection(String documentUri, String id, String propertyName, Object value) throws InvalidSPDXAnalysisException {
+		long start = System.nanoTime();
+		try {
+			return super.addValueToCollection(documentUri, id, propertyName, value);
+		} finally {
+			record(documentUri, StoreOperation.ADD_VALUE_TO_COLLECTION, start);
+		}
+	}
+
+	@Override
+	public Iterator<Object> listValues(String documentUri, String id, String propertyName) throws InvalidSPDXAnalysisException {
+		long start = System.nanoTime();
+		try {
+			return super.listValues(documentUri, id, propertyName);
+		} finally {
+			record(documentUri, StoreOperation.LIST_VALUES, start);
+		}
+	}
+
+	@Override
+	public boolean isCollectionMembersAssignableTo(String documentUri, String id, String propertyName, Class<?> clazz) throws InvalidSPDXAnalysisException {
+		long start = System.nanoTime();
+		try {
+			return super.isCollectionMembersAssignableTo(documentUri, id, propertyName, clazz);
+		} finally {
+			record(documentUri, StoreOperation.IS_COLLECTION_MEMBERS_ASSIGNABLE_TO, start);
+		}
+	}
+
+	@Override
+	public boolean isPropertyValueAssignableTo(String documentUri, String id, String propertyName, Class<?> clazz) throws InvalidSPDXAnalysisException {
+		long start = System.nanoTime();
+		try {
+			return super.isPropertyValueAssignableTo(documentUri, id, propertyName, clazz);
+		} finally {
+			record(documentUri, StoreOperation.IS_PROPERTY_VALUE_ASSIGNABLE_TO, start);
+		}
+	}
+
+	@Override
+	public boolean isCollectionProperty(String documentUri, String id, String propertyName) throws InvalidSPDXAnalysisException {
+		long start = System.nanoTime();
+		try {
+			return super.isCollectionProperty(documentUri, id, propertyName);
+		} finally {
+			record(documentUri, StoreOperation.IS_COLLECTION_PROPERTY, start);
+		}
+	}
+
+	@Override
+	public Optional<String> getCaseSensisitiveId(String documentUri, String caseInsensisitiveId) {
+		long start = System.nanoTime();
+		try {
+			return super.getCaseSensisitiveId(documentUri, caseInsensisitiveId);
+		} finally {
+			record(documentUri, StoreOperation.GET_CASE_SENSITIVE_ID, start);
+		}
+	}
+
+	@Override
+	public Optional<TypedValue> getTypedValue(String documentUri, String id) throws InvalidSPDXAnalysisException {
+		long start = System.nanoTime();
+		try {
+			return super.getTypedValue(documentUri, id);
+		} finally {
+			record(documentUri, StoreOperation.GET_TYPED_VALUE, start);
+		}
+	}
+
+	@Override
+	public void delete(String documentUri, String elementId) throws InvalidSPDXAnalysisException {
+		long start = System.nanoTime();
+		try {
+			super.delete(documentUri, elementId);
+		} finally {
+			record(documentUri, StoreOperation.DELETE, start);
+		}
+	}
+
+	@Override
+	public IModelStoreLock enterCriticalSection(String documentUri, boolean readLockRequested)
+			throws InvalidSPDXAnalysisException {
+		long start = System.nanoTime();
+		IModelStoreLock lock = super.enterCriticalSection(documentUri, readLockRequested);
+		record(documentUri, readLockRequested ? StoreOperation.READ_LOCK_WAIT : StoreOperation.WRITE_LOCK_WAIT, start);
+		return new InstrumentedLock(documentUri, lock, 
+				readLockRequested ? StoreOperation.READ_LOCK_HOLD : StoreOperation.WRITE_LOCK_HOLD);
+	}
+
+	@Override
+	public void leaveCriticalSection(IModelStoreLock lock) {
+		if (lock instanceof InstrumentedLock) {
+			InstrumentedLock instrumentedLock = (InstrumentedLock)lock;
+			long start = System.nanoTime();
+			super.leaveCriticalSection(instrumentedLock.baseLock);
+			listener.operationCompleted(instrumentedLock.documentUri, instrumentedLock.holdOperation, 
+					start - instrumentedLock.acquired);
+		} else {
+			super.leaveCriticalSection(lock);
+		}
+	}
+}
@@ -0,0 +1,152 @@
+/**
+ * Copyright (c) 2026 Source Auditor Inc.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * 
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.storage.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread safe histogram of latencies with a fixed relative precision.
+ * 
+ * Values are counted in buckets whose width doubles with each power of 2 with 32 buckets
+ * per power of 2, so a recorded value is reported within about 3% of its actual value.  The
+ * buckets cover the full range of non-negative long values and are allocated when the histogram
+ * is created - recording a value does not allocate.
+ * 
+ * @author Gary O'Neall
+ *
+ */
+public class LatencyHistogram {
+	
+	static final int SUB_BUCKET_BITS = 5;
+	static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+	static final int BUCKET_COUNT = (64 - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+	
+	private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+	private final AtomicLong totalCount = new AtomicLong();
+	private final AtomicLong totalValue = new AtomicLong();
+	private final AtomicLong maxValue = new AtomicLong();
+	
+	/**
+	 * @param value non-negative value to record - negative values are recorded as 0
+	 */
+	public void record(long value) {
+		if (value < 0) {
+			value = 0;
+		}
+		counts.incrementAndGet(bucketIndex(value));
+		totalCount.incrementAndGet();
+		totalValue.addAndGet(value);
+		long max = maxValue.get();
+		while (value > max && !maxValue.compareAndSet(max, value)) {
+			max = maxValue.get();
+		}
+	}
+	
+	/**
+	 * @param value non-negative value
+	 * @return index of the bucket counting the value
+	 */
+	static int bucketIndex(long value) {
+		if (value < SUB_BUCKET_COUNT) {
+			return (int)value;
+		}
+		int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+		return (shift + 1) * SUB_BUCKET_COUNT + (int)((value >>> shift) - SUB_BUCKET_COUNT);
+	}
+	
+	/**
+	 * @param index bucket index
+	 * @return highest value counted in the bucket
+	 */
+	static long highestValueInBucket(int index) {
+		if (index < SUB_BUCKET_COUNT) {
+			return index;
+		}
+		int shift = index / SUB_BUCKET_COUNT - 1;
+		long lowest = ((long)(SUB_BUCKET_COUNT + index % SUB_BUCKET_COUNT)) << shift;
+		return lowest + (1L << shift) - 1;
+	}
+	
+	/**
+	 * @return number of values recorded
+	 */
+	public long getCount() {
+		return totalCount.get();
+	}
+	
+	/**
+	 * @return sum of the values recorded
+	 */
+	public long getTotal() {
+		return totalValue.get();
+	}
+	
+	/**
+	 * @return largest value recorded
+	 */
+	public long getMax() {
+		return maxValue.get();
+	}
+	
+	/**
+	 * @return mean of the values recorded or 0 if no values have been recorded
+	 */
+	public long getMean() {
+		long count = totalCount.get();
+		return count == 0 ? 0 : totalValue.get() / count;
+	}
+	
+	/**
+	 * @param percentile percentile between 0 and 100
+	 * @return value at or below which the percentile of the recorded values fall or 0 if no values have been recorded
+	 */
+	public long getValueAtPercentile(double percentile) {
+		if (percentile < 0 || percentile > 100) {
+			throw new IllegalArgumentException("Percentile must be between 0 and 100");
+		}
+		long count = 0;
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			count += counts.get(i);
+		}
+		if (count == 0) {
+			return 0;
+		}
+		long target = Math.max(1, (long)Math.ceil(percentile / 100 * count));
+		long cumulative = 0;
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			cumulative += counts.get(i);
+			if (cumulative >= target) {
+				return Math.min(highestValueInBucket(i), getMax());
+			}
+		}
+		return getMax();
+	}
+	
+	/**
+	 * Remove all recorded values
+	 */
+	public void reset() {
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			counts.set(i, 0);
+		}
+		totalCount.set(0);
+		totalValue.set(0);
+		maxValue.set(0);
+	}
+}
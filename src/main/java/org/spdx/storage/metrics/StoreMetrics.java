@@ -0,0 +1,225 @@
+/**
+ * Copyright (c) 2026 Source Auditor Inc.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * 
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.storage.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.ToLongFunction;
+
+import javax.annotation.Nullable;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.spdx.library.InvalidSPDXAnalysisException;
+
+/**
+ * Metrics listener which aggregates the measurements of an <code>InstrumentedSpdxStore</code>.
+ * 
+ * A latency histogram is kept for each operation.  For each document, the number of calls and the
+ * total time are kept per operation.  The metrics can be read directly, through JMX once registered
+ * with <code>registerMBean</code>, or written to the log with <code>logSummary</code>.
+ * 
+ * @author Gary O'Neall
+ *
+ */
+public class StoreMetrics implements IStoreMetricsListener, StoreMetricsMXBean {
+	
+	static final Logger logger = LoggerFactory.getLogger(StoreMetrics.class);
+	
+	static final StoreOperation[] OPERATIONS = StoreOperation.values();
+	
+	/**
+	 * Call counts and total times per operation for a single document
+	 */
+	private static class DocumentMetrics {
+		private final AtomicLongArray counts = new AtomicLongArray(OPERATIONS.length);
+		private final AtomicLongArray nanos = new AtomicLongArray(OPERATIONS.length);
+		
+		private void record(StoreOperation operation, long elapsed) {
+			counts.incrementAndGet(operation.ordinal());
+			nanos.addAndGet(operation.ordinal(), elapsed);
+		}
+		
+		private long sum(AtomicLongArray values) {
+			long retval = 0;
+			for (int i = 0; i < values.length(); i++) {
+				retval += values.get(i);
+			}
+			return retval;
+		}
+	}
+	
+	private final LatencyHistogram[] histograms = new LatencyHistogram[OPERATIONS.length];
+	private final Map<String, DocumentMetrics> documentMetrics = new ConcurrentHashMap<>();
+	
+	public StoreMetrics() {
+		for (int i = 0; i < histograms.length; i++) {
+			histograms[i] = new LatencyHistogram();
+		}
+	}
+
+	@Override
+	public void operationCompleted(@Nullable String documentUri, StoreOperation operation, long nanos) {
+		histograms[operation.ordinal()].record(nanos);
+		if (Objects.nonNull(documentUri)) {
+			DocumentMetrics metrics = documentMetrics.get(documentUri);
+			if (Objects.isNull(metrics)) {
+				metrics = documentMetrics.computeIfAbsent(documentUri, uri -> new DocumentMetrics());
+			}
+			metrics.record(operation, nanos);
+		}
+	}
+	
+	/**
+	 * @param operation
+	 * @return latency histogram in nanoseconds for the operation
+	 */
+	public LatencyHistogram getHistogram(StoreOperation operation) {
+		return histograms[operation.ordinal()];
+	}
+	
+	/**
+	 * @param documentUri
+	 * @param operation
+	 * @return number of calls of the operation for the document
+	 */
+	public long getCallCount(String documentUri, StoreOperation operation) {
+		DocumentMetrics metrics = documentMetrics.get(documentUri);
+		return Objects.isNull(metrics) ? 0 : metrics.counts.get(operation.ordinal());
+	}
+	
+	/**
+	 * @param documentUri
+	 * @param operation
+	 * @return total time in nanoseconds spent in the operation for the document
+	 */
+	public long getTotalNanos(String documentUri, StoreOperation operation) {
+		DocumentMetrics metrics = documentMetrics.get(documentUri);
+		return Objects.isNull(metrics) ? 0 : metrics.nanos.get(operation.ordinal());
+	}
+	
+	private Map<String, Long> operationValues(ToLongFunction<LatencyHistogram> value) {
+		Map<String, Long> retval = new TreeMap<>();
+		for (StoreOperation operation:OPERATIONS) {
+			LatencyHistogram histogram = histograms[operation.ordinal()];
+			if (histogram.getCount() > 0) {
+				retval.put(operation.name(), value.applyAsLong(histogram));
+			}
+		}
+		return Collections.unmodifiableMap(retval);
+	}
+
+	@Override
+	public Map<String, Long> getCallCounts() {
+		return operationValues(LatencyHistogram::getCount);
+	}
+
+	@Override
+	public Map<String, Long> getMeanNanos() {
+		return operationValues(LatencyHistogram::getMean);
+	}
+
+	@Override
+	public Map<String, Long> getP99Nanos() {
+		return operationValues(histogram -> histogram.getValueAtPercentile(99));
+	}
+
+	@Override
+	public Map<String, Long> getMaxNanos() {
+		return operationValues(LatencyHistogram::getMax);
+	}
+
+	@Override
+	public Map<String, Long> getDocumentCallCounts() {
+		Map<String, Long> retval = new TreeMap<>();
+		for (Map.Entry<String, DocumentMetrics> entry:documentMetrics.entrySet()) {
+			retval.put(entry.getKey(), entry.getValue().sum(entry.getValue().counts));
+		}
+		return Collections.unmodifiableMap(retval);
+	}
+
+	@Override
+	public Map<String, Long> getDocumentTotalNanos() {
+		Map<String, Long> retval = new TreeMap<>();
+		for (Map.Entry<String, DocumentMetrics> entry:documentMetrics.entrySet()) {
+			retval.put(entry.getKey(), entry.getValue().sum(entry.getValue().nanos));
+		}
+		return Collections.unmodifiableMap(retval);
+	}
+
+	@Override
+	public void reset() {
+		for (LatencyHistogram histogram:histograms) {
+			histogram.reset();
+		}
+		documentMetrics.clear();
+	}
+	
+	/**
+	 * Register these metrics with the platform MBean server
+	 * @param name JMX object name to register the metrics under, e.g. <code>org.spdx.storage:type=StoreMetrics,name=ingest</code>
+	 * @return the registered object name
+	 * @throws InvalidSPDXAnalysisException if the name is invalid or already registered
+	 */
+	public ObjectName registerMBean(String name) throws InvalidSPDXAnalysisException {
+		try {
+			ObjectName objectName = new ObjectName(name);
+			ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+			return objectName;
+		} catch (JMException e) {
+			throw new InvalidSPDXAnalysisException("Unable to register store metrics as "+name, e);
+		}
+	}
+	
+	/**
+	 * Remove these metrics from the platform MBean server
+	 * @param objectName name returned by <code>registerMBean</code>
+	 * @throws InvalidSPDXAnalysisException if the name is not registered
+	 */
+	public void unregisterMBean(ObjectName objectName) throws InvalidSPDXAnalysisException {
+		try {
+			ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+		} catch (JMException e) {
+			throw new InvalidSPDXAnalysisException("Unable to unregister store metrics "+objectName, e);
+		}
+	}
+	
+	/**
+	 * Log a summary line for each operation which has been called followed by the total time per document
+	 */
+	public void logSummary() {
+		for (StoreOperation operation:OPERATIONS) {
+			LatencyHistogram histogram = histograms[operation.ordinal()];
+			if (histogram.getCount() > 0) {
+				logger.info("{}: count={}, mean={}ns, p50={}ns, p99={}ns, max={}ns", operation, histogram.getCount(),
+						histogram.getMean(), histogram.getValueAtPercentile(50), histogram.getValueAtPercentile(99),
+						histogram.getMax());
+			}
+		}
+		for (Map.Entry<String, Long> entry:getDocumentTotalNanos().entrySet()) {
+			logger.info("{}: total={}ns", entry.getKey(), entry.getValue());
+		}
+	}
+}
@@ -0,0 +1,65 @@
+/**
+ * Copyright (c) 2026 Source Auditor Inc.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * 
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.storage.metrics;
+
+import java.util.Map;
+
+/**
+ * JMX view of the store metrics.  Maps are keyed by the <code>StoreOperation</code> name or the
+ * document URI and only include operations which have been called.
+ * 
+ * @author Gary O'Neall
+ *
+ */
+public interface StoreMetricsMXBean {
+	
+	/**
+	 * @return number of calls per operation
+	 */
+	public Map<String, Long> getCallCounts();
+	
+	/**
+	 * @return mean time in nanoseconds per operation
+	 */
+	public Map<String, Long> getMeanNanos();
+	
+	/**
+	 * @return 99th percentile time in nanoseconds per operation
+	 */
+	public Map<String, Long> getP99Nanos();
+	
+	/**
+	 * @return maximum time in nanoseconds per operation
+	 */
+	public Map<String, Long> getMaxNanos();
+	
+	/**
+	 * @return number of calls per document
+	 */
+	public Map<String, Long> getDocumentCallCounts();
+	
+	/**
+	 * @return total time in nanoseconds spent in operations per document
+	 */
+	public Map<String, Long> getDocumentTotalNanos();
+	
+	/**
+	 * Remove all recorded metrics
+	 */
+	public void reset();
+}
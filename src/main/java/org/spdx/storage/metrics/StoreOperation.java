@@ -0,0 +1,52 @@
+/**
+ * Copyright (c) 2026 Source Auditor Inc.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * 
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.storage.metrics;
+
+/**
+ * Operations on a model store which are measured by an <code>InstrumentedSpdxStore</code>
+ * 
+ * @author Gary O'Neall
+ *
+ */
+public enum StoreOperation {
+	EXISTS,
+	CREATE,
+	GET_PROPERTY_VALUE_NAMES,
+	SET_VALUE,
+	GET_VALUE,
+	GET_NEXT_ID,
+	REMOVE_PROPERTY,
+	GET_DOCUMENT_URIS,
+	GET_ALL_ITEMS,
+	REMOVE_VALUE_FROM_COLLECTION,
+	COLLECTION_SIZE,
+	COLLECTION_CONTAINS,
+	CLEAR_VALUE_COLLECTION,
+	ADD_VALUE_TO_COLLECTION,
+	LIST_VALUES,
+	IS_COLLECTION_MEMBERS_ASSIGNABLE_TO,
+	IS_PROPERTY_VALUE_ASSIGNABLE_TO,
+	IS_COLLECTION_PROPERTY,
+	GET_CASE_SENSITIVE_ID,
+	GET_TYPED_VALUE,
+	DELETE,
+	READ_LOCK_WAIT,		// time waiting in enterCriticalSection for a read lock
+	WRITE_LOCK_WAIT,	// time waiting in enterCriticalSection for a write lock
+	READ_LOCK_HOLD,		// time from acquiring a read lock until it is released
+	WRITE_LOCK_HOLD		// time from acquiring a write lock until it is released
+}
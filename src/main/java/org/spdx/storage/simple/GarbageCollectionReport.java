@@ -0,0 +1,98 @@
+/**
+ * Copyright (c) 2026 Source Auditor Inc.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * 
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.storage.simple;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.spdx.library.model.TypedValue;
+
+/**
+ * Report of the items reclaimed by a single <code>InMemSpdxStore.collectGarbage</code> pass over a document
+ * 
+ * @author Gary O'Neall
+ *
+ */
+public class GarbageCollectionReport {
+	
+	private final String documentUri;
+	private final List<TypedValue> reclaimedItems;
+	private final int retainedCount;
+	private final long elapsedNanos;
+	
+	GarbageCollectionReport(String documentUri, List<TypedValue> reclaimedItems, int retainedCount, long elapsedNanos) {
+		this.documentUri = documentUri;
+		this.reclaimedItems = Collections.unmodifiableList(reclaimedItems);
+		this.retainedCount = retainedCount;
+		this.elapsedNanos = elapsedNanos;
+	}
+
+	/**
+	 * @return the document URI collected
+	 */
+	public String getDocumentUri() {
+		return documentUri;
+	}
+
+	/**
+	 * @return the ID and type of each item removed from the document
+	 */
+	public List<TypedValue> getReclaimedItems() {
+		return reclaimedItems;
+	}
+	
+	/**
+	 * @return number of items removed from the document
+	 */
+	public int getReclaimedCount() {
+		return reclaimedItems.size();
+	}
+	
+	/**
+	 * @return number of items removed from the document by type
+	 */
+	public Map<String, Integer> getReclaimedCountsByType() {
+		Map<String, Integer> retval = new TreeMap<>();
+		for (TypedValue item:reclaimedItems) {
+			retval.merge(item.getType(), 1, Integer::sum);
+		}
+		return retval;
+	}
+
+	/**
+	 * @return number of reachable items kept in the document
+	 */
+	public int getRetainedCount() {
+		return retainedCount;
+	}
+
+	/**
+	 * @return time taken by the collection in nanoseconds including waiting for the lock
+	 */
+	public long getElapsedNanos() {
+		return elapsedNanos;
+	}
+	
+	@Override
+	public String toString() {
+		return "Reclaimed " + getReclaimedCount() + " items " + getReclaimedCountsByType() + " and retained " + 
+				retainedCount + " items in " + documentUri + " in " + (elapsedNanos / 1000000) + "ms";
+	}
+}
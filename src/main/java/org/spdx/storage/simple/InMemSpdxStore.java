@@ -17,24 +17,42 @@
  */
 package org.spdx.storage.simple;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
 
+import javax.annotation.Nullable;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.spdx.library.InvalidSPDXAnalysisException;
@@ -42,10 +60,13 @@ import org.spdx.library.SpdxConstants;
 import org.spdx.library.model.DuplicateSpdxIdException;
 import org.spdx.library.model.ModelCollection;
 import org.spdx.library.model.SpdxIdInUseException;
+import org.spdx.library.model.SpdxElement;
 import org.spdx.library.model.SpdxIdNotFoundException;
+import org.spdx.library.model.SpdxModelFactory;
 import org.spdx.library.model.TypedValue;
 import org.spdx.library.model.license.LicenseInfoFactory;
 import org.spdx.storage.IModelStore;
+import org.spdx.storage.IRevisionedModelStore;
 
 /**
  * @author Gary O'Neall
@@ -57,8 +78,19 @@ import org.spdx.storage.IModelStore;
  * It is designed to be thread-safe and low CPU utilization.  It may use significant amounts of memory
  * for larger SPDX documents.
  *
+ * Large documents can be loaded with a bulk load session started by <code>beginBulkLoad</code> which
+ * defers reference counting, generated ID bookkeeping and revision updates to a single pass when the
+ * session is committed.
+ *
+ * The state of the store can be written to a compact binary snapshot with <code>writeSnapshot</code>
+ * and restored with <code>readSnapshot</code>.  Mutations made after the snapshot can be recorded in a
+ * <code>StoreJournal</code> and replayed after the snapshot is restored - see <code>InMemStorePersistence</code>.
+ * While a journal is attached, mutations to all documents in the store are serialized on the journal so
+ * that the journal entries are in the order the mutations were applied.  Without a journal, mutations to
+ * different documents do not block each other.
+ *
  */
-public class InMemSpdxStore implements IModelStore {
+public class InMemSpdxStore implements IRevisionedModelStore {
 
 	static final Logger logger = LoggerFactory.getLogger(InMemSpdxStore.class.getName());
 
@@ -70,19 +102,140 @@ public class InMemSpdxStore implements IModelStore {
 	static Pattern SPDX_ID_PATTERN_GENERATED = Pattern.compile(SpdxConstants.SPDX_ELEMENT_REF_PRENUM+GENERATED+"(\\d+)$");
 	static final String ANON_PREFIX = "__anon__";
 	static Pattern ANON_ID_PATTERN_GENERATED = Pattern.compile(ANON_PREFIX+GENERATED+"(\\d+)$");
+	static final int SNAPSHOT_MAGIC = 0x53504453;	// SPDS
+	static final int SNAPSHOT_VERSION = 1;
+	private static final int SNAPSHOT_BUFFER_SIZE = 1 << 16;
+
 	private static final Set<String> LITERAL_VALUE_SET = new HashSet<String>(Arrays.asList(SpdxConstants.LITERAL_VALUES));
 
 	/**
 	 * Map of Document URI to items stored in the document.  The key for the items map is the lowercase of the item ID.
+	 * The items maps must be <code>StoredTypedItemMap</code>s which also index the items by type in creation order.
 	 */
 	protected Map<String, Map<String, StoredTypedItem>> documentValues = Collections.synchronizedMap(new LinkedHashMap<>());
 	private int nextNextLicenseId = 0;
 	private int nextNextDocumentId = 0;
 	private int nextNextSpdxId = 0;
 	private int nextAnonId = 0;
+	private final AtomicLong revision = new AtomicLong();
 
 	private final ReadWriteLock transactionLock = new ReentrantReadWriteLock();
 	private final ReadWriteLock referenceCountLock = new ReentrantReadWriteLock();
+	private final Map<String, BulkLoad> bulkLoads = new ConcurrentHashMap<>();
+	private final ReadWriteLock checkpointLock = new ReentrantReadWriteLock();
+	private volatile @Nullable StoreJournal journal = null;
+	
+	/**
+	 * Number of slots for counting mutations in progress without a journal and the stride between
+	 * the slots which keeps each slot on its own cache line
+	 */
+	private static final int MUTATION_SLOTS = 32;
+	private static final int MUTATION_SLOT_STRIDE = 16;
+	
+	/**
+	 * Mutations in progress without the checkpoint lock - each thread always uses the same slot so a slot
+	 * is only zero when none of the threads using it are applying a mutation
+	 */
+	private final AtomicIntegerArray unjournaledMutations = new AtomicIntegerArray(MUTATION_SLOTS * MUTATION_SLOT_STRIDE);
+	
+	/**
+	 * Set while the checkpoint write lock is held to make all mutations take the checkpoint lock
+	 */
+	private volatile boolean blockingMutations = false;
+
+	/**
+	 * Bulk load session for a single document started by <code>beginBulkLoad</code>.
+	 *
+	 * While the session is active, writes to the document do not maintain the reference counts,
+	 * do not take the reference count lock and do not update the revisions.  Typed values may
+	 * reference items which have not yet been created.  The reference counts for the whole document
+	 * are recomputed when the session is committed.  Items in the document should not be read or
+	 * deleted until the session is committed.
+	 */
+	public class BulkLoad implements AutoCloseable {
+		private final String documentUri;
+		private final Queue<String> generatedIds = new ConcurrentLinkedQueue<>();
+		private volatile boolean committed = false;
+
+		private BulkLoad(String documentUri) {
+			this.documentUri = documentUri;
+		}
+
+		/**
+		 * @return the document URI being loaded
+		 */
+		public String getDocumentUri() {
+			return documentUri;
+		}
+
+		/**
+		 * @return true if the session has been committed
+		 */
+		public boolean isCommitted() {
+			return committed;
+		}
+
+		/**
+		 * End the bulk load - recomputes the reference counts for all items in the document, updates the
+		 * next generated IDs and updates the revisions for the items in the document.  If the commit fails,
+		 * the session remains open and the commit can be retried once the missing items are created.
+		 * @throws InvalidSPDXAnalysisException if a typed value references an item which does not exist in the document
+		 */
+		public void commit() throws InvalidSPDXAnalysisException {
+			if (committed) {
+				return;
+			}
+			journaled(() -> {
+				applyCommit();
+				return null;
+			}, journal -> journal.commitBulkLoad(documentUri));
+		}
+
+		private void applyCommit() throws InvalidSPDXAnalysisException {
+			if (committed) {
+				return;
+			}
+			StoredTypedItemMap idMap = getItemMap(documentUri);
+			if (Objects.nonNull(idMap)) {
+				referenceCountLock.writeLock().lock();
+				try {
+					// check the references before changing any state so that a failed commit leaves the session open
+					List<String> missingIds = new ArrayList<>();
+					for (StoredTypedItem item:idMap.values()) {
+						item.forEachTypedValue(value -> {
+							if (!idMap.containsKey(value.getId().toLowerCase())) {
+								missingIds.add(value.getId());
+							}
+						});
+					}
+					if (!missingIds.isEmpty()) {
+						throw new SpdxIdNotFoundException("ID "+missingIds.get(0)+" was referenced but was not created during the bulk load of "+documentUri);
+					}
+					long newRevision = revision.incrementAndGet();
+					for (StoredTypedItem item:idMap.values()) {
+						item.setReferenceCount(0);
+						item.setRevision(newRevision);
+					}
+					for (StoredTypedItem item:idMap.values()) {
+						item.forEachTypedValue(value -> idMap.get(value.getId().toLowerCase()).incReferenceCount());
+					}
+				} finally {
+					referenceCountLock.writeLock().unlock();
+				}
+			}
+			committed = true;
+			bulkLoads.remove(documentUri, this);
+			drainGeneratedIds(this);
+		}
+
+		/**
+		 * Commits the session if it has not already been committed
+		 */
+		@Override
+		public void close() throws InvalidSPDXAnalysisException {
+			commit();
+		}
+	}
 
 	private final IModelStoreLock readLock = new IModelStoreLock() {
 
@@ -104,7 +257,7 @@ public class InMemSpdxStore implements IModelStore {
 
 	@Override
 	public boolean exists(String documentUri, String id) {
-		Map<String, StoredTypedItem> idMap = documentValues.get(documentUri);
+		StoredTypedItemMap idMap = getItemMap(documentUri);
 		if (idMap == null) {
 			return false;
 		}
@@ -113,14 +266,99 @@ public class InMemSpdxStore implements IModelStore {
 
 	@Override
 	public void create(String documentUri, String id, String type) throws InvalidSPDXAnalysisException {
-		StoredTypedItem value = new StoredTypedItem(documentUri, id, type);
-		Map<String, StoredTypedItem> idMap = documentValues.get(documentUri);
-		while (idMap == null) {
-			idMap = documentValues.putIfAbsent(documentUri, Collections.synchronizedMap(new LinkedHashMap<String, StoredTypedItem>()));
+		journaled(() -> {
+			applyCreate(documentUri, id, type);
+			return null;
+		}, journal -> journal.create(documentUri, id, type));
+	}
+
+	private void applyCreate(String documentUri, String id, String type) throws InvalidSPDXAnalysisException {
+		BulkLoad bulkLoad = getBulkLoad(documentUri);
+		try {
+			StoredTypedItem value = new StoredTypedItem(documentUri, id, type);
+			StoredTypedItemMap idMap = getItemMap(documentUri);
+			while (idMap == null) {
+				idMap = (StoredTypedItemMap)documentValues.putIfAbsent(documentUri, new StoredTypedItemMap());
+			}
+			if (Objects.isNull(bulkLoad)) {
+				updateNextIds(id);
+			} else if (id.contains(GENERATED)) {
+				bulkLoad.generatedIds.add(id);
+			}
+			if (Objects.nonNull(idMap.putIfAbsent(id.toLowerCase(), value))) {
+				throw new DuplicateSpdxIdException("ID "+id+" already exists.");
+			}
+		} finally {
+			if (Objects.isNull(bulkLoad)) {
+				updateRevision(documentUri, id);
+			}
+		}
+	}
+
+	/**
+	 * Start a bulk load session for a document.  Writes to the document skip the reference counting,
+	 * generated ID bookkeeping and revision updates until the session is committed.  Use in a
+	 * try-with-resources block or call <code>commit()</code> when all of the items have been loaded.
+	 * @param documentUri document to be loaded
+	 * @param expectedItems expected number of items in the document - used to size the item map if the document is empty
+	 * @return the bulk load session
+	 * @throws InvalidSPDXAnalysisException if a bulk load is already in progress for the document
+	 */
+	public BulkLoad beginBulkLoad(String documentUri, int expectedItems) throws InvalidSPDXAnalysisException {
+		Objects.requireNonNull(documentUri, "Document URI can not be null");
+		return journaled(() -> applyBeginBulkLoad(documentUri, expectedItems), journal -> journal.beginBulkLoad(documentUri));
+	}
+
+	private BulkLoad applyBeginBulkLoad(String documentUri, int expectedItems) throws InvalidSPDXAnalysisException {
+		BulkLoad bulkLoad = new BulkLoad(documentUri);
+		if (Objects.nonNull(bulkLoads.putIfAbsent(documentUri, bulkLoad))) {
+			throw new InvalidSPDXAnalysisException("A bulk load is already in progress for document "+documentUri);
 		}
-		updateNextIds(id);
-		if (Objects.nonNull(idMap.putIfAbsent(id.toLowerCase(), value))) {
-			throw new DuplicateSpdxIdException("ID "+id+" already exists.");
+		synchronized(documentValues) {
+			StoredTypedItemMap idMap = getItemMap(documentUri);
+			if (Objects.isNull(idMap) || idMap.isEmpty()) {
+				documentValues.put(documentUri, new StoredTypedItemMap(Math.max(16, expectedItems)));
+			}
+		}
+		return bulkLoad;
+	}
+
+	/**
+	 * @param documentUri document URI
+	 * @return true if a bulk load is in progress for the document
+	 */
+	public boolean isBulkLoading(String documentUri) {
+		return Objects.nonNull(getBulkLoad(documentUri));
+	}
+
+	/**
+	 * @param documentUri document URI
+	 * @return the active bulk load session for the document or null if none is in progress
+	 */
+	private @Nullable BulkLoad getBulkLoad(String documentUri) {
+		if (bulkLoads.isEmpty()) {
+			return null;
+		}
+		return bulkLoads.get(documentUri);
+	}
+
+	/**
+	 * @param documentUri document URI
+	 * @return the items for the document or null if the document is not in the store
+	 */
+	private @Nullable StoredTypedItemMap getItemMap(String documentUri) {
+		return (StoredTypedItemMap)documentValues.get(documentUri);
+	}
+
+	/**
+	 * Update the next IDs for any generated IDs created during a bulk load
+	 * @param bulkLoad bulk load session
+	 */
+	private void drainGeneratedIds(BulkLoad bulkLoad) {
+		String id = bulkLoad.generatedIds.poll();
+		while (Objects.nonNull(id)) {
+			updateNextIds(id);
+			id = bulkLoad.generatedIds.poll();
 		}
 	}
 
@@ -129,7 +367,7 @@ public class InMemSpdxStore implements IModelStore {
 	 * @param id
 	 */
 	void updateNextIds(String id) {
-		if (id == null) {
+		if (id == null || !id.contains(GENERATED)) {
 			return;
 		}
 		Matcher licenseRefMatcher = LICENSE_ID_PATTERN_GENERATED.matcher(id);
@@ -194,7 +432,7 @@ public class InMemSpdxStore implements IModelStore {
 	 * @throws InvalidSPDXAnalysisException
 	 */
 	protected StoredTypedItem getItem(String documentUri, String id) throws InvalidSPDXAnalysisException {
-		Map<String, StoredTypedItem> idMap = documentValues.get(documentUri);
+		StoredTypedItemMap idMap = getItemMap(documentUri);
 		if (idMap == null) {
 			throw new SpdxIdNotFoundException("Document URI "+documentUri+" was not found in the memory store.  The ID must first be created before getting or setting property values.");
 		}
@@ -213,78 +451,135 @@ public class InMemSpdxStore implements IModelStore {
 	@Override
 	public void setValue(String documentUri, String id, String propertyName, Object value)
 			throws InvalidSPDXAnalysisException {
-		if (value instanceof TypedValue) {
-			referenceCountLock.writeLock().lock();
-			try {
-				StoredTypedItem itemToBeStored = getItem(documentUri, ((TypedValue)value).getId());
+		journaled(() -> {
+			applySetValue(documentUri, id, propertyName, value);
+			return null;
+		}, journal -> journal.setValue(documentUri, id, propertyName, value));
+	}
+
+	private void applySetValue(String documentUri, String id, String propertyName, Object value)
+			throws InvalidSPDXAnalysisException {
+		if (Objects.nonNull(getBulkLoad(documentUri))) {
+			getItem(documentUri, id).setValue(propertyName, value);
+			return;
+		}
+		try {
+			if (value instanceof TypedValue) {
+				referenceCountLock.writeLock().lock();
+				try {
+					StoredTypedItem itemToBeStored = getItem(documentUri, ((TypedValue)value).getId());
+					getItem(documentUri, id).setValue(propertyName, value);
+					itemToBeStored.incReferenceCount();
+				} finally {
+					referenceCountLock.writeLock().unlock();
+				}
+			} else {
 				getItem(documentUri, id).setValue(propertyName, value);
-				itemToBeStored.incReferenceCount();
-			} finally {
-				referenceCountLock.writeLock().unlock();
 			}
-		} else {
-			getItem(documentUri, id).setValue(propertyName, value);
+		} finally {
+			updateRevision(documentUri, id);
 		}
 	}
 
 	@Override
 	public void clearValueCollection(String documentUri, String id, String propertyName)
 			throws InvalidSPDXAnalysisException {
-		referenceCountLock.writeLock().lock();
+		journaled(() -> {
+			applyClearValueCollection(documentUri, id, propertyName);
+			return null;
+		}, journal -> journal.clearValueCollection(documentUri, id, propertyName));
+	}
+
+	private void applyClearValueCollection(String documentUri, String id, String propertyName)
+			throws InvalidSPDXAnalysisException {
+		if (Objects.nonNull(getBulkLoad(documentUri))) {
+			getItem(documentUri, id).clearPropertyValueList(propertyName);
+			return;
+		}
 		try {
-			List<StoredTypedItem> removedItems = new ArrayList<>();
-			Iterator<Object> iter = getItem(documentUri, id).getValueList(propertyName);
-			while (iter.hasNext()) {
-				Object nextItem = iter.next();
-				if (nextItem instanceof TypedValue) {
-					removedItems.add(getItem(documentUri, ((TypedValue)nextItem).getId()));
+			referenceCountLock.writeLock().lock();
+			try {
+				List<StoredTypedItem> removedItems = new ArrayList<>();
+				Iterator<Object> iter = getItem(documentUri, id).getValueList(propertyName);
+				while (iter.hasNext()) {
+					Object nextItem = iter.next();
+					if (nextItem instanceof TypedValue) {
+						removedItems.add(getItem(documentUri, ((TypedValue)nextItem).getId()));
+					}
 				}
-			}
-			getItem(documentUri, id).clearPropertyValueList(propertyName);
-			for (StoredTypedItem item:removedItems) {
-				item.decReferenceCount();
+				getItem(documentUri, id).clearPropertyValueList(propertyName);
+				for (StoredTypedItem item:removedItems) {
+					item.decReferenceCount();
+				}
+			} finally {
+				referenceCountLock.writeLock().unlock();
 			}
 		} finally {
-			referenceCountLock.writeLock().unlock();
+			updateRevision(documentUri, id);
 		}
-
 	}
 
 	@Override
 	public boolean addValueToCollection(String documentUri, String id, String propertyName, Object value)
 			throws InvalidSPDXAnalysisException {
-		if (value instanceof TypedValue) {
-			referenceCountLock.writeLock().lock();
-			try {
-				StoredTypedItem itemToBeStored = getItem(documentUri, ((TypedValue)value).getId());
-				boolean result = getItem(documentUri, id).addValueToList(propertyName, value);
-				itemToBeStored.incReferenceCount();
-				return result;
-			} finally {
-				referenceCountLock.writeLock().unlock();
-			}
-		} else {
+		return journaled(() -> applyAddValueToCollection(documentUri, id, propertyName, value), 
+				journal -> journal.addValueToCollection(documentUri, id, propertyName, value));
+	}
+
+	private boolean applyAddValueToCollection(String documentUri, String id, String propertyName, Object value)
+			throws InvalidSPDXAnalysisException {
+		if (Objects.nonNull(getBulkLoad(documentUri))) {
 			return getItem(documentUri, id).addValueToList(propertyName, value);
 		}
+		try {
+			if (value instanceof TypedValue) {
+				referenceCountLock.writeLock().lock();
+				try {
+					StoredTypedItem itemToBeStored = getItem(documentUri, ((TypedValue)value).getId());
+					boolean result = getItem(documentUri, id).addValueToList(propertyName, value);
+					itemToBeStored.incReferenceCount();
+					return result;
+				} finally {
+					referenceCountLock.writeLock().unlock();
+				}
+			} else {
+				return getItem(documentUri, id).addValueToList(propertyName, value);
+			}
+		} finally {
+			updateRevision(documentUri, id);
+		}
 	}
 
 
 	@Override
 	public boolean removeValueFromCollection(String documentUri, String id, String propertyName, Object value)
 			throws InvalidSPDXAnalysisException {
-		if (value instanceof TypedValue) {
-			referenceCountLock.writeLock().lock();
-			try {
-				StoredTypedItem itemToBeStored = getItem(documentUri, ((TypedValue)value).getId());
-				boolean result = getItem(documentUri, id).removeValueFromList(propertyName, value);
-				itemToBeStored.decReferenceCount();
-				return result;
-			} finally {
-				referenceCountLock.writeLock().unlock();
-			}
-		} else {
+		return journaled(() -> applyRemoveValueFromCollection(documentUri, id, propertyName, value), 
+				journal -> journal.removeValueFromCollection(documentUri, id, propertyName, value));
+	}
+
+	private boolean applyRemoveValueFromCollection(String documentUri, String id, String propertyName, Object value)
+			throws InvalidSPDXAnalysisException {
+		if (Objects.nonNull(getBulkLoad(documentUri))) {
 			return getItem(documentUri, id).removeValueFromList(propertyName, value);
 		}
+		try {
+			if (value instanceof TypedValue) {
+				referenceCountLock.writeLock().lock();
+				try {
+					StoredTypedItem itemToBeStored = getItem(documentUri, ((TypedValue)value).getId());
+					boolean result = getItem(documentUri, id).removeValueFromList(propertyName, value);
+					itemToBeStored.decReferenceCount();
+					return result;
+				} finally {
+					referenceCountLock.writeLock().unlock();
+				}
+			} else {
+				return getItem(documentUri, id).removeValueFromList(propertyName, value);
+			}
+		} finally {
+			updateRevision(documentUri, id);
+		}
 	}
 
 	@Override
@@ -306,6 +601,9 @@ public class InMemSpdxStore implements IModelStore {
 
 	@Override
 	public synchronized String getNextId(IdType idType, String documentUri) throws InvalidSPDXAnalysisException {
+		for (BulkLoad bulkLoad:bulkLoads.values()) {
+			drainGeneratedIds(bulkLoad);
+		}
 		switch (idType) {
 			case Anonymous: return ANON_PREFIX+GENERATED+String.valueOf(nextAnonId++);
 			case LicenseRef: return SpdxConstants.NON_STD_LICENSE_ID_PRENUM+GENERATED+String.valueOf(nextNextLicenseId++);
@@ -319,15 +617,30 @@ public class InMemSpdxStore implements IModelStore {
 
 	@Override
 	public void removeProperty(String documentUri, String id, String propertyName) throws InvalidSPDXAnalysisException {
-		referenceCountLock.writeLock().lock();
-		try {
-			Object itemToBeRemoved = getItem(documentUri, id).getValue(propertyName);
+		journaled(() -> {
+			applyRemoveProperty(documentUri, id, propertyName);
+			return null;
+		}, journal -> journal.removeProperty(documentUri, id, propertyName));
+	}
+
+	private void applyRemoveProperty(String documentUri, String id, String propertyName) throws InvalidSPDXAnalysisException {
+		if (Objects.nonNull(getBulkLoad(documentUri))) {
 			getItem(documentUri, id).removeProperty(propertyName);
-			if (itemToBeRemoved instanceof TypedValue) {
-				getItem(documentUri, ((TypedValue)itemToBeRemoved).getId()).decReferenceCount();
+			return;
+		}
+		try {
+			referenceCountLock.writeLock().lock();
+			try {
+				Object itemToBeRemoved = getItem(documentUri, id).getValue(propertyName);
+				getItem(documentUri, id).removeProperty(propertyName);
+				if (itemToBeRemoved instanceof TypedValue) {
+					getItem(documentUri, ((TypedValue)itemToBeRemoved).getId()).decReferenceCount();
+				}
+			} finally {
+				referenceCountLock.writeLock().unlock();
 			}
 		} finally {
-			referenceCountLock.writeLock().unlock();
+			updateRevision(documentUri, id);
 		}
 	}
 
@@ -340,18 +653,11 @@ public class InMemSpdxStore implements IModelStore {
 	public Stream<TypedValue> getAllItems(String documentUri, String typeFilter)
 			throws InvalidSPDXAnalysisException {
 		Objects.requireNonNull(documentUri, "Document URi can not be null");
-		List<TypedValue> allItems = new ArrayList<>();
-		Map<String, StoredTypedItem> itemMap = this.documentValues.get(documentUri);
-		if (Objects.nonNull(itemMap)) {
-			Iterator<StoredTypedItem> valueIter = itemMap.values().iterator();
-			while (valueIter.hasNext()) {
-				StoredTypedItem item = valueIter.next();
-				if (Objects.isNull(typeFilter) || typeFilter.equals(item.getType())) {
-					allItems.add(item);
-				}
-			}
+		StoredTypedItemMap itemMap = getItemMap(documentUri);
+		if (Objects.isNull(itemMap)) {
+			return Stream.empty();
 		}
-		return Collections.unmodifiableList(allItems).stream();
+		return itemMap.streamItems(typeFilter);
 	}
 
 	@Override
@@ -425,7 +731,7 @@ public class InMemSpdxStore implements IModelStore {
 
 	@Override
 	public Optional<String> getCaseSensisitiveId(String documentUri, String caseInsensisitiveId) {
-		Map<String, StoredTypedItem> idMap = documentValues.get(documentUri);
+		StoredTypedItemMap idMap = getItemMap(documentUri);
 		if (Objects.isNull(idMap)) {
 			return Optional.empty();
 		}
@@ -448,56 +754,432 @@ public class InMemSpdxStore implements IModelStore {
 	/**
 	 * Remove all existing elements, properties, and values for a document including the document itself
 	 * @param documentUri
+	 * @throws RuntimeException if a journal is attached and the journal entry can not be written - use
+	 * <code>clearJournaled</code> for a checked exception
 	 */
 	public void clear(String documentUri) {
+		try {
+			clearJournaled(documentUri);
+		} catch (InvalidSPDXAnalysisException e) {
+			throw new RuntimeException(e);
+		}
+	}
+	
+	/**
+	 * Remove all existing elements, properties, and values for a document including the document itself
+	 * @param documentUri
+	 * @throws InvalidSPDXAnalysisException if a journal is attached and the journal entry can not be written
+	 */
+	public void clearJournaled(String documentUri) throws InvalidSPDXAnalysisException {
 		Objects.requireNonNull(documentUri, "Document uri can not be null");
-		this.documentValues.put(documentUri, new ConcurrentHashMap<String, StoredTypedItem>());
+		journaled(() -> {
+			applyClear(documentUri);
+			return null;
+		}, journal -> journal.clear(documentUri));
+	}
+
+	private void applyClear(String documentUri) {
+		try {
+			this.documentValues.put(documentUri, new StoredTypedItemMap());
+		} finally {
+			revision.incrementAndGet();
+		}
 	}
 
 	@Override
 	public void delete(String documentUri, String id) throws InvalidSPDXAnalysisException {
-		Objects.requireNonNull(documentUri, "Missing Document URI");
-		Objects.requireNonNull(id, "Missing ID");
-		Map<String, StoredTypedItem> idMap = documentValues.get(documentUri);
+		journaled(() -> {
+			applyDelete(documentUri, id);
+			return null;
+		}, journal -> journal.delete(documentUri, id));
+	}
+
+	private void applyDelete(String documentUri, String id) throws InvalidSPDXAnalysisException {
+		try {
+			Objects.requireNonNull(documentUri, "Missing Document URI");
+			Objects.requireNonNull(id, "Missing ID");
+			if (Objects.nonNull(getBulkLoad(documentUri))) {
+				throw new InvalidSPDXAnalysisException("Can not delete ID "+id+" while a bulk load is in progress for document "+documentUri);
+			}
+			StoredTypedItemMap idMap = getItemMap(documentUri);
+			if (Objects.isNull(idMap)) {
+				logger.error("Error deleting - documentUri "+documentUri+" does not exits.");
+				throw new SpdxIdNotFoundException("Error deleting - documentUri "+documentUri+" does not exits.");
+			}
+			referenceCountLock.writeLock().lock();
+			try {
+				if (getItem(documentUri, id).getReferenceCount() > 0) {
+					// find the element it is used by
+					logger.error("Can not delete ID "+id+".  It is in use");
+					throw new SpdxIdInUseException("Can not delete ID "+id+".  It is in use.");
+				}
+				List<String> propertyNames = this.getPropertyValueNames(documentUri, id);
+				for (String property:propertyNames) {
+					if (this.isCollectionProperty(documentUri, id, property)) {
+						Iterator<Object> iter = this.listValues(documentUri, id, property);
+						while (iter.hasNext()) {
+							Object val = iter.next();
+							if (val instanceof TypedValue) {
+								getItem(documentUri, ((TypedValue)val).getId()).decReferenceCount();
+							}
+						}
+					} else {
+						Optional<Object> val = getValue(documentUri, id, property);
+						if (val.isPresent()) {
+							if (val.get() instanceof TypedValue) {
+								getItem(documentUri, ((TypedValue)val.get()).getId()).decReferenceCount();
+							}
+						}
+					}
+				}
+				if (Objects.isNull(idMap.remove(id.toLowerCase()))) {
+					logger.error("Error deleting - ID "+id+" does not exist.");
+					throw new SpdxIdNotFoundException("Error deleting - ID "+id+" does not exist.");
+				}
+			} finally {
+				referenceCountLock.writeLock().unlock();
+			}
+		} finally {
+			updateRevision(documentUri, id);
+		}
+	}
+
+	/**
+	 * Remove every item in a document which can not be reached from a root in a single pass.
+	 *
+	 * The roots are the SPDX document, the pinned IDs and every <code>SpdxElement</code> - elements are
+	 * only removed by <code>delete</code>.  All items reachable through typed values from a root are kept
+	 * and all other items, such as the checksums, license sets and pointers left behind when an element
+	 * is deleted, are removed along with any unreferenced cycles.  The reference counts of the kept items
+	 * referenced by removed items are decremented.
+	 * 
+	 * The pass holds the document write lock (see <code>enterCriticalSection</code>) so that an item created
+	 * in a transaction is not removed before the transaction links it - callers must not hold the read lock.
+	 * Items created and linked outside of a transaction may be removed if the pass runs between the create
+	 * and the link.
+	 * @param documentUri document to collect
+	 * @param pinnedIds IDs of additional items to keep along with everything they reference
+	 * @return report of the reclaimed items
+	 * @throws InvalidSPDXAnalysisException if the document does not exist or a bulk load is in progress
+	 */
+	public GarbageCollectionReport collectGarbage(String documentUri, Collection<String> pinnedIds) throws InvalidSPDXAnalysisException {
+		Objects.requireNonNull(documentUri, "Document URI can not be null");
+		Objects.requireNonNull(pinnedIds, "Pinned IDs can not be null");
+		IModelStoreLock lock = enterCriticalSection(documentUri, false);
+		try {
+			return journaled(() -> applyCollectGarbage(documentUri, pinnedIds), journal -> journal.collectGarbage(documentUri, pinnedIds));
+		} finally {
+			leaveCriticalSection(lock);
+		}
+	}
+
+	private GarbageCollectionReport applyCollectGarbage(String documentUri, Collection<String> pinnedIds) throws InvalidSPDXAnalysisException {
+		long startTime = System.nanoTime();
+		if (Objects.nonNull(getBulkLoad(documentUri))) {
+			throw new InvalidSPDXAnalysisException("Can not collect document "+documentUri+" while a bulk load is in progress");
+		}
+		StoredTypedItemMap idMap = getItemMap(documentUri);
 		if (Objects.isNull(idMap)) {
-			logger.error("Error deleting - documentUri "+documentUri+" does not exits.");
-			throw new SpdxIdNotFoundException("Error deleting - documentUri "+documentUri+" does not exits.");
+			throw new SpdxIdNotFoundException("Document URI "+documentUri+" was not found in the memory store.");
 		}
 		referenceCountLock.writeLock().lock();
 		try {
-			if (getItem(documentUri, id).getReferenceCount() > 0) {
-				// find the element it is used by
-				logger.error("Can not delete ID "+id+".  It is in use");
-				throw new SpdxIdInUseException("Can not delete ID "+id+".  It is in use.");
-			}
-			List<String> propertyNames = this.getPropertyValueNames(documentUri, id);
-			for (String property:propertyNames) {
-				if (this.isCollectionProperty(documentUri, id, property)) {
-					Iterator<Object> iter = this.listValues(documentUri, id, property);
-					while (iter.hasNext()) {
-						Object val = iter.next();
-						if (val instanceof TypedValue) {
-							getItem(documentUri, ((TypedValue)val).getId()).decReferenceCount();
-						}
-					}
-				} else {
-					Optional<Object> val = getValue(documentUri, id, property);
-					if (val.isPresent()) {
-						if (val.get() instanceof TypedValue) {
-							getItem(documentUri, ((TypedValue)val.get()).getId()).decReferenceCount();
-						}
+			List<StoredTypedItem> candidates = new ArrayList<>(idMap.values());
+			Set<StoredTypedItem> reachable = Collections.newSetFromMap(new IdentityHashMap<>());
+			Deque<StoredTypedItem> pending = new ArrayDeque<>();
+			for (StoredTypedItem item:candidates) {
+				if (SpdxConstants.CLASS_SPDX_DOCUMENT.equals(item.getType()) || isSpdxElementType(item.getType())) {
+					reachable.add(item);
+					pending.push(item);
+				}
+			}
+			for (String pinnedId:pinnedIds) {
+				StoredTypedItem item = idMap.get(pinnedId.toLowerCase());
+				if (Objects.nonNull(item) && reachable.add(item)) {
+					pending.push(item);
+				}
+			}
+			while (!pending.isEmpty()) {
+				pending.pop().forEachTypedValue(value -> {
+					StoredTypedItem referenced = idMap.get(value.getId().toLowerCase());
+					if (Objects.nonNull(referenced) && reachable.add(referenced)) {
+						pending.push(referenced);
 					}
+				});
+			}
+			List<TypedValue> reclaimed = new ArrayList<>();
+			List<TypedValue> releasedReferences = new ArrayList<>();
+			for (StoredTypedItem item:candidates) {
+				if (!reachable.contains(item) && idMap.remove(item.getId().toLowerCase(), item)) {
+					reclaimed.add(new TypedValue(item.getId(), item.getType()));
+					item.forEachTypedValue(releasedReferences::add);
+				}
+			}
+			for (TypedValue reference:releasedReferences) {
+				StoredTypedItem referenced = idMap.get(reference.getId().toLowerCase());
+				if (Objects.nonNull(referenced) && reachable.contains(referenced) && referenced.getReferenceCount() > 0) {
+					referenced.decReferenceCount();
 				}
 			}
-			if (Objects.isNull(idMap.remove(id.toLowerCase()))) {
-				logger.error("Error deleting - ID "+id+" does not exist.");
-				throw new SpdxIdNotFoundException("Error deleting - ID "+id+" does not exist.");
+			if (!reclaimed.isEmpty()) {
+				revision.incrementAndGet();
 			}
+			return new GarbageCollectionReport(documentUri, reclaimed, reachable.size(), System.nanoTime() - startTime);
 		} finally {
 			referenceCountLock.writeLock().unlock();
 		}
 	}
 
+	/**
+	 * @param type SPDX type
+	 * @return true if the type is an <code>SpdxElement</code> or one of its subclasses
+	 */
+	private static boolean isSpdxElementType(String type) {
+		Class<?> clazz = SpdxModelFactory.SPDX_TYPE_TO_CLASS.get(type);
+		return Objects.nonNull(clazz) && SpdxElement.class.isAssignableFrom(clazz);
+	}
+
+	@Override
+	public long getRevision() {
+		return revision.get();
+	}
+
+	@Override
+	public long getRevision(String documentUri, String id) throws InvalidSPDXAnalysisException {
+		return getItem(documentUri, id).getRevision();
+	}
+
+	/**
+	 * Increment the store revision and record the new revision for the item if it exists
+	 * @param documentUri
+	 * @param id
+	 */
+	private void updateRevision(String documentUri, String id) {
+		long newRevision = revision.incrementAndGet();
+		StoredTypedItemMap idMap = getItemMap(documentUri);
+		if (Objects.nonNull(idMap)) {
+			StoredTypedItem item = idMap.get(id.toLowerCase());
+			if (Objects.nonNull(item)) {
+				item.setRevision(newRevision);
+			}
+		}
+	}
+
+	/**
+	 * A mutation of the store
+	 */
+	@FunctionalInterface
+	private interface Mutation<T> {
+		T apply() throws InvalidSPDXAnalysisException;
+	}
+
+	/**
+	 * Writes the journal entry for a mutation
+	 */
+	@FunctionalInterface
+	private interface JournalEntryWriter {
+		void write(StoreJournal journal) throws InvalidSPDXAnalysisException;
+	}
+
+	/**
+	 * Apply a mutation and, if a journal is attached, append the entry for the mutation to the journal.
+	 * Journaled mutations are serialized on the journal so that the entries are in the order the mutations
+	 * were applied.  The entry is only written if the mutation succeeds.
+	 * 
+	 * If no journal is attached, the mutation is applied without taking the checkpoint lock.  The mutation
+	 * is counted so that changing the journal waits for it to complete.
+	 * @param mutation mutation to apply
+	 * @param entryWriter writes the journal entry for the mutation
+	 * @return the result of the mutation
+	 * @throws InvalidSPDXAnalysisException
+	 */
+	private <T> T journaled(Mutation<T> mutation, JournalEntryWriter entryWriter) throws InvalidSPDXAnalysisException {
+		if (Objects.isNull(journal)) {
+			int slot = ((int)Thread.currentThread().getId() & (MUTATION_SLOTS - 1)) * MUTATION_SLOT_STRIDE;
+			unjournaledMutations.incrementAndGet(slot);
+			try {
+				// checked after counting the mutation so that the journal can not change while it is applied
+				if (!blockingMutations && Objects.isNull(journal)) {
+					return mutation.apply();
+				}
+			} finally {
+				unjournaledMutations.decrementAndGet(slot);
+			}
+		}
+		checkpointLock.readLock().lock();
+		try {
+			StoreJournal current = journal;
+			if (Objects.isNull(current)) {
+				return mutation.apply();
+			}
+			synchronized(current) {
+				T result = mutation.apply();
+				entryWriter.write(current);
+				return result;
+			}
+		} finally {
+			checkpointLock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Attach a journal which records all subsequent mutations to the store.  The journal should be
+	 * attached to a store restored from the snapshot the journal will be replayed on top of - use
+	 * <code>writeSnapshot</code> to take a new snapshot and attach a new journal in one step.
+	 * @param journal journal to attach or null to stop journaling
+	 */
+	public void setJournal(@Nullable StoreJournal journal) {
+		checkpointLock.writeLock().lock();
+		try {
+			blockUnjournaledMutations();
+			this.journal = journal;
+		} finally {
+			blockingMutations = false;
+			checkpointLock.writeLock().unlock();
+		}
+	}
+	
+	/**
+	 * Block new mutations without a journal and wait for those in progress to complete - the checkpoint write lock
+	 * must be held and <code>blockingMutations</code> reset before the lock is released
+	 */
+	private void blockUnjournaledMutations() {
+		blockingMutations = true;
+		for (int slot = 0; slot < unjournaledMutations.length(); slot += MUTATION_SLOT_STRIDE) {
+			while (unjournaledMutations.get(slot) != 0) {
+				Thread.yield();
+			}
+		}
+	}
+
+	/**
+	 * @return the journal recording the mutations to the store or null if none is attached
+	 */
+	public @Nullable StoreJournal getJournal() {
+		return journal;
+	}
+
+	/**
+	 * Write a compact binary snapshot of all of the documents, items, reference counts and ID counters in
+	 * the store and attach a journal for all subsequent mutations.  Mutations are blocked while the snapshot
+	 * is written so that the snapshot followed by the journal replays to the state of the store.  Reads
+	 * are not blocked.
+	 * @param stream stream to write the snapshot to - the stream is flushed but not closed
+	 * @param newJournal journal to attach once the snapshot is written or null to stop journaling
+	 * @throws InvalidSPDXAnalysisException if a bulk load is in progress or a value can not be written
+	 * @throws IOException on errors writing to the stream
+	 */
+	public void writeSnapshot(OutputStream stream, @Nullable StoreJournal newJournal) throws InvalidSPDXAnalysisException, IOException {
+		checkpointLock.writeLock().lock();
+		try {
+			blockUnjournaledMutations();
+			if (!bulkLoads.isEmpty()) {
+				throw new InvalidSPDXAnalysisException("Can not write a snapshot while a bulk load is in progress");
+			}
+			DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream, SNAPSHOT_BUFFER_SIZE));
+			StoreRecordCodec codec = new StoreRecordCodec(StoreRecordCodec.SymbolMode.INLINE);
+			out.writeInt(SNAPSHOT_MAGIC);
+			out.writeInt(SNAPSHOT_VERSION);
+			out.writeLong(revision.get());
+			synchronized(this) {
+				out.writeInt(nextNextLicenseId);
+				out.writeInt(nextNextDocumentId);
+				out.writeInt(nextNextSpdxId);
+				out.writeInt(nextAnonId);
+			}
+			List<Map.Entry<String, Map<String, StoredTypedItem>>> documents;
+			synchronized(documentValues) {
+				documents = new ArrayList<>(documentValues.entrySet());
+			}
+			for (Map.Entry<String, Map<String, StoredTypedItem>> document:documents) {
+				StoredTypedItemMap idMap = (StoredTypedItemMap)document.getValue();
+				out.writeBoolean(true);
+				StoreRecordCodec.writeString(out, document.getKey());
+				StoreRecordCodec.writeVarInt(out, idMap.size());
+				Iterator<TypedValue> iter = idMap.streamItems(null).iterator();
+				while (iter.hasNext()) {
+					StoredTypedItem item = (StoredTypedItem)iter.next();
+					out.writeBoolean(true);
+					StoreRecordCodec.writeString(out, item.getId());
+					codec.writeSymbol(out, item.getType());
+					StoreRecordCodec.writeVarInt(out, item.getReferenceCount());
+					out.writeLong(item.getRevision());
+					codec.writeProperties(out, item);
+				}
+				out.writeBoolean(false);
+			}
+			out.writeBoolean(false);
+			out.flush();
+			this.journal = newJournal;
+		} finally {
+			blockingMutations = false;
+			checkpointLock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Restore the store from a snapshot written by <code>writeSnapshot</code>.  The snapshot is read
+	 * sequentially and the items are restored with their reference counts without re-parsing or
+	 * re-validating the documents.
+	 * @param stream stream containing the snapshot - the stream may be read past the end of the snapshot
+	 * @throws InvalidSPDXAnalysisException if the store is not empty or the snapshot is invalid
+	 * @throws IOException on errors reading the stream
+	 */
+	public void readSnapshot(InputStream stream) throws InvalidSPDXAnalysisException, IOException {
+		checkpointLock.writeLock().lock();
+		try {
+			blockUnjournaledMutations();
+			if (!documentValues.isEmpty()) {
+				throw new InvalidSPDXAnalysisException("A snapshot can only be read into an empty store");
+			}
+			DataInputStream in = new DataInputStream(new BufferedInputStream(stream, SNAPSHOT_BUFFER_SIZE));
+			StoreRecordCodec codec = new StoreRecordCodec(StoreRecordCodec.SymbolMode.INLINE);
+			if (in.readInt() != SNAPSHOT_MAGIC) {
+				throw new InvalidSPDXAnalysisException("Stream does not contain an SPDX store snapshot");
+			}
+			int version = in.readInt();
+			if (version != SNAPSHOT_VERSION) {
+				throw new InvalidSPDXAnalysisException("Unsupported snapshot version "+version);
+			}
+			long snapshotRevision = in.readLong();
+			int licenseId = in.readInt();
+			int documentId = in.readInt();
+			int spdxId = in.readInt();
+			int anonId = in.readInt();
+			while (in.readBoolean()) {
+				String documentUri = StoreRecordCodec.readString(in);
+				StoredTypedItemMap idMap = new StoredTypedItemMap(Math.max(16, StoreRecordCodec.readVarInt(in)));
+				while (in.readBoolean()) {
+					String id = StoreRecordCodec.readString(in);
+					StoredTypedItem item = new StoredTypedItem(documentUri, id, codec.readSymbol(in));
+					item.setReferenceCount(StoreRecordCodec.readVarInt(in));
+					item.setRevision(in.readLong());
+					codec.readProperties(in, item);
+					if (Objects.nonNull(idMap.putIfAbsent(id.toLowerCase(), item))) {
+						throw new DuplicateSpdxIdException("ID "+id+" already exists.");
+					}
+				}
+				documentValues.put(documentUri, idMap);
+			}
+			synchronized(this) {
+				nextNextLicenseId = Math.max(nextNextLicenseId, licenseId);
+				nextNextDocumentId = Math.max(nextNextDocumentId, documentId);
+				nextNextSpdxId = Math.max(nextNextSpdxId, spdxId);
+				nextAnonId = Math.max(nextAnonId, anonId);
+			}
+			revision.accumulateAndGet(snapshotRevision, Math::max);
+		} catch (EOFException e) {
+			documentValues.clear();
+			throw new InvalidSPDXAnalysisException("Incomplete store snapshot", e);
+		} catch (InvalidSPDXAnalysisException | IOException | RuntimeException e) {
+			documentValues.clear();
+			throw e;
+		} finally {
+			blockingMutations = false;
+			checkpointLock.writeLock().unlock();
+		}
+	}
+
 	@Override
 	public void close() throws Exception {
 		// Nothing to do for the in-memory store
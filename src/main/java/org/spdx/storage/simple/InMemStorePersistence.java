@@ -0,0 +1,243 @@
+/**
+ * Copyright (c) 2026 Source Auditor Inc.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * 
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.storage.simple;
+
+import java.io.Closeable;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.annotation.Nullable;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.spdx.library.InvalidSPDXAnalysisException;
+
+/**
+ * Persists an <code>InMemSpdxStore</code> in a directory as a snapshot and a journal so that the
+ * store can be restored after a restart with sequential reads rather than by re-parsing the documents.
+ * 
+ * The files are numbered by generation.  <code>snapshot-N.bin</code> contains the state of the store
+ * when generation N started and <code>journal-N.bin</code> the mutations made during generation N.
+ * A checkpoint writes the snapshot for the next generation and starts its journal in a single step.
+ * The snapshot is written to a temporary file and renamed once complete, so if a checkpoint is
+ * interrupted the store is restored from the previous snapshot and every journal from that
+ * generation on.  Files from earlier generations are removed once a checkpoint completes.
+ * 
+ * While the store is persisted, every mutation to every document in the store is applied and journaled
+ * under the journal's lock, so writers to different documents are serialized.  Applications with many
+ * concurrent writers should weigh this against the time to re-parse the documents after a restart.
+ * 
+ * @author Gary O'Neall
+ *
+ */
+public class InMemStorePersistence implements Closeable {
+	
+	static final Logger logger = LoggerFactory.getLogger(InMemStorePersistence.class);
+	
+	static final String SNAPSHOT_PREFIX = "snapshot-";
+	static final String JOURNAL_PREFIX = "journal-";
+	static final String FILE_SUFFIX = ".bin";
+	static final String TEMP_SUFFIX = ".tmp";
+	
+	private static final Pattern GENERATION_FILE_PATTERN = Pattern.compile("(snapshot|journal)-(\\d+)\\.(bin|tmp)");
+	
+	private final Path directory;
+	private final boolean flushEachEntry;
+	private @Nullable InMemSpdxStore store = null;
+	private @Nullable StoreJournal journal = null;
+	private long generation = 0;
+	
+	/**
+	 * @param directory directory containing the snapshot and journal files - created if it does not exist
+	 * @param flushEachEntry if true, the journal is flushed after every mutation
+	 */
+	public InMemStorePersistence(Path directory, boolean flushEachEntry) {
+		Objects.requireNonNull(directory, "Directory can not be null");
+		this.directory = directory;
+		this.flushEachEntry = flushEachEntry;
+	}
+	
+	/**
+	 * Restore the store from the latest snapshot and the journals written since that snapshot and
+	 * start journaling mutations to the restored store.  If the directory contains no snapshot or
+	 * journal, an empty store is returned.
+	 * @return the restored store
+	 * @throws InvalidSPDXAnalysisException if the snapshot or a journal entry is invalid
+	 * @throws IOException on errors reading the files
+	 */
+	public synchronized InMemSpdxStore restore() throws InvalidSPDXAnalysisException, IOException {
+		if (Objects.nonNull(store)) {
+			throw new InvalidSPDXAnalysisException("The store has already been restored");
+		}
+		Files.createDirectories(directory);
+		TreeSet<Long> snapshots = new TreeSet<>();
+		TreeSet<Long> journals = new TreeSet<>();
+		try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+			for (Path file:files) {
+				Matcher matcher = GENERATION_FILE_PATTERN.matcher(file.getFileName().toString());
+				if (!matcher.matches()) {
+					continue;
+				}
+				if ("tmp".equals(matcher.group(3))) {
+					// incomplete snapshot from an interrupted checkpoint
+					Files.delete(file);
+				} else if ("snapshot".equals(matcher.group(1))) {
+					snapshots.add(Long.parseLong(matcher.group(2)));
+				} else {
+					journals.add(Long.parseLong(matcher.group(2)));
+				}
+			}
+		}
+		InMemSpdxStore restored = new InMemSpdxStore();
+		long snapshotGeneration = snapshots.isEmpty() ? 0 : snapshots.last();
+		if (!snapshots.isEmpty()) {
+			try (InputStream in = Files.newInputStream(snapshotFile(snapshotGeneration))) {
+				restored.readSnapshot(in);
+			}
+		}
+		generation = snapshotGeneration;
+		for (long journalGeneration:journals.tailSet(snapshotGeneration)) {
+			try (InputStream in = Files.newInputStream(journalFile(journalGeneration))) {
+				long entries = StoreJournal.replay(in, restored);
+				logger.debug("Replayed "+entries+" journal entries from generation "+journalGeneration);
+			}
+			generation = journalGeneration;
+		}
+		deleteBefore(snapshotGeneration);
+		journal = StoreJournal.open(journalFile(generation), flushEachEntry);
+		restored.setJournal(journal);
+		store = restored;
+		return restored;
+	}
+	
+	/**
+	 * Write a snapshot of the store and start a new journal.  Mutations to the store are blocked while
+	 * the snapshot is written.
+	 * @throws InvalidSPDXAnalysisException if the store has not been restored or the snapshot can not be written
+	 * @throws IOException on errors writing the files
+	 */
+	public synchronized void checkpoint() throws InvalidSPDXAnalysisException, IOException {
+		if (Objects.isNull(store)) {
+			throw new InvalidSPDXAnalysisException("The store must be restored before a checkpoint");
+		}
+		long nextGeneration = generation + 1;
+		Path tempFile = directory.resolve(SNAPSHOT_PREFIX + nextGeneration + TEMP_SUFFIX);
+		Files.deleteIfExists(journalFile(nextGeneration));
+		StoreJournal nextJournal = StoreJournal.open(journalFile(nextGeneration), flushEachEntry);
+		try {
+			try (FileOutputStream out = new FileOutputStream(tempFile.toFile())) {
+				store.writeSnapshot(out, nextJournal);
+				out.getFD().sync();
+			}
+			Files.move(tempFile, snapshotFile(nextGeneration), StandardCopyOption.ATOMIC_MOVE);
+		} catch (InvalidSPDXAnalysisException | IOException | RuntimeException e) {
+			if (store.getJournal() == nextJournal) {
+				// mutations are already being journaled to the next generation which is replayed
+				// after the journal for this generation when the snapshot is missing
+				startGeneration(nextGeneration, nextJournal);
+			} else {
+				nextJournal.close();
+				Files.deleteIfExists(journalFile(nextGeneration));
+			}
+			Files.deleteIfExists(tempFile);
+			throw e;
+		}
+		startGeneration(nextGeneration, nextJournal);
+		deleteBefore(nextGeneration);
+	}
+	
+	private void startGeneration(long nextGeneration, StoreJournal nextJournal) throws IOException {
+		StoreJournal previousJournal = journal;
+		journal = nextJournal;
+		generation = nextGeneration;
+		if (Objects.nonNull(previousJournal)) {
+			previousJournal.close();
+		}
+	}
+	
+	/**
+	 * Flush the journal entries written since the last flush
+	 * @throws IOException
+	 */
+	public synchronized void flush() throws IOException {
+		if (Objects.nonNull(journal)) {
+			journal.flush();
+		}
+	}
+	
+	/**
+	 * @return the restored store or null if <code>restore</code> has not been called
+	 */
+	public synchronized @Nullable InMemSpdxStore getStore() {
+		return store;
+	}
+	
+	/**
+	 * @return the current generation
+	 */
+	public synchronized long getGeneration() {
+		return generation;
+	}
+	
+	/**
+	 * Stop journaling and close the journal - the store remains usable but further mutations are not persisted
+	 */
+	@Override
+	public synchronized void close() throws IOException {
+		if (Objects.nonNull(store)) {
+			store.setJournal(null);
+		}
+		if (Objects.nonNull(journal)) {
+			journal.close();
+			journal = null;
+		}
+	}
+	
+	Path snapshotFile(long generation) {
+		return directory.resolve(SNAPSHOT_PREFIX + generation + FILE_SUFFIX);
+	}
+	
+	Path journalFile(long generation) {
+		return directory.resolve(JOURNAL_PREFIX + generation + FILE_SUFFIX);
+	}
+	
+	/**
+	 * Delete the snapshot and journal files for generations before a generation
+	 * @param firstGeneration first generation to keep
+	 * @throws IOException
+	 */
+	private void deleteBefore(long firstGeneration) throws IOException {
+		try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+			for (Path file:files) {
+				Matcher matcher = GENERATION_FILE_PATTERN.matcher(file.getFileName().toString());
+				if (matcher.matches() && Long.parseLong(matcher.group(2)) < firstGeneration) {
+					Files.delete(file);
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,99 @@
+/**
+ * Copyright (c) 2026 Source Auditor Inc.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * 
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.storage.simple;
+
+import java.util.AbstractCollection;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map.Entry;
+
+/**
+ * Thread safe collection of the values stored for a single ID in a collection property of a
+ * <code>StoredTypedItem</code>.
+ * 
+ * The values are kept in an insertion ordered hash map of value to the number of times the value
+ * was added so that <code>add</code>, <code>contains</code> and <code>remove</code> take constant time
+ * regardless of the size of the collection.  Duplicate values are retained and are iterated
+ * adjacent to the first occurrence of the value.
+ * 
+ * Iterators and arrays are snapshots of the collection taken under the collection lock.
+ * 
+ * @author Gary O'Neall
+ *
+ */
+class IndexedValueCollection extends AbstractCollection<Object> {
+	
+	private final LinkedHashMap<Object, Integer> valueCounts = new LinkedHashMap<>();
+	private int size = 0;
+
+	@Override
+	public synchronized boolean add(Object value) {
+		valueCounts.merge(value, 1, Integer::sum);
+		size++;
+		return true;
+	}
+
+	@Override
+	public synchronized boolean remove(Object value) {
+		Integer count = valueCounts.get(value);
+		if (count == null) {
+			return false;
+		}
+		if (count == 1) {
+			valueCounts.remove(value);
+		} else {
+			valueCounts.put(value, count - 1);
+		}
+		size--;
+		return true;
+	}
+
+	@Override
+	public synchronized boolean contains(Object value) {
+		return valueCounts.containsKey(value);
+	}
+
+	@Override
+	public synchronized int size() {
+		return size;
+	}
+
+	@Override
+	public synchronized void clear() {
+		valueCounts.clear();
+		size = 0;
+	}
+
+	@Override
+	public synchronized Object[] toArray() {
+		Object[] retval = new Object[size];
+		int i = 0;
+		for (Entry<Object, Integer> entry:valueCounts.entrySet()) {
+			int count = entry.getValue();
+			Arrays.fill(retval, i, i + count, entry.getKey());
+			i += count;
+		}
+		return retval;
+	}
+
+	@Override
+	public Iterator<Object> iterator() {
+		return Arrays.asList(toArray()).iterator();
+	}
+}
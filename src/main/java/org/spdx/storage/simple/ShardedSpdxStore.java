@@ -0,0 +1,335 @@
+/**
+ * Copyright (c) 2026 Source Auditor Inc.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * 
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.storage.simple;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+import javax.annotation.Nullable;
+
+import org.spdx.library.InvalidSPDXAnalysisException;
+import org.spdx.library.model.TypedValue;
+import org.spdx.storage.IRevisionedModelStore;
+
+/**
+ * Model store which partitions the documents across a number of independent in memory stores.
+ * 
+ * Each document is stored in a single shard chosen by consistent hashing of the document URI.
+ * Every operation on a document is routed to its shard, so the transaction locks, reference
+ * count locks and generated ID counters of documents in different shards are independent.
+ * <code>getDocumentUris</code> returns the documents from all shards.  The number of shards is fixed
+ * when the store is created and documents are never moved between shards.
+ * 
+ * Each shard has its own revision counter so that writers to different shards do not contend on
+ * the revision.  The store revision is the sum of the shard revisions and changes whenever any
+ * document changes.  Item revisions are only comparable with the revision of the shard holding the
+ * document, which is returned by <code>getDocumentRevision</code>.
+ * 
+ * @author Gary O'Neall
+ *
+ */
+public class ShardedSpdxStore implements IRevisionedModelStore {
+	
+	/**
+	 * Number of points on the hash ring for each shard
+	 */
+	static final int VIRTUAL_NODES_PER_SHARD = 64;
+	
+	/**
+	 * Lock which remembers the shard it was acquired from
+	 */
+	private static class ShardLock implements IModelStoreLock {
+		private final InMemSpdxStore shard;
+		private final IModelStoreLock lock;
+		
+		private ShardLock(InMemSpdxStore shard, IModelStoreLock lock) {
+			this.shard = shard;
+			this.lock = lock;
+		}
+
+		@Override
+		public void unlock() {
+			lock.unlock();
+		}
+	}
+	
+	private final InMemSpdxStore[] shards;
+	private final TreeMap<Long, InMemSpdxStore> ring = new TreeMap<>();
+	
+	/**
+	 * @param shardCount number of shards to partition the documents across
+	 */
+	public ShardedSpdxStore(int shardCount) {
+		if (shardCount < 1) {
+			throw new IllegalArgumentException("Shard count must be at least 1");
+		}
+		shards = new InMemSpdxStore[shardCount];
+		for (int i = 0; i < shardCount; i++) {
+			shards[i] = new InMemSpdxStore();
+			for (int j = 0; j < VIRTUAL_NODES_PER_SHARD; j++) {
+				ring.put(hash("shard-" + i + "-" + j), shards[i]);
+			}
+		}
+	}
+	
+	/**
+	 * 64 bit FNV-1a hash of the string with a final avalanche mix
+	 * @param s
+	 * @return hash of s
+	 */
+	static long hash(String s) {
+		long h = 0xcbf29ce484222325L;
+		for (int i = 0; i < s.length(); i++) {
+			h ^= s.charAt(i);
+			h *= 0x100000001b3L;
+		}
+		h ^= h >>> 33;
+		h *= 0xff51afd7ed558ccdL;
+		h ^= h >>> 33;
+		h *= 0xc4ceb9fe1a85ec53L;
+		h ^= h >>> 33;
+		return h;
+	}
+	
+	/**
+	 * @param documentUri
+	 * @return the shard storing the document
+	 */
+	public InMemSpdxStore getShard(String documentUri) {
+		Objects.requireNonNull(documentUri, "Document URI can not be null");
+		Map.Entry<Long, InMemSpdxStore> entry = ring.ceilingEntry(hash(documentUri));
+		return Objects.isNull(entry) ? ring.firstEntry().getValue() : entry.getValue();
+	}
+	
+	/**
+	 * @return number of shards
+	 */
+	public int getShardCount() {
+		return shards.length;
+	}
+	
+	/**
+	 * @param documentUri
+	 * @return index of the shard storing the document
+	 */
+	public int getShardIndex(String documentUri) {
+		InMemSpdxStore shard = getShard(documentUri);
+		for (int i = 0; i < shards.length; i++) {
+			if (shards[i] == shard) {
+				return i;
+			}
+		}
+		throw new IllegalStateException("Shard not found for document "+documentUri);
+	}
+
+	@Override
+	public boolean exists(String documentUri, String id) {
+		return getShard(documentUri).exists(documentUri, id);
+	}
+
+	@Override
+	public void create(String documentUri, String id, String type) throws InvalidSPDXAnalysisException {
+		getShard(documentUri).create(documentUri, id, type);
+	}
+
+	@Override
+	public List<String> getPropertyValueNames(String documentUri, String id) throws InvalidSPDXAnalysisException {
+		return getShard(documentUri).getPropertyValueNames(documentUri, id);
+	}
+
+	@Override
+	public void setValue(String documentUri, String id, String propertyName, Object value)
+			throws InvalidSPDXAnalysisException {
+		getShard(documentUri).setValue(documentUri, id, propertyName, value);
+	}
+
+	@Override
+	public Optional<Object> getValue(String documentUri, String id, String propertyName)
+			throws InvalidSPDXAnalysisException {
+		return getShard(documentUri).getValue(documentUri, id, propertyName);
+	}
+
+	@Override
+	public String getNextId(IdType idType, String documentUri) throws InvalidSPDXAnalysisException {
+		return getShard(documentUri).getNextId(idType, documentUri);
+	}
+
+	@Override
+	public void removeProperty(String documentUri, String id, String propertyName) throws InvalidSPDXAnalysisException {
+		getShard(documentUri).removeProperty(documentUri, id, propertyName);
+	}
+
+	@Override
+	public List<String> getDocumentUris() {
+		List<String> retval = new ArrayList<>();
+		for (InMemSpdxStore shard:shards) {
+			retval.addAll(shard.getDocumentUris());
+		}
+		return Collections.unmodifiableList(retval);
+	}
+
+	@Override
+	public Stream<TypedValue> getAllItems(String documentUri, @Nullable String typeFilter)
+			throws InvalidSPDXAnalysisException {
+		return getShard(documentUri).getAllItems(documentUri, typeFilter);
+	}
+
+	@Override
+	public IModelStoreLock enterCriticalSection(String documentUri, boolean readLockRequested)
+			throws InvalidSPDXAnalysisException {
+		InMemSpdxStore shard = getShard(documentUri);
+		return new ShardLock(shard, shard.enterCriticalSection(documentUri, readLockRequested));
+	}
+
+	@Override
+	public void leaveCriticalSection(IModelStoreLock lock) {
+		if (lock instanceof ShardLock) {
+			((ShardLock)lock).shard.leaveCriticalSection(((ShardLock)lock).lock);
+		} else {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public boolean removeValueFromCollection(String documentUri, String id, String propertyName, Object value)
+			throws InvalidSPDXAnalysisException {
+		return getShard(documentUri).removeValueFromCollection(documentUri, id, propertyName, value);
+	}
+
+	@Override
+	public int collectionSize(String documentUri, String id, String propertyName) throws InvalidSPDXAnalysisException {
+		return getShard(documentUri).collectionSize(documentUri, id, propertyName);
+	}
+
+	@Override
+	public boolean collectionContains(String documentUri, String id, String propertyName, Object value)
+			throws InvalidSPDXAnalysisException {
+		return getShard(documentUri).collectionContains(documentUri, id, propertyName, value);
+	}
+
+	@Override
+	public void clearValueCollection(String documentUri, String id, String propertyName)
+			throws InvalidSPDXAnalysisException {
+		getShard(documentUri).clearValueCollection(documentUri, id, propertyName);
+	}
+
+	@Override
+	public boolean addValueToCollection(String documentUri, String id, String propertyName, Object value)
+			throws InvalidSPDXAnalysisException {
+		return getShard(documentUri).addValueToCollection(documentUri, id, propertyName, value);
+	}
+
+	@Override
+	public Iterator<Object> listValues(String documentUri, String id, String propertyName)
+			throws InvalidSPDXAnalysisException {
+		return getShard(documentUri).listValues(documentUri, id, propertyName);
+	}
+
+	@Override
+	public boolean isCollectionMembersAssignableTo(String documentUri, String id, String propertyName, Class<?> clazz)
+			throws InvalidSPDXAnalysisException {
+		return getShard(documentUri).isCollectionMembersAssignableTo(documentUri, id, propertyName, clazz);
+	}
+
+	@Override
+	public boolean isPropertyValueAssignableTo(String documentUri, String id, String propertyName, Class<?> clazz)
+			throws InvalidSPDXAnalysisException {
+		return getShard(documentUri).isPropertyValueAssignableTo(documentUri, id, propertyName, clazz);
+	}
+
+	@Override
+	public boolean isCollectionProperty(String documentUri, String id, String propertyName)
+			throws InvalidSPDXAnalysisException {
+		return getShard(documentUri).isCollectionProperty(documentUri, id, propertyName);
+	}
+
+	@Override
+	public IdType getIdType(String id) {
+		// the ID type is determined by the form of the ID and not by the content of the shard
+		return shards[0].getIdType(id);
+	}
+
+	@Override
+	public Optional<String> getCaseSensisitiveId(String documentUri, String caseInsensisitiveId) {
+		return getShard(documentUri).getCaseSensisitiveId(documentUri, caseInsensisitiveId);
+	}
+
+	@Override
+	public Optional<TypedValue> getTypedValue(String documentUri, String id) throws InvalidSPDXAnalysisException {
+		return getShard(documentUri).getTypedValue(documentUri, id);
+	}
+
+	@Override
+	public void delete(String documentUri, String id) throws InvalidSPDXAnalysisException {
+		getShard(documentUri).delete(documentUri, id);
+	}
+
+	/**
+	 * Remove the unreachable items in a document from the shard holding the document
+	 * @param documentUri document to collect
+	 * @param pinnedIds IDs of additional items to keep along with everything they reference
+	 * @return report of the reclaimed items
+	 * @throws InvalidSPDXAnalysisException
+	 * @see InMemSpdxStore#collectGarbage(String, Collection)
+	 */
+	public GarbageCollectionReport collectGarbage(String documentUri, Collection<String> pinnedIds) throws InvalidSPDXAnalysisException {
+		return getShard(documentUri).collectGarbage(documentUri, pinnedIds);
+	}
+
+	@Override
+	public long getRevision() {
+		long retval = 0;
+		for (InMemSpdxStore shard:shards) {
+			retval += shard.getRevision();
+		}
+		return retval;
+	}
+	
+	@Override
+	public long getDocumentRevision(String documentUri) {
+		return getShard(documentUri).getRevision();
+	}
+
+	@Override
+	public long getRevision(String documentUri, String id) throws InvalidSPDXAnalysisException {
+		return getShard(documentUri).getRevision(documentUri, id);
+	}
+
+	@Override
+	public void close() throws Exception {
+		Exception closeException = null;
+		for (InMemSpdxStore shard:shards) {
+			try {
+				shard.close();
+			} catch (Exception e) {
+				closeException = e;
+			}
+		}
+		if (Objects.nonNull(closeException)) {
+			throw closeException;
+		}
+	}
+}
@@ -0,0 +1,331 @@
+/**
+ * Copyright (c) 2026 Source Auditor Inc.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * 
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.storage.simple;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.zip.CRC32;
+
+import javax.annotation.Nullable;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.spdx.library.InvalidSPDXAnalysisException;
+import org.spdx.storage.simple.InMemSpdxStore.BulkLoad;
+
+/**
+ * Append-only journal of the mutations made to an <code>InMemSpdxStore</code>.
+ * 
+ * A journal is attached to a store with <code>InMemSpdxStore.setJournal</code> or
+ * <code>InMemSpdxStore.writeSnapshot</code>.  Each successful mutation of the store is appended
+ * as an entry framed by its length and a CRC32 checksum.  Replaying the journal with <code>replay</code>
+ * on top of the snapshot taken when the journal was attached restores the state of the store.
+ * A partially written entry at the end of the journal, such as one left by a crash, ends the replay.
+ * Empty collection properties created as a side effect of reading a collection are not journaled.
+ * 
+ * Entries are buffered - entries written since the last <code>flush</code> may be lost on a crash
+ * unless the journal was created to flush each entry.  Once a write to the underlying stream fails,
+ * all further writes fail since a journal with a missing entry can not be replayed.
+ * 
+ * @author Gary O'Neall
+ *
+ */
+public class StoreJournal implements Closeable {
+	
+	static final Logger logger = LoggerFactory.getLogger(StoreJournal.class);
+	
+	static final int OP_CREATE = 1;
+	static final int OP_SET_VALUE = 2;
+	static final int OP_CLEAR_COLLECTION = 3;
+	static final int OP_ADD_TO_COLLECTION = 4;
+	static final int OP_REMOVE_FROM_COLLECTION = 5;
+	static final int OP_REMOVE_PROPERTY = 6;
+	static final int OP_DELETE = 7;
+	static final int OP_CLEAR_DOCUMENT = 8;
+	static final int OP_BEGIN_BULK_LOAD = 9;
+	static final int OP_COMMIT_BULK_LOAD = 10;
+	static final int OP_COLLECT_GARBAGE = 11;
+	
+	private static final int BUFFER_SIZE = 1 << 16;
+	
+	private final DataOutputStream out;
+	private final boolean flushEachEntry;
+	private final ByteArrayOutputStream entryBytes = new ByteArrayOutputStream(256);
+	private final DataOutputStream entry = new DataOutputStream(entryBytes);
+	private final StoreRecordCodec codec = new StoreRecordCodec(StoreRecordCodec.SymbolMode.STRING);
+	private final CRC32 crc = new CRC32();
+	private long entryCount = 0;
+	private @Nullable IOException failure = null;
+	
+	/**
+	 * @param stream stream to append the entries to
+	 * @param flushEachEntry if true, the stream is flushed after every entry
+	 */
+	public StoreJournal(OutputStream stream, boolean flushEachEntry) {
+		Objects.requireNonNull(stream, "Stream can not be null");
+		this.out = new DataOutputStream(new BufferedOutputStream(stream, BUFFER_SIZE));
+		this.flushEachEntry = flushEachEntry;
+	}
+	
+	/**
+	 * Open a journal appending to a file
+	 * @param file journal file - created if it does not exist
+	 * @param flushEachEntry if true, the file is flushed after every entry
+	 * @return journal appending to the file
+	 * @throws IOException
+	 */
+	public static StoreJournal open(Path file, boolean flushEachEntry) throws IOException {
+		return new StoreJournal(Files.newOutputStream(file, StandardOpenOption.CREATE, 
+				StandardOpenOption.APPEND, StandardOpenOption.WRITE), flushEachEntry);
+	}
+	
+	/**
+	 * @return number of entries written to this journal
+	 */
+	public synchronized long getEntryCount() {
+		return entryCount;
+	}
+	
+	synchronized void create(String documentUri, String id, String type) throws InvalidSPDXAnalysisException {
+		try {
+			startEntry(OP_CREATE, documentUri, id);
+			codec.writeSymbol(entry, type);
+			endEntry();
+		} catch (IOException e) {
+			throw failed(e);
+		}
+	}
+	
+	synchronized void setValue(String documentUri, String id, String propertyName, Object value) throws InvalidSPDXAnalysisException {
+		writePropertyEntry(OP_SET_VALUE, documentUri, id, propertyName, value);
+	}
+	
+	synchronized void clearValueCollection(String documentUri, String id, String propertyName) throws InvalidSPDXAnalysisException {
+		writePropertyEntry(OP_CLEAR_COLLECTION, documentUri, id, propertyName, null);
+	}
+	
+	synchronized void addValueToCollection(String documentUri, String id, String propertyName, Object value) throws InvalidSPDXAnalysisException {
+		writePropertyEntry(OP_ADD_TO_COLLECTION, documentUri, id, propertyName, value);
+	}
+	
+	synchronized void removeValueFromCollection(String documentUri, String id, String propertyName, Object value) throws InvalidSPDXAnalysisException {
+		writePropertyEntry(OP_REMOVE_FROM_COLLECTION, documentUri, id, propertyName, value);
+	}
+	
+	synchronized void removeProperty(String documentUri, String id, String propertyName) throws InvalidSPDXAnalysisException {
+		writePropertyEntry(OP_REMOVE_PROPERTY, documentUri, id, propertyName, null);
+	}
+	
+	synchronized void delete(String documentUri, String id) throws InvalidSPDXAnalysisException {
+		writeDocumentEntry(OP_DELETE, documentUri, id);
+	}
+	
+	synchronized void clear(String documentUri) throws InvalidSPDXAnalysisException {
+		writeDocumentEntry(OP_CLEAR_DOCUMENT, documentUri, null);
+	}
+	
+	synchronized void beginBulkLoad(String documentUri) throws InvalidSPDXAnalysisException {
+		writeDocumentEntry(OP_BEGIN_BULK_LOAD, documentUri, null);
+	}
+	
+	synchronized void commitBulkLoad(String documentUri) throws InvalidSPDXAnalysisException {
+		writeDocumentEntry(OP_COMMIT_BULK_LOAD, documentUri, null);
+	}
+	
+	synchronized void collectGarbage(String documentUri, Collection<String> pinnedIds) throws InvalidSPDXAnalysisException {
+		try {
+			startEntry(OP_COLLECT_GARBAGE, documentUri, null);
+			StoreRecordCodec.writeVarInt(entry, pinnedIds.size());
+			for (String pinnedId:pinnedIds) {
+				StoreRecordCodec.writeString(entry, pinnedId);
+			}
+			endEntry();
+		} catch (IOException e) {
+			throw failed(e);
+		}
+	}
+	
+	private void writeDocumentEntry(int op, String documentUri, @Nullable String id) throws InvalidSPDXAnalysisException {
+		try {
+			startEntry(op, documentUri, id);
+			endEntry();
+		} catch (IOException e) {
+			throw failed(e);
+		}
+	}
+	
+	private void writePropertyEntry(int op, String documentUri, String id, String propertyName, 
+			@Nullable Object value) throws InvalidSPDXAnalysisException {
+		try {
+			startEntry(op, documentUri, id);
+			codec.writeSymbol(entry, propertyName);
+			if (Objects.nonNull(value)) {
+				codec.writeValue(entry, value);
+			}
+			endEntry();
+		} catch (IOException e) {
+			throw failed(e);
+		}
+	}
+	
+	private void startEntry(int op, String documentUri, @Nullable String id) throws InvalidSPDXAnalysisException, IOException {
+		if (Objects.nonNull(failure)) {
+			throw new InvalidSPDXAnalysisException("Journal is no longer usable due to an earlier write failure", failure);
+		}
+		entryBytes.reset();
+		entry.writeByte(op);
+		StoreRecordCodec.writeString(entry, documentUri);
+		if (Objects.nonNull(id)) {
+			StoreRecordCodec.writeString(entry, id);
+		}
+	}
+	
+	private void endEntry() throws IOException {
+		crc.reset();
+		crc.update(entryBytes.toByteArray(), 0, entryBytes.size());
+		out.writeInt(entryBytes.size());
+		entryBytes.writeTo(out);
+		out.writeInt((int)crc.getValue());
+		entryCount++;
+		if (flushEachEntry) {
+			out.flush();
+		}
+	}
+	
+	private InvalidSPDXAnalysisException failed(IOException e) {
+		if (Objects.isNull(failure)) {
+			failure = e;
+		}
+		return new InvalidSPDXAnalysisException("I/O error writing to the store journal", e);
+	}
+	
+	/**
+	 * Flush any buffered entries to the underlying stream
+	 * @throws IOException
+	 */
+	public synchronized void flush() throws IOException {
+		out.flush();
+	}
+
+	@Override
+	public synchronized void close() throws IOException {
+		out.close();
+	}
+	
+	/**
+	 * Apply the entries in a journal to a store.  The store should contain the snapshot
+	 * taken when the journal was attached and should not have a journal attached.
+	 * @param stream stream containing the journal entries
+	 * @param store store to apply the entries to
+	 * @return number of entries applied
+	 * @throws InvalidSPDXAnalysisException if an entry can not be applied to the store
+	 * @throws IOException
+	 */
+	public static long replay(InputStream stream, InMemSpdxStore store) throws InvalidSPDXAnalysisException, IOException {
+		DataInputStream in = new DataInputStream(stream);
+		StoreRecordCodec codec = new StoreRecordCodec(StoreRecordCodec.SymbolMode.STRING);
+		CRC32 crc = new CRC32();
+		Map<String, BulkLoad> bulkLoads = new HashMap<>();
+		long count = 0;
+		while (true) {
+			byte[] entryBytes;
+			try {
+				int length;
+				try {
+					length = in.readInt();
+				} catch (EOFException e) {
+					break;	// end of the journal
+				}
+				if (length < 0) {
+					logger.warn("Invalid entry length in the store journal after "+count+" entries - ignoring the rest of the journal");
+					break;
+				}
+				entryBytes = new byte[length];
+				in.readFully(entryBytes);
+				int checksum = in.readInt();
+				crc.reset();
+				crc.update(entryBytes, 0, length);
+				if ((int)crc.getValue() != checksum) {
+					logger.warn("Checksum mismatch in the store journal after "+count+" entries - ignoring the rest of the journal");
+					break;
+				}
+			} catch (EOFException e) {
+				logger.warn("Incomplete entry at the end of the store journal after "+count+" entries");
+				break;
+			}
+			applyEntry(new DataInputStream(new ByteArrayInputStream(entryBytes)), codec, store, bulkLoads);
+			count++;
+		}
+		for (BulkLoad bulkLoad:bulkLoads.values()) {
+			// bulk loads interrupted before the commit are committed so that the reference counts are consistent
+			bulkLoad.commit();
+		}
+		return count;
+	}
+	
+	private static void applyEntry(DataInputStream in, StoreRecordCodec codec, InMemSpdxStore store, 
+			Map<String, BulkLoad> bulkLoads) throws InvalidSPDXAnalysisException, IOException {
+		int op = in.readByte();
+		String documentUri = StoreRecordCodec.readString(in);
+		switch (op) {
+			case OP_CREATE: store.create(documentUri, StoreRecordCodec.readString(in), codec.readSymbol(in)); break;
+			case OP_SET_VALUE: store.setValue(documentUri, StoreRecordCodec.readString(in), codec.readSymbol(in), codec.readValue(in)); break;
+			case OP_CLEAR_COLLECTION: store.clearValueCollection(documentUri, StoreRecordCodec.readString(in), codec.readSymbol(in)); break;
+			case OP_ADD_TO_COLLECTION: store.addValueToCollection(documentUri, StoreRecordCodec.readString(in), codec.readSymbol(in), codec.readValue(in)); break;
+			case OP_REMOVE_FROM_COLLECTION: store.removeValueFromCollection(documentUri, StoreRecordCodec.readString(in), codec.readSymbol(in), codec.readValue(in)); break;
+			case OP_REMOVE_PROPERTY: store.removeProperty(documentUri, StoreRecordCodec.readString(in), codec.readSymbol(in)); break;
+			case OP_DELETE: store.delete(documentUri, StoreRecordCodec.readString(in)); break;
+			case OP_CLEAR_DOCUMENT: store.clearJournaled(documentUri); break;
+			case OP_BEGIN_BULK_LOAD: bulkLoads.put(documentUri, store.beginBulkLoad(documentUri, 0)); break;
+			case OP_COMMIT_BULK_LOAD: {
+				BulkLoad bulkLoad = bulkLoads.remove(documentUri);
+				if (Objects.nonNull(bulkLoad)) {
+					bulkLoad.commit();
+				}
+				break;
+			}
+			case OP_COLLECT_GARBAGE: {
+				int count = StoreRecordCodec.readVarInt(in);
+				List<String> pinnedIds = new ArrayList<>(count);
+				for (int i = 0; i < count; i++) {
+					pinnedIds.add(StoreRecordCodec.readString(in));
+				}
+				store.collectGarbage(documentUri, pinnedIds);
+				break;
+			}
+			default: throw new InvalidSPDXAnalysisException("Unknown operation "+op+" in the store journal");
+		}
+	}
+}
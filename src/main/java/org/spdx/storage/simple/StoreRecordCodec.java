@@ -0,0 +1,339 @@
+/**
+ * Copyright (c) 2026 Source Auditor Inc.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * 
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.storage.simple;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.spdx.library.InvalidSPDXAnalysisException;
+import org.spdx.library.model.IndividualUriValue;
+import org.spdx.library.model.SimpleUriValue;
+import org.spdx.library.model.TypedValue;
+
+/**
+ * Binary encoding of the values and properties of <code>StoredTypedItem</code>s shared by the
+ * <code>InMemSpdxStore</code> snapshot, the <code>StoreJournal</code> and the records of the
+ * <code>MappedSpdxStore</code>.
+ * 
+ * Lengths, counts and symbol codes are variable length integers and strings are length prefixed UTF-8.
+ * Property names and types are symbols written according to the <code>SymbolMode</code> of the codec.
+ * The layout of the properties is:
+ * <pre>
+ * properties := count(property) property*
+ * property   := symbol(name) kind (value | count(value) value*)
+ * value      := STRING utf8 | TRUE | FALSE | INTEGER int | TYPED_VALUE utf8(id) symbol(type) | URI utf8
+ * </pre>
+ * This class is not thread safe.
+ * 
+ * @author Gary O'Neall
+ *
+ */
+public class StoreRecordCodec {
+	
+	/**
+	 * How property names and types are written
+	 */
+	public enum SymbolMode {
+		/**
+		 * Every symbol is written as a string
+		 */
+		STRING,
+		/**
+		 * The first occurrence of a symbol is written inline as <code>0 utf8</code> and later occurrences
+		 * as the code plus one so that the encoding can be written and read in a single sequential pass
+		 */
+		INLINE,
+		/**
+		 * Symbols are written as codes into the symbol table of the codec which is stored separately
+		 * from the records - see <code>getSymbols()</code>
+		 */
+		TABLE
+	}
+	
+	static final int KIND_VALUE = 0;
+	static final int KIND_COLLECTION = 1;
+	
+	static final int TAG_STRING = 0;
+	static final int TAG_TRUE = 1;
+	static final int TAG_FALSE = 2;
+	static final int TAG_INTEGER = 3;
+	static final int TAG_TYPED_VALUE = 4;
+	static final int TAG_URI = 5;
+	
+	private final SymbolMode symbolMode;
+	private final Map<String, Integer> symbolCodes = new HashMap<>();
+	private final List<String> symbols = new ArrayList<>();
+	
+	/**
+	 * @param symbolMode how property names and types are written
+	 */
+	public StoreRecordCodec(SymbolMode symbolMode) {
+		this.symbolMode = symbolMode;
+	}
+	
+	/**
+	 * Create a <code>TABLE</code> mode codec with an existing symbol table
+	 * @param symbols symbols in code order as returned by <code>getSymbols()</code> when the records were encoded
+	 */
+	public StoreRecordCodec(List<String> symbols) {
+		this(SymbolMode.TABLE);
+		for (String symbol:symbols) {
+			intern(symbol);
+		}
+	}
+	
+	/**
+	 * @param symbol property name or type
+	 * @return the code for the symbol - adding it to the symbol table if not already present
+	 */
+	private int intern(String symbol) {
+		Integer code = symbolCodes.get(symbol);
+		if (code == null) {
+			code = symbols.size();
+			symbols.add(symbol);
+			symbolCodes.put(symbol, code);
+		}
+		return code;
+	}
+	
+	/**
+	 * @return the symbols in code order
+	 */
+	public List<String> getSymbols() {
+		return Collections.unmodifiableList(symbols);
+	}
+	
+	/**
+	 * @param item item to encode
+	 * @return a record containing the properties of the item
+	 * @throws InvalidSPDXAnalysisException on an unsupported value
+	 */
+	public byte[] encode(StoredTypedItem item) throws InvalidSPDXAnalysisException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+		try {
+			writeProperties(new DataOutputStream(bytes), item);
+		} catch (IOException e) {
+			throw new InvalidSPDXAnalysisException("I/O error encoding item "+item.getId(), e);
+		}
+		return bytes.toByteArray();
+	}
+	
+	/**
+	 * Decode a record returned by <code>encode</code>
+	 * @param record record to decode
+	 * @param item item to add the property values to
+	 * @throws InvalidSPDXAnalysisException if the record is corrupt
+	 */
+	public void decode(byte[] record, StoredTypedItem item) throws InvalidSPDXAnalysisException {
+		try {
+			readProperties(new DataInputStream(new ByteArrayInputStream(record)), item);
+		} catch (IOException e) {
+			throw new InvalidSPDXAnalysisException("Corrupt record for item "+item.getId(), e);
+		}
+	}
+	
+	void writeSymbol(DataOutput out, String symbol) throws IOException {
+		switch (symbolMode) {
+			case STRING: writeString(out, symbol); break;
+			case TABLE: writeVarInt(out, intern(symbol)); break;
+			default: {
+				Integer code = symbolCodes.get(symbol);
+				if (code == null) {
+					intern(symbol);
+					writeVarInt(out, 0);
+					writeString(out, symbol);
+				} else {
+					writeVarInt(out, code + 1);
+				}
+			}
+		}
+	}
+	
+	String readSymbol(DataInput in) throws IOException, InvalidSPDXAnalysisException {
+		switch (symbolMode) {
+			case STRING: return readString(in);
+			case TABLE: {
+				int code = readVarInt(in);
+				if (code < 0 || code >= symbols.size()) {
+					throw new InvalidSPDXAnalysisException("Undefined symbol code "+code);
+				}
+				return symbols.get(code);
+			}
+			default: {
+				int code = readVarInt(in);
+				if (code == 0) {
+					String symbol = readString(in);
+					symbols.add(symbol);
+					return symbol;
+				} else if (code < 0 || code > symbols.size()) {
+					throw new InvalidSPDXAnalysisException("Undefined symbol code "+code);
+				} else {
+					return symbols.get(code - 1);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Write all of the properties of an item
+	 * @param out output to write to
+	 * @param item item containing the properties
+	 * @throws InvalidSPDXAnalysisException on an unsupported value
+	 * @throws IOException
+	 */
+	void writeProperties(DataOutput out, StoredTypedItem item) throws InvalidSPDXAnalysisException, IOException {
+		List<String> propertyNames = item.getPropertyValueNames();
+		writeVarInt(out, propertyNames.size());
+		for (String propertyName:propertyNames) {
+			writeSymbol(out, propertyName);
+			if (item.isCollectionProperty(propertyName)) {
+				List<Object> values = new ArrayList<>();
+				Iterator<Object> iter = item.getValueList(propertyName);
+				while (iter.hasNext()) {
+					values.add(iter.next());
+				}
+				writeVarInt(out, KIND_COLLECTION);
+				writeVarInt(out, values.size());
+				for (Object value:values) {
+					writeValue(out, value);
+				}
+			} else {
+				writeVarInt(out, KIND_VALUE);
+				writeValue(out, item.getValue(propertyName));
+			}
+		}
+	}
+	
+	/**
+	 * Read properties written by <code>writeProperties</code> into an item without any reference counting
+	 * @param in input to read from
+	 * @param item item to add the properties to
+	 * @throws InvalidSPDXAnalysisException
+	 * @throws IOException
+	 */
+	void readProperties(DataInput in, StoredTypedItem item) throws InvalidSPDXAnalysisException, IOException {
+		int propertyCount = readVarInt(in);
+		for (int i = 0; i < propertyCount; i++) {
+			String propertyName = readSymbol(in);
+			int kind = readVarInt(in);
+			if (kind == KIND_COLLECTION) {
+				int count = readVarInt(in);
+				if (count == 0) {
+					// creates the empty collection property
+					item.collectionSize(propertyName);
+				}
+				for (int j = 0; j < count; j++) {
+					item.addValueToList(propertyName, readValue(in));
+				}
+			} else if (kind == KIND_VALUE) {
+				item.setValue(propertyName, readValue(in));
+			} else {
+				throw new InvalidSPDXAnalysisException("Unknown property kind "+kind+" for item "+item.getId());
+			}
+		}
+	}
+	
+	void writeValue(DataOutput out, Object value) throws InvalidSPDXAnalysisException, IOException {
+		if (value instanceof String) {
+			writeVarInt(out, TAG_STRING);
+			writeString(out, (String)value);
+		} else if (value instanceof Boolean) {
+			writeVarInt(out, ((Boolean)value) ? TAG_TRUE : TAG_FALSE);
+		} else if (value instanceof Integer) {
+			writeVarInt(out, TAG_INTEGER);
+			out.writeInt((Integer)value);
+		} else if (value instanceof IndividualUriValue) {
+			writeVarInt(out, TAG_URI);
+			writeString(out, ((IndividualUriValue)value).getIndividualURI());
+		} else if (value instanceof TypedValue) {
+			writeVarInt(out, TAG_TYPED_VALUE);
+			writeString(out, ((TypedValue)value).getId());
+			writeSymbol(out, ((TypedValue)value).getType());
+		} else {
+			throw new InvalidSPDXAnalysisException("Unsupported value type for a store record: "+value.getClass());
+		}
+	}
+	
+	Object readValue(DataInput in) throws InvalidSPDXAnalysisException, IOException {
+		int tag = readVarInt(in);
+		switch (tag) {
+			case TAG_STRING: return readString(in);
+			case TAG_TRUE: return Boolean.TRUE;
+			case TAG_FALSE: return Boolean.FALSE;
+			case TAG_INTEGER: return in.readInt();
+			case TAG_URI: return new SimpleUriValue(readString(in));
+			case TAG_TYPED_VALUE: {
+				String id = readString(in);
+				return new TypedValue(id, readSymbol(in));
+			}
+			default: throw new InvalidSPDXAnalysisException("Unknown value tag "+tag+" in store record");
+		}
+	}
+	
+	static void writeString(DataOutput out, String value) throws IOException {
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		writeVarInt(out, bytes.length);
+		out.write(bytes);
+	}
+	
+	static String readString(DataInput in) throws IOException {
+		int length = readVarInt(in);
+		if (length < 0) {
+			throw new IOException("Invalid string length "+length);
+		}
+		byte[] bytes = new byte[length];
+		in.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+	
+	static void writeVarInt(DataOutput out, int value) throws IOException {
+		while ((value & ~0x7F) != 0) {
+			out.writeByte((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		out.writeByte(value);
+	}
+	
+	static int readVarInt(DataInput in) throws IOException {
+		int retval = 0;
+		int shift = 0;
+		while (true) {
+			byte b = in.readByte();
+			retval |= (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				return retval;
+			}
+			shift += 7;
+			if (shift > 28) {
+				throw new IOException("Variable length integer is too long");
+			}
+		}
+	}
+}
@@ -12,8 +12,8 @@ import java.util.Set;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -25,6 +25,7 @@ import org.spdx.library.model.SpdxModelFactory;
 import org.spdx.library.model.TypedValue;
 import org.spdx.library.model.enumerations.SpdxEnumFactory;
 import org.spdx.library.model.IndividualUriValue;
+import org.spdx.library.model.license.ListedLicenseReferences;
 import org.spdx.storage.IModelStore;
 
 /**
@@ -43,14 +44,44 @@ public class StoredTypedItem extends TypedValue {
 
 	private ConcurrentHashMap<String, Object> properties = new ConcurrentHashMap<>();
 	
-	private int referenceCount = 0;
+	private final AtomicInteger referenceCount = new AtomicInteger();
 	
-	private final ReadWriteLock countLock = new ReentrantReadWriteLock();
+	private volatile long revision = 0;
+	
+	private volatile long sequence = -1;	// creation order within the document - set when added to a StoredTypedItemMap
 	
 	public StoredTypedItem(String documentUri, String id, String type) throws InvalidSPDXAnalysisException {
 		super(id, type);
 	}
 	
+	/**
+	 * @return the model store revision when this item was last modified
+	 */
+	public long getRevision() {
+		return revision;
+	}
+	
+	/**
+	 * @param revision the model store revision when this item was last modified
+	 */
+	void setRevision(long revision) {
+		this.revision = revision;
+	}
+	
+	/**
+	 * @return creation order of the item within the document
+	 */
+	long getSequence() {
+		return sequence;
+	}
+	
+	/**
+	 * @param sequence creation order of the item within the document
+	 */
+	void setSequence(long sequence) {
+		this.sequence = sequence;
+	}
+	
 	/**
 	 * @return Property names for all properties having a value
 	 */
@@ -69,13 +100,7 @@ public class StoredTypedItem extends TypedValue {
 	 * @return new number of times this item is referenced
 	 */
 	public int incReferenceCount() {
-	    countLock.writeLock().lock();
-	    try {
-	        this.referenceCount++;
-	        return this.referenceCount;
-	    } finally {
-	        countLock.writeLock().unlock();
-	    }
+	    return this.referenceCount.incrementAndGet();
 	}
 	
 	/**
@@ -84,16 +109,42 @@ public class StoredTypedItem extends TypedValue {
 	 * @throws SpdxInvalidTypeException
 	 */
 	public int decReferenceCount() throws SpdxInvalidTypeException {
-	       countLock.writeLock().lock();
-           try {
-               if (this.referenceCount < 1) {
-                   throw new SpdxInvalidTypeException("Usage count underflow - usage count decremented more than incremented");
-               }
-               this.referenceCount--;
-               return this.referenceCount;
-           } finally {
-               countLock.writeLock().unlock();
-           }
+	    while (true) {
+	        int count = this.referenceCount.get();
+	        if (count < 1) {
+	            throw new SpdxInvalidTypeException("Usage count underflow - usage count decremented more than incremented");
+	        }
+	        if (this.referenceCount.compareAndSet(count, count - 1)) {
+	            return count - 1;
+	        }
+	    }
+	}
+	
+	/**
+	 * Set the reference count - used when the reference counts are recomputed for a whole document
+	 * @param referenceCount number of times this item is referenced
+	 */
+	void setReferenceCount(int referenceCount) {
+		this.referenceCount.set(referenceCount);
+	}
+	
+	/**
+	 * @param consumer consumer called for every typed value stored as a property value or collection member of this item
+	 */
+	public void forEachTypedValue(Consumer<TypedValue> consumer) {
+		for (Object value:properties.values()) {
+			if (value instanceof TypedValue) {
+				consumer.accept((TypedValue)value);
+			} else if (value instanceof ConcurrentHashMap<?, ?>) {
+				for (Object members:((ConcurrentHashMap<?, ?>)value).values()) {
+					for (Object member:(Collection<?>)members) {
+						if (member instanceof TypedValue) {
+							consumer.accept((TypedValue)member);
+						}
+					}
+				}
+			}
+		}
 	}
 	
 	 /**
@@ -101,12 +152,7 @@ public class StoredTypedItem extends TypedValue {
      * @throws SpdxInvalidTypeException
      */
     public int getReferenceCount() throws SpdxInvalidTypeException {
-           countLock.readLock().lock();
-           try {
-               return this.referenceCount;
-           } finally {
-               countLock.readLock().unlock();
-           }
+           return this.referenceCount.get();
     }
 	
 	/**
@@ -172,7 +218,7 @@ public class StoredTypedItem extends TypedValue {
 		}
 		Object map = properties.get(propertyName);
 		if (map == null) {
-			properties.putIfAbsent(propertyName,  new ConcurrentHashMap<String, List<Object>>());
+			properties.putIfAbsent(propertyName,  new ConcurrentHashMap<String, IndexedValueCollection>());
 			map = properties.get(propertyName);	
 			//Note: there is a small timing window where the property could be removed
 			if (map == null) {
@@ -184,21 +230,14 @@ public class StoredTypedItem extends TypedValue {
 		}
 		try {
 			@SuppressWarnings("unchecked")
-			ConcurrentHashMap<String, List<Object>> idValueMap = (ConcurrentHashMap<String, List<Object>>)map;
+			ConcurrentHashMap<String, IndexedValueCollection> idValueMap = (ConcurrentHashMap<String, IndexedValueCollection>)map;
 			String id;
 			if (value instanceof TypedValue) {
 				id = ((TypedValue)value).getId();
 			} else {
 				id = NO_ID_ID;
 			}
-			idValueMap.putIfAbsent(id, new ArrayList<Object>());
-			List<Object> list = idValueMap.get(id);
-			if (list == null) {
-				// handle the very small window where this may have gotten removed
-				list = new ArrayList<>();
-				idValueMap.putIfAbsent(id, list);
-			}
-			return list.add(value);
+			return idValueMap.computeIfAbsent(id, k -> new IndexedValueCollection()).add(value);
 		} catch (Exception ex) {
 			throw new SpdxInvalidTypeException("Invalid list type for "+propertyName, ex);
 		}
@@ -215,8 +254,8 @@ public class StoredTypedItem extends TypedValue {
 		}
 		try {
 			@SuppressWarnings("unchecked")
-			ConcurrentHashMap<String, List<TypedValue>> typedValueMap = (ConcurrentHashMap<String, List<TypedValue>>)map;
-			List<TypedValue> list = typedValueMap.get(value.getId());
+			ConcurrentHashMap<String, IndexedValueCollection> typedValueMap = (ConcurrentHashMap<String, IndexedValueCollection>)map;
+			IndexedValueCollection list = typedValueMap.get(value.getId());
 			if (list == null) {
 				return false;
 			}
@@ -244,14 +283,14 @@ public class StoredTypedItem extends TypedValue {
 		}
 		try {
 			@SuppressWarnings("unchecked")
-			ConcurrentHashMap<String, List<Object>> idValueMap = (ConcurrentHashMap<String, List<Object>>)map;
+			ConcurrentHashMap<String, IndexedValueCollection> idValueMap = (ConcurrentHashMap<String, IndexedValueCollection>)map;
 			String id;
 			if (value instanceof TypedValue) {
 				id = ((TypedValue)value).getId();
 			} else {
 				id = NO_ID_ID;
 			}
-			List<Object> list = idValueMap.get(id);
+			IndexedValueCollection list = idValueMap.get(id);
 			if (list == null) {
 				return false;
 			}
@@ -333,7 +372,7 @@ public class StoredTypedItem extends TypedValue {
 		Objects.requireNonNull(propertyName, "Property name can not be null");
 		Object map = properties.get(propertyName);
 		if (map == null) {
-			properties.putIfAbsent(propertyName,  new ConcurrentHashMap<String, List<Object>>());
+			properties.putIfAbsent(propertyName,  new ConcurrentHashMap<String, IndexedValueCollection>());
 			map = properties.get(propertyName);	
 			//Note: there is a small timing window where the property could be removed
 			if (map == null) {
@@ -366,7 +405,7 @@ public class StoredTypedItem extends TypedValue {
 		Objects.requireNonNull(value, "Value can not be null");
 		Object map = properties.get(propertyName);
 		if (map == null) {
-			properties.putIfAbsent(propertyName,  new ConcurrentHashMap<String, List<Object>>());
+			properties.putIfAbsent(propertyName,  new ConcurrentHashMap<String, IndexedValueCollection>());
 			map = properties.get(propertyName);	
 			//Note: there is a small timing window where the property could be removed
 			if (map == null) {
@@ -381,8 +420,8 @@ public class StoredTypedItem extends TypedValue {
 				id = NO_ID_ID;
 			}
 			@SuppressWarnings("unchecked")
-			ConcurrentHashMap<String, List<Object>> typedValueMap = (ConcurrentHashMap<String, List<Object>>)map;
-			List<Object> valueList = typedValueMap.get(id);
+			ConcurrentHashMap<String, IndexedValueCollection> typedValueMap = (ConcurrentHashMap<String, IndexedValueCollection>)map;
+			IndexedValueCollection valueList = typedValueMap.get(id);
 			if (valueList == null) {
 				return false;
 			}
@@ -403,8 +442,8 @@ public class StoredTypedItem extends TypedValue {
 			return false;
 		}
 		@SuppressWarnings("unchecked")
-		ConcurrentHashMap<String, List<Object>> idValueMap = (ConcurrentHashMap<String, List<Object>>)map;
-		for (List<Object> valueList:idValueMap.values()) {
+		ConcurrentHashMap<String, IndexedValueCollection> idValueMap = (ConcurrentHashMap<String, IndexedValueCollection>)map;
+		for (IndexedValueCollection valueList:idValueMap.values()) {
 			for (Object value:valueList) {
 				if (!clazz.isAssignableFrom(value.getClass())) {
 					if (value instanceof IndividualUriValue) {
@@ -416,7 +455,10 @@ public class StoredTypedItem extends TypedValue {
 							}
 						} else if (!(SpdxConstants.URI_VALUE_NOASSERTION.equals(uri) ||
 								SpdxConstants.URI_VALUE_NONE.equals(uri))) {
-							return false;
+							Class<?> referencedClass = ListedLicenseReferences.getReferencedClass(uri);
+							if (Objects.isNull(referencedClass) || !clazz.isAssignableFrom(referencedClass)) {
+								return false;
+							}
 						}
 					} else if (value instanceof TypedValue) {
 						try {
@@ -465,9 +507,9 @@ public class StoredTypedItem extends TypedValue {
 			Enum<?> spdxEnum = SpdxEnumFactory.uriToEnum.get(uri);
 			if (Objects.nonNull(spdxEnum)) {
 				return clazz.isAssignableFrom(spdxEnum.getClass());
-			} else {
-				return false;
 			}
+			Class<?> referencedClass = ListedLicenseReferences.getReferencedClass(uri);
+			return Objects.nonNull(referencedClass) && clazz.isAssignableFrom(referencedClass);
 		}
 		return false;
 	}
@@ -0,0 +1,320 @@
+/**
+ * Copyright (c) 2026 Source Auditor Inc.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * 
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.storage.simple;
+
+import java.util.AbstractMap;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import javax.annotation.Nullable;
+
+import org.spdx.library.model.TypedValue;
+
+/**
+ * Map of the lower case item ID to the stored items for a single document.
+ * 
+ * In addition to the ID map, the items are indexed in creation order both for the whole
+ * document and partitioned by type so that the items of a single type can be streamed
+ * without scanning all of the items in the document.  The streams are lazily evaluated
+ * and weakly consistent - they reflect the items at some point at or since the creation
+ * of the stream and never throw <code>ConcurrentModificationException</code>.
+ * 
+ * The map is modified only through <code>put</code>, <code>putIfAbsent</code>, <code>remove</code>
+ * and <code>clear</code> - the key, value and entry views are read-only.  The index is updated
+ * in the same atomic <code>compute</code> as the ID map so that concurrent updates to the same ID
+ * can not leave the index out of step with the map.
+ * 
+ * @author Gary O'Neall
+ *
+ */
+public class StoredTypedItemMap extends AbstractMap<String, StoredTypedItem> {
+	
+	/**
+	 * Items in creation order along with the number of items
+	 */
+	private static class Partition {
+		final ConcurrentSkipListMap<Long, StoredTypedItem> items = new ConcurrentSkipListMap<>();
+		final AtomicInteger size = new AtomicInteger();
+	}
+	
+	/**
+	 * Spliterator over the items in a partition which estimates the size from the partition size
+	 */
+	private static class PartitionSpliterator implements Spliterator<TypedValue> {
+		private final Spliterator<StoredTypedItem> delegate;
+		private long estimatedSize;
+		
+		PartitionSpliterator(Spliterator<StoredTypedItem> delegate, long estimatedSize) {
+			this.delegate = delegate;
+			this.estimatedSize = estimatedSize;
+		}
+
+		@Override
+		public boolean tryAdvance(Consumer<? super TypedValue> action) {
+			return delegate.tryAdvance(action);
+		}
+		
+		@Override
+		public void forEachRemaining(Consumer<? super TypedValue> action) {
+			delegate.forEachRemaining(action);
+		}
+
+		@Override
+		public Spliterator<TypedValue> trySplit() {
+			Spliterator<StoredTypedItem> prefix = delegate.trySplit();
+			if (Objects.isNull(prefix)) {
+				return null;
+			}
+			estimatedSize = estimatedSize >>> 1;
+			return new PartitionSpliterator(prefix, estimatedSize);
+		}
+
+		@Override
+		public long estimateSize() {
+			return estimatedSize;
+		}
+
+		@Override
+		public int characteristics() {
+			return Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL | Spliterator.CONCURRENT;
+		}
+	}
+	
+	private final ConcurrentHashMap<String, StoredTypedItem> items;
+	private final AtomicLong nextSequence = new AtomicLong();
+	private final Partition allItems = new Partition();
+	private final Map<String, Partition> itemsByType = new ConcurrentHashMap<>();
+	
+	public StoredTypedItemMap() {
+		this.items = new ConcurrentHashMap<>();
+	}
+	
+	/**
+	 * @param initialCapacity number of items the map is expected to hold
+	 */
+	public StoredTypedItemMap(int initialCapacity) {
+		this.items = new ConcurrentHashMap<>(initialCapacity);
+	}
+	
+	/**
+	 * @param key lower case ID
+	 * @return the item or null if not present
+	 */
+	@Override
+	public @Nullable StoredTypedItem get(Object key) {
+		return items.get(key);
+	}
+	
+	/**
+	 * @param key lower case ID
+	 * @return true if an item is stored for the ID
+	 */
+	@Override
+	public boolean containsKey(Object key) {
+		return items.containsKey(key);
+	}
+	
+	/**
+	 * @return number of items in the map
+	 */
+	@Override
+	public int size() {
+		return items.size();
+	}
+	
+	/**
+	 * @return true if the map contains no items
+	 */
+	@Override
+	public boolean isEmpty() {
+		return items.isEmpty();
+	}
+	
+	/**
+	 * @return unmodifiable view of the items in no particular order
+	 */
+	@Override
+	public Collection<StoredTypedItem> values() {
+		return Collections.unmodifiableCollection(items.values());
+	}
+	
+	/**
+	 * @return unmodifiable view of the lower case IDs
+	 */
+	@Override
+	public Set<String> keySet() {
+		return Collections.unmodifiableSet(items.keySet());
+	}
+	
+	/**
+	 * @return unmodifiable view of the ID to item mappings
+	 */
+	@Override
+	public Set<Map.Entry<String, StoredTypedItem>> entrySet() {
+		return Collections.unmodifiableMap(items).entrySet();
+	}
+	
+	/**
+	 * Store an item replacing any item stored for the ID
+	 * @param key lower case ID
+	 * @param value item to store
+	 * @return the replaced item or null if no item was stored for the ID
+	 */
+	@Override
+	public @Nullable StoredTypedItem put(String key, StoredTypedItem value) {
+		Objects.requireNonNull(value, "Value can not be null");
+		StoredTypedItem[] previous = new StoredTypedItem[1];
+		items.compute(key, (k, existing) -> {
+			if (Objects.nonNull(existing)) {
+				removeFromIndex(existing);
+				previous[0] = existing;
+			}
+			addToIndex(value);
+			return value;
+		});
+		return previous[0];
+	}
+	
+	/**
+	 * Add an item if no item is stored for the ID
+	 * @param key lower case ID
+	 * @param value item to add
+	 * @return the existing item or null if the item was added
+	 */
+	@Override
+	public @Nullable StoredTypedItem putIfAbsent(String key, StoredTypedItem value) {
+		Objects.requireNonNull(value, "Value can not be null");
+		StoredTypedItem[] previous = new StoredTypedItem[1];
+		items.compute(key, (k, existing) -> {
+			if (Objects.nonNull(existing)) {
+				previous[0] = existing;
+				return existing;
+			}
+			addToIndex(value);
+			return value;
+		});
+		return previous[0];
+	}
+	
+	/**
+	 * @param key lower case ID
+	 * @return the removed item or null if no item was stored for the ID
+	 */
+	@Override
+	public @Nullable StoredTypedItem remove(Object key) {
+		if (!(key instanceof String)) {
+			return null;
+		}
+		StoredTypedItem[] removed = new StoredTypedItem[1];
+		items.computeIfPresent((String)key, (k, existing) -> {
+			removeFromIndex(existing);
+			removed[0] = existing;
+			return null;
+		});
+		return removed[0];
+	}
+	
+	/**
+	 * Remove an item only if it is the item currently stored for the ID
+	 * @param key lower case ID
+	 * @param value item to remove
+	 * @return true if the item was removed
+	 */
+	@Override
+	public boolean remove(Object key, Object value) {
+		if (!(key instanceof String)) {
+			return false;
+		}
+		boolean[] removed = new boolean[1];
+		items.computeIfPresent((String)key, (k, existing) -> {
+			if (existing != value) {
+				return existing;
+			}
+			removeFromIndex(existing);
+			removed[0] = true;
+			return null;
+		});
+		return removed[0];
+	}
+	
+	@Override
+	public void clear() {
+		for (String key:items.keySet()) {
+			remove(key);
+		}
+	}
+	
+	private void addToIndex(StoredTypedItem item) {
+		long sequence = nextSequence.getAndIncrement();
+		item.setSequence(sequence);
+		addToPartition(allItems, sequence, item);
+		addToPartition(itemsByType.computeIfAbsent(item.getType(), type -> new Partition()), sequence, item);
+	}
+	
+	private void addToPartition(Partition partition, long sequence, StoredTypedItem item) {
+		partition.items.put(sequence, item);
+		partition.size.incrementAndGet();
+	}
+	
+	private void removeFromIndex(StoredTypedItem item) {
+		removeFromPartition(allItems, item);
+		Partition typePartition = itemsByType.get(item.getType());
+		if (Objects.nonNull(typePartition)) {
+			removeFromPartition(typePartition, item);
+		}
+	}
+	
+	private void removeFromPartition(Partition partition, StoredTypedItem item) {
+		if (partition.items.remove(item.getSequence(), item)) {
+			partition.size.decrementAndGet();
+		}
+	}
+	
+	/**
+	 * @param typeFilter if non-null, only stream items of this type
+	 * @return a lazily evaluated stream of the items in creation order
+	 */
+	public Stream<TypedValue> streamItems(@Nullable String typeFilter) {
+		Partition partition = Objects.isNull(typeFilter) ? allItems : itemsByType.get(typeFilter);
+		if (Objects.isNull(partition)) {
+			return Stream.empty();
+		}
+		return StreamSupport.stream(new PartitionSpliterator(partition.items.values().spliterator(), 
+				partition.size.get()), false);
+	}
+	
+	/**
+	 * @param typeFilter if non-null, only count items of this type
+	 * @return the number of items of the type
+	 */
+	public int getItemCount(@Nullable String typeFilter) {
+		Partition partition = Objects.isNull(typeFilter) ? allItems : itemsByType.get(typeFilter);
+		return Objects.isNull(partition) ? 0 : partition.size.get();
+	}
+}
@@ -0,0 +1,145 @@
+/**
+ * Copyright (c) 2026 Source Auditor Inc.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * 
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.storage.streaming;
+
+import java.io.IOException;
+import java.util.Objects;
+
+import org.spdx.library.InvalidSPDXAnalysisException;
+
+/**
+ * Writer which splits a document into chunks of at most a fixed number of items.
+ * 
+ * Each chunk is written by its own writer as a complete document with the same document URI.
+ * Items in one chunk may reference items in another chunk so the chunks should be read back
+ * into the same store, for example by passing each chunk to the same <code>ModelStoreItemLoader</code>.
+ * 
+ * @author Gary O'Neall
+ *
+ */
+public class ChunkedModelItemWriter implements IModelItemWriter {
+	
+	/**
+	 * Opens the writer for a chunk
+	 */
+	@FunctionalInterface
+	public interface ChunkWriterFactory {
+		/**
+		 * @param documentUri URI of the document being written
+		 * @param chunkIndex zero based index of the chunk
+		 * @return writer for the chunk
+		 * @throws IOException
+		 */
+		public IModelItemWriter openChunk(String documentUri, int chunkIndex) throws IOException;
+	}
+	
+	private final int maxItemsPerChunk;
+	private final ChunkWriterFactory chunkWriterFactory;
+	private String documentUri = null;
+	private IModelItemWriter chunkWriter = null;
+	private int chunkCount = 0;
+	private int chunkItemCount = 0;
+	
+	/**
+	 * @param maxItemsPerChunk maximum number of items written to each chunk
+	 * @param chunkWriterFactory opens the writer for each chunk
+	 */
+	public ChunkedModelItemWriter(int maxItemsPerChunk, ChunkWriterFactory chunkWriterFactory) {
+		if (maxItemsPerChunk < 1) {
+			throw new IllegalArgumentException("Maximum items per chunk must be at least 1");
+		}
+		this.maxItemsPerChunk = maxItemsPerChunk;
+		this.chunkWriterFactory = Objects.requireNonNull(chunkWriterFactory, "Chunk writer factory can not be null");
+	}
+
+	@Override
+	public void startDocument(String documentUri) throws InvalidSPDXAnalysisException {
+		Objects.requireNonNull(documentUri, "Document URI can not be null");
+		if (Objects.nonNull(this.documentUri)) {
+			throw new InvalidSPDXAnalysisException("Document "+this.documentUri+" has not been ended");
+		}
+		this.documentUri = documentUri;
+	}
+
+	@Override
+	public void visit(ModelItem item) throws InvalidSPDXAnalysisException {
+		if (Objects.isNull(documentUri)) {
+			throw new InvalidSPDXAnalysisException("Document has not been started");
+		}
+		if (Objects.isNull(chunkWriter)) {
+			try {
+				chunkWriter = chunkWriterFactory.openChunk(documentUri, chunkCount);
+			} catch (IOException e) {
+				throw new InvalidSPDXAnalysisException("I/O error opening chunk "+chunkCount+" for document "+documentUri, e);
+			}
+			chunkCount++;
+			chunkWriter.startDocument(documentUri);
+		}
+		chunkWriter.visit(item);
+		chunkItemCount++;
+		if (chunkItemCount >= maxItemsPerChunk) {
+			endChunk();
+		}
+	}
+	
+	/**
+	 * End and close the current chunk
+	 * @throws InvalidSPDXAnalysisException
+	 */
+	private void endChunk() throws InvalidSPDXAnalysisException {
+		IModelItemWriter writer = chunkWriter;
+		chunkWriter = null;
+		chunkItemCount = 0;
+		try {
+			writer.endDocument(documentUri);
+		} finally {
+			try {
+				writer.close();
+			} catch (IOException e) {
+				throw new InvalidSPDXAnalysisException("I/O error closing chunk for document "+documentUri, e);
+			}
+		}
+	}
+
+	@Override
+	public void endDocument(String documentUri) throws InvalidSPDXAnalysisException {
+		if (!Objects.equals(this.documentUri, documentUri)) {
+			throw new InvalidSPDXAnalysisException("Document "+documentUri+" has not been started");
+		}
+		if (Objects.nonNull(chunkWriter)) {
+			endChunk();
+		}
+		this.documentUri = null;
+	}
+	
+	/**
+	 * @return number of chunks opened
+	 */
+	public int getChunkCount() {
+		return chunkCount;
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (Objects.nonNull(chunkWriter)) {
+			IModelItemWriter writer = chunkWriter;
+			chunkWriter = null;
+			writer.close();
+		}
+	}
+}
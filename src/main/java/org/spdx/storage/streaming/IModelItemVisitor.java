@@ -0,0 +1,58 @@
+/**
+ * Copyright (c) 2026 Source Auditor Inc.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * 
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.storage.streaming;
+
+import org.spdx.library.InvalidSPDXAnalysisException;
+
+/**
+ * Receives the items of an SPDX document one at a time as they are produced by a streaming
+ * deserializer or read from a model store.
+ * 
+ * Items are visited in the order they are produced.  An item may reference items which have
+ * not yet been visited.  Implementations can apply back-pressure by blocking in <code>visit</code>
+ * and can stop the producer by throwing an exception.
+ * 
+ * @author Gary O'Neall
+ *
+ */
+public interface IModelItemVisitor {
+	
+	/**
+	 * Called before any items for the document are visited
+	 * @param documentUri URI of the document
+	 * @throws InvalidSPDXAnalysisException
+	 */
+	public default void startDocument(String documentUri) throws InvalidSPDXAnalysisException {
+		// default is to ignore
+	}
+	
+	/**
+	 * @param item the next item in the document
+	 * @throws InvalidSPDXAnalysisException
+	 */
+	public void visit(ModelItem item) throws InvalidSPDXAnalysisException;
+	
+	/**
+	 * Called after all items in the document have been visited
+	 * @param documentUri URI of the document
+	 * @throws InvalidSPDXAnalysisException
+	 */
+	public default void endDocument(String documentUri) throws InvalidSPDXAnalysisException {
+		// default is to ignore
+	}
+}
@@ -0,0 +1,35 @@
+/**
+ * Copyright (c) 2026 Source Auditor Inc.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * 
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.storage.streaming;
+
+import java.io.Closeable;
+
+/**
+ * Incremental serializer for an SPDX document.
+ * 
+ * The document is opened by <code>startDocument</code>, each item is appended by <code>visit</code>
+ * once all of its properties are known, and the document is completed by <code>endDocument</code>.
+ * Items may reference items which have not yet been written.  <code>close</code> releases the
+ * underlying output and must be called even if the document was not completed.
+ * 
+ * @author Gary O'Neall
+ *
+ */
+public interface IModelItemWriter extends IModelItemVisitor, Closeable {
+
+}
@@ -0,0 +1,284 @@
+/**
+ * Copyright (c) 2026 Source Auditor Inc.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * 
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.storage.streaming;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import org.spdx.library.InvalidSPDXAnalysisException;
+import org.spdx.library.model.TypedValue;
+import org.spdx.storage.IModelStore;
+
+/**
+ * Immutable snapshot of a single item in an SPDX document together with all of its property values.
+ * 
+ * Property values are in the form stored in a model store - <code>String</code>, <code>Boolean</code>,
+ * <code>Integer</code>, <code>TypedValue</code> references to other items and <code>IndividualUriValue</code>s.
+ * 
+ * @author Gary O'Neall
+ *
+ */
+public class ModelItem {
+	
+	/**
+	 * Builder for a <code>ModelItem</code>
+	 */
+	public static class Builder {
+		private final String documentUri;
+		private final String id;
+		private final String type;
+		private final Map<String, Object> values = new LinkedHashMap<>();
+		private final Map<String, List<Object>> collections = new LinkedHashMap<>();
+		
+		/**
+		 * @param documentUri document URI for the item
+		 * @param id ID of the item
+		 * @param type type of the item
+		 */
+		public Builder(String documentUri, String id, String type) {
+			this.documentUri = Objects.requireNonNull(documentUri, "Document URI can not be null");
+			this.id = Objects.requireNonNull(id, "ID can not be null");
+			this.type = Objects.requireNonNull(type, "Type can not be null");
+		}
+		
+		/**
+		 * @param propertyName name of the property
+		 * @param value value for a non-collection property
+		 * @return this to continue the build
+		 */
+		public Builder setValue(String propertyName, Object value) {
+			Objects.requireNonNull(propertyName, "Property name can not be null");
+			Objects.requireNonNull(value, "Value can not be null");
+			collections.remove(propertyName);
+			values.put(propertyName, value);
+			return this;
+		}
+		
+		/**
+		 * Adds a value to a collection property creating the property if it does not exist
+		 * @param propertyName name of the property
+		 * @param value value to add to the collection
+		 * @return this to continue the build
+		 */
+		public Builder addValueToCollection(String propertyName, Object value) {
+			Objects.requireNonNull(value, "Value can not be null");
+			addCollection(propertyName).add(value);
+			return this;
+		}
+		
+		/**
+		 * Adds an empty collection property if it does not exist
+		 * @param propertyName name of the property
+		 * @return this to continue the build
+		 */
+		public Builder addCollectionProperty(String propertyName) {
+			addCollection(propertyName);
+			return this;
+		}
+		
+		private List<Object> addCollection(String propertyName) {
+			Objects.requireNonNull(propertyName, "Property name can not be null");
+			values.remove(propertyName);
+			return collections.computeIfAbsent(propertyName, name -> new ArrayList<>());
+		}
+		
+		/**
+		 * @return the item
+		 * @throws InvalidSPDXAnalysisException if the ID or type is not valid
+		 */
+		public ModelItem build() throws InvalidSPDXAnalysisException {
+			return new ModelItem(this);
+		}
+	}
+	
+	private final String documentUri;
+	private final TypedValue typedValue;
+	private final Map<String, Object> values;
+	private final Map<String, List<Object>> collections;
+	
+	private ModelItem(Builder builder) throws InvalidSPDXAnalysisException {
+		this.typedValue = new TypedValue(builder.id, builder.type);
+		this.documentUri = builder.documentUri;
+		this.values = Collections.unmodifiableMap(new LinkedHashMap<>(builder.values));
+		Map<String, List<Object>> collectionsCopy = new LinkedHashMap<>();
+		for (Map.Entry<String, List<Object>> entry:builder.collections.entrySet()) {
+			collectionsCopy.put(entry.getKey(), Collections.unmodifiableList(new ArrayList<>(entry.getValue())));
+		}
+		this.collections = Collections.unmodifiableMap(collectionsCopy);
+	}
+	
+	/**
+	 * Read an item and all of its property values from a model store
+	 * @param store store containing the item
+	 * @param documentUri document URI for the item
+	 * @param id ID of the item
+	 * @return the item
+	 * @throws InvalidSPDXAnalysisException if the item does not exist in the store
+	 */
+	public static ModelItem fromStore(IModelStore store, String documentUri, String id) throws InvalidSPDXAnalysisException {
+		Optional<TypedValue> typedValue = store.getTypedValue(documentUri, id);
+		if (!typedValue.isPresent()) {
+			throw new InvalidSPDXAnalysisException("ID "+id+" does not exist in document "+documentUri);
+		}
+		Builder builder = new Builder(documentUri, typedValue.get().getId(), typedValue.get().getType());
+		for (String propertyName:store.getPropertyValueNames(documentUri, id)) {
+			if (store.isCollectionProperty(documentUri, id, propertyName)) {
+				builder.addCollectionProperty(propertyName);
+				Iterator<Object> iter = store.listValues(documentUri, id, propertyName);
+				while (iter.hasNext()) {
+					builder.addValueToCollection(propertyName, iter.next());
+				}
+			} else {
+				Optional<Object> value = store.getValue(documentUri, id, propertyName);
+				if (value.isPresent()) {
+					builder.setValue(propertyName, value.get());
+				}
+			}
+		}
+		return builder.build();
+	}
+	
+	/**
+	 * @return the document URI for the item
+	 */
+	public String getDocumentUri() {
+		return documentUri;
+	}
+	
+	/**
+	 * @return the ID of the item
+	 */
+	public String getId() {
+		return typedValue.getId();
+	}
+	
+	/**
+	 * @return the type of the item
+	 */
+	public String getType() {
+		return typedValue.getType();
+	}
+	
+	/**
+	 * @return a typed value referencing this item
+	 */
+	public TypedValue getTypedValue() {
+		return typedValue;
+	}
+	
+	/**
+	 * @return names of the non-collection properties in the order they were added
+	 */
+	public Set<String> getValuePropertyNames() {
+		return values.keySet();
+	}
+	
+	/**
+	 * @return names of the collection properties in the order they were added
+	 */
+	public Set<String> getCollectionPropertyNames() {
+		return collections.keySet();
+	}
+	
+	/**
+	 * @param propertyName name of a non-collection property
+	 * @return the value of the property
+	 */
+	public Optional<Object> getValue(String propertyName) {
+		return Optional.ofNullable(values.get(propertyName));
+	}
+	
+	/**
+	 * @param propertyName name of a collection property
+	 * @return the values in the collection or an empty list if the collection does not exist
+	 */
+	public List<Object> getCollection(String propertyName) {
+		List<Object> retval = collections.get(propertyName);
+		return retval == null ? Collections.emptyList() : retval;
+	}
+	
+	/**
+	 * @return all typed values referenced by the properties of this item
+	 */
+	public List<TypedValue> getReferences() {
+		List<TypedValue> retval = new ArrayList<>();
+		for (Object value:values.values()) {
+			if (value instanceof TypedValue) {
+				retval.add((TypedValue)value);
+			}
+		}
+		for (List<Object> collection:collections.values()) {
+			for (Object value:collection) {
+				if (value instanceof TypedValue) {
+					retval.add((TypedValue)value);
+				}
+			}
+		}
+		return retval;
+	}
+	
+	/**
+	 * Store the item and all of its property values in a model store.  The item is created if it does not already exist.
+	 * @param store store to write the item to
+	 * @throws InvalidSPDXAnalysisException
+	 */
+	public void writeTo(IModelStore store) throws InvalidSPDXAnalysisException {
+		boolean existing = store.exists(documentUri, getId());
+		if (!existing) {
+			store.create(documentUri, getId(), getType());
+		}
+		for (Map.Entry<String, Object> entry:values.entrySet()) {
+			store.setValue(documentUri, getId(), entry.getKey(), entry.getValue());
+		}
+		for (Map.Entry<String, List<Object>> entry:collections.entrySet()) {
+			if (existing) {
+				store.clearValueCollection(documentUri, getId(), entry.getKey());
+			}
+			for (Object value:entry.getValue()) {
+				store.addValueToCollection(documentUri, getId(), entry.getKey(), value);
+			}
+		}
+	}
+	
+	@Override
+	public boolean equals(Object o) {
+		if (!(o instanceof ModelItem)) {
+			return false;
+		}
+		ModelItem item = (ModelItem)o;
+		return typedValue.equals(item.typedValue) && documentUri.equals(item.documentUri) && values.equals(item.values) &&
+				collections.equals(item.collections);
+	}
+	
+	@Override
+	public int hashCode() {
+		return typedValue.hashCode() ^ documentUri.hashCode();
+	}
+	
+	@Override
+	public String toString() {
+		return getType() + " " + getId() + " " + values + " " + collections;
+	}
+}
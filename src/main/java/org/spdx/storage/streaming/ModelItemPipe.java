@@ -0,0 +1,229 @@
+/**
+ * Copyright (c) 2026 Source Auditor Inc.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * 
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.storage.streaming;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.spdx.library.InvalidSPDXAnalysisException;
+
+/**
+ * Bounded buffer connecting a producer of model items, typically a streaming deserializer running
+ * in its own thread, to a consumer reading the items as a <code>Stream</code>.
+ * 
+ * The producer visits items through the <code>IModelItemVisitor</code> interface and blocks when the buffer
+ * is full until the consumer catches up.  A failure in the producer is rethrown to the consumer
+ * wrapped in a <code>RuntimeException</code> once the consumer has read all of the items visited
+ * before the failure.  Closing the stream cancels the producer - the next call to
+ * <code>visit</code> throws an <code>InvalidSPDXAnalysisException</code>.
+ * 
+ * @author Gary O'Neall
+ *
+ */
+public class ModelItemPipe implements IModelItemVisitor, AutoCloseable {
+	
+	/**
+	 * Source of model items which visits all items in one or more documents
+	 */
+	@FunctionalInterface
+	public interface ModelItemSource {
+		void produce(IModelItemVisitor visitor) throws InvalidSPDXAnalysisException, IOException;
+	}
+	
+	public static final int DEFAULT_CAPACITY = 1024;
+	private static final long OFFER_WAIT_MILLIS = 100;
+	
+	private static final Object END = new Object();
+	
+	private static class Failure {
+		final Throwable cause;
+		Failure(Throwable cause) {
+			this.cause = cause;
+		}
+	}
+	
+	/**
+	 * Buffered items followed by the end marker or failure - the queue has one more slot than
+	 * the capacity reserved for the end marker or failure so that it never waits for the consumer
+	 */
+	private final BlockingQueue<Object> queue;
+	private final Semaphore itemSlots;
+	private volatile boolean cancelled = false;
+	private boolean terminated = false;	// only accessed by the producer
+	private boolean finished = false;	// only accessed by the consumer
+	
+	/**
+	 * @param capacity maximum number of items buffered before the producer blocks
+	 */
+	public ModelItemPipe(int capacity) {
+		if (capacity < 1) {
+			throw new IllegalArgumentException("Capacity must be at least 1");
+		}
+		this.queue = new ArrayBlockingQueue<>(capacity + 1);
+		this.itemSlots = new Semaphore(capacity);
+	}
+	
+	/**
+	 * Run a source in a new daemon thread and return a stream of the items it produces
+	 * @param source source of the items
+	 * @param capacity maximum number of items buffered before the source blocks
+	 * @return stream of the items - the stream should be closed if it is not fully consumed
+	 */
+	public static Stream<ModelItem> stream(ModelItemSource source, int capacity) {
+		Objects.requireNonNull(source, "Source can not be null");
+		ModelItemPipe pipe = new ModelItemPipe(capacity);
+		Thread producer = new Thread(() -> pipe.run(source), "spdx-model-item-producer");
+		producer.setDaemon(true);
+		producer.start();
+		return pipe.stream();
+	}
+	
+	/**
+	 * Produce all items from the source into this pipe then mark the end of the items.  Any exception
+	 * thrown by the source is passed to the consumer.
+	 * @param source source of the items
+	 */
+	public void run(ModelItemSource source) {
+		try {
+			source.produce(this);
+			complete();
+		} catch (Throwable e) {
+			fail(e);
+		}
+	}
+	
+	private void put(ModelItem item) throws InvalidSPDXAnalysisException {
+		try {
+			while (!itemSlots.tryAcquire(OFFER_WAIT_MILLIS, TimeUnit.MILLISECONDS)) {
+				if (cancelled) {
+					throw new InvalidSPDXAnalysisException("Model item stream was closed by the consumer");
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InvalidSPDXAnalysisException("Interrupted while waiting for the consumer", e);
+		}
+		queue.add(item);
+	}
+	
+	/**
+	 * Add the end marker or failure after the buffered items using the reserved slot
+	 * @param element end marker or failure
+	 */
+	private void terminate(Object element) {
+		if (!terminated) {
+			terminated = true;
+			queue.offer(element);
+		}
+	}
+
+	@Override
+	public void visit(ModelItem item) throws InvalidSPDXAnalysisException {
+		Objects.requireNonNull(item, "Item can not be null");
+		if (cancelled) {
+			throw new InvalidSPDXAnalysisException("Model item stream was closed by the consumer");
+		}
+		put(item);
+	}
+	
+	/**
+	 * Mark the end of the items - called by the producer
+	 * @throws InvalidSPDXAnalysisException if the consumer has closed the stream
+	 */
+	public void complete() throws InvalidSPDXAnalysisException {
+		if (cancelled) {
+			throw new InvalidSPDXAnalysisException("Model item stream was closed by the consumer");
+		}
+		terminate(END);
+	}
+	
+	/**
+	 * Pass a failure to the consumer after the items already visited - called by the producer
+	 * @param cause cause of the failure
+	 */
+	public void fail(Throwable cause) {
+		if (cancelled) {
+			return;
+		}
+		terminate(new Failure(cause));
+	}
+	
+	/**
+	 * @return the items as they are produced - the stream can only be consumed once
+	 */
+	public Stream<ModelItem> stream() {
+		Spliterator<ModelItem> spliterator = new Spliterators.AbstractSpliterator<ModelItem>(Long.MAX_VALUE, 
+				Spliterator.ORDERED | Spliterator.NONNULL) {
+			@Override
+			public boolean tryAdvance(Consumer<? super ModelItem> action) {
+				ModelItem next = take();
+				if (next == null) {
+					return false;
+				}
+				action.accept(next);
+				return true;
+			}
+		};
+		return StreamSupport.stream(spliterator, false).onClose(this::close);
+	}
+	
+	/**
+	 * @return the next item or null if there are no more items
+	 */
+	private ModelItem take() {
+		if (finished) {
+			return null;
+		}
+		Object next;
+		try {
+			next = queue.take();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			close();
+			throw new RuntimeException("Interrupted while waiting for the next model item", e);
+		}
+		if (next == END) {
+			finished = true;
+			return null;
+		}
+		if (next instanceof Failure) {
+			finished = true;
+			throw new RuntimeException("Error producing model items", ((Failure)next).cause);
+		}
+		itemSlots.release();
+		return (ModelItem)next;
+	}
+
+	/**
+	 * Cancel the producer and discard any buffered items
+	 */
+	@Override
+	public void close() {
+		cancelled = true;
+		queue.clear();
+	}
+}
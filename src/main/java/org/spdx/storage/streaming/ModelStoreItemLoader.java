@@ -0,0 +1,102 @@
+/**
+ * Copyright (c) 2026 Source Auditor Inc.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * 
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.storage.streaming;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import org.spdx.library.InvalidSPDXAnalysisException;
+import org.spdx.library.model.TypedValue;
+import org.spdx.storage.IModelStore;
+import org.spdx.storage.simple.InMemSpdxStore;
+import org.spdx.storage.simple.ShardedSpdxStore;
+
+/**
+ * Visitor which stores each visited item in a model store.
+ * 
+ * Items may reference items which have not yet been visited.  For an <code>InMemSpdxStore</code> or a
+ * <code>ShardedSpdxStore</code>, each document is loaded in a bulk load session which allows forward
+ * references and defers the reference counting until the end of the document.  For other stores, a referenced item which does not yet
+ * exist is created from the type in the reference and its properties are filled in when it is visited.
+ * 
+ * @author Gary O'Neall
+ *
+ */
+public class ModelStoreItemLoader implements IModelItemVisitor {
+	
+	private final IModelStore store;
+	private final int expectedItems;
+	private final Map<String, InMemSpdxStore.BulkLoad> bulkLoads = new HashMap<>();
+	private long itemCount = 0;
+	
+	/**
+	 * @param store store to load the items into
+	 */
+	public ModelStoreItemLoader(IModelStore store) {
+		this(store, 0);
+	}
+	
+	/**
+	 * @param store store to load the items into
+	 * @param expectedItems expected number of items per document - used to size the store if supported
+	 */
+	public ModelStoreItemLoader(IModelStore store, int expectedItems) {
+		this.store = Objects.requireNonNull(store, "Store can not be null");
+		this.expectedItems = expectedItems;
+	}
+	
+	@Override
+	public void startDocument(String documentUri) throws InvalidSPDXAnalysisException {
+		if (!bulkLoads.containsKey(documentUri)) {
+			if (store instanceof InMemSpdxStore) {
+				bulkLoads.put(documentUri, ((InMemSpdxStore)store).beginBulkLoad(documentUri, expectedItems));
+			} else if (store instanceof ShardedSpdxStore) {
+				bulkLoads.put(documentUri, ((ShardedSpdxStore)store).getShard(documentUri).beginBulkLoad(documentUri, expectedItems));
+			}
+		}
+	}
+
+	@Override
+	public void visit(ModelItem item) throws InvalidSPDXAnalysisException {
+		if (!bulkLoads.containsKey(item.getDocumentUri())) {
+			for (TypedValue reference:item.getReferences()) {
+				if (!store.exists(item.getDocumentUri(), reference.getId())) {
+					store.create(item.getDocumentUri(), reference.getId(), reference.getType());
+				}
+			}
+		}
+		item.writeTo(store);
+		itemCount++;
+	}
+	
+	@Override
+	public void endDocument(String documentUri) throws InvalidSPDXAnalysisException {
+		InMemSpdxStore.BulkLoad bulkLoad = bulkLoads.remove(documentUri);
+		if (Objects.nonNull(bulkLoad)) {
+			bulkLoad.commit();
+		}
+	}
+	
+	/**
+	 * @return number of items loaded
+	 */
+	public long getItemCount() {
+		return itemCount;
+	}
+}
@@ -0,0 +1,209 @@
+/**
+ * Copyright (c) 2026 Source Auditor Inc.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * 
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.storage.streaming;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.spdx.library.InvalidSPDXAnalysisException;
+import org.spdx.library.SpdxConstants;
+import org.spdx.library.model.TypedValue;
+import org.spdx.storage.IModelStore;
+
+/**
+ * Reads the items of a document from a model store and passes them one at a time to a visitor.
+ * 
+ * Only the item being visited is copied from the store.  When the items are read in type order, the
+ * IDs of one type at a time are held in memory to sort them.
+ * 
+ * @author Gary O'Neall
+ *
+ */
+public class ModelStoreItemReader {
+	
+	/**
+	 * Order the items are read in
+	 */
+	public enum ItemOrder {
+		/**
+		 * The order returned by the store <code>getAllItems</code>
+		 */
+		STORE,
+		/**
+		 * Partitioned by type with the SPDX document first followed by the other types in alphabetical
+		 * order.  Within a type, items are ordered by ID with numbers in the ID compared by value.
+		 */
+		TYPE_AND_ID
+	}
+	
+	/**
+	 * Compares IDs comparing runs of digits by their numeric value so that <code>SPDXRef-2</code>
+	 * is before <code>SPDXRef-10</code>
+	 */
+	static final Comparator<String> ID_COMPARATOR = new Comparator<String>() {
+
+		@Override
+		public int compare(String id1, String id2) {
+			int i1 = 0;
+			int i2 = 0;
+			while (i1 < id1.length() && i2 < id2.length()) {
+				char c1 = id1.charAt(i1);
+				char c2 = id2.charAt(i2);
+				if (Character.isDigit(c1) && Character.isDigit(c2)) {
+					int end1 = digitsEnd(id1, i1);
+					int end2 = digitsEnd(id2, i2);
+					int start1 = skipZeros(id1, i1, end1);
+					int start2 = skipZeros(id2, i2, end2);
+					int retval = Integer.compare(end1 - start1, end2 - start2);
+					for (int j = 0; retval == 0 && j < end1 - start1; j++) {
+						retval = Character.compare(id1.charAt(start1 + j), id2.charAt(start2 + j));
+					}
+					if (retval == 0) {
+						retval = Integer.compare(end1 - i1, end2 - i2);
+					}
+					if (retval != 0) {
+						return retval;
+					}
+					i1 = end1;
+					i2 = end2;
+				} else {
+					if (c1 != c2) {
+						return Character.compare(c1, c2);
+					}
+					i1++;
+					i2++;
+				}
+			}
+			return Integer.compare(id1.length() - i1, id2.length() - i2);
+		}
+		
+		private int digitsEnd(String id, int start) {
+			int end = start;
+			while (end < id.length() && Character.isDigit(id.charAt(end))) {
+				end++;
+			}
+			return end;
+		}
+		
+		private int skipZeros(String id, int start, int end) {
+			while (start < end - 1 && id.charAt(start) == '0') {
+				start++;
+			}
+			return start;
+		}
+	};
+	
+	private final IModelStore store;
+	private final ItemOrder order;
+	
+	/**
+	 * @param store store to read the items from
+	 */
+	public ModelStoreItemReader(IModelStore store) {
+		this(store, ItemOrder.STORE);
+	}
+	
+	/**
+	 * @param store store to read the items from
+	 * @param order order to read the items in
+	 */
+	public ModelStoreItemReader(IModelStore store, ItemOrder order) {
+		this.store = Objects.requireNonNull(store, "Store can not be null");
+		this.order = Objects.requireNonNull(order, "Order can not be null");
+	}
+	
+	/**
+	 * Visit all items in a document including the start and end of the document
+	 * @param documentUri URI of the document to read
+	 * @param visitor visitor for the items
+	 * @return number of items visited
+	 * @throws InvalidSPDXAnalysisException
+	 */
+	public long read(String documentUri, IModelItemVisitor visitor) throws InvalidSPDXAnalysisException {
+		Objects.requireNonNull(documentUri, "Document URI can not be null");
+		Objects.requireNonNull(visitor, "Visitor can not be null");
+		visitor.startDocument(documentUri);
+		long count = 0;
+		if (ItemOrder.STORE.equals(order)) {
+			try (Stream<TypedValue> items = store.getAllItems(documentUri, null)) {
+				Iterator<TypedValue> iter = items.iterator();
+				while (iter.hasNext()) {
+					visitor.visit(ModelItem.fromStore(store, documentUri, iter.next().getId()));
+					count++;
+				}
+			}
+		} else {
+			for (String type:getTypes(documentUri)) {
+				List<String> ids = allIds(documentUri, type);
+				ids.sort(ID_COMPARATOR);
+				count += visitIds(documentUri, ids, visitor);
+			}
+		}
+		visitor.endDocument(documentUri);
+		return count;
+	}
+	
+	/**
+	 * @param documentUri
+	 * @param typeFilter type of the items
+	 * @return IDs of the items in the order returned by the store
+	 * @throws InvalidSPDXAnalysisException
+	 */
+	private List<String> allIds(String documentUri, String typeFilter) throws InvalidSPDXAnalysisException {
+		List<String> retval = new ArrayList<>();
+		try (Stream<TypedValue> items = store.getAllItems(documentUri, typeFilter)) {
+			Iterator<TypedValue> iter = items.iterator();
+			while (iter.hasNext()) {
+				retval.add(iter.next().getId());
+			}
+		}
+		return retval;
+	}
+	
+	/**
+	 * @param documentUri
+	 * @return types of the items in the document in the order the partitions are visited
+	 * @throws InvalidSPDXAnalysisException
+	 */
+	private List<String> getTypes(String documentUri) throws InvalidSPDXAnalysisException {
+		Set<String> types;
+		try (Stream<TypedValue> items = store.getAllItems(documentUri, null)) {
+			types = items.map(TypedValue::getType).collect(Collectors.toCollection(TreeSet::new));
+		}
+		List<String> retval = new ArrayList<>(types.size());
+		if (types.remove(SpdxConstants.CLASS_SPDX_DOCUMENT)) {
+			retval.add(SpdxConstants.CLASS_SPDX_DOCUMENT);
+		}
+		retval.addAll(types);
+		return retval;
+	}
+	
+	private long visitIds(String documentUri, List<String> ids, IModelItemVisitor visitor) throws InvalidSPDXAnalysisException {
+		for (String id:ids) {
+			visitor.visit(ModelItem.fromStore(store, documentUri, id));
+		}
+		return ids.size();
+	}
+}
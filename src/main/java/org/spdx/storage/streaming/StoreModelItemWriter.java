@@ -0,0 +1,78 @@
+/**
+ * Copyright (c) 2026 Source Auditor Inc.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * 
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.storage.streaming;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Objects;
+
+import org.spdx.library.InvalidSPDXAnalysisException;
+import org.spdx.storage.ISerializableModelStore;
+
+/**
+ * Writer for serializers which can only serialize a complete document.
+ * 
+ * The items are loaded into the serializable store as they are written and the document is
+ * serialized to the output stream when it is ended.  The memory used depends on the store - 
+ * a <code>MappedSpdxStore</code> keeps the items in a file rather than on the heap.
+ * 
+ * @author Gary O'Neall
+ *
+ */
+public class StoreModelItemWriter implements IModelItemWriter {
+	
+	private final ISerializableModelStore store;
+	private final OutputStream stream;
+	private final ModelStoreItemLoader loader;
+	
+	/**
+	 * @param store store to hold the items until the document is serialized
+	 * @param stream output stream to serialize the document to - closed when the writer is closed
+	 */
+	public StoreModelItemWriter(ISerializableModelStore store, OutputStream stream) {
+		this.store = Objects.requireNonNull(store, "Store can not be null");
+		this.stream = Objects.requireNonNull(stream, "Stream can not be null");
+		this.loader = new ModelStoreItemLoader(store);
+	}
+
+	@Override
+	public void startDocument(String documentUri) throws InvalidSPDXAnalysisException {
+		loader.startDocument(documentUri);
+	}
+
+	@Override
+	public void visit(ModelItem item) throws InvalidSPDXAnalysisException {
+		loader.visit(item);
+	}
+
+	@Override
+	public void endDocument(String documentUri) throws InvalidSPDXAnalysisException {
+		loader.endDocument(documentUri);
+		try {
+			store.serialize(documentUri, stream);
+			stream.flush();
+		} catch (IOException e) {
+			throw new InvalidSPDXAnalysisException("I/O error serializing document "+documentUri, e);
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		stream.close();
+	}
+}
@@ -0,0 +1,128 @@
+/**
+ * Copyright (c) 2026 Source Auditor Inc.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.utility.compare;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+
+import org.spdx.library.InvalidSPDXAnalysisException;
+
+/**
+ * Fork join task wrapping a unit of comparison work which may throw the checked
+ * exceptions used by the comparers.
+ *
+ * Checked exceptions are carried across the pool in a <code>CompareTaskException</code>
+ * and rethrown by <code>invokeAll</code> in the calling thread.
+ *
+ * @author Gary O'Neall
+ *
+ * @param <T> result type of the comparison
+ */
+class CompareTask<T> extends RecursiveTask<T> {
+
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Comparison work which may throw the comparer checked exceptions
+	 */
+	@FunctionalInterface
+	interface CompareWork<T> {
+		T compare() throws InvalidSPDXAnalysisException, SpdxCompareException;
+	}
+
+	/**
+	 * Unchecked wrapper used to carry checked exceptions out of the fork join pool
+	 */
+	static class CompareTaskException extends RuntimeException {
+		private static final long serialVersionUID = 1L;
+
+		CompareTaskException(Exception cause) {
+			super(cause);
+		}
+	}
+
+	private final CompareWork<T> work;
+
+	CompareTask(CompareWork<T> work) {
+		this.work = work;
+	}
+
+	@Override
+	protected T compute() {
+		try {
+			return work.compare();
+		} catch (InvalidSPDXAnalysisException | SpdxCompareException e) {
+			throw new CompareTaskException(e);
+		}
+	}
+
+	/**
+	 * Run all of the tasks in the pool and wait for them to complete
+	 * @param pool pool to run the tasks in
+	 * @param tasks tasks to run
+	 * @return results of the tasks in the same order as the tasks
+	 * @throws InvalidSPDXAnalysisException on any SPDX analysis error in one of the tasks
+	 * @throws SpdxCompareException on any compare error in one of the tasks
+	 */
+	static <T> List<T> invokeAll(ForkJoinPool pool, List<? extends ForkJoinTask<T>> tasks) throws InvalidSPDXAnalysisException, SpdxCompareException {
+		List<T> retval = new ArrayList<>(tasks.size());
+		if (tasks.isEmpty()) {
+			return retval;
+		}
+		try {
+			if (ForkJoinTask.inForkJoinPool()) {
+				ForkJoinTask.invokeAll(tasks);
+			} else {
+				pool.invoke(new RecursiveAction() {
+					private static final long serialVersionUID = 1L;
+
+					@Override
+					protected void compute() {
+						ForkJoinTask.invokeAll(tasks);
+					}
+				});
+			}
+			for (ForkJoinTask<T> task:tasks) {
+				retval.add(task.join());
+			}
+		} catch (CompareTaskException e) {
+			throw unwrap(e);
+		}
+		return retval;
+	}
+
+	/**
+	 * @param e exception thrown from a compare task
+	 * @return the checked exception carried in e
+	 * @throws InvalidSPDXAnalysisException if that is the cause of e
+	 */
+	static SpdxCompareException unwrap(CompareTaskException e) throws InvalidSPDXAnalysisException {
+		Throwable cause = e.getCause();
+		if (cause instanceof InvalidSPDXAnalysisException) {
+			throw (InvalidSPDXAnalysisException)cause;
+		} else if (cause instanceof SpdxCompareException) {
+			return (SpdxCompareException)cause;
+		} else {
+			return new SpdxCompareException("Unexpected error during parallel compare", e);
+		}
+	}
+}
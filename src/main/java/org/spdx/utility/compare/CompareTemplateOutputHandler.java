@@ -35,6 +35,9 @@ import org.spdx.licenseTemplate.LicenseTemplateRule.RuleType;
 /**
  * Compares the output of a parsed license template to text.  The method matches is called after
  * the document is parsed to determine if the text matches.
+ * 
+ * The tokens examined and the backtracks are counted in the <code>LicenseMatchStatistics</code> and the
+ * comparison is stopped with a <code>LicenseParserException</code> if its budget is exceeded.
  * @author Gary O'Neall
  *
  */
@@ -206,6 +209,7 @@ public class CompareTemplateOutputHandler implements
 			if (this.skip) {
 				return startToken;
 			}
+			statistics.checkBudget();
 			int nextToken = startToken;
 			if (this.rule == null) {
 				if (this.text != null) {
@@ -285,7 +289,12 @@ public class CompareTemplateOutputHandler implements
 		private int matchOptional(List<Integer> matchingStartTokens,
 				String[] matchTokens, int startToken, int endToken, String originalText,
 				DifferenceDescription differences, Map<Integer, LineColumn> tokenToLocation, boolean ignoreOptionalDifferences) throws LicenseParserException {
+			boolean firstStartToken = true;
 			for (int matchingStartToken:matchingStartTokens) {
+				if (!firstStartToken) {
+					statistics.backtrack();
+				}
+				firstStartToken = false;
 				DifferenceDescription matchDifferences = new DifferenceDescription();
 				int matchLocation = startToken;
 				for (ParseInstruction sub:subInstructions) {
@@ -356,6 +365,7 @@ public class CompareTemplateOutputHandler implements
 				while (optTokenAfterMatch <= nextOptMatchingStart && -optTokenAfterMatch <= endToken 
 						&& !tempDiffDescription.differenceFound && nextOptMatchingStart <= endToken) {
 					// while we didn't find a match
+					statistics.backtrack();
 					nextOptMatchingStart++;
 					optTokenAfterMatch = subInstructions.get(optionalSub).match(matchTokens, nextOptMatchingStart, endToken, originalText, tempDiffDescription, tokenToLocation, true);
 				}
@@ -385,6 +395,7 @@ public class CompareTemplateOutputHandler implements
 			boolean foundEnoughTokens = false;
 			while (!foundEnoughTokens && nextMatchingStart <= endToken && !differences.differenceFound) {
 				while (tokenAfterMatch < 0 && -tokenAfterMatch <= endToken) {			
+					statistics.backtrack();
 					nextMatchingStart = nextMatchingStart + 1;
 					tokenAfterMatch = compareText(textTokens, matchTokens, nextMatchingStart, endToken, null);
 				}
@@ -416,6 +427,7 @@ public class CompareTemplateOutputHandler implements
 					}
 					if (nextCheckToken < 0) {
 						// we didn't match enough, move on to the next
+						statistics.backtrack();
 						nextMatchingStart = nextMatchingStart + 1;
 						tokenAfterMatch = compareText(textTokens, matchTokens, nextMatchingStart, endToken, null);
 					} else {
@@ -456,18 +468,30 @@ public class CompareTemplateOutputHandler implements
 		 * @param differences Any differences found
 		 * @param tokenToLocation Map of token index to line/column where the token was found in the original text
 		 * @return the index of the token after the find or -1 if the text did not match
+		 * @throws LicenseParserException if the match budget is exceeded
 		 */
 		private int matchVariable(List<Integer> matchingStartTokens, String[] matchTokens, int startToken, int endToken, 
-				String originalText, DifferenceDescription differences, Map<Integer, LineColumn> tokenToLocation) {
+				String originalText, DifferenceDescription differences, Map<Integer, LineColumn> tokenToLocation) throws LicenseParserException {
 			
 			if (differences.isDifferenceFound()) {
 				return -1;
 			}
+			boolean firstStartToken = true;
 			for (int matchingStartToken:matchingStartTokens) {
+				if (!firstStartToken) {
+					statistics.backtrack();
+				}
+				firstStartToken = false;
 				String compareText = LicenseCompareHelper.locateOriginalText(originalText, startToken, matchingStartToken-1, tokenToLocation, matchTokens);
 				Pattern matchPattern = Pattern.compile(rule.getMatch(), Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
-				Matcher matcher = matchPattern.matcher(compareText);
-				if (!matcher.find() || matcher.start() > 0) {
+				Matcher matcher = matchPattern.matcher(statistics.budgeted(compareText));
+				boolean found;
+				try {
+					found = matcher.find();
+				} catch (LicenseMatchStatistics.MatchAbortedException e) {
+					throw new LicenseParserException(e.getMessage());
+				}
+				if (!found || matcher.start() > 0) {
 					continue;
 				} else {
 					int numMatched = numTokensMatched(compareText, matcher.end());
@@ -740,12 +764,23 @@ public class CompareTemplateOutputHandler implements
 	DifferenceDescription differences = new DifferenceDescription();
 	ParseInstruction currentOptionalInstruction = null;
 	boolean parsingComplete = false;
+	private final LicenseMatchStatistics statistics;
 	
 	/**
 	 * @param compareText Text to compare the parsed SPDX license template to
 	 * @throws IOException This is not to be expected since we are using StringReaders
 	 */
 	public CompareTemplateOutputHandler(String compareText) throws IOException {
+		this(compareText, new LicenseMatchStatistics(null, LicenseMatchBudget.UNLIMITED));
+	}
+	
+	/**
+	 * @param compareText Text to compare the parsed SPDX license template to
+	 * @param statistics statistics and budget for the comparison
+	 * @throws IOException This is not to be expected since we are using StringReaders
+	 */
+	public CompareTemplateOutputHandler(String compareText, LicenseMatchStatistics statistics) throws IOException {
+		this.statistics = Objects.requireNonNull(statistics, "Statistics can not be null");
 		this.compareText = LicenseCompareHelper.normalizeText(
 				LicenseCompareHelper.replaceMultWord(LicenseCompareHelper.replaceSpaceComma(compareText)));
 		this.compareTokens = LicenseCompareHelper.tokenizeLicenseText(this.compareText, tokenToLocation);
@@ -769,6 +804,7 @@ public class CompareTemplateOutputHandler implements
 		int matchTokenCounter = startToken;
 		String nextMatchToken = LicenseCompareHelper.getTokenAt(matchTokens, matchTokenCounter++);
 		while (nextTextToken != null) {
+			statistics.tokenExamined();
 			if (nextMatchToken == null) {
 				// end of compare text stream
 				while (nextTextToken != null && LicenseCompareHelper.canSkip(nextTextToken)) {
@@ -901,13 +937,25 @@ public class CompareTemplateOutputHandler implements
 	public DifferenceDescription getDifferences() {
 		return this.differences;
 	}
+	
+	/**
+	 * @return statistics for the comparison
+	 */
+	public LicenseMatchStatistics getStatistics() {
+		return this.statistics;
+	}
 
 	/* (non-Javadoc)
 	 * @see org.spdx.licenseTemplate.ILicenseTemplateOutputHandler#completeParsing()
 	 */
 	@Override
 	public void completeParsing() throws LicenseParserException {
-		int nextTokenIndex = this.topLevelInstruction.match(compareTokens, 0, compareTokens.length-1, compareText, differences, tokenToLocation);
+		int nextTokenIndex;
+		try {
+			nextTokenIndex = this.topLevelInstruction.match(compareTokens, 0, compareTokens.length-1, compareText, differences, tokenToLocation);
+		} finally {
+			statistics.complete();
+		}
 		if (nextTokenIndex > 0 && nextTokenIndex < compareTokens.length) {
 			this.differences.addDifference(tokenToLocation.get(nextTokenIndex), 
 					LicenseCompareHelper.getTokenAt(compareTokens, nextTokenIndex), 
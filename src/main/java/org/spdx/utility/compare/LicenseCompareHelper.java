@@ -637,7 +637,25 @@ public class LicenseCompareHelper {
 		}
 		return true;
 	}
-	
+
+	/**
+	 * Compares the meaning of two licenses from potentially two different documents which may have
+	 * different license ID's for the same license.  Unlike <code>isLicenseEqual</code>, licenses
+	 * with a different structure which are satisfied by the same combinations of licenses are
+	 * equivalent - e.g. <code>(MIT AND BSD-3-Clause) OR MIT</code> is equivalent to <code>MIT</code>
+	 * @param license1
+	 * @param license2
+	 * @param xlationMap Mapping the license ID's from license 1 to license 2
+	 * @return true if the licenses are semantically equivalent
+	 * @throws SpdxCompareException if either license is too complex to normalize
+	 * @throws InvalidSPDXAnalysisException
+	 */
+	public static boolean isLicenseEquivalent(AnyLicenseInfo license1,
+			AnyLicenseInfo license2, Map<String, String> xlationMap) throws SpdxCompareException, InvalidSPDXAnalysisException {
+		LicenseExpressionDnf.LeafTable table = new LicenseExpressionDnf.LeafTable();
+		return LicenseExpressionDnf.of(license1, table, xlationMap).isEquivalent(LicenseExpressionDnf.of(license2, table));
+	}
+
 	/**
 	 * @deprecated The <code>TemplateRegexMatcher</code> class should be used in place of this method. This method will be removed in the next major release.
 	 * Get the text of a license minus any optional text - note: this include the default variable text
@@ -828,9 +846,23 @@ public class LicenseCompareHelper {
 	 * @throws InvalidSPDXAnalysisException
 	 */
 	public static DifferenceDescription isTextMatchingTemplate(String template, String compareText) throws SpdxCompareException, InvalidSPDXAnalysisException {
+		return isTextMatchingTemplate(template, compareText, new LicenseMatchStatistics(null, LicenseMatchBudget.getDefault()));
+	}
+	
+	/**
+	 * @param template Template in the standard template format used for comparison
+	 * @param compareText Text to compare using the template
+	 * @param statistics statistics and budget for the comparison
+	 * @return any differences found
+	 * @throws LicenseMatchBudgetExceededException if the comparison exceeded the budget in the statistics
+	 * @throws SpdxCompareException
+	 * @throws InvalidSPDXAnalysisException
+	 */
+	public static DifferenceDescription isTextMatchingTemplate(String template, String compareText, 
+			LicenseMatchStatistics statistics) throws SpdxCompareException, InvalidSPDXAnalysisException {
 		CompareTemplateOutputHandler compareTemplateOutputHandler = null;
 		try {
-			compareTemplateOutputHandler = new CompareTemplateOutputHandler(removeLineSeparators(removeCommentChars(compareText)));
+			compareTemplateOutputHandler = new CompareTemplateOutputHandler(removeLineSeparators(removeCommentChars(compareText)), statistics);
 		} catch (IOException e1) {
 			throw new SpdxCompareException("IO Error reading the compare text: "+e1.getMessage(),e1);
 		}
@@ -840,6 +872,9 @@ public class LicenseCompareHelper {
 		} catch (LicenseTemplateRuleException e) {
 			throw new SpdxCompareException("Invalid template rule found during compare: "+e.getMessage(),e);
 		} catch (LicenseParserException e) {
+			if (statistics.isBudgetExceeded()) {
+				throw new LicenseMatchBudgetExceededException(statistics);
+			}
 			throw new SpdxCompareException("Invalid template found during compare: "+e.getMessage(),e);
 		}
 		return compareTemplateOutputHandler.getDifferences();
@@ -860,7 +895,12 @@ public class LicenseCompareHelper {
 		if (licenseTemplate == null || licenseTemplate.trim().isEmpty()) {
 			licenseTemplate = license.getLicenseText();
 		}
-		return isTextMatchingTemplate(licenseTemplate, compareText);
+		LicenseMatchStatistics statistics = new LicenseMatchStatistics(license.getLicenseId(), LicenseMatchBudget.getDefault());
+		try {
+			return isTextMatchingTemplate(licenseTemplate, compareText, statistics);
+		} finally {
+			LicenseMatchMonitor.getDefault().record(statistics);
+		}
 	}
 	
 	/**
@@ -876,7 +916,12 @@ public class LicenseCompareHelper {
 		if (exceptionTemplate == null || exceptionTemplate.trim().isEmpty()) {
 			exceptionTemplate = exception.getLicenseExceptionText();
 		}
-		return isTextMatchingTemplate(exceptionTemplate, compareText);
+		LicenseMatchStatistics statistics = new LicenseMatchStatistics(exception.getLicenseExceptionId(), LicenseMatchBudget.getDefault());
+		try {
+			return isTextMatchingTemplate(exceptionTemplate, compareText, statistics);
+		} finally {
+			LicenseMatchMonitor.getDefault().record(statistics);
+		}
 	}
 
 	/**
@@ -886,14 +931,20 @@ public class LicenseCompareHelper {
 	 * @return True if the license is found within the text, false otherwise (or if either argument is null)
 	 */
 	public static boolean isStandardLicenseWithinText(String text, SpdxListedLicense license) {
+		LicenseMatchStatistics statistics = new LicenseMatchStatistics(license.getLicenseId(), LicenseMatchBudget.getDefault());
 		try {
-			return new TemplateRegexMatcher(license.getStandardLicenseTemplate()).isTemplateMatchWithinText(text);
+			return new TemplateRegexMatcher(license.getStandardLicenseTemplate()).isTemplateMatchWithinText(text, statistics);
+		} catch (LicenseMatchBudgetExceededException e) {
+			// logged by the monitor
+			return false;
 		} catch (SpdxCompareException e) {
 			logger.warn("Error getting optional text for license ID " + license.getLicenseId(), e);
 			return false;
 		} catch (InvalidSPDXAnalysisException e) {
 			logger.warn("Error getting optional text for license ID " + license.getLicenseId(), e);
 			return false;
+		} finally {
+			LicenseMatchMonitor.getDefault().record(statistics);
 		}
 	}
 
@@ -909,12 +960,17 @@ public class LicenseCompareHelper {
 		if (text == null || text.isEmpty() || exception == null) {
 			return false;
 		}
+		LicenseMatchStatistics statistics = new LicenseMatchStatistics(exception.getLicenseExceptionId(), LicenseMatchBudget.getDefault());
 		try {
-			return new TemplateRegexMatcher(exception.getLicenseExceptionTemplate()).isTemplateMatchWithinText(text);
+			return new TemplateRegexMatcher(exception.getLicenseExceptionTemplate()).isTemplateMatchWithinText(text, statistics);
+		} catch (LicenseMatchBudgetExceededException e) {
+			// logged by the monitor
 		} catch (SpdxCompareException e) {
 			logger.warn("Error getting optional text for license exception ID " + exception.getLicenseExceptionId(), e);
 		} catch (InvalidSPDXAnalysisException e) {
 			logger.warn("Error getting optional text for license exception ID " + exception.getLicenseExceptionId(), e);
+		} finally {
+			LicenseMatchMonitor.getDefault().record(statistics);
 		}
 		return result;
 	}
@@ -933,8 +989,12 @@ public class LicenseCompareHelper {
 		List<String> matchingIds  = new ArrayList<>();
 		for (String stdLicId : stdLicenseIds) {
 			SpdxListedLicense license = ListedLicenses.getListedLicenses().getListedLicenseById(stdLicId);
-			if (!isTextStandardLicense(license, licenseText).isDifferenceFound()) {
-				matchingIds.add(license.getLicenseId());
+			try {
+				if (!isTextStandardLicense(license, licenseText).isDifferenceFound()) {
+					matchingIds.add(license.getLicenseId());
+				}
+			} catch (LicenseMatchBudgetExceededException e) {
+				// logged by the monitor - a runaway match does not stop the search for other licenses
 			}
 		}
 		return matchingIds.toArray(new String[matchingIds.size()]);
@@ -1030,7 +1090,8 @@ public class LicenseCompareHelper {
 	}
 
 	/**
-	 * Detect if a license pass black lists
+	 * Detect if a license pass black lists.  For evaluating many licenses against the same lists, 
+	 * see <code>LicensePolicy</code>
 	 * @param license license
 	 * @param blackList license black list
 	 * @return if the license pass black lists
@@ -1066,7 +1127,8 @@ public class LicenseCompareHelper {
 	}
 
 	/**
-	 * Detect if a license pass white lists
+	 * Detect if a license pass white lists.  For evaluating many licenses against the same lists, 
+	 * see <code>LicensePolicy</code>
 	 * @param license license
 	 * @param whiteList license white list
 	 * @return if the license pass white lists
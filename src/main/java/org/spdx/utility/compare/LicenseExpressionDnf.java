@@ -0,0 +1,434 @@
+/**
+ * Copyright (c) 2026 Source Auditor Inc.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * 
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.utility.compare;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.Nullable;
+
+import org.spdx.library.InvalidSPDXAnalysisException;
+import org.spdx.library.model.license.AnyLicenseInfo;
+import org.spdx.library.model.license.ConjunctiveLicenseSet;
+import org.spdx.library.model.license.DisjunctiveLicenseSet;
+import org.spdx.library.model.license.ExtractedLicenseInfo;
+import org.spdx.library.model.license.InvalidLicenseStringException;
+import org.spdx.library.model.license.LicenseExpressionNode;
+import org.spdx.library.model.license.LicenseInfoFactory;
+
+/**
+ * License expression in canonical disjunctive normal form (an OR of AND terms).
+ * 
+ * Each simple license, <code>+</code> or <code>WITH</code> expression is interned in a <code>LeafTable</code>
+ * and each AND term is stored as a bitset of the interned leaves.  Since license expressions contain no negation,
+ * the minimal DNF - where no term contains another term - is unique, so two expressions are semantically
+ * equivalent if and only if their minimal DNF terms are equal.  For example <code>(MIT AND BSD-3-Clause) OR MIT</code>
+ * and <code>MIT</code> have the same DNF.
+ * 
+ * The terms are sorted into a canonical order so that <code>equals</code> and <code>hashCode</code> can be used
+ * to compare or deduplicate expressions normalized with the same <code>LeafTable</code>.
+ * 
+ * Instances are immutable and thread safe.
+ * 
+ * @author Gary O'Neall
+ *
+ */
+public final class LicenseExpressionDnf {
+	
+	/**
+	 * Maximum number of terms produced while normalizing an expression.  Distributing an AND over ORs
+	 * multiplies the number of terms, so very large expressions may exceed this limit.
+	 */
+	public static final int MAX_TERMS = 10000;
+	
+	/**
+	 * Table assigning bit positions to simple license, <code>+</code> and <code>WITH</code> expressions.
+	 * 
+	 * Only expressions normalized with the same table can be compared.  Tables are thread safe.
+	 */
+	public static final class LeafTable {
+		private final Map<String, Integer> leafIndex = new ConcurrentHashMap<>();
+		private final List<String> leaves = new ArrayList<>();
+		
+		/**
+		 * @param leaf string form of a simple license, <code>+</code> or <code>WITH</code> expression
+		 * @return bit position for the leaf
+		 */
+		int intern(String leaf) {
+			Integer retval = leafIndex.get(leaf);
+			if (Objects.nonNull(retval)) {
+				return retval;
+			}
+			synchronized (leaves) {
+				retval = leafIndex.get(leaf);
+				if (Objects.isNull(retval)) {
+					retval = leaves.size();
+					leaves.add(leaf);
+					leafIndex.put(leaf, retval);
+				}
+				return retval;
+			}
+		}
+		
+		/**
+		 * @param index bit position
+		 * @return string form of the leaf at the bit position
+		 */
+		String getLeaf(int index) {
+			synchronized (leaves) {
+				return leaves.get(index);
+			}
+		}
+		
+		/**
+		 * @return number of leaves interned in the table
+		 */
+		public int size() {
+			return leafIndex.size();
+		}
+	}
+	
+	/**
+	 * Orders terms by number of leaves then by the bit words
+	 */
+	private static final Comparator<long[]> TERM_ORDER = (a, b) -> {
+		int retval = Integer.compare(cardinality(a), cardinality(b));
+		if (retval != 0) {
+			return retval;
+		}
+		retval = Integer.compare(a.length, b.length);
+		for (int i = a.length - 1; retval == 0 && i >= 0; i--) {
+			retval = Long.compareUnsigned(a[i], b[i]);
+		}
+		return retval;
+	};
+	
+	private static final long[] EMPTY_TERM = new long[0];
+	
+	private final LeafTable table;
+	private final long[][] terms;
+	private final int hashCode;
+	
+	private LicenseExpressionDnf(LeafTable table, long[][] terms) {
+		this.table = table;
+		this.terms = terms;
+		this.hashCode = Arrays.deepHashCode(terms);
+	}
+	
+	/**
+	 * @param license license to normalize
+	 * @param table table used to intern the leaves of the license
+	 * @return DNF for the license
+	 * @throws InvalidSPDXAnalysisException on errors reading the license
+	 * @throws SpdxCompareException if the DNF has more than <code>MAX_TERMS</code> terms
+	 */
+	public static LicenseExpressionDnf of(AnyLicenseInfo license, LeafTable table) throws InvalidSPDXAnalysisException, SpdxCompareException {
+		return of(license, table, null);
+	}
+	
+	/**
+	 * @param license license to normalize
+	 * @param table table used to intern the leaves of the license
+	 * @param xlationMap if not null, map of extracted license IDs in <code>license</code> to the equivalent IDs in the
+	 * license being compared - extracted licenses without a translation never match another license
+	 * @return DNF for the license
+	 * @throws InvalidSPDXAnalysisException on errors reading the license
+	 * @throws SpdxCompareException if the DNF has more than <code>MAX_TERMS</code> terms
+	 */
+	static LicenseExpressionDnf of(AnyLicenseInfo license, LeafTable table, 
+			@Nullable Map<String, String> xlationMap) throws InvalidSPDXAnalysisException, SpdxCompareException {
+		Objects.requireNonNull(license, "License can not be null");
+		Objects.requireNonNull(table, "Leaf table can not be null");
+		return new LicenseExpressionDnf(table, normalize(license, table, xlationMap));
+	}
+	
+	/**
+	 * @param expression parsed license expression to normalize
+	 * @param table table used to intern the leaves of the expression
+	 * @return DNF for the expression
+	 * @throws SpdxCompareException if the DNF has more than <code>MAX_TERMS</code> terms
+	 */
+	public static LicenseExpressionDnf of(LicenseExpressionNode expression, LeafTable table) throws SpdxCompareException {
+		Objects.requireNonNull(expression, "Expression can not be null");
+		Objects.requireNonNull(table, "Leaf table can not be null");
+		return new LicenseExpressionDnf(table, normalize(expression, table));
+	}
+	
+	/**
+	 * @param expression license expression string to normalize
+	 * @param table table used to intern the leaves of the expression
+	 * @return DNF for the expression
+	 * @throws InvalidLicenseStringException if the expression can not be parsed
+	 * @throws SpdxCompareException if the DNF has more than <code>MAX_TERMS</code> terms
+	 */
+	public static LicenseExpressionDnf of(String expression, LeafTable table) throws InvalidLicenseStringException, SpdxCompareException {
+		Objects.requireNonNull(expression, "Expression can not be null");
+		return of(LicenseInfoFactory.parseLicenseExpressionNode(expression), table);
+	}
+	
+	private static long[][] normalize(AnyLicenseInfo license, LeafTable table, 
+			@Nullable Map<String, String> xlationMap) throws InvalidSPDXAnalysisException, SpdxCompareException {
+		if (license instanceof ConjunctiveLicenseSet) {
+			long[][] retval = new long[][] {EMPTY_TERM};
+			for (AnyLicenseInfo member:((ConjunctiveLicenseSet)license).getMembers()) {
+				retval = and(retval, normalize(member, table, xlationMap));
+			}
+			return retval;
+		} else if (license instanceof DisjunctiveLicenseSet) {
+			List<long[][]> members = new ArrayList<>();
+			for (AnyLicenseInfo member:((DisjunctiveLicenseSet)license).getMembers()) {
+				members.add(normalize(member, table, xlationMap));
+			}
+			return or(members);
+		} else if (Objects.nonNull(xlationMap) && license instanceof ExtractedLicenseInfo) {
+			String xlatedLicenseId = xlationMap.get(((ExtractedLicenseInfo)license).getLicenseId());
+			// a leading space can not occur in a license expression so untranslated IDs never match
+			return leaf(table.intern(Objects.isNull(xlatedLicenseId) ? " " + license.toString() : xlatedLicenseId));
+		} else {
+			return leaf(table.intern(license.toString()));
+		}
+	}
+	
+	private static long[][] normalize(LicenseExpressionNode expression, LeafTable table) throws SpdxCompareException {
+		switch (expression.getKind()) {
+			case AND: {
+				long[][] retval = new long[][] {EMPTY_TERM};
+				for (LicenseExpressionNode member:expression.getChildren()) {
+					retval = and(retval, normalize(member, table));
+				}
+				return retval;
+			}
+			case OR: {
+				List<long[][]> members = new ArrayList<>();
+				for (LicenseExpressionNode member:expression.getChildren()) {
+					members.add(normalize(member, table));
+				}
+				return or(members);
+			}
+			default: return leaf(table.intern(expression.toString()));
+		}
+	}
+	
+	private static long[][] leaf(int index) {
+		long[] term = new long[(index >> 6) + 1];
+		term[index >> 6] = 1L << index;
+		return new long[][] {term};
+	}
+	
+	/**
+	 * @param members minimal DNF terms for each member of an OR
+	 * @return minimal DNF terms for the OR
+	 * @throws SpdxCompareException if there are more than <code>MAX_TERMS</code> terms
+	 */
+	private static long[][] or(List<long[][]> members) throws SpdxCompareException {
+		int count = 0;
+		for (long[][] member:members) {
+			count += member.length;
+		}
+		checkTermCount(count);
+		long[][] retval = new long[count][];
+		int index = 0;
+		for (long[][] member:members) {
+			System.arraycopy(member, 0, retval, index, member.length);
+			index += member.length;
+		}
+		return minimize(retval);
+	}
+	
+	/**
+	 * @param a minimal DNF terms
+	 * @param b minimal DNF terms
+	 * @return minimal DNF terms for <code>a AND b</code>
+	 * @throws SpdxCompareException if there are more than <code>MAX_TERMS</code> terms
+	 */
+	private static long[][] and(long[][] a, long[][] b) throws SpdxCompareException {
+		checkTermCount((long)a.length * b.length);
+		long[][] retval = new long[a.length * b.length][];
+		int index = 0;
+		for (long[] termA:a) {
+			for (long[] termB:b) {
+				retval[index++] = union(termA, termB);
+			}
+		}
+		return minimize(retval);
+	}
+	
+	private static void checkTermCount(long count) throws SpdxCompareException {
+		if (count > MAX_TERMS) {
+			throw new SpdxCompareException("License expression is too complex to normalize - more than "+MAX_TERMS+" terms");
+		}
+	}
+	
+	/**
+	 * Sorts the terms into canonical order and removes any term which contains another term
+	 * @param terms terms to minimize - the array is sorted in place
+	 * @return minimal terms in canonical order
+	 */
+	private static long[][] minimize(long[][] terms) {
+		Arrays.sort(terms, TERM_ORDER);
+		int kept = 0;
+		for (int i = 0; i < terms.length; i++) {
+			boolean absorbed = false;
+			// terms are sorted by cardinality so only earlier terms can be contained in this term
+			for (int j = 0; j < kept && !absorbed; j++) {
+				absorbed = isSubset(terms[j], terms[i]);
+			}
+			if (!absorbed) {
+				terms[kept++] = terms[i];
+			}
+		}
+		return kept == terms.length ? terms : Arrays.copyOf(terms, kept);
+	}
+	
+	private static long[] union(long[] a, long[] b) {
+		long[] longer = a.length >= b.length ? a : b;
+		long[] shorter = a.length >= b.length ? b : a;
+		long[] retval = longer.clone();
+		for (int i = 0; i < shorter.length; i++) {
+			retval[i] |= shorter[i];
+		}
+		return retval;
+	}
+	
+	/**
+	 * @param a term
+	 * @param b term
+	 * @return true if every leaf in a is also in b
+	 */
+	private static boolean isSubset(long[] a, long[] b) {
+		if (a.length > b.length) {
+			return false;	// terms never have trailing zero words
+		}
+		for (int i = 0; i < a.length; i++) {
+			if ((a[i] & ~b[i]) != 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+	
+	private static int cardinality(long[] term) {
+		int retval = 0;
+		for (long word:term) {
+			retval += Long.bitCount(word);
+		}
+		return retval;
+	}
+	
+	private void checkTable(LicenseExpressionDnf other) {
+		if (table != other.table) {
+			throw new IllegalArgumentException("License expressions must be normalized with the same leaf table to be compared");
+		}
+	}
+	
+	/**
+	 * @param other DNF normalized with the same leaf table
+	 * @return true if this and other are satisfied by exactly the same combinations of licenses
+	 */
+	public boolean isEquivalent(LicenseExpressionDnf other) {
+		checkTable(other);
+		return equals(other);
+	}
+	
+	/**
+	 * For example <code>MIT AND Apache-2.0</code> implies <code>MIT OR GPL-2.0-only</code>
+	 * @param other DNF normalized with the same leaf table
+	 * @return true if every combination of licenses which satisfies this expression also satisfies other
+	 */
+	public boolean implies(LicenseExpressionDnf other) {
+		checkTable(other);
+		for (long[] term:terms) {
+			boolean satisfied = false;
+			for (int i = 0; i < other.terms.length && !satisfied; i++) {
+				satisfied = isSubset(other.terms[i], term);
+			}
+			if (!satisfied) {
+				return false;
+			}
+		}
+		return true;
+	}
+	
+	/**
+	 * @return the terms of the DNF in canonical order - each term is the set of simple license, <code>+</code> and 
+	 * <code>WITH</code> expressions which must all be satisfied
+	 */
+	public List<Set<String>> getTerms() {
+		List<Set<String>> retval = new ArrayList<>(terms.length);
+		for (long[] term:terms) {
+			Set<String> leaves = new LinkedHashSet<>();
+			for (int i = 0; i < term.length; i++) {
+				long word = term[i];
+				while (word != 0) {
+					leaves.add(table.getLeaf((i << 6) + Long.numberOfTrailingZeros(word)));
+					word &= word - 1;
+				}
+			}
+			retval.add(Collections.unmodifiableSet(leaves));
+		}
+		return Collections.unmodifiableList(retval);
+	}
+	
+	@Override
+	public int hashCode() {
+		return hashCode;
+	}
+	
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (!(o instanceof LicenseExpressionDnf)) {
+			return false;
+		}
+		LicenseExpressionDnf other = (LicenseExpressionDnf)o;
+		return table == other.table && hashCode == other.hashCode && Arrays.deepEquals(terms, other.terms);
+	}
+	
+	/**
+	 * @return the DNF as a license expression string
+	 */
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder();
+		List<Set<String>> termLeaves = getTerms();
+		for (Set<String> term:termLeaves) {
+			if (sb.length() > 0) {
+				sb.append(" OR ");
+			}
+			boolean parens = term.size() > 1 && termLeaves.size() > 1;
+			if (parens) {
+				sb.append('(');
+			}
+			sb.append(String.join(" AND ", term));
+			if (parens) {
+				sb.append(')');
+			}
+		}
+		return sb.toString();
+	}
+}
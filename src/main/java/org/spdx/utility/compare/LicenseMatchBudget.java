@@ -0,0 +1,114 @@
+/**
+ * Copyright (c) 2026 Source Auditor Inc.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * 
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.utility.compare;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.spdx.Configuration;
+
+/**
+ * Limits on the work performed comparing text to a single license or exception template.
+ * 
+ * The time limit bounds the elapsed time of the comparison including the regular expressions used
+ * to match variable text.  The step limit bounds the number of text tokens examined plus the
+ * number of times the matcher backtracks to try another starting position.  A limit of 0 means
+ * there is no limit.
+ * 
+ * The default budget is set by the <code>org.spdx.licenseMatchTimeLimitMillis</code> and
+ * <code>org.spdx.licenseMatchStepLimit</code> configuration properties and is unlimited if they
+ * are not set.
+ * 
+ * @author Gary O'Neall
+ *
+ */
+public class LicenseMatchBudget {
+	
+	static final Logger logger = LoggerFactory.getLogger(LicenseMatchBudget.class);
+	
+	static final String TIME_LIMIT_PROPERTY = "org.spdx.licenseMatchTimeLimitMillis";
+	static final String STEP_LIMIT_PROPERTY = "org.spdx.licenseMatchStepLimit";
+	
+	/**
+	 * Budget with no limits
+	 */
+	public static final LicenseMatchBudget UNLIMITED = new LicenseMatchBudget(0, 0);
+	
+	private static LicenseMatchBudget defaultBudget = null;
+	
+	private final long timeLimitMillis;
+	private final long stepLimit;
+	
+	/**
+	 * @param timeLimitMillis maximum elapsed time in milliseconds for a comparison or 0 for no limit
+	 * @param stepLimit maximum number of tokens examined plus backtracks for a comparison or 0 for no limit
+	 */
+	public LicenseMatchBudget(long timeLimitMillis, long stepLimit) {
+		if (timeLimitMillis < 0 || stepLimit < 0) {
+			throw new IllegalArgumentException("License match limits can not be negative");
+		}
+		this.timeLimitMillis = timeLimitMillis;
+		this.stepLimit = stepLimit;
+	}
+	
+	/**
+	 * @return the budget set in the configuration
+	 */
+	public static synchronized LicenseMatchBudget getDefault() {
+		if (defaultBudget == null) {
+			defaultBudget = new LicenseMatchBudget(limitFromConfiguration(TIME_LIMIT_PROPERTY), 
+					limitFromConfiguration(STEP_LIMIT_PROPERTY));
+		}
+		return defaultBudget;
+	}
+	
+	private static long limitFromConfiguration(String property) {
+		String limitStr = Configuration.getInstance().getProperty(property, "0");
+		try {
+			return Math.max(0, Long.parseLong(limitStr.trim()));
+		} catch (NumberFormatException e) {
+			logger.warn("Invalid value "+limitStr+" for "+property+" - no limit will be used");
+			return 0;
+		}
+	}
+
+	/**
+	 * @return maximum elapsed time in milliseconds for a comparison or 0 for no limit
+	 */
+	public long getTimeLimitMillis() {
+		return timeLimitMillis;
+	}
+
+	/**
+	 * @return maximum number of tokens examined plus backtracks for a comparison or 0 for no limit
+	 */
+	public long getStepLimit() {
+		return stepLimit;
+	}
+	
+	/**
+	 * @return true if neither the time nor the steps are limited
+	 */
+	public boolean isUnlimited() {
+		return timeLimitMillis == 0 && stepLimit == 0;
+	}
+	
+	@Override
+	public String toString() {
+		return "LicenseMatchBudget[timeLimitMillis=" + timeLimitMillis + ", stepLimit=" + stepLimit + "]";
+	}
+}
@@ -0,0 +1,47 @@
+/**
+ * Copyright (c) 2026 Source Auditor Inc.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * 
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.utility.compare;
+
+/**
+ * Thrown when a license comparison is stopped because it exceeded its <code>LicenseMatchBudget</code>
+ * 
+ * @author Gary O'Neall
+ *
+ */
+public class LicenseMatchBudgetExceededException extends SpdxCompareException {
+
+	private static final long serialVersionUID = 1L;
+	
+	private final transient LicenseMatchStatistics statistics;
+
+	/**
+	 * @param statistics statistics for the comparison which exceeded the budget
+	 */
+	public LicenseMatchBudgetExceededException(LicenseMatchStatistics statistics) {
+		super(statistics.getBudgetExceededReason() + 
+				(statistics.getLicenseId() == null ? "" : " comparing license "+statistics.getLicenseId()));
+		this.statistics = statistics;
+	}
+	
+	/**
+	 * @return statistics for the comparison which exceeded the budget
+	 */
+	public LicenseMatchStatistics getStatistics() {
+		return statistics;
+	}
+}
@@ -0,0 +1,207 @@
+/**
+ * Copyright (c) 2026 Source Auditor Inc.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * 
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.utility.compare;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Totals of the license comparison statistics per license or exception ID.
+ * 
+ * The comparisons made by <code>LicenseCompareHelper</code> against listed licenses and exceptions
+ * are recorded in the default monitor.  Comparisons which exceed their budget are logged as warnings.
+ * 
+ * @author Gary O'Neall
+ *
+ */
+public class LicenseMatchMonitor {
+	
+	static final Logger logger = LoggerFactory.getLogger(LicenseMatchMonitor.class);
+	
+	private static final LicenseMatchMonitor DEFAULT_MONITOR = new LicenseMatchMonitor();
+	
+	/**
+	 * Totals for the comparisons against a single license or exception
+	 */
+	public static class LicenseMatchSummary {
+		private final String licenseId;
+		private long comparisons = 0;
+		private long totalNanos = 0;
+		private long maxNanos = 0;
+		private long tokensExamined = 0;
+		private long backtracks = 0;
+		private long budgetExceeded = 0;
+		
+		private LicenseMatchSummary(String licenseId) {
+			this.licenseId = licenseId;
+		}
+		
+		private LicenseMatchSummary(LicenseMatchSummary summary) {
+			this.licenseId = summary.licenseId;
+			this.comparisons = summary.comparisons;
+			this.totalNanos = summary.totalNanos;
+			this.maxNanos = summary.maxNanos;
+			this.tokensExamined = summary.tokensExamined;
+			this.backtracks = summary.backtracks;
+			this.budgetExceeded = summary.budgetExceeded;
+		}
+		
+		private void add(LicenseMatchStatistics statistics) {
+			long elapsed = statistics.getElapsedNanos();
+			comparisons++;
+			totalNanos += elapsed;
+			maxNanos = Math.max(maxNanos, elapsed);
+			tokensExamined += statistics.getTokensExamined();
+			backtracks += statistics.getBacktracks();
+			if (statistics.isBudgetExceeded()) {
+				budgetExceeded++;
+			}
+		}
+
+		/**
+		 * @return license or exception ID
+		 */
+		public String getLicenseId() {
+			return licenseId;
+		}
+
+		/**
+		 * @return number of comparisons
+		 */
+		public long getComparisons() {
+			return comparisons;
+		}
+
+		/**
+		 * @return total elapsed time of the comparisons in nanoseconds
+		 */
+		public long getTotalNanos() {
+			return totalNanos;
+		}
+
+		/**
+		 * @return elapsed time of the slowest comparison in nanoseconds
+		 */
+		public long getMaxNanos() {
+			return maxNanos;
+		}
+
+		/**
+		 * @return total number of text tokens examined
+		 */
+		public long getTokensExamined() {
+			return tokensExamined;
+		}
+
+		/**
+		 * @return total number of backtracks
+		 */
+		public long getBacktracks() {
+			return backtracks;
+		}
+
+		/**
+		 * @return number of comparisons stopped because they exceeded the budget
+		 */
+		public long getBudgetExceeded() {
+			return budgetExceeded;
+		}
+		
+		@Override
+		public String toString() {
+			return "LicenseMatchSummary[licenseId=" + licenseId + ", comparisons=" + comparisons + 
+					", totalNanos=" + totalNanos + ", maxNanos=" + maxNanos + ", tokensExamined=" + tokensExamined + 
+					", backtracks=" + backtracks + ", budgetExceeded=" + budgetExceeded + "]";
+		}
+	}
+	
+	private final Map<String, LicenseMatchSummary> summaries = new ConcurrentHashMap<>();
+	
+	/**
+	 * @return monitor used for the comparisons made by <code>LicenseCompareHelper</code>
+	 */
+	public static LicenseMatchMonitor getDefault() {
+		return DEFAULT_MONITOR;
+	}
+	
+	/**
+	 * Add the statistics of a completed comparison to the totals for its license ID.  Statistics
+	 * without a license ID are not recorded.
+	 * @param statistics statistics for the comparison
+	 */
+	public void record(LicenseMatchStatistics statistics) {
+		Objects.requireNonNull(statistics, "Statistics can not be null");
+		statistics.complete();
+		if (statistics.isBudgetExceeded()) {
+			logger.warn("{} - stopped after {}ms with {} tokens examined and {} backtracks", 
+					statistics.getBudgetExceededReason() + (statistics.getLicenseId() == null ? "" : " comparing license "+statistics.getLicenseId()),
+					statistics.getElapsedNanos() / 1000000, statistics.getTokensExamined(), statistics.getBacktracks());
+		}
+		if (Objects.isNull(statistics.getLicenseId())) {
+			return;
+		}
+		LicenseMatchSummary summary = summaries.computeIfAbsent(statistics.getLicenseId(), LicenseMatchSummary::new);
+		synchronized(summary) {
+			summary.add(statistics);
+		}
+	}
+	
+	/**
+	 * @param licenseId license or exception ID
+	 * @return a copy of the totals for the license or empty if no comparisons were recorded
+	 */
+	public Optional<LicenseMatchSummary> getSummary(String licenseId) {
+		LicenseMatchSummary summary = summaries.get(licenseId);
+		if (Objects.isNull(summary)) {
+			return Optional.empty();
+		}
+		synchronized(summary) {
+			return Optional.of(new LicenseMatchSummary(summary));
+		}
+	}
+	
+	/**
+	 * @param limit maximum number of summaries to return
+	 * @return copies of the totals for the licenses with the slowest comparisons, slowest first
+	 */
+	public List<LicenseMatchSummary> getSlowestLicenses(int limit) {
+		List<LicenseMatchSummary> retval = new ArrayList<>();
+		for (LicenseMatchSummary summary:summaries.values()) {
+			synchronized(summary) {
+				retval.add(new LicenseMatchSummary(summary));
+			}
+		}
+		retval.sort(Comparator.comparingLong(LicenseMatchSummary::getMaxNanos).reversed());
+		return retval.size() > limit ? new ArrayList<>(retval.subList(0, limit)) : retval;
+	}
+	
+	/**
+	 * Remove all recorded totals
+	 */
+	public void reset() {
+		summaries.clear();
+	}
+}
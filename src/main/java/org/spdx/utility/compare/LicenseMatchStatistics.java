@@ -0,0 +1,236 @@
+/**
+ * Copyright (c) 2026 Source Auditor Inc.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * 
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.utility.compare;
+
+import java.util.Objects;
+
+import javax.annotation.Nullable;
+
+import org.spdx.licenseTemplate.LicenseParserException;
+
+/**
+ * Work performed comparing text to a single license or exception template.
+ * 
+ * A new instance is used for each comparison and is not thread safe.  The matcher counts each
+ * text token examined and each backtrack - a retry of a variable, optional or normal text match at
+ * another starting token - and stops the comparison once the budget is exceeded.
+ * 
+ * @author Gary O'Neall
+ *
+ */
+public class LicenseMatchStatistics {
+	
+	/**
+	 * Number of regular expression character reads between checks of the time limit
+	 */
+	private static final int TIME_CHECK_INTERVAL = 1024;
+	
+	/**
+	 * Thrown from a regular expression match when the time limit is exceeded
+	 */
+	static class MatchAbortedException extends RuntimeException {
+		private static final long serialVersionUID = 1L;
+
+		MatchAbortedException(String message) {
+			super(message);
+		}
+	}
+	
+	/**
+	 * Text which checks the time limit as it is read by a regular expression matcher
+	 */
+	private class BudgetedCharSequence implements CharSequence {
+		private final CharSequence text;
+		
+		private BudgetedCharSequence(CharSequence text) {
+			this.text = text;
+		}
+
+		@Override
+		public int length() {
+			return text.length();
+		}
+
+		@Override
+		public char charAt(int index) {
+			if (++regexCharactersExamined % TIME_CHECK_INTERVAL == 0 && isTimeExceeded()) {
+				throw new MatchAbortedException(budgetExceededReason);
+			}
+			return text.charAt(index);
+		}
+
+		@Override
+		public CharSequence subSequence(int start, int end) {
+			return new BudgetedCharSequence(text.subSequence(start, end));
+		}
+		
+		@Override
+		public String toString() {
+			return text.toString();
+		}
+	}
+	
+	private final String licenseId;
+	private final LicenseMatchBudget budget;
+	private final long startNanos;
+	private final long deadlineNanos;
+	private long endNanos = -1;
+	private long tokensExamined = 0;
+	private long backtracks = 0;
+	private long regexCharactersExamined = 0;
+	private String budgetExceededReason = null;
+	
+	/**
+	 * Start the statistics for a comparison
+	 * @param licenseId ID of the license or exception being compared or null if not known
+	 * @param budget limits on the comparison
+	 */
+	public LicenseMatchStatistics(@Nullable String licenseId, LicenseMatchBudget budget) {
+		this.licenseId = licenseId;
+		this.budget = Objects.requireNonNull(budget, "Budget can not be null");
+		this.startNanos = System.nanoTime();
+		this.deadlineNanos = budget.getTimeLimitMillis() > 0 ? startNanos + budget.getTimeLimitMillis() * 1000000L : 0;
+	}
+	
+	/**
+	 * Count a text token compared
+	 */
+	void tokenExamined() {
+		tokensExamined++;
+	}
+	
+	/**
+	 * Count a retry of a match at another starting token
+	 * @throws LicenseParserException if the budget has been exceeded
+	 */
+	void backtrack() throws LicenseParserException {
+		backtracks++;
+		checkBudget();
+	}
+	
+	/**
+	 * @throws LicenseParserException if the budget has been exceeded
+	 */
+	void checkBudget() throws LicenseParserException {
+		if (Objects.nonNull(budgetExceededReason)) {
+			throw new LicenseParserException(budgetExceededReason);
+		}
+		if (budget.getStepLimit() > 0 && getSteps() > budget.getStepLimit()) {
+			budgetExceededReason = "License match exceeded the limit of "+budget.getStepLimit()+" steps";
+			throw new LicenseParserException(budgetExceededReason);
+		}
+		if (isTimeExceeded()) {
+			throw new LicenseParserException(budgetExceededReason);
+		}
+	}
+	
+	private boolean isTimeExceeded() {
+		if (deadlineNanos != 0 && System.nanoTime() - deadlineNanos > 0) {
+			budgetExceededReason = "License match exceeded the time limit of "+budget.getTimeLimitMillis()+"ms";
+			return true;
+		}
+		return false;
+	}
+	
+	/**
+	 * @param text text to match with a regular expression
+	 * @return text which aborts the match with a <code>MatchAbortedException</code> if the time limit is exceeded
+	 */
+	CharSequence budgeted(CharSequence text) {
+		return deadlineNanos == 0 ? text : new BudgetedCharSequence(text);
+	}
+	
+	/**
+	 * Mark the comparison as complete
+	 */
+	void complete() {
+		if (endNanos < 0) {
+			endNanos = System.nanoTime();
+		}
+	}
+
+	/**
+	 * @return ID of the license or exception being compared or null if not known
+	 */
+	public @Nullable String getLicenseId() {
+		return licenseId;
+	}
+
+	/**
+	 * @return limits on the comparison
+	 */
+	public LicenseMatchBudget getBudget() {
+		return budget;
+	}
+	
+	/**
+	 * @return elapsed time of the comparison in nanoseconds - up to now if the comparison is not complete
+	 */
+	public long getElapsedNanos() {
+		return (endNanos < 0 ? System.nanoTime() : endNanos) - startNanos;
+	}
+
+	/**
+	 * @return number of text tokens compared
+	 */
+	public long getTokensExamined() {
+		return tokensExamined;
+	}
+
+	/**
+	 * @return number of times a match was retried at another starting token
+	 */
+	public long getBacktracks() {
+		return backtracks;
+	}
+	
+	/**
+	 * @return number of characters read by regular expression matches - only counted when there is a time limit
+	 */
+	public long getRegexCharactersExamined() {
+		return regexCharactersExamined;
+	}
+	
+	/**
+	 * @return tokens examined plus backtracks
+	 */
+	public long getSteps() {
+		return tokensExamined + backtracks;
+	}
+
+	/**
+	 * @return true if the comparison was stopped because the budget was exceeded
+	 */
+	public boolean isBudgetExceeded() {
+		return Objects.nonNull(budgetExceededReason);
+	}
+	
+	/**
+	 * @return description of the limit exceeded or null if the budget was not exceeded
+	 */
+	public @Nullable String getBudgetExceededReason() {
+		return budgetExceededReason;
+	}
+	
+	@Override
+	public String toString() {
+		return "LicenseMatchStatistics[licenseId=" + licenseId + ", elapsedNanos=" + getElapsedNanos() + 
+				", tokensExamined=" + tokensExamined + ", backtracks=" + backtracks + 
+				", budgetExceeded=" + isBudgetExceeded() + "]";
+	}
+}
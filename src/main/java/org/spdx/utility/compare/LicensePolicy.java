@@ -0,0 +1,354 @@
+/**
+ * Copyright (c) 2026 Source Auditor Inc.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * 
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.utility.compare;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import javax.annotation.Nullable;
+
+import org.spdx.library.InvalidSPDXAnalysisException;
+import org.spdx.library.model.SpdxItem;
+import org.spdx.library.model.SpdxPackage;
+import org.spdx.library.model.license.AnyLicenseInfo;
+import org.spdx.library.model.license.ConjunctiveLicenseSet;
+import org.spdx.library.model.license.DisjunctiveLicenseSet;
+import org.spdx.library.model.license.InvalidLicenseStringException;
+import org.spdx.library.model.license.LicenseExpressionNode;
+import org.spdx.library.model.license.LicenseInfoFactory;
+
+/**
+ * Compiled license policy consisting of one or more named allow lists and deny lists.
+ * 
+ * Each list is assigned a bit position.  A license expression is evaluated in a single bottom-up pass
+ * producing a mask with the bit set for every list the expression passes:
+ * <ul>
+ * <li>A simple license, <code>+</code> or <code>WITH</code> expression passes an allow list if it is on the list and
+ * passes a deny list if it is not on the list.  The <code>+</code> and <code>WITH</code> are part of the 
+ * license being matched - e.g. <code>GPL-2.0+</code> does not match a list containing <code>GPL-2.0</code></li>
+ * <li>A conjunctive (AND) license set passes the lists passed by all of its members</li>
+ * <li>A disjunctive (OR) license set passes the lists passed by any of its members</li>
+ * </ul>
+ * For a single list this is the same result as <code>LicenseCompareHelper.isLicensePassWhiteList</code> 
+ * and <code>LicenseCompareHelper.isLicensePassBlackList</code>.
+ * 
+ * Results for license expression strings are memoized.  Policies are immutable and thread safe.
+ * 
+ * @author Gary O'Neall
+ *
+ */
+public final class LicensePolicy {
+	
+	/**
+	 * Maximum number of lists in a policy
+	 */
+	public static final int MAX_LISTS = Long.SIZE;
+	
+	static final int MAX_MEMOIZED_EXPRESSIONS = 10000;
+	
+	/**
+	 * Builder for license policies
+	 */
+	public static class Builder {
+		private final Map<String, Collection<String>> allowLists = new LinkedHashMap<>();
+		private final Map<String, Collection<String>> denyLists = new LinkedHashMap<>();
+		
+		/**
+		 * @param listName unique name of the list
+		 * @param licenses licenses which pass the list - simple license IDs or license IDs with <code>+</code> and/or a <code>WITH</code> exception
+		 * @return this builder
+		 */
+		public Builder allow(String listName, String... licenses) {
+			return allow(listName, Arrays.asList(licenses));
+		}
+		
+		/**
+		 * @param listName unique name of the list
+		 * @param licenses licenses which pass the list - simple license IDs or license IDs with <code>+</code> and/or a <code>WITH</code> exception
+		 * @return this builder
+		 */
+		public Builder allow(String listName, Collection<String> licenses) {
+			checkListName(listName);
+			allowLists.put(listName, new ArrayList<>(licenses));
+			return this;
+		}
+		
+		/**
+		 * @param listName unique name of the list
+		 * @param licenses licenses which fail the list - simple license IDs or license IDs with <code>+</code> and/or a <code>WITH</code> exception
+		 * @return this builder
+		 */
+		public Builder deny(String listName, String... licenses) {
+			return deny(listName, Arrays.asList(licenses));
+		}
+		
+		/**
+		 * @param listName unique name of the list
+		 * @param licenses licenses which fail the list - simple license IDs or license IDs with <code>+</code> and/or a <code>WITH</code> exception
+		 * @return this builder
+		 */
+		public Builder deny(String listName, Collection<String> licenses) {
+			checkListName(listName);
+			denyLists.put(listName, new ArrayList<>(licenses));
+			return this;
+		}
+		
+		private void checkListName(String listName) {
+			Objects.requireNonNull(listName, "List name can not be null");
+			if (allowLists.containsKey(listName) || denyLists.containsKey(listName)) {
+				throw new IllegalArgumentException("Duplicate license policy list name "+listName);
+			}
+			if (allowLists.size() + denyLists.size() >= MAX_LISTS) {
+				throw new IllegalArgumentException("License policies are limited to "+MAX_LISTS+" lists");
+			}
+		}
+		
+		/**
+		 * @return the compiled license policy
+		 */
+		public LicensePolicy build() {
+			return new LicensePolicy(allowLists, denyLists);
+		}
+	}
+	
+	private final List<String> listNames;
+	private final long allListsMask;
+	private final long denyListsMask;
+	/**
+	 * Map of the normalized license to the mask of lists containing the license
+	 */
+	private final Map<String, Long> membership;
+	private final Map<String, Long> memoizedExpressions = new ConcurrentHashMap<>();
+	
+	private LicensePolicy(Map<String, Collection<String>> allowLists, Map<String, Collection<String>> denyLists) {
+		List<String> names = new ArrayList<>();
+		Map<String, Long> members = new HashMap<>();
+		long deny = 0;
+		for (Map.Entry<String, Collection<String>> entry:allowLists.entrySet()) {
+			addList(entry.getKey(), entry.getValue(), names, members);
+		}
+		for (Map.Entry<String, Collection<String>> entry:denyLists.entrySet()) {
+			deny |= addList(entry.getKey(), entry.getValue(), names, members);
+		}
+		this.listNames = Collections.unmodifiableList(names);
+		this.allListsMask = names.size() == MAX_LISTS ? -1L : (1L << names.size()) - 1;
+		this.denyListsMask = deny;
+		this.membership = members;
+	}
+	
+	private static long addList(String listName, Collection<String> licenses, List<String> names, Map<String, Long> members) {
+		long bit = 1L << names.size();
+		names.add(listName);
+		for (String license:licenses) {
+			if (Objects.nonNull(license)) {
+				members.merge(normalize(license), bit, (a, b) -> a | b);
+			}
+		}
+		return bit;
+	}
+	
+	/**
+	 * @param license simple license string or expression
+	 * @return the license with white space trimmed and collapsed to a single space
+	 */
+	static String normalize(String license) {
+		StringBuilder sb = new StringBuilder(license.length());
+		for (String token:license.trim().split("\\s+")) {
+			if (sb.length() > 0) {
+				sb.append(' ');
+			}
+			sb.append(token);
+		}
+		return sb.toString();
+	}
+	
+	/**
+	 * @return names of the lists in bit order - the list at index i corresponds to bit i of the evaluation masks
+	 */
+	public List<String> getListNames() {
+		return listNames;
+	}
+	
+	/**
+	 * @param listName name of an allow or deny list
+	 * @return mask with the bit for the list set
+	 */
+	public long getListMask(String listName) {
+		int index = listNames.indexOf(listName);
+		if (index < 0) {
+			throw new IllegalArgumentException("No license policy list named "+listName);
+		}
+		return 1L << index;
+	}
+	
+	/**
+	 * @return mask with the bits for all lists in the policy set
+	 */
+	public long getAllListsMask() {
+		return allListsMask;
+	}
+	
+	/**
+	 * @param license license string for a simple license, <code>+</code> or <code>WITH</code> expression
+	 * @return mask of lists passed by the license
+	 */
+	private long evaluateSimpleLicense(String license) {
+		Long member = membership.get(license);
+		return Objects.isNull(member) ? denyListsMask : member ^ denyListsMask;
+	}
+	
+	/**
+	 * @param license license to evaluate - a null license passes only the deny lists
+	 * @return mask of lists passed by the license
+	 * @throws InvalidSPDXAnalysisException
+	 */
+	public long evaluate(@Nullable AnyLicenseInfo license) throws InvalidSPDXAnalysisException {
+		if (Objects.isNull(license)) {
+			return denyListsMask;
+		}
+		if (license instanceof ConjunctiveLicenseSet) {
+			long retval = allListsMask;
+			Iterator<AnyLicenseInfo> iter = ((ConjunctiveLicenseSet)license).getMembers().iterator();
+			while (retval != 0 && iter.hasNext()) {
+				retval &= evaluate(iter.next());
+			}
+			return retval;
+		} else if (license instanceof DisjunctiveLicenseSet) {
+			long retval = 0;
+			Iterator<AnyLicenseInfo> iter = ((DisjunctiveLicenseSet)license).getMembers().iterator();
+			while (retval != allListsMask && iter.hasNext()) {
+				retval |= evaluate(iter.next());
+			}
+			return retval;
+		} else {
+			return evaluateSimpleLicense(license.toString());
+		}
+	}
+	
+	/**
+	 * @param expression parsed license expression
+	 * @return mask of lists passed by the expression
+	 */
+	public long evaluate(LicenseExpressionNode expression) {
+		switch (expression.getKind()) {
+			case AND: {
+				long retval = allListsMask;
+				for (LicenseExpressionNode member:expression.getChildren()) {
+					if (retval == 0) {
+						break;
+					}
+					retval &= evaluate(member);
+				}
+				return retval;
+			}
+			case OR: {
+				long retval = 0;
+				for (LicenseExpressionNode member:expression.getChildren()) {
+					if (retval == allListsMask) {
+						break;
+					}
+					retval |= evaluate(member);
+				}
+				return retval;
+			}
+			default: return evaluateSimpleLicense(expression.toString());
+		}
+	}
+	
+	/**
+	 * The result is memoized for each distinct expression
+	 * @param expression license expression string
+	 * @return mask of lists passed by the expression
+	 * @throws InvalidLicenseStringException if the expression can not be parsed
+	 */
+	public long evaluate(String expression) throws InvalidLicenseStringException {
+		Objects.requireNonNull(expression, "Expression can not be null");
+		Long retval = memoizedExpressions.get(expression);
+		if (Objects.isNull(retval)) {
+			retval = evaluate(LicenseInfoFactory.parseLicenseExpressionNode(expression));
+			if (memoizedExpressions.size() >= MAX_MEMOIZED_EXPRESSIONS) {
+				memoizedExpressions.clear();
+			}
+			memoizedExpressions.put(expression, retval);
+		}
+		return retval;
+	}
+	
+	/**
+	 * @param license license to evaluate
+	 * @return true if the license passes every list in the policy
+	 * @throws InvalidSPDXAnalysisException
+	 */
+	public boolean isPass(@Nullable AnyLicenseInfo license) throws InvalidSPDXAnalysisException {
+		return evaluate(license) == allListsMask;
+	}
+	
+	/**
+	 * @param expression license expression string
+	 * @return true if the expression passes every list in the policy
+	 * @throws InvalidLicenseStringException if the expression can not be parsed
+	 */
+	public boolean isPass(String expression) throws InvalidLicenseStringException {
+		return evaluate(expression) == allListsMask;
+	}
+	
+	/**
+	 * @param mask result of an evaluation
+	 * @return names of the lists which were not passed
+	 */
+	public List<String> getFailedLists(long mask) {
+		List<String> retval = new ArrayList<>();
+		for (int i = 0; i < listNames.size(); i++) {
+			if ((mask & (1L << i)) == 0) {
+				retval.add(listNames.get(i));
+			}
+		}
+		return retval;
+	}
+	
+	/**
+	 * Evaluate the licenses for a stream of items.  The concluded license is evaluated for all items and,
+	 * for packages, the declared license must also pass a list for the package to pass that list.
+	 * @param items items to evaluate
+	 * @return map of each item to the mask of lists passed by the item in the order of the stream
+	 * @throws InvalidSPDXAnalysisException
+	 */
+	public <T extends SpdxItem> Map<T, Long> evaluateItems(Stream<T> items) throws InvalidSPDXAnalysisException {
+		Map<T, Long> retval = new LinkedHashMap<>();
+		Iterator<T> iter = items.iterator();
+		while (iter.hasNext()) {
+			T item = iter.next();
+			long mask = evaluate(item.getLicenseConcluded());
+			if (mask != 0 && item instanceof SpdxPackage) {
+				mask &= evaluate(((SpdxPackage)item).getLicenseDeclared());
+			}
+			retval.put(item, mask);
+		}
+		return retval;
+	}
+}
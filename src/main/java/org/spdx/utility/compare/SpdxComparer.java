@@ -22,12 +22,16 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -56,13 +60,21 @@ import org.spdx.library.model.license.ExtractedLicenseInfo;
  * For files, the comparison results are separated into unique files based on the file names
  * which can be obtained by the method <code>getUniqueFiles(index1, index2)</code>.  If two
  * documents contain files with the same name, but different data, the differences for these
- * files can be obtained through the method <code>getFileDifferences(index1, index2)</code>
+ * files can be obtained through the method <code>getFileDifferences(index1, index2)</code>.
+ * Files are matched on the normalized file path.  Files which are not matched by path but have
+ * the same SHA1 checksum are considered moved and can be obtained through the method
+ * <code>getMovedFiles(index1, index2)</code> - moved files are not included in the unique files.
  * 
  * Multi-threading considerations: This class is "mostly" threadsafe in that the calls to 
  * perform the comparison are synchronized and a flag is used to throw an error for any
  * calls to getters when a compare is in progress.  There is a small theoretical window in the
  * getters where the compare operation is started in the middle of a get operation.
  * 
+ * The files, packages and snippets of each document are collected and sorted once per compare.
+ * The pairwise document comparisons and the individual file comparisons are run on a
+ * <code>ForkJoinPool</code> - by default the common pool, or the pool passed to the constructor.
+ * The model stores for the documents must support concurrent reads.
+ * 
  * @author Gary O'Neall
  *
  */
@@ -70,6 +82,11 @@ public class SpdxComparer {
 	
 	static final Logger logger = LoggerFactory.getLogger(SpdxComparer.class);
 	
+	/**
+	 * Number of matching files compared in a single fork join task
+	 */
+	static final int FILE_COMPARE_BATCH_SIZE = 64;
+	
 	private List<SpdxDocument> spdxDocs = null;
 	private boolean differenceFound = false;
 	private boolean compareInProgress = false;
@@ -119,6 +136,13 @@ public class SpdxComparer {
 	 * is an SPDXReview with the same filename name but a different file property
 	 */
 	private Map<SpdxDocument, Map<SpdxDocument, List<SpdxFileDifference>>> fileDifferences = new HashMap<>();
+	
+	/**
+	 * Holds a map of any SPDX documents which have files with the same SHA1 checksum but a different
+	 * file name than a file in another SPDX document.  The inner map maps the file in the key document
+	 * to the file in the compared document.
+	 */
+	private Map<SpdxDocument, Map<SpdxDocument, Map<SpdxFile, SpdxFile>>> movedFiles = new HashMap<>();
 
 	// Package compare results
 	/**
@@ -147,8 +171,41 @@ public class SpdxComparer {
 	private Map<SpdxDocument, Map<SpdxDocument, List<SpdxSnippet>>> uniqueSnippets = new HashMap<>();
 	private Map<String, SpdxSnippetComparer>  snippetComparers = new HashMap<>();
 	
+	/**
+	 * Sorted files, packages and snippets of a single document
+	 */
+	private static class DocumentElements {
+		final SpdxFileMatcher fileMatcher;
+		final List<SpdxPackage> packages;
+		final List<SpdxSnippet> snippets;
+		
+		DocumentElements(SpdxFileMatcher fileMatcher, List<SpdxPackage> packages, List<SpdxSnippet> snippets) {
+			this.fileMatcher = fileMatcher;
+			this.packages = packages;
+			this.snippets = snippets;
+		}
+	}
+	
+	/**
+	 * Map of documents to their sorted elements - collected once per compare
+	 */
+	private Map<SpdxDocument, DocumentElements> documentElements = new HashMap<>();
+	
+	/**
+	 * Pool used to run the pairwise document and per-file comparisons
+	 */
+	private final ForkJoinPool comparePool;
+	
 	public SpdxComparer() {
-		// Default empty constructor
+		this(ForkJoinPool.commonPool());
+	}
+	
+	/**
+	 * @param comparePool fork join pool used to run the pairwise document and per-file comparisons
+	 */
+	public SpdxComparer(ForkJoinPool comparePool) {
+		Objects.requireNonNull(comparePool, "Compare pool can not be null");
+		this.comparePool = comparePool;
 	}
 	
 	/**
@@ -184,91 +241,148 @@ public class SpdxComparer {
 	private void performCompare() throws InvalidSPDXAnalysisException, SpdxCompareException {
 		compareInProgress = true;
 		differenceFound = false;
-		compareExtractedLicenseInfos();	// note - this must be done first to build the translation map of IDs
-		compareDocumentFields();
-		compareSnippets();
-		compareFiles();
-		comparePackages();
-		compareCreators();
-		compareDocumentAnnotations();
-		compareDocumentRelationships();
-		compareExternalDocumentRefs();
+		try {
+			compareExtractedLicenseInfos();	// note - this must be done first to build the translation map of IDs
+			compareDocumentFields();
+			collectDocumentElements();
+			compareSnippets();
+			compareFiles();
+			comparePackages();
+			compareCreators();
+			compareDocumentAnnotations();
+			compareDocumentRelationships();
+			compareExternalDocumentRefs();
+		} finally {
+			// the sorted element lists are only needed during the compare
+			this.documentElements.clear();
+		}
 		compareInProgress = false;	
 	}
+	
+	/**
+	 * Collect and sort the files, packages and snippets for each document once so that
+	 * the N x N comparisons do not need to re-read the documents
+	 * @throws InvalidSPDXAnalysisException 
+	 * @throws SpdxCompareException 
+	 */
+	private void collectDocumentElements() throws InvalidSPDXAnalysisException, SpdxCompareException {
+		this.documentElements.clear();
+		List<CompareTask<DocumentElements>> tasks = new ArrayList<>();
+		for (SpdxDocument spdxDoc:spdxDocs) {
+			tasks.add(new CompareTask<>(() -> {
+				// note - the element lists MUST be sorted for the comparator methods to work
+				List<SpdxFile> files = collectAllFiles(spdxDoc);
+				Collections.sort(files);
+				List<SpdxPackage> packages;
+				try {
+					packages = collectAllPackages(spdxDoc);
+				} catch (InvalidSPDXAnalysisException e) {
+					throw new SpdxCompareException("Error collecting packages from SPDX document "+getDocumentName(spdxDoc), e);
+				}
+				Collections.sort(packages);
+				List<SpdxSnippet> snippets;
+				try {
+					snippets = collectAllSnippets(spdxDoc);
+				} catch (InvalidSPDXAnalysisException e) {
+					throw new SpdxCompareException("Error collecting snippets from SPDX document "+getDocumentName(spdxDoc), e);
+				}
+				Collections.sort(snippets);
+				return new DocumentElements(new SpdxFileMatcher(files.toArray(new SpdxFile[files.size()])), packages, snippets);
+			}));
+		}
+		List<DocumentElements> results = CompareTask.invokeAll(comparePool, tasks);
+		for (int i = 0; i < spdxDocs.size(); i++) {
+			this.documentElements.put(spdxDocs.get(i), results.get(i));
+		}
+	}
+	
+	/**
+	 * @param spdxDoc
+	 * @return the document name or an empty string if the name can not be read
+	 */
+	private static String getDocumentName(SpdxDocument spdxDoc) {
+		try {
+			Optional<String> name = spdxDoc.getName();
+			return name.isPresent() ? name.get() : "";
+		} catch (InvalidSPDXAnalysisException e) {
+			return "";
+		}
+	}
 
 	/**
 	 * Compare the snippets in the documents
 	 * @throws SpdxCompareException 
+	 * @throws InvalidSPDXAnalysisException 
 	 */
-	@SuppressWarnings("unchecked")
-	private void compareSnippets() throws SpdxCompareException {
+	private void compareSnippets() throws SpdxCompareException, InvalidSPDXAnalysisException {
 		// This will be a complete NXN comparison of all documents filling in the uniqueSnippets map
 		if (this.spdxDocs == null || this.spdxDocs.size() < 1) {
 			return;
 		}
 		this.uniqueSnippets.clear();
 		this.snippetComparers.clear();
-		// N x N comparison of all snippets
+		addSnippetComparers();
+		this.uniqueSnippets.putAll(toDocumentPairMap(compareDocumentPairs((docA, docB) -> 
+				findUniqueSnippets(documentElements.get(docA).snippets, documentElements.get(docB).snippets)), List::isEmpty));
+		if (!_isSnippetsEqualsNoCheck()) {
+			this.differenceFound = true;
+		}		
+	}
+	
+	/**
+	 * Comparison between two documents
+	 */
+	@FunctionalInterface
+	private interface DocumentPairCompare<T> {
+		T compare(SpdxDocument docA, SpdxDocument docB) throws InvalidSPDXAnalysisException, SpdxCompareException;
+	}
+	
+	/**
+	 * Run a comparison for every ordered pair of different documents in the compare pool
+	 * @param pairCompare comparison to run
+	 * @return results in document pair order - for each document A, the results of comparing to each other document B
+	 * @throws InvalidSPDXAnalysisException 
+	 * @throws SpdxCompareException 
+	 */
+	private <T> List<T> compareDocumentPairs(DocumentPairCompare<T> pairCompare) throws InvalidSPDXAnalysisException, SpdxCompareException {
+		List<CompareTask<T>> tasks = new ArrayList<>();
 		for (int i = 0; i < spdxDocs.size(); i++) {
-			List<SpdxSnippet> snippetsA;
-			Stream<SpdxSnippet> snippetStreamA = null;
-			try {
-			    snippetStreamA = (Stream<SpdxSnippet>)SpdxModelFactory.getElements(spdxDocs.get(i).getModelStore(), spdxDocs.get(i).getDocumentUri(), null, 
-                        SpdxSnippet.class);
-				snippetsA = snippetStreamA.collect(Collectors.toList());
-			} catch (InvalidSPDXAnalysisException e) {
-				try {
-					throw new SpdxCompareException("Error collecting snippets from SPDX document "+spdxDocs.get(i).getName(), e);
-				} catch (InvalidSPDXAnalysisException e1) {
-					throw new SpdxCompareException("Error collecting snippets from SPDX document ", e);
+			for (int j = 0; j < spdxDocs.size(); j++) {
+				if (j == i) {
+					continue;
 				}
-			} finally {
-			    if (Objects.nonNull(snippetStreamA)) {
-			        snippetStreamA.close();
-			    }
-			}
-			// note - the snippet arrays MUST be sorted for the comparator methods to work
-			Collections.sort(snippetsA);
-			addSnippetComparers(spdxDocs.get(i), snippetsA);
-			Map<SpdxDocument, List<SpdxSnippet>> uniqueAMap = this.uniqueSnippets.get(spdxDocs.get(i));
-			if (uniqueAMap == null) {
-				uniqueAMap = new HashMap<>();
+				SpdxDocument docA = spdxDocs.get(i);
+				SpdxDocument docB = spdxDocs.get(j);
+				tasks.add(new CompareTask<>(() -> pairCompare.compare(docA, docB)));
 			}
+		}
+		return CompareTask.invokeAll(comparePool, tasks);
+	}
+	
+	/**
+	 * @param pairResults results from <code>compareDocumentPairs</code>
+	 * @param isEmpty test for an empty result
+	 * @return map of document A to a map of document B to the results of comparing A to B - only non-empty results are included
+	 */
+	private <T> Map<SpdxDocument, Map<SpdxDocument, T>> toDocumentPairMap(List<T> pairResults, Predicate<T> isEmpty) {
+		Map<SpdxDocument, Map<SpdxDocument, T>> retval = new HashMap<>();
+		int resultIndex = 0;
+		for (int i = 0; i < spdxDocs.size(); i++) {
+			Map<SpdxDocument, T> resultAMap = new HashMap<>();
 			for (int j = 0; j < spdxDocs.size(); j++) {
 				if (j == i) {
 					continue;
 				}
-				List<SpdxSnippet> snippetsB;
-				Stream<SpdxSnippet> snippetStreamB = null;
-				try {
-				    snippetStreamB = (Stream<SpdxSnippet>)SpdxModelFactory.getElements(spdxDocs.get(j).getModelStore(), spdxDocs.get(j).getDocumentUri(), null, 
-                            SpdxSnippet.class);
-					snippetsB = snippetStreamB.collect(Collectors.toList());
-				} catch (InvalidSPDXAnalysisException e) {
-					try {
-						throw new SpdxCompareException("Error collecting snippets from SPDX document "+spdxDocs.get(j).getName(), e);
-					} catch (InvalidSPDXAnalysisException e1) {
-						throw new SpdxCompareException("Error collecting snippets from SPDX document ", e);
-					}
-				} finally {
-				    if (Objects.nonNull(snippetStreamB)) {
-				        snippetStreamB.close();
-				    }
-				}
-				//Note that the files arrays must be sorted for the find methods to work
-				Collections.sort(snippetsB);
-				List<SpdxSnippet> uniqueAB = findUniqueSnippets(snippetsA, snippetsB);
-				if (uniqueAB != null && uniqueAB.size() > 0) {
-					uniqueAMap.put(spdxDocs.get(j), uniqueAB);
+				T result = pairResults.get(resultIndex++);
+				if (result != null && !isEmpty.test(result)) {
+					resultAMap.put(spdxDocs.get(j), result);
 				}
 			}
-			if (!uniqueAMap.isEmpty()) {
-				this.uniqueSnippets.put(spdxDocs.get(i), uniqueAMap);
+			if (!resultAMap.isEmpty()) {
+				retval.put(spdxDocs.get(i), resultAMap);
 			}
 		}
-		if (!_isSnippetsEqualsNoCheck()) {
-			this.differenceFound = true;
-		}		
+		return retval;
 	}
 
 	/**
@@ -305,26 +419,45 @@ public class SpdxComparer {
 	}
 
 	/**
-	 * @param spdxDocument
-	 * @param snippets
-	 * @param extractedLicenseIdMap2
+	 * Add the snippets from all documents to the snippet comparers.  The snippets for 
+	 * each comparer are added in document order, the comparers themselves run in parallel
 	 * @throws SpdxCompareException 
+	 * @throws InvalidSPDXAnalysisException 
 	 */
-	private void addSnippetComparers(
-			SpdxDocument spdxDocument,
-			List<SpdxSnippet> snippets) throws SpdxCompareException {
-		for (SpdxSnippet snippet:snippets) {
-			SpdxSnippetComparer comparer = this.snippetComparers.get(snippet.toString());
-			if (comparer == null) {
-				comparer = new SpdxSnippetComparer(extractedLicenseIdMap);
-				this.snippetComparers.put(snippet.toString(), comparer);
-			}
-			try {
-				comparer.addDocumentSnippet(spdxDocument, snippet);
-			} catch (InvalidSPDXAnalysisException e) {
-				throw new SpdxCompareException("Exception comparing SPDX snippets",e);
+	private void addSnippetComparers() throws SpdxCompareException, InvalidSPDXAnalysisException {
+		Map<SpdxSnippetComparer, List<SpdxSnippet>> comparerSnippets = new HashMap<>();
+		Map<SpdxSnippetComparer, List<SpdxDocument>> comparerDocuments = new HashMap<>();
+		List<SpdxSnippetComparer> comparers = new ArrayList<>();
+		for (SpdxDocument spdxDocument:spdxDocs) {
+			for (SpdxSnippet snippet:documentElements.get(spdxDocument).snippets) {
+				SpdxSnippetComparer comparer = this.snippetComparers.get(snippet.toString());
+				if (comparer == null) {
+					comparer = new SpdxSnippetComparer(extractedLicenseIdMap);
+					this.snippetComparers.put(snippet.toString(), comparer);
+					comparers.add(comparer);
+					comparerSnippets.put(comparer, new ArrayList<>());
+					comparerDocuments.put(comparer, new ArrayList<>());
+				}
+				comparerSnippets.get(comparer).add(snippet);
+				comparerDocuments.get(comparer).add(spdxDocument);
 			}
 		}
+		List<CompareTask<Boolean>> tasks = new ArrayList<>();
+		for (SpdxSnippetComparer comparer:comparers) {
+			tasks.add(new CompareTask<>(() -> {
+				List<SpdxSnippet> snippets = comparerSnippets.get(comparer);
+				List<SpdxDocument> documents = comparerDocuments.get(comparer);
+				for (int i = 0; i < snippets.size(); i++) {
+					try {
+						comparer.addDocumentSnippet(documents.get(i), snippets.get(i));
+					} catch (InvalidSPDXAnalysisException e) {
+						throw new SpdxCompareException("Exception comparing SPDX snippets",e);
+					}
+				}
+				return true;
+			}));
+		}
+		CompareTask.invokeAll(comparePool, tasks);
 	}
 
 	/**
@@ -437,57 +570,32 @@ public class SpdxComparer {
 	 * @throws SpdxCompareException 
 	 * 
 	 */
-	@SuppressWarnings("unchecked")
 	private void compareFiles() throws InvalidSPDXAnalysisException, SpdxCompareException {
 		this.uniqueFiles.clear();
 		this.fileDifferences.clear();
-		// N x N comparison of all files
-		for (int i = 0; i < spdxDocs.size(); i++) {
-			List<SpdxFile> filesListA;
-			Stream<SpdxFile> fileStreamA = (Stream<SpdxFile>) SpdxModelFactory.getElements(spdxDocs.get(i).getModelStore(), spdxDocs.get(i).getDocumentUri(),
-                    null, SpdxFile.class);
-			filesListA = fileStreamA.collect(Collectors.toList());
-			fileStreamA.close();
-			// note - the file arrays MUST be sorted for the comparator methods to work
-			Collections.sort(filesListA);
-			SpdxFile[] filesA = filesListA.toArray(new SpdxFile[filesListA.size()]);
-			Map<SpdxDocument, List<SpdxFile>> uniqueAMap = this.uniqueFiles.get(spdxDocs.get(i));
-			if (uniqueAMap == null) {
-				uniqueAMap = new HashMap<>();
-			}
-			// this map will be added to uniqueFiles at the end if we find anything
-			Map<SpdxDocument, List<SpdxFileDifference>> diffMap = this.fileDifferences.get(spdxDocs.get(i));
-			if (diffMap == null) {
-				diffMap = new HashMap<>();
-			}
-			for (int j = 0; j < spdxDocs.size(); j++) {
-				if (j == i) {
-					continue;
-				}
-				 Stream<SpdxFile> fileStreamB = (Stream<SpdxFile>)SpdxModelFactory.getElements(spdxDocs.get(j).getModelStore(), spdxDocs.get(j).getDocumentUri(),
-	                        null, SpdxFile.class);
-				 List<SpdxFile> filesListB = (List<SpdxFile>)fileStreamB.collect(Collectors.toList());
-				 fileStreamB.close();
-				 //Note that the files arrays must be sorted for the find methods to work
-				Collections.sort(filesListB);
-				SpdxFile[] filesB = filesListB.toArray(new SpdxFile[filesListB.size()]);
-				List<SpdxFile> uniqueAB = findUniqueFiles(filesA, filesB);
-				if (uniqueAB != null && uniqueAB.size() > 0) {
-					uniqueAMap.put(spdxDocs.get(j), uniqueAB);
-				}
-				List<SpdxFileDifference> differences = findFileDifferences(spdxDocs.get(i), spdxDocs.get(j),
-						filesA, filesB, this.extractedLicenseIdMap);
-				if (differences != null && differences.size() > 0) {
-					diffMap.put(spdxDocs.get(j), differences);
-				}
-			}
-			if (!uniqueAMap.isEmpty()) {
-				this.uniqueFiles.put(spdxDocs.get(i), uniqueAMap);
-			}
-			if (!diffMap.isEmpty()) {
-				this.fileDifferences.put(spdxDocs.get(i), diffMap);
-			}
-		}
+		this.movedFiles.clear();
+		// N x N comparison of all files using the path and checksum indexes for each document
+		List<SpdxFileMatcher.FileMatches> matches = compareDocumentPairs((docA, docB) -> 
+				documentElements.get(docA).fileMatcher.match(documentElements.get(docB).fileMatcher, true));
+		List<List<SpdxFile>> unique = new ArrayList<>();
+		List<Map<SpdxFile, SpdxFile>> moved = new ArrayList<>();
+		List<List<SpdxFile[]>> matched = new ArrayList<>();
+		for (SpdxFileMatcher.FileMatches match:matches) {
+			unique.add(match.getUniqueFiles());
+			moved.add(match.getMovedFiles());
+			matched.add(match.getMatchedFiles());
+		}
+		this.uniqueFiles.putAll(toDocumentPairMap(unique, List::isEmpty));
+		this.movedFiles.putAll(toDocumentPairMap(moved, Map::isEmpty));
+		Map<SpdxDocument, Map<SpdxDocument, List<SpdxFile[]>>> matchedFiles = toDocumentPairMap(matched, List::isEmpty);
+		this.fileDifferences.putAll(toDocumentPairMap(compareDocumentPairs((docA, docB) -> {
+			Map<SpdxDocument, List<SpdxFile[]>> matchedA = matchedFiles.get(docA);
+			List<SpdxFile[]> matchedAB = matchedA == null ? null : matchedA.get(docB);
+			if (matchedAB == null) {
+				return new ArrayList<SpdxFileDifference>();
+			}
+			return compareMatchingFiles(docA, docB, matchedAB, this.extractedLicenseIdMap, this.comparePool);
+		}), List::isEmpty));
 		if (!_isFilesEqualsNoCheck()) {
 			this.differenceFound = true;
 		}
@@ -525,6 +633,23 @@ public class SpdxComparer {
 		fileElementStream.close();
 		return retval;
 	}
+	
+	/**
+	 * Collect all of the snippets present in the SPDX document
+	 * @param spdxDocument
+	 * @return
+	 * @throws InvalidSPDXAnalysisException 
+	 */
+	@SuppressWarnings("unchecked")
+	protected List<SpdxSnippet> collectAllSnippets(SpdxDocument spdxDocument) throws InvalidSPDXAnalysisException {
+		Stream<SpdxSnippet> snippetStream = (Stream<SpdxSnippet>) SpdxModelFactory.getElements(spdxDocument.getModelStore(), 
+				spdxDocument.getDocumentUri(), null, SpdxSnippet.class);
+		try {
+			return snippetStream.collect(Collectors.toList());
+		} finally {
+			snippetStream.close();
+		}
+	}
 
 	/**
 	 * Returns an array of files differences between A and B where the names
@@ -538,32 +663,69 @@ public class SpdxComparer {
 	static List<SpdxFileDifference> findFileDifferences(SpdxDocument docA, SpdxDocument docB,
 			SpdxFile[] filesA, SpdxFile[] filesB, 
 			Map<SpdxDocument, Map<SpdxDocument, Map<String, String>>> licenseIdXlationMap) throws SpdxCompareException, InvalidSPDXAnalysisException {
-		
+		List<SpdxFile[]> matchedFiles = new SpdxFileMatcher(filesA).match(new SpdxFileMatcher(filesB), false).getMatchedFiles();
+		return compareMatchingFiles(docA, docB, matchedFiles, 0, matchedFiles.size(), licenseIdXlationMap);
+	}
+	
+	/**
+	 * Returns the differences between the matched files of A and B.
+	 * The matching files are compared in parallel using the fork join pool.
+	 * @param docA
+	 * @param docB
+	 * @param matchedFiles pairs of matching files with the file from A at index 0 and the file from B at index 1
+	 * @param licenseIdXlationMap
+	 * @param pool pool to run the file comparisons in
+	 * @return
+	 * @throws SpdxCompareException 
+	 * @throws InvalidSPDXAnalysisException 
+	 */
+	static List<SpdxFileDifference> compareMatchingFiles(SpdxDocument docA, SpdxDocument docB,
+			List<SpdxFile[]> matchedFiles, 
+			Map<SpdxDocument, Map<SpdxDocument, Map<String, String>>> licenseIdXlationMap,
+			ForkJoinPool pool) throws SpdxCompareException, InvalidSPDXAnalysisException {
+		if (matchedFiles.size() <= FILE_COMPARE_BATCH_SIZE) {
+			return compareMatchingFiles(docA, docB, matchedFiles, 0, matchedFiles.size(), licenseIdXlationMap);
+		}
+		List<CompareTask<List<SpdxFileDifference>>> tasks = new ArrayList<>();
+		for (int start = 0; start < matchedFiles.size(); start += FILE_COMPARE_BATCH_SIZE) {
+			int batchStart = start;
+			int batchEnd = Math.min(start + FILE_COMPARE_BATCH_SIZE, matchedFiles.size());
+			tasks.add(new CompareTask<>(() -> 
+				compareMatchingFiles(docA, docB, matchedFiles, batchStart, batchEnd, licenseIdXlationMap)));
+		}
 		List<SpdxFileDifference> alRetval = new ArrayList<>();
-		int aIndex = 0;
-		int bIndex = 0;
-		while (aIndex < filesA.length && bIndex < filesB.length) {
-			int compare = 0;
-			Optional<String> nameA = filesA[aIndex].getName();
-			Optional<String> nameB = filesB[bIndex].getName();
-			if (nameA.isPresent() && nameB.isPresent()) {
-				compare = nameA.get().compareTo(nameB.get());
-			}
-			if (compare == 0) {
-				SpdxFileComparer fileComparer = new SpdxFileComparer(licenseIdXlationMap);
-				fileComparer.addDocumentFile(docA, filesA[aIndex]);
-				fileComparer.addDocumentFile(docB, filesB[bIndex]);
-				if (fileComparer.isDifferenceFound()) {
-					alRetval.add(fileComparer.getFileDifference(docA, docB));
-				}
-				aIndex++;
-				bIndex++;
-			} else if (compare > 0) {
-				// fileA is greater than fileB
-				bIndex++;
-			} else {
-				// fileB is greater than fileA
-				aIndex++;
+		for (List<SpdxFileDifference> batchDifferences:CompareTask.invokeAll(pool, tasks)) {
+			alRetval.addAll(batchDifferences);
+		}
+		return alRetval;
+	}
+	
+	/**
+	 * Compare a range of the matched files.  Files with identical checksums, licenses and
+	 * properties are skipped without constructing a file comparer.
+	 * @param docA
+	 * @param docB
+	 * @param matchedFiles pairs of matching files with the file from A at index 0 and the file from B at index 1
+	 * @param start index of the first matched pair to compare
+	 * @param end index after the last matched pair to compare
+	 * @param licenseIdXlationMap
+	 * @return differences for any matched files which differ
+	 * @throws SpdxCompareException
+	 * @throws InvalidSPDXAnalysisException
+	 */
+	private static List<SpdxFileDifference> compareMatchingFiles(SpdxDocument docA, SpdxDocument docB,
+			List<SpdxFile[]> matchedFiles, int start, int end,
+			Map<SpdxDocument, Map<SpdxDocument, Map<String, String>>> licenseIdXlationMap) throws SpdxCompareException, InvalidSPDXAnalysisException {
+		List<SpdxFileDifference> alRetval = new ArrayList<>();
+		for (int i = start; i < end; i++) {
+			if (SpdxFileMatcher.filesIdentical(matchedFiles.get(i)[0], matchedFiles.get(i)[1])) {
+				continue;
+			}
+			SpdxFileComparer fileComparer = new SpdxFileComparer(licenseIdXlationMap);
+			fileComparer.addDocumentFile(docA, matchedFiles.get(i)[0]);
+			fileComparer.addDocumentFile(docB, matchedFiles.get(i)[1]);
+			if (fileComparer.isDifferenceFound()) {
+				alRetval.add(fileComparer.getFileDifference(docA, docB));
 			}
 		}
 		return alRetval;
@@ -604,37 +766,14 @@ public class SpdxComparer {
 		return alRetval;
 	}
 	/**
-	 * finds any files in A that are not in B.  NOTE: The arrays must be sorted by file name
+	 * finds any files in A that are not in B based on the file name.  The results are in the order of filesA
 	 * @param filesA
 	 * @param filesB
 	 * @return
 	 * @throws InvalidSPDXAnalysisException 
 	 */
 	static List<SpdxFile> findUniqueFiles(SpdxFile[] filesA, SpdxFile[] filesB) throws InvalidSPDXAnalysisException {
-		int bIndex = 0;
-		int aIndex = 0;
-		List<SpdxFile> alRetval = new ArrayList<>();
-		while (aIndex < filesA.length) {
-			if (bIndex >= filesB.length) {
-				alRetval.add(filesA[aIndex]);
-				aIndex++;
-			} else {
-				int compareVal = compareStrings(filesA[aIndex].getName(), filesB[bIndex].getName());
-				if (compareVal == 0) {
-					// files are equal
-					aIndex++;
-					bIndex++;
-				} else if (compareVal > 0) {
-					// fileA is greater than fileB
-					bIndex++;
-				} else {
-					// fileB is greater tha fileA
-					alRetval.add(filesA[aIndex]);
-					aIndex++;
-				}
-			}
-		}
-		return alRetval;
+		return new SpdxFileMatcher(filesA).match(new SpdxFileMatcher(filesB), false).getUniqueFiles();
 	}
 
 	/**
@@ -723,97 +862,78 @@ public class SpdxComparer {
 	/**
 	 * Compares the SPDX documents and sets the appropriate flags
 	 * @throws SpdxCompareException 
+	 * @throws InvalidSPDXAnalysisException 
 	 */
-	private void comparePackages() throws SpdxCompareException {
+	private void comparePackages() throws SpdxCompareException, InvalidSPDXAnalysisException {
 		if (this.spdxDocs == null || this.spdxDocs.size() < 1) {
 			return;
 		}
 		this.uniquePackages.clear();
 		this.packageComparers.clear();
-		// N x N comparison of all files
-		for (int i = 0; i < spdxDocs.size(); i++) {
-			List<SpdxPackage> pkgsA;
-			try {
-				pkgsA = collectAllPackages(spdxDocs.get(i));
-			} catch (InvalidSPDXAnalysisException e) {
-				try {
-					throw new SpdxCompareException("Error collecting packages from SPDX document "+spdxDocs.get(i).getName(), e);
-				} catch (InvalidSPDXAnalysisException e1) {
-					throw new SpdxCompareException("Error collecting packages from SPDX document ", e);
-				}
-			}
-			// note - the package arrays MUST be sorted for the comparator methods to work
-			Collections.sort(pkgsA);
-			addPackageComparers(spdxDocs.get(i), pkgsA, this.extractedLicenseIdMap);
-			Map<SpdxDocument, List<SpdxPackage>> uniqueAMap = this.uniquePackages.get(spdxDocs.get(i));
-			if (uniqueAMap == null) {
-				uniqueAMap = new HashMap<>();
-			}
-			for (int j = 0; j < spdxDocs.size(); j++) {
-				if (j == i) {
-					continue;
-				}
-				List<SpdxPackage> pkgsB;
-				try {
-					pkgsB = collectAllPackages(spdxDocs.get(j));
-				} catch (InvalidSPDXAnalysisException e) {
-					try {
-						throw new SpdxCompareException("Error collecting packages from SPDX document "+spdxDocs.get(i).getName(), e);
-					} catch (InvalidSPDXAnalysisException e1) {
-						throw new SpdxCompareException("Error collecting packages from SPDX document ", e);
-					}
-				}
-				//Note that the files arrays must be sorted for the find methods to work
-				Collections.sort(pkgsB);
-				List<SpdxPackage> uniqueAB = findUniquePackages(pkgsA, pkgsB);
-				if (uniqueAB != null && uniqueAB.size() > 0) {
-					uniqueAMap.put(spdxDocs.get(j), uniqueAB);
-				}
-			}
-			if (!uniqueAMap.isEmpty()) {
-				this.uniquePackages.put(spdxDocs.get(i), uniqueAMap);
-			}
-		}
+		addPackageComparers(this.extractedLicenseIdMap);
+		// N x N comparison of all packages
+		this.uniquePackages.putAll(toDocumentPairMap(compareDocumentPairs((docA, docB) -> 
+				findUniquePackages(documentElements.get(docA).packages, documentElements.get(docB).packages)), List::isEmpty));
 		if (!_isPackagesEqualsNoCheck()) {
 			this.differenceFound = true;
 		}		
 	}
 
 	/**
-	 * add all the document packages to the multi-comparer
-	 * @param spdxDocument
-	 * @param pkgs
+	 * add all the document packages to the multi-comparer.  The packages for each comparer
+	 * are added in document order, the comparers themselves run in parallel
 	 * @param extractedLicenseIdMap 
 	 * @throws SpdxCompareException 
+	 * @throws InvalidSPDXAnalysisException 
 	 */
-	private void addPackageComparers(SpdxDocument spdxDocument,
-			List<SpdxPackage> pkgs, Map<SpdxDocument, Map<SpdxDocument, Map<String, String>>> extractedLicenseIdMap) throws SpdxCompareException {
+	private void addPackageComparers(Map<SpdxDocument, Map<SpdxDocument, Map<String, String>>> extractedLicenseIdMap) throws SpdxCompareException, InvalidSPDXAnalysisException {
+		Map<SpdxPackageComparer, List<SpdxPackage>> comparerPackages = new HashMap<>();
+		Map<SpdxPackageComparer, List<SpdxDocument>> comparerDocuments = new HashMap<>();
+		List<SpdxPackageComparer> comparers = new ArrayList<>();
 		try {
-			List<String> addedPackageNames = new ArrayList<String>();
-			for (SpdxPackage pkg:pkgs) {
-				if (!pkg.getName().isPresent()) {
-					logger.warn("Missing package name for package comparer.  Skipping unnamed package");
-					continue;
-				}
-				Optional<String> pkgName = pkg.getName();
-				if (pkgName.isPresent()) {
-				    if (addedPackageNames.contains(pkgName.get())) {
-	                    logger.warn("Duplicate package names: "+pkgName.get()+".  Only comparing the first instance");
-	                    continue;
-	                }
-	                SpdxPackageComparer mpc = this.packageComparers.get(pkgName.get());
-	                if (mpc == null) {
-	                    mpc = new SpdxPackageComparer(extractedLicenseIdMap);
-	                    this.packageComparers.put(pkgName.get(), mpc);
-	                }
-	                mpc.addDocumentPackage(spdxDocument, pkg);
-	                addedPackageNames.add(pkgName.get()); 
+			for (SpdxDocument spdxDocument:spdxDocs) {
+				Set<String> addedPackageNames = new HashSet<>();
+				for (SpdxPackage pkg:documentElements.get(spdxDocument).packages) {
+					Optional<String> pkgName = pkg.getName();
+					if (!pkgName.isPresent()) {
+						logger.warn("Missing package name for package comparer.  Skipping unnamed package");
+						continue;
+					}
+					if (!addedPackageNames.add(pkgName.get())) {
+						logger.warn("Duplicate package names: "+pkgName.get()+".  Only comparing the first instance");
+						continue;
+					}
+					SpdxPackageComparer mpc = this.packageComparers.get(pkgName.get());
+					if (mpc == null) {
+						mpc = new SpdxPackageComparer(extractedLicenseIdMap);
+						this.packageComparers.put(pkgName.get(), mpc);
+						comparers.add(mpc);
+						comparerPackages.put(mpc, new ArrayList<>());
+						comparerDocuments.put(mpc, new ArrayList<>());
+					}
+					comparerPackages.get(mpc).add(pkg);
+					comparerDocuments.get(mpc).add(spdxDocument);
 				}
-				
 			}
 		} catch (InvalidSPDXAnalysisException ex) {
 			throw new SpdxCompareException("Error getting package name", ex);
 		}
+		List<CompareTask<Boolean>> tasks = new ArrayList<>();
+		for (SpdxPackageComparer comparer:comparers) {
+			tasks.add(new CompareTask<>(() -> {
+				List<SpdxPackage> pkgs = comparerPackages.get(comparer);
+				List<SpdxDocument> documents = comparerDocuments.get(comparer);
+				try {
+					for (int i = 0; i < pkgs.size(); i++) {
+						comparer.addDocumentPackage(documents.get(i), pkgs.get(i));
+					}
+				} catch (InvalidSPDXAnalysisException ex) {
+					throw new SpdxCompareException("Error comparing packages", ex);
+				}
+				return true;
+			}));
+		}
+		CompareTask.invokeAll(comparePool, tasks);
 	}
 
 	/**
@@ -1688,6 +1808,9 @@ public class SpdxComparer {
 		if (!this.uniqueFiles.isEmpty()) {
 			return false;
 		}
+		if (!this.movedFiles.isEmpty()) {
+			return false;
+		}
 		if (!this.fileDifferences.isEmpty()) {
 			return false;
 		}
@@ -1739,6 +1862,30 @@ public class SpdxComparer {
 		return retval;
 	}
 
+	/**
+	 * Return any files in spdx document index 1 which have the same SHA1 checksum as a file with a
+	 * different name in spdx document index 2
+	 * @param docindex1
+	 * @param docindex2
+	 * @return map of the file in document index 1 to the moved file in document index 2
+	 * @throws SpdxCompareException 
+	 */
+	public Map<SpdxFile, SpdxFile> getMovedFiles(int docindex1, int docindex2) throws SpdxCompareException {
+		this.checkDocsField();
+		this.checkInProgress();
+		this.checkDocsIndex(docindex1);
+		this.checkDocsIndex(docindex2);
+		Map<SpdxDocument, Map<SpdxFile, SpdxFile>> movedMap = this.movedFiles.get(this.spdxDocs.get(docindex1));
+		if (movedMap == null) {
+			return new HashMap<>();
+		}
+		Map<SpdxFile, SpdxFile> retval = movedMap.get(this.spdxDocs.get(docindex2));
+		if (retval == null) {
+			return new HashMap<>();
+		}
+		return retval;
+	}
+
 	/**
 	 * Returns any file differences found between the first and second SPDX documents
 	 * as specified by the document index
@@ -60,6 +60,14 @@ public class SpdxFileComparer extends SpdxItemComparer {
 		super(extractedLicenseIdMap);
 	}
 	
+	/**
+	 * File names match if the normalized file paths are the same
+	 */
+	@Override
+	protected boolean namesMatch(String name1, String name2) {
+		return SpdxFileMatcher.normalizePath(name1).equals(SpdxFileMatcher.normalizePath(name2));
+	}
+	
 	/**
 	 * Add a file to the comparer and compare to the existing files
 	 * @param spdxDocument document containing the file
@@ -0,0 +1,290 @@
+/**
+ * Copyright (c) 2026 Source Auditor Inc.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.utility.compare;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.spdx.library.InvalidSPDXAnalysisException;
+import org.spdx.library.model.Checksum;
+import org.spdx.library.model.SpdxFile;
+import org.spdx.library.model.enumerations.ChecksumAlgorithm;
+import org.spdx.library.model.license.AnyLicenseInfo;
+
+/**
+ * Index of the files in a single SPDX document used to match files between documents.
+ *
+ * The files are indexed by normalized path and by SHA1 checksum in a single pass so
+ * that matching the files of two documents is linear in the number of files.  Files
+ * which are not found by path in the other document but have the same SHA1 checksum
+ * as an otherwise unmatched file are reported as moved rather than unique.
+ *
+ * @author Gary O'Neall
+ *
+ */
+class SpdxFileMatcher {
+
+	/**
+	 * Results of matching the files of document A against the files of document B
+	 */
+	static class FileMatches {
+		private final List<SpdxFile[]> matchedFiles;
+		private final Map<SpdxFile, SpdxFile> movedFiles;
+		private final List<SpdxFile> uniqueFiles;
+
+		FileMatches(List<SpdxFile[]> matchedFiles, Map<SpdxFile, SpdxFile> movedFiles, List<SpdxFile> uniqueFiles) {
+			this.matchedFiles = matchedFiles;
+			this.movedFiles = movedFiles;
+			this.uniqueFiles = uniqueFiles;
+		}
+
+		/**
+		 * @return pairs of files with the same normalized path - the file from A at index 0 and the file from B at index 1
+		 */
+		List<SpdxFile[]> getMatchedFiles() {
+			return matchedFiles;
+		}
+
+		/**
+		 * @return map of files in A to the file in B with the same SHA1 checksum but a different path
+		 */
+		Map<SpdxFile, SpdxFile> getMovedFiles() {
+			return movedFiles;
+		}
+
+		/**
+		 * @return files in A not found in B by path or by checksum
+		 */
+		List<SpdxFile> getUniqueFiles() {
+			return uniqueFiles;
+		}
+	}
+
+	private final SpdxFile[] files;
+	private final String[] normalizedPaths;
+	private final List<List<String>> sha1s;
+	private final Map<String, Integer> pathIndex;
+	private final Map<String, List<Integer>> sha1Index;
+
+	/**
+	 * @param files files to index - the order of the files is preserved in the match results
+	 * @throws InvalidSPDXAnalysisException
+	 */
+	SpdxFileMatcher(SpdxFile[] files) throws InvalidSPDXAnalysisException {
+		this.files = files;
+		this.normalizedPaths = new String[files.length];
+		this.sha1s = new ArrayList<>(files.length);
+		this.pathIndex = new HashMap<>(mapCapacity(files.length));
+		this.sha1Index = new HashMap<>(mapCapacity(files.length));
+		for (int i = 0; i < files.length; i++) {
+			Optional<String> name = files[i].getName();
+			if (name.isPresent()) {
+				normalizedPaths[i] = normalizePath(name.get());
+				// only the first file for a duplicate path is matched
+				pathIndex.putIfAbsent(normalizedPaths[i], i);
+			}
+			List<String> fileSha1s = new ArrayList<>(1);
+			for (Checksum checksum:files[i].getChecksums()) {
+				if (ChecksumAlgorithm.SHA1.equals(checksum.getAlgorithm()) && !checksum.getValue().isEmpty()) {
+					String sha1 = checksum.getValue().toLowerCase(Locale.ROOT);
+					fileSha1s.add(sha1);
+					List<Integer> sha1Files = sha1Index.computeIfAbsent(sha1, k -> new ArrayList<>(1));
+					if (sha1Files.isEmpty() || sha1Files.get(sha1Files.size() - 1) != i) {
+						sha1Files.add(i);
+					}
+				}
+			}
+			sha1s.add(fileSha1s);
+		}
+	}
+
+	private static int mapCapacity(int size) {
+		return Math.max(16, (int)(size / 0.75f) + 1);
+	}
+
+	/**
+	 * @return the indexed files
+	 */
+	SpdxFile[] getFiles() {
+		return files;
+	}
+
+	/**
+	 * Normalize a file path for matching - backslashes are converted to forward slashes
+	 * and leading <code>./</code> and <code>/</code> are removed
+	 * @param path
+	 * @return normalized path
+	 */
+	static String normalizePath(String path) {
+		String retval = path.replace('\\', '/');
+		int start = 0;
+		while (start < retval.length()) {
+			if (retval.startsWith("./", start)) {
+				start += 2;
+			} else if (retval.charAt(start) == '/') {
+				start++;
+			} else {
+				break;
+			}
+		}
+		return retval.substring(start);
+	}
+
+	/**
+	 * Match the files in this index (A) against the files in another index (B)
+	 * @param other index for the files in B
+	 * @param detectMoves if true, unmatched files with the same SHA1 checksum as an unmatched file in B are reported as moved
+	 * @return the match results
+	 */
+	FileMatches match(SpdxFileMatcher other, boolean detectMoves) {
+		List<SpdxFile[]> matchedFiles = new ArrayList<>();
+		List<Integer> unmatched = new ArrayList<>();
+		for (int i = 0; i < files.length; i++) {
+			Integer otherIndex = normalizedPaths[i] == null ? null : other.pathIndex.get(normalizedPaths[i]);
+			if (otherIndex != null && pathIndex.get(normalizedPaths[i]) == i) {
+				matchedFiles.add(new SpdxFile[] {files[i], other.files[otherIndex]});
+			} else {
+				unmatched.add(i);
+			}
+		}
+		Map<SpdxFile, SpdxFile> movedFiles;
+		if (detectMoves && !unmatched.isEmpty()) {
+			movedFiles = new LinkedHashMap<>();
+			Set<Integer> claimed = new HashSet<>();
+			List<SpdxFile> uniqueFiles = new ArrayList<>();
+			for (int i:unmatched) {
+				int movedIndex = -1;
+				for (String sha1:sha1s.get(i)) {
+					movedIndex = other.findMoveCandidate(sha1, this, claimed);
+					if (movedIndex >= 0) {
+						break;
+					}
+				}
+				if (movedIndex >= 0) {
+					claimed.add(movedIndex);
+					movedFiles.put(files[i], other.files[movedIndex]);
+				} else {
+					uniqueFiles.add(files[i]);
+				}
+			}
+			return new FileMatches(matchedFiles, movedFiles, uniqueFiles);
+		} else {
+			List<SpdxFile> uniqueFiles = new ArrayList<>(unmatched.size());
+			for (int i:unmatched) {
+				uniqueFiles.add(files[i]);
+			}
+			return new FileMatches(matchedFiles, Collections.emptyMap(), uniqueFiles);
+		}
+	}
+
+	/**
+	 * @param sha1 lower case SHA1 of the file to find
+	 * @param other index of the document the file is moved from
+	 * @param claimed indexes of files already matched as moved
+	 * @return index of a file with the checksum whose path is not in other or -1 if none found
+	 */
+	private int findMoveCandidate(String sha1, SpdxFileMatcher other, Set<Integer> claimed) {
+		List<Integer> candidates = sha1Index.get(sha1);
+		if (candidates == null) {
+			return -1;
+		}
+		for (int candidate:candidates) {
+			if (!claimed.contains(candidate) &&
+					(normalizedPaths[candidate] == null || !other.pathIndex.containsKey(normalizedPaths[candidate]))) {
+				return candidate;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Quick check for files which do not need a full property comparison.  Returns true only if
+	 * the checksums, licenses and all simple properties are identical and neither file has
+	 * annotations or relationships.  Licenses containing a LicenseRef are never considered
+	 * identical since the extracted license IDs may differ between documents.
+	 * @param fileA
+	 * @param fileB
+	 * @return true if the files are known to be identical, false if a full comparison is required
+	 * @throws InvalidSPDXAnalysisException
+	 */
+	static boolean filesIdentical(SpdxFile fileA, SpdxFile fileB) throws InvalidSPDXAnalysisException {
+		Set<String> checksumsA = checksumValues(fileA.getChecksums());
+		if (checksumsA.isEmpty() || !checksumsA.equals(checksumValues(fileB.getChecksums()))) {
+			return false;
+		}
+		String concludedA = simpleLicenseString(fileA.getLicenseConcluded());
+		if (concludedA == null || !concludedA.equals(simpleLicenseString(fileB.getLicenseConcluded()))) {
+			return false;
+		}
+		Set<String> seenA = simpleLicenseStrings(fileA.getLicenseInfoFromFiles());
+		if (seenA == null || !seenA.equals(simpleLicenseStrings(fileB.getLicenseInfoFromFiles()))) {
+			return false;
+		}
+		return SpdxComparer.stringsEqual(fileA.getCopyrightText(), fileB.getCopyrightText()) &&
+				SpdxComparer.stringsEqual(fileA.getComment(), fileB.getComment()) &&
+				SpdxComparer.stringsEqual(fileA.getLicenseComments(), fileB.getLicenseComments()) &&
+				SpdxComparer.stringsEqual(fileA.getNoticeText(), fileB.getNoticeText()) &&
+				SpdxComparer.collectionsEquals(fileA.getAttributionText(), fileB.getAttributionText()) &&
+				SpdxComparer.collectionsEquals(fileA.getFileTypes(), fileB.getFileTypes()) &&
+				SpdxComparer.stringCollectionsEqual(fileA.getFileContributors(), fileB.getFileContributors()) &&
+				fileA.getAnnotations().isEmpty() && fileB.getAnnotations().isEmpty() &&
+				fileA.getRelationships().isEmpty() && fileB.getRelationships().isEmpty();
+	}
+
+	private static Set<String> checksumValues(Collection<Checksum> checksums) throws InvalidSPDXAnalysisException {
+		Set<String> retval = new HashSet<>();
+		for (Checksum checksum:checksums) {
+			retval.add(checksum.getAlgorithm().toString() + ":" + checksum.getValue().toLowerCase(Locale.ROOT));
+		}
+		return retval;
+	}
+
+	/**
+	 * @param license
+	 * @return string form of the license or null if the license references an extracted license
+	 */
+	private static String simpleLicenseString(AnyLicenseInfo license) {
+		String retval = license.toString();
+		return retval.contains("LicenseRef-") ? null : retval;
+	}
+
+	/**
+	 * @param licenses
+	 * @return set of string forms of the licenses or null if any license references an extracted license
+	 */
+	private static Set<String> simpleLicenseStrings(Collection<AnyLicenseInfo> licenses) {
+		Set<String> retval = new HashSet<>();
+		for (AnyLicenseInfo license:licenses) {
+			String licenseString = simpleLicenseString(license);
+			if (licenseString == null) {
+				return null;
+			}
+			retval.add(licenseString);
+		}
+		return retval;
+	}
+}
@@ -82,6 +82,15 @@ public class SpdxItemComparer {
 		this.extractedLicenseIdMap = extractedLicenseIdMap;
 	}
 	
+	/**
+	 * @param name1
+	 * @param name2
+	 * @return true if items with these names can be compared
+	 */
+	protected boolean namesMatch(String name1, String name2) {
+		return name1.equals(name2);
+	}
+	
 	/**
 	 * Add a new item to the comparer and compare the contents of the item
 	 * to all items which have been previously added
@@ -100,7 +109,7 @@ public class SpdxItemComparer {
 			if (oName.isPresent()) {
 				this.name = oName.get();
 			}
-		} else if (oName.isPresent() && !this.name.equals(oName.get()) && !(this instanceof SpdxSnippetComparer)) {
+		} else if (oName.isPresent() && !namesMatch(this.name, oName.get()) && !(this instanceof SpdxSnippetComparer)) {
 			throw new SpdxCompareException("Names do not match for item being added to comparer: "+
 					spdxItem.getName()+", expecting "+this.name);
 		}
@@ -272,12 +272,27 @@ public class TemplateRegexMatcher implements ILicenseTemplateOutputHandler {
 	 * @return true if a match is found, otherwise false
 	 */
 	public boolean isTemplateMatchWithinText(String text) throws SpdxCompareException, InvalidSPDXAnalysisException {
+		return isTemplateMatchWithinText(text, new LicenseMatchStatistics(null, LicenseMatchBudget.getDefault()));
+	}
+	
+	/**
+	 * @param text text to search for a match
+	 * @param statistics statistics and budget for the search and comparison
+	 * @return true if a match is found, otherwise false
+	 * @throws LicenseMatchBudgetExceededException if the search exceeded the budget in the statistics
+	 */
+	public boolean isTemplateMatchWithinText(String text, LicenseMatchStatistics statistics) throws SpdxCompareException, InvalidSPDXAnalysisException {
 		if (text == null || text.isEmpty()) {
 			return false;
 		}
-		String completeText = findTemplateWithinText(text);
+		String completeText;
+		try {
+			completeText = findTemplateWithinText(text, statistics);
+		} catch (LicenseMatchStatistics.MatchAbortedException e) {
+			throw new LicenseMatchBudgetExceededException(statistics);
+		}
 		if (completeText != null) {
-			return !LicenseCompareHelper.isTextMatchingTemplate(template, completeText).isDifferenceFound();
+			return !LicenseCompareHelper.isTextMatchingTemplate(template, completeText, statistics).isDifferenceFound();
 		} else {
 			return false;
 		}
@@ -285,10 +300,10 @@ public class TemplateRegexMatcher implements ILicenseTemplateOutputHandler {
 
 	/**
 	 * @param text
+	 * @param statistics statistics and budget for the search
 	 * @return the text matching the beginning and end regular expressions for the template.  Null if there is no match.
-	 * @throws SpdxCompareException
 	 */
-	private @Nullable String findTemplateWithinText(String text) {
+	private @Nullable String findTemplateWithinText(String text, LicenseMatchStatistics statistics) {
 		// Get match status
 		String result = null;
 		int startIndex = -1;
@@ -308,15 +323,16 @@ public class TemplateRegexMatcher implements ILicenseTemplateOutputHandler {
 		}
 		
 		String compareText = normalizedText.toString();
+		CharSequence budgetedText = statistics.budgeted(compareText);
 
 		Pattern quickPattern = Pattern.compile(getQuickMatchRegex(WORD_LIMIT));
-		if (quickPattern.matcher(compareText).find()) {
+		if (quickPattern.matcher(budgetedText).find()) {
 			Pattern startPattern = Pattern.compile(getStartRegex(WORD_LIMIT));
-			Matcher startMatcher = startPattern.matcher(compareText);
+			Matcher startMatcher = startPattern.matcher(budgetedText);
 			if(startMatcher.find()) {
 				startIndex = startMatcher.start();
 				Pattern endPattern = Pattern.compile(getEndRegex(WORD_LIMIT));
-				Matcher endMatcher = endPattern.matcher(compareText);
+				Matcher endMatcher = endPattern.matcher(budgetedText);
 				if (endMatcher.find()) {
 					endIndex = endMatcher.end();
 					result = compareText.substring(startIndex, endIndex);
@@ -0,0 +1,227 @@
+/**
+ * Copyright (c) 2026 Source Auditor Inc.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * 
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.utility.verificationcode;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UTFDataFormatException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.Nullable;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Persistent cache of file checksums used to avoid rehashing unchanged files when generating
+ * a package verification code.
+ * 
+ * Checksums are keyed by the normalized file path relative to the source directory and are only
+ * reused if the size, last modified time and file key (e.g. the inode where supported by the file system)
+ * of the file are unchanged.  Files modified within <code>MODIFICATION_GRACE_NANOS</code> of being hashed
+ * are not cached since a further modification may not change the last modified time.
+ * 
+ * Since the paths are relative, a cache file should only be used for a single source tree.  Saving
+ * the cache removes entries for files which were not looked up since the cache was loaded or last saved,
+ * so the cache should be saved once after each complete pass over the source tree and not concurrently with
+ * lookups.  A missing, corrupt or incompatible cache file is treated as an empty cache.
+ * 
+ * @author Gary O'Neall
+ *
+ */
+public class FileChecksumCache {
+	
+	static final Logger logger = LoggerFactory.getLogger(FileChecksumCache.class);
+	
+	static final int MAGIC = 0x53504443;	// "SPDC"
+	static final int VERSION = 1;
+	static final long MODIFICATION_GRACE_NANOS = TimeUnit.SECONDS.toNanos(2);
+	
+	/**
+	 * Cached checksum and the file metadata at the time the checksum was generated
+	 */
+	private static class Entry {
+		final long size;
+		final long lastModifiedNanos;
+		final String fileKey;
+		final String checksum;
+		
+		Entry(long size, long lastModifiedNanos, String fileKey, String checksum) {
+			this.size = size;
+			this.lastModifiedNanos = lastModifiedNanos;
+			this.fileKey = fileKey;
+			this.checksum = checksum;
+		}
+		
+		boolean matches(long size, long lastModifiedNanos, String fileKey) {
+			return this.size == size && this.lastModifiedNanos == lastModifiedNanos && this.fileKey.equals(fileKey);
+		}
+	}
+	
+	private final Path cacheFile;
+	private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+	private final Set<String> usedPaths = Collections.newSetFromMap(new ConcurrentHashMap<>());
+	private final AtomicInteger hits = new AtomicInteger();
+	private final AtomicInteger misses = new AtomicInteger();
+	
+	/**
+	 * @param cacheFile file the cache is loaded from and saved to
+	 * @throws IOException on errors reading an existing cache file
+	 */
+	public FileChecksumCache(Path cacheFile) throws IOException {
+		Objects.requireNonNull(cacheFile, "Cache file can not be null");
+		this.cacheFile = cacheFile;
+		if (Files.isRegularFile(cacheFile)) {
+			load();
+		}
+	}
+	
+	private void load() throws IOException {
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(cacheFile)))) {
+			if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+				logger.warn("Ignoring incompatible checksum cache file "+cacheFile);
+				return;
+			}
+			int count = in.readInt();
+			for (int i = 0; i < count; i++) {
+				String path = in.readUTF();
+				long size = in.readLong();
+				long lastModifiedNanos = in.readLong();
+				String fileKey = in.readUTF();
+				String checksum = in.readUTF();
+				entries.put(path, new Entry(size, lastModifiedNanos, fileKey, checksum));
+			}
+		} catch (EOFException | UTFDataFormatException e) {
+			logger.warn("Ignoring corrupt checksum cache file "+cacheFile);
+			entries.clear();
+		}
+	}
+	
+	private static String fileKey(BasicFileAttributes attrs) {
+		Object key = attrs.fileKey();
+		return Objects.isNull(key) ? "" : key.toString();
+	}
+	
+	/**
+	 * @param normalizedPath normalized path of the file relative to the source directory
+	 * @param attrs current attributes of the file
+	 * @return the cached checksum or null if the file is not cached or has changed
+	 */
+	public @Nullable String getChecksum(String normalizedPath, BasicFileAttributes attrs) {
+		usedPaths.add(normalizedPath);
+		Entry entry = entries.get(normalizedPath);
+		if (Objects.nonNull(entry) && entry.matches(attrs.size(), 
+				attrs.lastModifiedTime().to(TimeUnit.NANOSECONDS), fileKey(attrs))) {
+			hits.incrementAndGet();
+			return entry.checksum;
+		}
+		misses.incrementAndGet();
+		return null;
+	}
+	
+	/**
+	 * @param normalizedPath normalized path of the file relative to the source directory
+	 * @param attrs attributes of the file read before the checksum was generated
+	 * @param checksum checksum for the file
+	 */
+	public void putChecksum(String normalizedPath, BasicFileAttributes attrs, String checksum) {
+		usedPaths.add(normalizedPath);
+		long lastModifiedNanos = attrs.lastModifiedTime().to(TimeUnit.NANOSECONDS);
+		if (System.currentTimeMillis() * 1000000L - lastModifiedNanos < MODIFICATION_GRACE_NANOS) {
+			entries.remove(normalizedPath);	// recently modified - a further change may not be detected
+		} else {
+			entries.put(normalizedPath, new Entry(attrs.size(), lastModifiedNanos, fileKey(attrs), checksum));
+		}
+	}
+	
+	/**
+	 * Write the cache to the cache file, removing entries not looked up since the cache was loaded or last saved
+	 * @throws IOException
+	 */
+	public void save() throws IOException {
+		entries.keySet().retainAll(usedPaths);
+		usedPaths.clear();
+		Path parent = cacheFile.toAbsolutePath().getParent();
+		if (Objects.nonNull(parent)) {
+			Files.createDirectories(parent);
+		}
+		Path tempFile = Files.createTempFile(parent, cacheFile.getFileName().toString(), ".tmp");
+		try {
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+				Map<String, Entry> snapshot = new HashMap<>(entries);
+				out.writeInt(MAGIC);
+				out.writeInt(VERSION);
+				out.writeInt(snapshot.size());
+				for (Map.Entry<String, Entry> mapEntry:snapshot.entrySet()) {
+					Entry entry = mapEntry.getValue();
+					out.writeUTF(mapEntry.getKey());
+					out.writeLong(entry.size);
+					out.writeLong(entry.lastModifiedNanos);
+					out.writeUTF(entry.fileKey);
+					out.writeUTF(entry.checksum);
+				}
+			}
+			try {
+				Files.move(tempFile, cacheFile, StandardCopyOption.ATOMIC_MOVE);
+			} catch (AtomicMoveNotSupportedException e) {
+				// a concurrent reader may see a partially written cache which is treated as an empty cache
+				logger.debug("Atomic move is not supported for "+cacheFile+" - replacing the cache file");
+				Files.move(tempFile, cacheFile, StandardCopyOption.REPLACE_EXISTING);
+			}
+		} finally {
+			Files.deleteIfExists(tempFile);
+		}
+	}
+	
+	/**
+	 * @return number of cached checksums
+	 */
+	public int size() {
+		return entries.size();
+	}
+	
+	/**
+	 * @return number of lookups which returned a cached checksum
+	 */
+	public int getHitCount() {
+		return hits.get();
+	}
+	
+	/**
+	 * @return number of lookups for files which were not cached or had changed
+	 */
+	public int getMissCount() {
+		return misses.get();
+	}
+}
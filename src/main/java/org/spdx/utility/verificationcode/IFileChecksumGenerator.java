@@ -26,4 +26,11 @@ import java.io.IOException;
  */
 public interface IFileChecksumGenerator {
 	public String getFileChecksum(File file) throws IOException;
+	
+	/**
+	 * @return true if <code>getFileChecksum</code> may be called concurrently from multiple threads
+	 */
+	public default boolean isThreadSafe() {
+		return false;
+	}
 }
@@ -17,23 +17,37 @@
 package org.spdx.utility.verificationcode;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 
 /**
  * Java sha1 checksum generator using MessageDigest
+ * 
+ * Each thread uses its own digest so that checksums can be generated concurrently.  The read
+ * buffer is a heap buffer allocated for each file so that no memory is retained by idle threads.
+ * 
  * @author Gary O'Neall
  *
  */
 public class JavaSha1ChecksumGenerator implements IFileChecksumGenerator {
 	static final String SHA1_ALGORITHM = "SHA-1";
 	static final String PACKAGE_VERIFICATION_CHARSET = "UTF-8";
-	private MessageDigest digest = null;
+	static final int BUFFER_SIZE = 64 * 1024;
+	
+	private final ThreadLocal<MessageDigest> digest = ThreadLocal.withInitial(() -> {
+		try {
+			return MessageDigest.getInstance(SHA1_ALGORITHM);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-1 algorithm is not available", e);
+		}
+	});
 
 	public JavaSha1ChecksumGenerator() throws NoSuchAlgorithmException {
-		this.digest = MessageDigest.getInstance(SHA1_ALGORITHM);
+		MessageDigest.getInstance(SHA1_ALGORITHM);	// check the algorithm is available
 	}
 
 	/* (non-Javadoc)
@@ -41,28 +55,30 @@ public class JavaSha1ChecksumGenerator implements IFileChecksumGenerator {
 	 */
 	@Override
 	public String getFileChecksum(File file) throws IOException {
-		digest.reset();
-		FileInputStream in = new FileInputStream(file);
-		try {
-			byte[] buffer = new byte[2048];
-			int numBytes = in.read(buffer);
-			while (numBytes >= 0) {
-				digest.update(buffer, 0, numBytes);
-				numBytes = in.read(buffer);
+		MessageDigest fileDigest = digest.get();
+		fileDigest.reset();
+		ByteBuffer fileBuffer = ByteBuffer.allocate(BUFFER_SIZE);
+		try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			while (channel.read(fileBuffer) >= 0) {
+				fileBuffer.flip();
+				fileDigest.update(fileBuffer);
+				fileBuffer.clear();
 			}
-			byte[] digestBytes = digest.digest();
-			StringBuilder sb = new StringBuilder();
-			for (int i = 0; i < digestBytes.length; i++) {
-				String hex = Integer.toHexString(0xff & digestBytes[i]);
-				if (hex.length() < 2) {
-					sb.append('0');
-				}
-				sb.append(hex);
+		}
+		byte[] digestBytes = fileDigest.digest();
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < digestBytes.length; i++) {
+			String hex = Integer.toHexString(0xff & digestBytes[i]);
+			if (hex.length() < 2) {
+				sb.append('0');
 			}
-			return sb.toString();
-		} finally {
-			in.close();
+			sb.append(hex);
 		}
+		return sb.toString();
+	}
+	
+	@Override
+	public boolean isThreadSafe() {
+		return true;
 	}
-
 }
@@ -18,16 +18,36 @@ package org.spdx.utility.verificationcode;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.nio.charset.Charset;
+import java.nio.file.FileSystemLoopException;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nullable;
 
 import org.spdx.library.InvalidSPDXAnalysisException;
 import org.spdx.library.model.SpdxFile;
@@ -43,16 +63,112 @@ import org.spdx.storage.IModelStore.IdType;
  * The method <code>getFileChecksum</code> is called for each file in the directory.  This can
  * be used as a hook to capture all files in the directory and capture the checksum values at
  * a file level.
+ * 
+ * If the generator is constructed with a parallelism greater than one and the file checksum
+ * generator is thread safe, the files in a directory are hashed concurrently on a pool of
+ * at most that many threads.  The pool is kept for the lifetime of the generator and idle
+ * threads are released after <code>IDLE_THREAD_TIMEOUT_SECONDS</code>.  Alternatively, an
+ * executor may be supplied which is used for all verification codes and is not shut down by
+ * the generator.  The resulting verification code is the same as the sequential result.
+ * 
+ * If a <code>FileChecksumCache</code> is supplied, files in a directory whose size, last modified
+ * time and file key are unchanged since the cache was last saved are not rehashed and the
+ * <code>getFileChecksum</code> hook is not called for those files.  The cache is saved after each
+ * verification code is generated from a directory.
  *
  * @author Gary O'Neall
  *
  */
 public class VerificationCodeGenerator {
 
+	/**
+	 * Maximum number of files hashed by a single task when hashing in parallel
+	 */
+	static final int MAX_FILES_PER_TASK = 64;
+	
+	/**
+	 * Time in seconds before an idle thread in the generator's pool is released
+	 */
+	static final long IDLE_THREAD_TIMEOUT_SECONDS = 30;
+
+	/**
+	 * File found in a source directory
+	 */
+	private static class SourceFile {
+		final File file;
+		final String normalizedPath;
+		final BasicFileAttributes attrs;
+		
+		SourceFile(File file, String normalizedPath, BasicFileAttributes attrs) {
+			this.file = file;
+			this.normalizedPath = normalizedPath;
+			this.attrs = attrs;
+		}
+	}
+
 	private IFileChecksumGenerator fileChecksumGenerator;
+	private final int parallelism;
+	private final ExecutorService executor;
+	private final FileChecksumCache checksumCache;
 
 	public VerificationCodeGenerator(IFileChecksumGenerator fileChecksumGenerator) {
+		this(fileChecksumGenerator, 1);
+	}
+	
+	/**
+	 * @param fileChecksumGenerator generator for the file checksums
+	 * @param parallelism maximum number of threads used to hash files - files are hashed sequentially 
+	 * if 1 or if the <code>fileChecksumGenerator</code> is not thread safe
+	 */
+	public VerificationCodeGenerator(IFileChecksumGenerator fileChecksumGenerator, int parallelism) {
+		this(fileChecksumGenerator, parallelism, null);
+	}
+	
+	/**
+	 * @param fileChecksumGenerator generator for the file checksums
+	 * @param parallelism maximum number of threads used to hash files - files are hashed sequentially 
+	 * if 1 or if the <code>fileChecksumGenerator</code> is not thread safe
+	 * @param checksumCache if not null, cache of checksums for the files in the source directory
+	 */
+	public VerificationCodeGenerator(IFileChecksumGenerator fileChecksumGenerator, int parallelism, 
+			@Nullable FileChecksumCache checksumCache) {
+		this(fileChecksumGenerator, parallelism > 1 ? newHashingPool(parallelism) : null, parallelism, checksumCache);
+	}
+	
+	/**
+	 * @param fileChecksumGenerator generator for the file checksums
+	 * @param executor executor used to hash files in parallel - the executor is not shut down by this generator
+	 * @param parallelism maximum number of hashing tasks submitted concurrently - files are hashed sequentially 
+	 * if 1 or if the <code>fileChecksumGenerator</code> is not thread safe
+	 * @param checksumCache if not null, cache of checksums for the files in the source directory
+	 */
+	public VerificationCodeGenerator(IFileChecksumGenerator fileChecksumGenerator, @Nullable ExecutorService executor, 
+			int parallelism, @Nullable FileChecksumCache checksumCache) {
+		if (parallelism < 1) {
+			throw new IllegalArgumentException("Parallelism must be at least 1");
+		}
+		if (parallelism > 1 && Objects.isNull(executor)) {
+			throw new IllegalArgumentException("An executor is required for a parallelism greater than 1");
+		}
 		this.fileChecksumGenerator = fileChecksumGenerator;
+		this.executor = executor;
+		this.parallelism = parallelism;
+		this.checksumCache = checksumCache;
+	}
+	
+	/**
+	 * @param parallelism number of threads
+	 * @return pool of daemon threads which are released when idle
+	 */
+	private static ExecutorService newHashingPool(int parallelism) {
+		ThreadPoolExecutor pool = new ThreadPoolExecutor(parallelism, parallelism, 
+				IDLE_THREAD_TIMEOUT_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+					Thread thread = new Thread(runnable, "spdx-verification-code");
+					thread.setDaemon(true);
+					return thread;
+				});
+		pool.allowCoreThreadTimeOut(true);
+		return pool;
 	}
 
 	/**
@@ -111,8 +227,11 @@ public class VerificationCodeGenerator {
 			String skippedPath = normalizeFilePath(skippedFiles[i].getAbsolutePath().substring(rootLen));
 			skippedFilesPath.add(skippedPath);
 		}
-		List<String> fileChecksums = new ArrayList<>();
-		collectFileData(rootOfDirectory, sourceDirectory, fileChecksums, skippedFilesPath);
+		List<SourceFile> files = collectFiles(rootOfDirectory, sourceDirectory, skippedFilesPath);
+		List<String> fileChecksums = getFileChecksums(files);
+		if (Objects.nonNull(checksumCache)) {
+			checksumCache.save();
+		}
 		String[] skippedFileNames = new String[skippedFilesPath.size()];
 		Iterator<String> iter = skippedFilesPath.iterator();
 		int i = 0;
@@ -149,33 +268,105 @@ public class VerificationCodeGenerator {
 	}
 
 	/**
-	 * Collect the file level checksums and filenames
+	 * Collect the files in the directory tree which are not skipped.  Symbolic links are followed.
 	 * @param prefixForRelative The portion of the filepath which preceeds the relative file path for the archive
 	 * @param sourceDirectory
-	 * @param fileNameAndChecksums
+	 * @param skippedFiles normalized paths of files to skip
+	 * @return files to include in the verification code
 	 * @throws IOException
 	 */
-	private void collectFileData(String prefixForRelative, File sourceDirectory,
-			List<String> fileNameAndChecksums, Set<String> skippedFiles) throws IOException {
+	private List<SourceFile> collectFiles(String prefixForRelative, File sourceDirectory, 
+			Set<String> skippedFiles) throws IOException {
+		List<SourceFile> retval = new ArrayList<>();
 		if (!sourceDirectory.isDirectory()) {
-			return;
-		}
-		File[] filesAndDirs = sourceDirectory.listFiles();
-		if (filesAndDirs == null) {
-			return;
-		}
-		for (int i = 0; i < filesAndDirs.length; i++) {
-			if (filesAndDirs[i].isDirectory()) {
-				collectFileData(prefixForRelative, filesAndDirs[i], fileNameAndChecksums, skippedFiles);
-			} else {
-				String filePath = normalizeFilePath(filesAndDirs[i].getAbsolutePath()
-						.substring(prefixForRelative.length()+1));
+			return retval;
+		}
+		int prefixLen = prefixForRelative.length() + 1;
+		Files.walkFileTree(Paths.get(prefixForRelative), EnumSet.of(FileVisitOption.FOLLOW_LINKS), Integer.MAX_VALUE, 
+				new SimpleFileVisitor<Path>() {
+			@Override
+			public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+				String filePath = normalizeFilePath(file.toString().substring(prefixLen));
 				if (!skippedFiles.contains(filePath)) {
-					String checksumValue = this.fileChecksumGenerator.getFileChecksum(filesAndDirs[i]).toLowerCase();
-					fileNameAndChecksums.add(checksumValue);
+					retval.add(new SourceFile(file.toFile(), filePath, attrs));
+				}
+				return FileVisitResult.CONTINUE;
+			}
+			
+			@Override
+			public FileVisitResult visitFileFailed(Path file, IOException exc) throws IOException {
+				if (exc instanceof FileSystemLoopException || Files.isDirectory(file)) {
+					// skip directory cycles and unreadable directories
+					return FileVisitResult.CONTINUE;
+				}
+				throw exc;
+			}
+		});
+		return retval;
+	}
+	
+	/**
+	 * @param files files to hash
+	 * @return lower case checksums for the files
+	 * @throws IOException
+	 */
+	private List<String> getFileChecksums(List<SourceFile> files) throws IOException {
+		String[] checksums = new String[files.size()];
+		List<Integer> uncached = new ArrayList<>(files.size());
+		for (int i = 0; i < checksums.length; i++) {
+			if (Objects.nonNull(checksumCache)) {
+				checksums[i] = checksumCache.getChecksum(files.get(i).normalizedPath, files.get(i).attrs);
+			}
+			if (Objects.isNull(checksums[i])) {
+				uncached.add(i);
+			}
+		}
+		if (parallelism > 1 && uncached.size() > 1 && fileChecksumGenerator.isThreadSafe()) {
+			int tasks = Math.min(parallelism, uncached.size());
+			int filesPerTask = Math.max(1, Math.min(MAX_FILES_PER_TASK, uncached.size() / (tasks * 4)));
+			List<Future<Void>> futures = new ArrayList<>();
+			try {
+				for (int start = 0; start < uncached.size(); start += filesPerTask) {
+					List<Integer> taskFiles = uncached.subList(start, Math.min(uncached.size(), start + filesPerTask));
+					futures.add(executor.submit(() -> {
+						for (int i:taskFiles) {
+							checksums[i] = fileChecksumGenerator.getFileChecksum(files.get(i).file).toLowerCase();
+						}
+						return null;
+					}));
+				}
+				for (Future<Void> future:futures) {
+					future.get();
+				}
+			} catch (ExecutionException e) {
+				Throwable cause = e.getCause();
+				if (cause instanceof IOException) {
+					throw (IOException)cause;
+				} else if (cause instanceof RuntimeException) {
+					throw (RuntimeException)cause;
+				} else {
+					throw new IOException("Error generating file checksum", cause);
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new InterruptedIOException("Interrupted generating file checksums");
+			} finally {
+				// cancel any remaining tasks if a checksum failed
+				for (Future<Void> future:futures) {
+					future.cancel(true);
 				}
 			}
+		} else {
+			for (int i:uncached) {
+				checksums[i] = fileChecksumGenerator.getFileChecksum(files.get(i).file).toLowerCase();
+			}
+		}
+		if (Objects.nonNull(checksumCache)) {
+			for (int i:uncached) {
+				checksumCache.putChecksum(files.get(i).normalizedPath, files.get(i).attrs, checksums[i]);
+			}
 		}
+		return new ArrayList<>(Arrays.asList(checksums));
 	}
 
 	/**
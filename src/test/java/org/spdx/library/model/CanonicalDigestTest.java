@@ -0,0 +1,114 @@
+/**
+ * Copyright (c) 2026 Source Auditor Inc.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * 
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.library.model;
+
+import org.spdx.library.InvalidSPDXAnalysisException;
+import org.spdx.library.SpdxConstants;
+import org.spdx.library.model.ModelObject.NotEquivalent;
+import org.spdx.library.model.enumerations.ChecksumAlgorithm;
+import org.spdx.library.model.license.SpdxNoneLicense;
+import org.spdx.storage.IRevisionedModelStore;
+import org.spdx.storage.simple.InMemSpdxStore;
+
+/**
+ * Runs the model object tests with canonical digests enabled
+ * @author Gary O'Neall
+ *
+ */
+public class CanonicalDigestTest extends ModelObjectTest {
+	
+	static final String CHECKSUMS_PROPERTY = "checksums";
+	static final String SHA1_VALUE1 = "2fd4e1c67a2d28fced849ee1bb76e7391b93eb12";
+	static final String SHA1_VALUE2 = "de9f2c7fd25e1b3afad3e85a0bd17d9b100db4b3";
+
+	boolean wasEnabled;
+
+	/* (non-Javadoc)
+	 * @see org.spdx.library.model.ModelObjectTest#setUp()
+	 */
+	protected void setUp() throws Exception {
+		super.setUp();
+		wasEnabled = CanonicalDigest.isEnabled();
+		CanonicalDigest.setEnabled(true);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.spdx.library.model.ModelObjectTest#tearDown()
+	 */
+	protected void tearDown() throws Exception {
+		CanonicalDigest.setEnabled(wasEnabled);
+		super.tearDown();
+	}
+	
+	public void testRevisionChanges() throws InvalidSPDXAnalysisException {
+		IRevisionedModelStore revisionedStore = new InMemSpdxStore();
+		long revision = revisionedStore.getRevision();
+		GenericModelObject gmo = new GenericModelObject(revisionedStore, docUri, "TestId", copyManager, true);
+		assertTrue(revisionedStore.getRevision() > revision);
+		revision = revisionedStore.getRevision();
+		gmo.setPropertyValue("prop", "value");
+		assertTrue(revisionedStore.getRevision() > revision);
+		revision = revisionedStore.getRevision();
+		gmo.getStringPropertyValue("prop");
+		assertEquals(revision, revisionedStore.getRevision());
+		gmo.addPropertyValueToCollection("list", "value");
+		assertTrue(revisionedStore.getRevision() > revision);
+		revision = revisionedStore.getRevision();
+		gmo.removeProperty("prop");
+		assertTrue(revisionedStore.getRevision() > revision);
+	}
+	
+	public void testStructuredCollectionMembers() throws InvalidSPDXAnalysisException {
+		GenericModelObject gmo = new GenericModelObject(store, docUri, "TestId", copyManager, true);
+		gmo.addPropertyValueToCollection(CHECKSUMS_PROPERTY, gmo.createChecksum(ChecksumAlgorithm.SHA1, SHA1_VALUE1));
+		gmo.addPropertyValueToCollection(CHECKSUMS_PROPERTY, gmo.createChecksum(ChecksumAlgorithm.SHA1, SHA1_VALUE2));
+		InMemSpdxStore store2 = new InMemSpdxStore();
+		GenericModelObject gmo2 = new GenericModelObject(store2, docUri, "TestId", copyManager, true);
+		gmo2.addPropertyValueToCollection(CHECKSUMS_PROPERTY, gmo2.createChecksum(ChecksumAlgorithm.SHA1, SHA1_VALUE2));
+		Checksum checksum = gmo2.createChecksum(ChecksumAlgorithm.SHA1, SHA1_VALUE1);
+		gmo2.addPropertyValueToCollection(CHECKSUMS_PROPERTY, checksum);
+		assertTrue(gmo.equivalent(gmo2));
+		assertTrue(gmo2.equivalent(gmo));
+		assertEquals(CanonicalDigest.digest(gmo), CanonicalDigest.digest(gmo2));
+		
+		// the memoized digest must be recomputed after a change
+		gmo2.removePropertyValueFromCollection(CHECKSUMS_PROPERTY, checksum);
+		gmo2.addPropertyValueToCollection(CHECKSUMS_PROPERTY, gmo2.createChecksum(ChecksumAlgorithm.SHA1, SHA1_VALUE1.replace("2f", "3f")));
+		assertFalse(CanonicalDigest.digest(gmo) == CanonicalDigest.digest(gmo2));
+		assertFalse(gmo.equivalent(gmo2));
+		assertEquals(NotEquivalent.DIFFERENT_DIGEST, gmo.lastNotEquivalentReason.getReason());
+		assertFalse(gmo2.equivalent(gmo));
+	}
+	
+	public void testNormalizedValues() throws InvalidSPDXAnalysisException {
+		GenericModelObject gmo = new GenericModelObject(store, docUri, "TestId", copyManager, true);
+		GenericModelObject gmo2 = new GenericModelObject(store, docUri, "TestId2", copyManager, true);
+		gmo.setPropertyValue("text", "line1\r\nline2 ");
+		gmo2.setPropertyValue("text", "line1\nline2");
+		gmo.setPropertyValue("none", new SpdxNoneLicense());
+		gmo2.setPropertyValue("none", SpdxConstants.NONE_VALUE);
+		gmo.setPropertyValue("noassertion", SpdxConstants.NOASSERTION_VALUE);
+		gmo.setPropertyValue(SpdxConstants.PROP_PACKAGE_FILES_ANALYZED, true);
+		assertEquals(CanonicalDigest.digest(gmo), CanonicalDigest.digest(gmo2));
+		assertTrue(gmo.equivalent(gmo2));
+		assertTrue(gmo2.equivalent(gmo));
+		gmo2.setPropertyValue(SpdxConstants.PROP_PACKAGE_FILES_ANALYZED, false);
+		assertFalse(gmo.equivalent(gmo2));
+		assertFalse(gmo2.equivalent(gmo));
+	}
+}
@@ -0,0 +1,138 @@
+/**
+ * Copyright (c) 2026 Source Auditor Inc.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * 
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.library.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.spdx.library.DefaultModelStore;
+import org.spdx.library.InvalidSPDXAnalysisException;
+import org.spdx.library.Version;
+import org.spdx.library.model.enumerations.ChecksumAlgorithm;
+import org.spdx.library.model.enumerations.RelationshipType;
+import org.spdx.library.model.license.AnyLicenseInfo;
+import org.spdx.library.model.license.ExtractedLicenseInfo;
+import org.spdx.storage.IModelStore.IdType;
+
+import junit.framework.TestCase;
+
+/**
+ * @author Gary O'Neall
+ *
+ */
+public class DocumentVerifierTest extends TestCase {
+	
+	static final int NUM_FILES = 300;
+	static final String SHA1_VALUE = "2fd4e1c67a2d28fced849ee1bb76e7391b93eb12";
+	
+	SpdxDocument doc;
+	SpdxPackage pkg;
+	List<SpdxFile> files;
+	ExtractedLicenseInfo license;
+
+	/* (non-Javadoc)
+	 * @see junit.framework.TestCase#setUp()
+	 */
+	protected void setUp() throws Exception {
+		super.setUp();
+		DefaultModelStore.reset();
+		doc = new SpdxDocument(DefaultModelStore.getDefaultModelStore(), DefaultModelStore.getDefaultDocumentUri(), 
+				DefaultModelStore.getDefaultCopyManager(), true);
+		doc.setStrict(false);
+		doc.setCreationInfo(doc.createCreationInfo(Arrays.asList(new String[] {"Tool: test"}), "2026-01-01T00:00:00Z"));
+		doc.setName("Document name");
+		doc.setSpecVersion(Version.CURRENT_SPDX_VERSION);
+		license = new ExtractedLicenseInfo("LicenseRef-1", "License Text 1");
+		license.setName("License 1");
+		files = new ArrayList<>();
+		for (int i = 0; i < NUM_FILES; i++) {
+			files.add(doc.createSpdxFile(doc.getModelStore().getNextId(IdType.SpdxId, doc.getDocumentUri()), 
+					"./file" + i, license, Arrays.asList(new AnyLicenseInfo[] {license}), "Copyright", 
+					doc.createChecksum(ChecksumAlgorithm.SHA1, SHA1_VALUE)).build());
+		}
+		pkg = doc.createPackage(doc.getModelStore().getNextId(IdType.SpdxId, doc.getDocumentUri()), 
+				"Package", license, "Copyright", license)
+				.setDownloadLocation("NOASSERTION")
+				.setFiles(files)
+				.setLicenseInfosFromFile(Arrays.asList(new AnyLicenseInfo[] {license}))
+				.build();
+		doc.addRelationship(doc.createRelationship(pkg, RelationshipType.DESCRIBES, null));
+	}
+	
+	public void testVerify() throws InvalidSPDXAnalysisException {
+		DocumentVerifier verifier = new DocumentVerifier(doc, new ForkJoinPool(4));
+		List<String> expected = doc.verify();
+		List<String> result = verifier.verify(Version.CURRENT_SPDX_VERSION);
+		assertEquals(NUM_FILES + 2, verifier.getLastVerifiedCount());
+		assertEquals(expected.size(), result.size());
+		
+		files.get(1).getChecksums().clear();
+		List<String> warnings = verifier.verify(Version.CURRENT_SPDX_VERSION);
+		assertEquals(result.size() + 1, warnings.size());
+		assertTrue(containsWarning(warnings, "Missing required SHA1 hashcode value for ./file1"));
+		assertEquals(doc.verify().size(), warnings.size());
+	}
+	
+	public void testVerifyChanges() throws InvalidSPDXAnalysisException {
+		DocumentVerifier verifier = new DocumentVerifier(doc);
+		List<String> result = verifier.verifyChanges(Version.CURRENT_SPDX_VERSION);
+		assertEquals(NUM_FILES + 2, verifier.getLastVerifiedCount());
+		
+		// nothing changed
+		assertEquals(result, verifier.verifyChanges(Version.CURRENT_SPDX_VERSION));
+		assertEquals(0, verifier.getLastVerifiedCount());
+		
+		// change a single file
+		Checksum checksum = files.get(7).getChecksums().iterator().next();
+		files.get(7).getChecksums().clear();
+		List<String> warnings = verifier.verifyChanges(Version.CURRENT_SPDX_VERSION);
+		assertEquals(1, verifier.getLastVerifiedCount());
+		assertEquals(result.size() + 1, warnings.size());
+		assertTrue(containsWarning(warnings, "Missing required SHA1 hashcode value for ./file7"));
+		List<String> fullWarnings = new DocumentVerifier(doc).verify(Version.CURRENT_SPDX_VERSION);
+		Collections.sort(fullWarnings);
+		List<String> sortedWarnings = new ArrayList<>(warnings);
+		Collections.sort(sortedWarnings);
+		assertEquals(fullWarnings, sortedWarnings);
+		
+		files.get(7).getChecksums().add(checksum);
+		assertEquals(result, verifier.verifyChanges(Version.CURRENT_SPDX_VERSION));
+		assertEquals(1, verifier.getLastVerifiedCount());
+		
+		// a change to a referenced license requires all files using the license to be verified
+		license.setComment("New comment");
+		assertEquals(result, verifier.verifyChanges(Version.CURRENT_SPDX_VERSION));
+		assertEquals(NUM_FILES + 1, verifier.getLastVerifiedCount());
+		
+		// a different spec version requires everything to be verified
+		verifier.verifyChanges(Version.TWO_POINT_ZERO_VERSION);
+		assertEquals(NUM_FILES + 2, verifier.getLastVerifiedCount());
+	}
+	
+	private boolean containsWarning(List<String> warnings, String warning) {
+		for (String w:warnings) {
+			if (w.contains(warning)) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
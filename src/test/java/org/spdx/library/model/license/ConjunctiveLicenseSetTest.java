@@ -118,4 +118,42 @@ public class ConjunctiveLicenseSetTest extends TestCase {
 		verify = cls.verify();
 		assertEquals(0, verify.size());
 	}
+	
+	public void testCanonicalMembersCached() throws InvalidSPDXAnalysisException {
+		String id = modelStore.getNextId(IdType.Anonymous, DOCUMENT_URI);
+		ConjunctiveLicenseSet ls = new ConjunctiveLicenseSet(modelStore, DOCUMENT_URI, id, copyManager, true);
+		ls.setMembers(Arrays.asList(NON_STD_LICENSES));
+		LicenseSet.CanonicalMembers canonical = ls.getCanonicalMembers();
+		assertTrue(canonical == ls.getCanonicalMembers());
+		int hashCode = ls.hashCode();
+		// modify through a different instance for the same stored set
+		ConjunctiveLicenseSet ls2 = (ConjunctiveLicenseSet) SpdxModelFactory.createModelObject(modelStore, DOCUMENT_URI, id, SpdxConstants.CLASS_SPDX_CONJUNCTIVE_LICENSE_SET, copyManager);
+		ls2.removeMember(NON_STD_LICENSES[0]);
+		assertFalse(canonical == ls.getCanonicalMembers());
+		assertEquals(NON_STD_LICENSES.length-1, ls.getFlattenedMembers().size());
+		assertFalse(hashCode == ls.hashCode());
+		assertEquals(ls2.hashCode(), ls.hashCode());
+		assertTrue(ls.equals(ls2));
+		// nested sets are flattened
+		String nestedId = modelStore.getNextId(IdType.Anonymous, DOCUMENT_URI);
+		ConjunctiveLicenseSet nested = new ConjunctiveLicenseSet(modelStore, DOCUMENT_URI, nestedId, copyManager, true);
+		nested.addMember(NON_STD_LICENSES[1]);
+		nested.addMember(NON_STD_LICENSES[2]);
+		String flatId = modelStore.getNextId(IdType.Anonymous, DOCUMENT_URI);
+		ConjunctiveLicenseSet flat = new ConjunctiveLicenseSet(modelStore, DOCUMENT_URI, flatId, copyManager, true);
+		flat.addMember(NON_STD_LICENSES[0]);
+		for (int i = 1; i < NON_STD_LICENSES.length; i++) {
+			flat.addMember(NON_STD_LICENSES[i]);
+		}
+		ls.addMember(NON_STD_LICENSES[0]);
+		ls.removeMember(NON_STD_LICENSES[1]);
+		ls.removeMember(NON_STD_LICENSES[2]);
+		ls.addMember(nested);
+		assertEquals(flat.hashCode(), ls.hashCode());
+		assertTrue(flat.equals(ls));
+		assertTrue(ls.equivalent(flat));
+		flat.removeMember(NON_STD_LICENSES[0]);
+		assertFalse(flat.equals(ls));
+		assertFalse(ls.equivalent(flat));
+	}
 }
@@ -0,0 +1,89 @@
+/**
+ * Copyright (c) 2026 Source Auditor Inc.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * 
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.library.model.license;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import junit.framework.TestCase;
+
+/**
+ * @author Gary O'Neall
+ *
+ */
+public class LicenseExpressionCacheTest extends TestCase {
+	
+	private static String expression(int i) {
+		return "LicenseRef-" + i + " AND LicenseRef-other";
+	}
+
+	public void testEviction() throws Exception {
+		LicenseExpressionCache cache = new LicenseExpressionCache(10);
+		List<LicenseExpressionNode> nodes = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			nodes.add(cache.parse(expression(i)));
+		}
+		assertEquals(10, cache.size());
+		// recently used entries survive the eviction
+		assertSame(nodes.get(0), cache.parse(expression(0)));
+		cache.parse(expression(10));
+		assertTrue(cache.size() <= 10);
+		assertSame(nodes.get(0), cache.parse(expression(0)));
+		assertNotSame(nodes.get(1), cache.parse(expression(1)));
+		for (int i = 11; i < 100; i++) {
+			cache.parse(expression(i));
+			assertTrue(cache.size() <= 10);
+		}
+		cache.clear();
+		assertEquals(0, cache.size());
+	}
+	
+	public void testDisabled() throws Exception {
+		LicenseExpressionCache cache = new LicenseExpressionCache(0);
+		LicenseExpressionNode node = cache.parse(expression(1));
+		assertNotSame(node, cache.parse(expression(1)));
+		assertEquals(node, cache.parse(expression(1)));
+		assertEquals(0, cache.size());
+	}
+	
+	public void testConcurrentParse() throws Exception {
+		final LicenseExpressionCache cache = new LicenseExpressionCache(20);
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int t = 0; t < 8; t++) {
+				futures.add(executor.submit(() -> {
+					for (int i = 0; i < 2000; i++) {
+						String expression = expression(i % 40);
+						assertEquals(expression, cache.parse(expression).toString());
+					}
+					return null;
+				}));
+			}
+			for (Future<?> future:futures) {
+				future.get();
+			}
+		} finally {
+			executor.shutdown();
+		}
+		assertTrue(cache.size() <= 20 + 8);
+	}
+}
@@ -0,0 +1,98 @@
+/**
+ * Copyright (c) 2026 Source Auditor Inc.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * 
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.library.model.license;
+
+import org.spdx.library.DefaultModelStore;
+import org.spdx.library.InvalidSPDXAnalysisException;
+import org.spdx.storage.IModelStore;
+import org.spdx.storage.simple.InMemSpdxStore;
+
+import junit.framework.TestCase;
+
+/**
+ * @author Gary O'Neall
+ *
+ */
+public class LicenseExpressionInternerTest extends TestCase {
+	
+	static final String DOCUMENT_URI = "http://test.doc/uri";
+	static final String DOCUMENT_URI2 = "http://test.doc/uri2";
+	static final String EXPRESSION = "(MIT OR Apache-2.0) AND GPL-2.0+ WITH Classpath-exception-2.0 AND LicenseRef-1";
+	
+	IModelStore store;
+
+	protected void setUp() throws Exception {
+		super.setUp();
+		DefaultModelStore.reset();
+		store = new InMemSpdxStore();
+		LicenseExpressionInterner.setEnabled(true);
+	}
+
+	protected void tearDown() throws Exception {
+		LicenseExpressionInterner.setEnabled(false);
+		super.tearDown();
+	}
+	
+	private long countItems(IModelStore store, String documentUri) throws InvalidSPDXAnalysisException {
+		return store.getAllItems(documentUri, null).count();
+	}
+	
+	public void testSharedExpression() throws InvalidSPDXAnalysisException {
+		AnyLicenseInfo first = LicenseInfoFactory.parseSPDXLicenseString(EXPRESSION, store, DOCUMENT_URI, null);
+		long numItems = countItems(store, DOCUMENT_URI);
+		AnyLicenseInfo second = LicenseInfoFactory.parseSPDXLicenseString(EXPRESSION, store, DOCUMENT_URI, null);
+		assertEquals(first.getId(), second.getId());
+		assertEquals(numItems, countItems(store, DOCUMENT_URI));
+		assertEquals(first, second);
+		// sub-expressions are shared
+		AnyLicenseInfo subExpression = LicenseInfoFactory.parseSPDXLicenseString("Apache-2.0 OR MIT", store, DOCUMENT_URI, null);
+		assertEquals(numItems, countItems(store, DOCUMENT_URI));
+		boolean found = false;
+		for (AnyLicenseInfo member:((ConjunctiveLicenseSet)first).getMembers()) {
+			if (member instanceof DisjunctiveLicenseSet) {
+				assertEquals(subExpression.getId(), member.getId());
+				found = true;
+			}
+		}
+		assertTrue(found);
+		// different documents are not shared
+		AnyLicenseInfo otherDocument = LicenseInfoFactory.parseSPDXLicenseString(EXPRESSION, store, DOCUMENT_URI2, null);
+		assertEquals(DOCUMENT_URI2, otherDocument.getDocumentUri());
+		assertTrue(first.equivalent(otherDocument));
+	}
+	
+	public void testModifiedNotShared() throws InvalidSPDXAnalysisException {
+		DisjunctiveLicenseSet first = (DisjunctiveLicenseSet)LicenseInfoFactory.parseSPDXLicenseString("MIT OR LicenseRef-2", store, DOCUMENT_URI, null);
+		first.addMember(LicenseInfoFactory.parseSPDXLicenseString("Apache-2.0", store, DOCUMENT_URI, null));
+		AnyLicenseInfo second = LicenseInfoFactory.parseSPDXLicenseString("MIT OR LicenseRef-2", store, DOCUMENT_URI, null);
+		assertFalse(first.getId().equals(second.getId()));
+		assertEquals(2, ((DisjunctiveLicenseSet)second).getMembers().size());
+		assertEquals(3, first.getMembers().size());
+		store.delete(DOCUMENT_URI, second.getId());
+		AnyLicenseInfo third = LicenseInfoFactory.parseSPDXLicenseString("MIT OR LicenseRef-2", store, DOCUMENT_URI, null);
+		assertEquals(2, ((DisjunctiveLicenseSet)third).getMembers().size());
+	}
+	
+	public void testDisabled() throws InvalidSPDXAnalysisException {
+		LicenseExpressionInterner.setEnabled(false);
+		AnyLicenseInfo first = LicenseInfoFactory.parseSPDXLicenseString(EXPRESSION, store, DOCUMENT_URI, null);
+		AnyLicenseInfo second = LicenseInfoFactory.parseSPDXLicenseString(EXPRESSION, store, DOCUMENT_URI, null);
+		assertFalse(first.getId().equals(second.getId()));
+		assertEquals(first, second);
+	}
+}
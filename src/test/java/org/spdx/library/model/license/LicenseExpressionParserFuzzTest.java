@@ -0,0 +1,349 @@
+/**
+ * Copyright (c) 2026 Source Auditor Inc.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * 
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.library.model.license;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EmptyStackException;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Stack;
+
+import org.spdx.library.DefaultModelStore;
+import org.spdx.library.SpdxConstants;
+
+import junit.framework.TestCase;
+
+/**
+ * Randomized and pathological license expression tests for the <code>LicenseExpressionParser</code>.
+ * 
+ * Random expressions are compared against a reference implementation of the original
+ * recursive parser to verify the results and error messages are unchanged.
+ * 
+ * @author Gary O'Neall
+ *
+ */
+public class LicenseExpressionParserFuzzTest extends TestCase {
+	
+	static final String[] WORDS = new String[] {"MIT", "mit", "Apache-2.0", "GPL-2.0", "LicenseRef-1", "licenseref-x",
+			"DocumentRef-a:LicenseRef-b", "Classpath-exception-2.0", "exception-x", "AND", "OR", "WITH", "and", "or", 
+			"with", "(", ")", "+", "NOASSERTION", "NONE"};
+	static final String[] SEPARATORS = new String[] {" ", " ", " ", "  ", "\t", "", "\n"};
+	static final int NUM_RANDOM_EXPRESSIONS = 20000;
+	
+	protected void setUp() throws Exception {
+		super.setUp();
+		DefaultModelStore.reset();
+	}
+
+	protected void tearDown() throws Exception {
+		super.tearDown();
+	}
+	
+	public void testRandomExpressions() {
+		Random random = new Random(20261019L);
+		int valid = 0;
+		for (int i = 0; i < NUM_RANDOM_EXPRESSIONS; i++) {
+			StringBuilder sb = new StringBuilder();
+			int numWords = 1 + random.nextInt(12);
+			for (int j = 0; j < numWords; j++) {
+				sb.append(WORDS[random.nextInt(WORDS.length)]);
+				sb.append(SEPARATORS[random.nextInt(SEPARATORS.length)]);
+			}
+			String expression = sb.toString();
+			LicenseExpressionNode expected = null;
+			String expectedError = null;
+			try {
+				expected = ReferenceParser.parse(expression);
+			} catch (LicenseParserException e) {
+				expectedError = e.getMessage();
+			}
+			try {
+				LicenseExpressionNode result = LicenseExpressionParser.parseExpressionNode(expression);
+				assertNull("Expected error '"+expectedError+"' for '"+expression+"'", expectedError);
+				assertEquals("Parse mismatch for '"+expression+"'", expected, result);
+				valid++;
+			} catch (LicenseParserException e) {
+				assertEquals("Error mismatch for '"+expression+"'", expectedError, e.getMessage());
+			}
+		}
+		assertTrue(valid > 0);
+	}
+	
+	public void testValidRandomExpressions() {
+		Random random = new Random(42L);
+		String[] licenses = new String[] {"MIT", "Apache-2.0", "LicenseRef-1", "GPL-2.0+", "GPL-2.0 WITH Classpath-exception-2.0"};
+		for (int i = 0; i < 2000; i++) {
+			String expression = randomValidExpression(random, licenses, 4);
+			try {
+				assertEquals(ReferenceParser.parse(expression), LicenseExpressionParser.parseExpressionNode(expression));
+			} catch (LicenseParserException e) {
+				fail("Unexpected error parsing '"+expression+"': "+e.getMessage());
+			}
+		}
+	}
+	
+	private String randomValidExpression(Random random, String[] licenses, int depth) {
+		if (depth == 0 || random.nextInt(3) == 0) {
+			return licenses[random.nextInt(licenses.length)];
+		}
+		StringBuilder sb = new StringBuilder();
+		int numTerms = 2 + random.nextInt(3);
+		for (int i = 0; i < numTerms; i++) {
+			if (i > 0) {
+				sb.append(random.nextBoolean() ? " AND " : " OR ");
+			}
+			if (random.nextBoolean()) {
+				sb.append('(');
+				sb.append(randomValidExpression(random, licenses, depth - 1));
+				sb.append(')');
+			} else {
+				sb.append(licenses[random.nextInt(licenses.length)]);
+			}
+		}
+		return sb.toString();
+	}
+	
+	public void testManyTerms() throws LicenseParserException {
+		int numTerms = 50000;
+		StringBuilder sb = new StringBuilder("LicenseRef-0");
+		for (int i = 1; i < numTerms; i++) {
+			sb.append(i % 2 == 0 ? " OR " : " or ");
+			sb.append("LicenseRef-");
+			sb.append(i);
+		}
+		LicenseExpressionNode result = LicenseExpressionParser.parseExpressionNode(sb.toString());
+		assertEquals(LicenseExpressionNode.Kind.OR, result.getKind());
+		assertEquals(numTerms, result.getChildren().size());
+		assertEquals("LicenseRef-" + (numTerms - 1), result.getChildren().get(numTerms - 1).getId());
+	}
+	
+	public void testDeeplyNestedParens() throws LicenseParserException {
+		int depth = 50000;
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < depth; i++) {
+			sb.append('(');
+		}
+		sb.append("MIT AND LicenseRef-1");
+		for (int i = 0; i < depth; i++) {
+			sb.append(')');
+		}
+		sb.append(" AND Apache-2.0");
+		LicenseExpressionNode result = LicenseExpressionParser.parseExpressionNode(sb.toString());
+		assertEquals(LicenseExpressionNode.Kind.AND, result.getKind());
+		assertEquals(3, result.getChildren().size());
+		sb.append(" AND (");
+		try {
+			LicenseExpressionParser.parseExpressionNode(sb.toString());
+			fail("Missing right paren should fail");
+		} catch (LicenseParserException e) {
+			assertTrue(e.getMessage().startsWith("Missing right parenthesis"));
+		}
+	}
+	
+	public void testDeeplyNestedOperators() throws LicenseParserException {
+		int depth = 5000;
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < depth; i++) {
+			sb.append("LicenseRef-");
+			sb.append(i);
+			sb.append(i % 2 == 0 ? " AND (" : " OR (");
+		}
+		sb.append("MIT");
+		for (int i = 0; i < depth; i++) {
+			sb.append(')');
+		}
+		LicenseExpressionNode node = LicenseExpressionParser.parseExpressionNode(sb.toString());
+		for (int i = 0; i < depth; i++) {
+			assertEquals(i % 2 == 0 ? LicenseExpressionNode.Kind.AND : LicenseExpressionNode.Kind.OR, node.getKind());
+			assertEquals(2, node.getChildren().size());
+			assertEquals("LicenseRef-" + i, node.getChildren().get(0).getId());
+			node = node.getChildren().get(1);
+		}
+		assertEquals("MIT", node.getId());
+	}
+	
+	/**
+	 * Reference implementation of the original recursive license expression parser
+	 */
+	static class ReferenceParser {
+		
+		static LicenseExpressionNode parse(String expression) throws LicenseParserException {
+			if (expression == null || expression.trim().isEmpty()) {
+				throw new LicenseParserException("Empty license expression");
+			}
+			String[] tokens  = tokenizeExpression(expression);
+			if (tokens.length == 1 && tokens[0].equals(SpdxConstants.NOASSERTION_VALUE)) {
+				return LicenseExpressionNode.NOASSERTION_NODE;
+			} else if (tokens.length == 1 && tokens[0].equals(SpdxConstants.NONE_VALUE)) {
+				return LicenseExpressionNode.NONE_NODE;
+			} else {
+				try {
+					return parseLicenseExpression(tokens);
+				} catch (LicenseParserException ex) {
+					throw new LicenseParserException(ex.getMessage()+" License expression: '"+expression+"'", ex);
+				} catch (EmptyStackException ex) {
+					throw new LicenseParserException("Invalid license expression: '"+expression+"' - check that every operator (e.g. AND and OR) has operators and that parenthesis are matched", ex);
+				}
+			}
+		}
+		
+		private static String[] tokenizeExpression(String expression) {
+			String[] startTokens = expression.split("\\s");
+			List<String> endTokens = new ArrayList<>();
+			for (String token : startTokens) {
+				processPreToken(token, endTokens);
+			}
+			return endTokens.toArray(new String[endTokens.size()]);
+		}
+
+		private static void processPreToken(String preToken, List<String> tokenList) {
+			if (preToken.isEmpty()) {
+				return;
+			} else if (preToken.startsWith("(")) {
+				tokenList.add("(");
+				processPreToken(preToken.substring(1), tokenList);
+			} else if (preToken.endsWith(")")) {
+				processPreToken(preToken.substring(0, preToken.length()-1), tokenList);
+				tokenList.add(")");
+			} else if (preToken.endsWith("+")) {
+				processPreToken(preToken.substring(0, preToken.length()-1), tokenList);
+				tokenList.add("+");
+			} else {
+				tokenList.add(preToken);
+			}
+		}
+		
+		private static LicenseExpressionNode parseLicenseExpression(String[] tokens) throws LicenseParserException {
+			if (tokens == null || tokens.length == 0) {
+				throw new LicenseParserException("Expected license expression");
+			}
+			Stack<LicenseExpressionNode> operandStack = new Stack<LicenseExpressionNode>();
+			Stack<LicenseExpressionParser.Operator> operatorStack = new Stack<LicenseExpressionParser.Operator>(); 
+			int tokenIndex = 0;
+			String token;
+			while (tokenIndex < tokens.length) {
+				token = tokens[tokenIndex++];
+				if ("(".equals(token)) {
+					int rightParenIndex = findMatchingParen(tokens, tokenIndex);
+					if (rightParenIndex < 0) {
+						throw new LicenseParserException("Missing right parenthesis");
+					}
+					String[] nestedTokens = Arrays.copyOfRange(tokens, tokenIndex, rightParenIndex);
+					operandStack.push(parseLicenseExpression(nestedTokens));
+					tokenIndex = rightParenIndex + 1;		
+				} else if (LicenseExpressionParser.OPERATOR_MAP.get(token) == null) {
+					operandStack.push(parseSimpleLicenseToken(token));
+				} else {
+					LicenseExpressionParser.Operator operator = LicenseExpressionParser.OPERATOR_MAP.get(token);
+					if (operator == LicenseExpressionParser.Operator.WITH) {
+						if (!operatorStack.isEmpty() && LicenseExpressionParser.Operator.OR_LATER.equals(operatorStack.peek())) {
+							evaluateExpression(operatorStack.pop(), operandStack);
+						}
+						if (tokenIndex >= tokens.length) {
+							throw new LicenseParserException("Missing exception clause");
+						}
+						token = tokens[tokenIndex++];
+						Optional<String> exceptionId = Optional.empty();
+						if (LicenseInfoFactory.isSpdxListedExceptionId(token)) {
+							exceptionId = LicenseInfoFactory.listedExceptionIdCaseSensitive(token);
+						}
+						if (!exceptionId.isPresent() && token.startsWith(SpdxConstants.NON_STD_LICENSE_ID_PRENUM)) {
+							throw new LicenseParserException("WITH must be followed by a license exception. "+token+" is a Listed License type.");
+						}
+						LicenseExpressionNode operand = operandStack.pop();
+						if (!(operand.isSimpleLicense() || LicenseExpressionNode.Kind.OR_LATER.equals(operand.getKind()))) {
+							throw new LicenseParserException("License with exception is not of type SimpleLicensingInfo or OrLaterOperator");
+						}
+						operandStack.push(LicenseExpressionNode.with(operand, exceptionId.orElse(token), exceptionId.isPresent()));			
+					} else {
+						while (!operatorStack.isEmpty() && 
+								operatorStack.peek().ordinal() <= operator.ordinal()) {
+							evaluateExpression(operatorStack.pop(), operandStack);
+						}
+						operatorStack.push(operator);
+					}
+				}
+			}
+			while (!operatorStack.isEmpty()) {
+				evaluateExpression(operatorStack.pop(), operandStack);
+			}
+			LicenseExpressionNode retval = operandStack.pop();
+			if (!operandStack.isEmpty()) {
+				throw new LicenseParserException("Invalid license expression.  Expecting more operands.");
+			}
+			return retval;
+		}
+
+		private static int findMatchingParen(String[] tokens, int startToken) {
+			int nestCount = 0;
+			for (int i = startToken; i < tokens.length; i++) {
+				if ("(".equals(tokens[i])) {
+					nestCount++;
+				} else if (")".equals(tokens[i])) {
+					if (nestCount == 0) {
+						return i;
+					} else {
+						nestCount--;
+					}
+				}
+			}
+			return -1;
+		}
+
+		private static LicenseExpressionNode parseSimpleLicenseToken(String token) {
+			if (token.contains(":")) {
+				return LicenseExpressionNode.license(LicenseExpressionNode.Kind.EXTERNAL_LICENSE_REF, token);
+			} 
+			Optional<String> licenseId = Optional.empty();
+			if (LicenseInfoFactory.isSpdxListedLicenseId(token)) {	
+				licenseId = LicenseInfoFactory.listedLicenseIdCaseSensitive(token);
+			}
+			if (licenseId.isPresent()) {
+				return LicenseExpressionNode.license(LicenseExpressionNode.Kind.LISTED_LICENSE, licenseId.get());
+			} else {
+				return LicenseExpressionNode.license(LicenseExpressionNode.Kind.LICENSE_REF, token);
+			}
+		}
+
+		private static void evaluateExpression(LicenseExpressionParser.Operator operator,
+				Stack<LicenseExpressionNode> operandStack) throws LicenseParserException {
+			if (operator == LicenseExpressionParser.Operator.OR_LATER) {
+				LicenseExpressionNode license = operandStack.pop();
+				if (!license.isSimpleLicense()) {
+					throw new LicenseParserException("Missing license for the '+' or later operator");
+				}
+				operandStack.push(LicenseExpressionNode.orLater(license));
+			} else {
+				LicenseExpressionNode operand2 = operandStack.pop();
+				LicenseExpressionNode operand1 = operandStack.pop();
+				LicenseExpressionNode.Kind kind = operator == LicenseExpressionParser.Operator.AND ? 
+						LicenseExpressionNode.Kind.AND : LicenseExpressionNode.Kind.OR;
+				List<LicenseExpressionNode> members = new ArrayList<>();
+				if (kind.equals(operand1.getKind())) {
+					members.addAll(operand1.getChildren());
+				} else {
+					members.add(operand1);
+				}
+				members.add(operand2);
+				operandStack.push(LicenseExpressionNode.set(kind, members));
+			}		
+		}
+	}
+}
@@ -24,6 +24,8 @@ import org.spdx.library.DefaultModelStore;
 import org.spdx.library.InvalidSPDXAnalysisException;
 import org.spdx.library.SpdxConstants;
 import org.spdx.library.model.GenericModelObject;
+import org.spdx.storage.IModelStore;
+import org.spdx.storage.simple.InMemSpdxStore;
 
 import junit.framework.TestCase;
 
@@ -142,4 +144,51 @@ public class LicenseInfoFactoryTest extends TestCase {
 		result = LicenseInfoFactory.parseSPDXLicenseString(lowerCaseCecil);
 		assertEquals(COMPLEX_LICENSE, result);
 	}
+	
+	public void testParseLicenseExpressionNodeCached() throws InvalidSPDXAnalysisException {
+		LicenseExpressionNode node1 = LicenseInfoFactory.parseLicenseExpressionNode("Apache-2.0 OR (MIT AND LicenseRef-1)");
+		LicenseExpressionNode node2 = LicenseInfoFactory.parseLicenseExpressionNode("  Apache-2.0\tOR (MIT  AND LicenseRef-1) ");
+		assertTrue(node1 == node2);
+		assertEquals(LicenseExpressionNode.Kind.OR, node1.getKind());
+		assertEquals(2, node1.getChildren().size());
+		assertEquals(LicenseExpressionNode.Kind.LISTED_LICENSE, node1.getChildren().get(0).getKind());
+		assertEquals(LicenseExpressionNode.Kind.AND, node1.getChildren().get(1).getKind());
+		assertEquals("Apache-2.0 OR (MIT AND LicenseRef-1)", node1.toString());
+		LicenseInfoFactory.clearLicenseExpressionCache();
+		LicenseExpressionNode node3 = LicenseInfoFactory.parseLicenseExpressionNode("Apache-2.0 OR (MIT AND LicenseRef-1)");
+		assertFalse(node1 == node3);
+		assertEquals(node1, node3);
+		try {
+			LicenseInfoFactory.parseLicenseExpressionNode("MIT AND");
+			fail("Invalid expression should not parse");
+		} catch (InvalidLicenseStringException e) {
+			// expected
+		}
+	}
+	
+	public void testToLicenseInfoDifferentStores() throws InvalidSPDXAnalysisException {
+		String expression = "GPL-2.0+ WITH Classpath-exception-2.0 AND licenseref-2";
+		LicenseExpressionNode node = LicenseInfoFactory.parseLicenseExpressionNode(expression);
+		IModelStore store1 = new InMemSpdxStore();
+		IModelStore store2 = new InMemSpdxStore();
+		String docUri = "http://test.doc/uri";
+		ExtractedLicenseInfo existing = new ExtractedLicenseInfo(store2, docUri, "LicenseRef-2", null, true);
+		existing.setExtractedText("existing text");
+		AnyLicenseInfo result1 = LicenseInfoFactory.toLicenseInfo(node, store1, docUri, null);
+		AnyLicenseInfo result2 = LicenseInfoFactory.parseSPDXLicenseString(expression, store2, docUri, null);
+		assertEquals(store1, result1.getModelStore());
+		assertEquals(store2, result2.getModelStore());
+		assertTrue(result1.equivalent(LicenseInfoFactory.toLicenseInfo(node, store1, docUri, null)));
+		assertTrue(result1 instanceof ConjunctiveLicenseSet);
+		assertTrue(result2 instanceof ConjunctiveLicenseSet);
+		assertTrue(store1.exists(docUri, "licenseref-2"));
+		boolean foundExisting = false;
+		for (AnyLicenseInfo member:((ConjunctiveLicenseSet)result2).getMembers()) {
+			if (member instanceof ExtractedLicenseInfo) {
+				assertEquals("existing text", ((ExtractedLicenseInfo)member).getExtractedText());
+				foundExisting = true;
+			}
+		}
+		assertTrue(foundExisting);
+	}
 }
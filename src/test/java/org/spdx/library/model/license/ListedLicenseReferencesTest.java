@@ -0,0 +1,160 @@
+/**
+ * Copyright (c) 2026 Source Auditor Inc.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * 
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.library.model.license;
+
+import java.util.Iterator;
+import java.util.Optional;
+
+import org.spdx.library.DefaultModelStore;
+import org.spdx.library.InvalidSPDXAnalysisException;
+import org.spdx.library.ModelCopyManager;
+import org.spdx.library.SpdxConstants;
+import org.spdx.library.model.SimpleUriValue;
+import org.spdx.library.model.TypedValue;
+import org.spdx.storage.IModelStore;
+import org.spdx.storage.IModelStore.IdType;
+import org.spdx.storage.simple.InMemSpdxStore;
+
+import junit.framework.TestCase;
+
+/**
+ * @author Gary O'Neall
+ *
+ */
+public class ListedLicenseReferencesTest extends TestCase {
+	
+	static final String DOCUMENT_URI = "http://test.doc/uri";
+	static final String EXPRESSION = "MIT AND (Apache-2.0 OR GPL-2.0+ WITH Classpath-exception-2.0)";
+	
+	IModelStore store;
+	ModelCopyManager copyManager;
+
+	protected void setUp() throws Exception {
+		super.setUp();
+		DefaultModelStore.reset();
+		store = new InMemSpdxStore();
+		copyManager = new ModelCopyManager();
+		ListedLicenseReferences.setEnabled(true);
+	}
+
+	protected void tearDown() throws Exception {
+		ListedLicenseReferences.setEnabled(false);
+		super.tearDown();
+	}
+	
+	public void testReferencesNotCopied() throws InvalidSPDXAnalysisException {
+		AnyLicenseInfo license = LicenseInfoFactory.parseSPDXLicenseString(EXPRESSION, store, DOCUMENT_URI, copyManager);
+		assertEquals(LicenseInfoFactory.parseSPDXLicenseString(EXPRESSION), license);
+		assertFalse(store.exists(DOCUMENT_URI, "MIT"));
+		assertFalse(store.exists(DOCUMENT_URI, "Apache-2.0"));
+		assertFalse(store.exists(DOCUMENT_URI, "Classpath-exception-2.0"));
+		SpdxListedLicense mit = null;
+		for (AnyLicenseInfo member:((ConjunctiveLicenseSet)license).getMembers()) {
+			if (member instanceof SpdxListedLicense) {
+				mit = (SpdxListedLicense)member;
+			}
+		}
+		assertNotNull(mit);
+		assertEquals("MIT", mit.getLicenseId());
+		assertTrue(mit.getLicenseText().contains("Permission is hereby granted"));
+		assertEquals(LicenseInfoFactory.getListedLicenseById("MIT"), mit);
+		assertTrue(license.equivalent(LicenseInfoFactory.parseSPDXLicenseString(EXPRESSION)));
+	}
+	
+	public void testDisabledCopies() throws InvalidSPDXAnalysisException {
+		ListedLicenseReferences.setEnabled(false);
+		LicenseInfoFactory.parseSPDXLicenseString(EXPRESSION, store, DOCUMENT_URI, copyManager);
+		assertTrue(store.exists(DOCUMENT_URI, "MIT"));
+		assertTrue(store.exists(DOCUMENT_URI, "Apache-2.0"));
+	}
+	
+	public void testReferenceStoredAsUri() throws InvalidSPDXAnalysisException {
+		WithExceptionOperator weo = new WithExceptionOperator(store, DOCUMENT_URI, 
+				store.getNextId(IdType.Anonymous, DOCUMENT_URI), null, true);
+		weo.setLicense(LicenseInfoFactory.getListedLicenseById("GPL-2.0"));
+		weo.setException(LicenseInfoFactory.getListedExceptionById("Classpath-exception-2.0"));
+		Optional<Object> stored = store.getValue(DOCUMENT_URI, weo.getId(), SpdxConstants.PROP_LICENSE_EXCEPTION);
+		assertTrue(stored.isPresent());
+		assertEquals(new SimpleUriValue(SpdxConstants.LISTED_LICENSE_NAMESPACE_PREFIX + "Classpath-exception-2.0"), stored.get());
+		assertEquals("Classpath-exception-2.0", weo.getException().getId());
+		assertEquals("GPL-2.0 WITH Classpath-exception-2.0", weo.toString());
+	}
+	
+	public void testResolve() throws InvalidSPDXAnalysisException {
+		assertEquals("MIT", ListedLicenseReferences.resolve("http://spdx.org/licenses/MIT").getId());
+		assertEquals("MIT", ListedLicenseReferences.resolve("https://spdx.org/licenses/mit").getId());
+		assertTrue(ListedLicenseReferences.resolve("http://spdx.org/licenses/Classpath-exception-2.0") instanceof ListedLicenseException);
+		assertNull(ListedLicenseReferences.resolve("http://spdx.org/licenses/Not-A-License"));
+		assertNull(ListedLicenseReferences.resolve("http://spdx.org/licenses/"));
+		assertNull(ListedLicenseReferences.resolve("http://spdx.org/rdf/terms#noassertion"));
+	}
+	
+	public void testResolveDisabled() throws InvalidSPDXAnalysisException {
+		ListedLicenseReferences.setEnabled(false);
+		assertEquals("MIT", ListedLicenseReferences.resolve("http://spdx.org/licenses/MIT").getId());
+		assertNull(ListedLicenseReferences.resolve("https://spdx.org/licenses/MIT"));
+		SimpleUriValue uriValue = new SimpleUriValue("https://spdx.org/licenses/MIT");
+		assertEquals(uriValue, uriValue.toModelObject(store, DOCUMENT_URI, copyManager));
+	}
+	
+	public void testResolvedReadOnly() throws InvalidSPDXAnalysisException {
+		SpdxListedLicense mit = (SpdxListedLicense)ListedLicenseReferences.resolve("http://spdx.org/licenses/MIT");
+		String name = mit.getName();
+		try {
+			mit.setName("Modified");
+			fail("Referenced listed license was modified");
+		} catch (InvalidSPDXAnalysisException ex) {
+			// expected
+		}
+		assertEquals(name, LicenseInfoFactory.getListedLicenseById("MIT").getName());
+		AnyLicenseInfo parsed = LicenseInfoFactory.parseSPDXLicenseString("MIT", store, DOCUMENT_URI, copyManager);
+		try {
+			((SpdxListedLicense)parsed).setLicenseText("Modified");
+			fail("Parsed listed license was modified");
+		} catch (InvalidSPDXAnalysisException ex) {
+			// expected
+		}
+		ConjunctiveLicenseSet set = new ConjunctiveLicenseSet(store, DOCUMENT_URI, 
+				store.getNextId(IdType.Anonymous, DOCUMENT_URI), copyManager, true);
+		set.addMember(mit);
+		assertFalse(store.exists(DOCUMENT_URI, "MIT"));
+		assertTrue(set.getMembers().contains(mit));
+	}
+	
+	public void testMaterialize() throws InvalidSPDXAnalysisException {
+		AnyLicenseInfo license = LicenseInfoFactory.parseSPDXLicenseString(EXPRESSION, store, DOCUMENT_URI, copyManager);
+		assertEquals(4, ListedLicenseReferences.materialize(store, DOCUMENT_URI, copyManager));
+		assertTrue(store.exists(DOCUMENT_URI, "MIT"));
+		assertTrue(store.exists(DOCUMENT_URI, "Apache-2.0"));
+		assertTrue(store.exists(DOCUMENT_URI, "GPL-2.0"));
+		assertTrue(store.exists(DOCUMENT_URI, "Classpath-exception-2.0"));
+		assertTrue(store.getValue(DOCUMENT_URI, "MIT", SpdxConstants.PROP_LICENSE_TEXT).isPresent());
+		boolean foundTypedValue = false;
+		Iterator<Object> iter = store.listValues(DOCUMENT_URI, license.getId(), SpdxConstants.PROP_LICENSE_SET_MEMEBER);
+		while (iter.hasNext()) {
+			Object value = iter.next();
+			assertFalse(value instanceof SimpleUriValue);
+			if (value instanceof TypedValue && "MIT".equals(((TypedValue)value).getId())) {
+				foundTypedValue = true;
+			}
+		}
+		assertTrue(foundTypedValue);
+		assertTrue(license.equivalent(LicenseInfoFactory.parseSPDXLicenseString(EXPRESSION)));
+		assertEquals(0, ListedLicenseReferences.materialize(store, DOCUMENT_URI, copyManager));
+	}
+}
@@ -0,0 +1,85 @@
+/**
+ * Copyright (c) 2026 Source Auditor Inc.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * 
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.storage.listedlicense;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.spdx.library.SpdxConstants;
+
+import junit.framework.TestCase;
+
+/**
+ * @author Gary O'Neall
+ *
+ */
+public class ListedIdTableTest extends TestCase {
+
+	public void testGet() {
+		ListedIdTable table = new ListedIdTable(Arrays.asList("MIT", "Apache-2.0", "GPL-2.0-or-later", "0BSD"));
+		assertEquals(4, table.size());
+		assertEquals("MIT", table.get("MIT"));
+		assertEquals("MIT", table.get("mit"));
+		assertEquals("Apache-2.0", table.get("APACHE-2.0"));
+		assertEquals("GPL-2.0-or-later", table.get("gpl-2.0-OR-later"));
+		assertEquals("0BSD", table.get("0bsd"));
+		assertNull(table.get("MIT-0"));
+		assertNull(table.get(""));
+		assertFalse(table.contains("Apache-2"));
+		assertTrue(table.contains("apache-2.0"));
+	}
+	
+	public void testEmpty() {
+		assertEquals(0, ListedIdTable.EMPTY.size());
+		assertNull(ListedIdTable.EMPTY.get("MIT"));
+	}
+	
+	public void testDuplicateCase() {
+		ListedIdTable table = new ListedIdTable(Arrays.asList("MIT", "mit"));
+		assertEquals(1, table.size());
+		assertEquals("MIT", table.get("Mit"));
+	}
+	
+	public void testManyIds() {
+		List<String> ids = new ArrayList<>();
+		for (int i = 0; i < 5000; i++) {
+			ids.add("License-" + i + "-Only");
+		}
+		ListedIdTable table = new ListedIdTable(ids);
+		assertEquals(ids.size(), table.size());
+		for (String id:ids) {
+			assertEquals(id, table.get(id.toUpperCase()));
+			assertNull(table.get(id + "x"));
+		}
+	}
+	
+	public void testStorePublishesTables() throws Exception {
+		SpdxListedLicenseLocalStore store = new SpdxListedLicenseLocalStore();
+		assertTrue(store.isSpdxListedLicenseId(null, "apache-2.0"));
+		assertEquals("Apache-2.0", store.listedLicenseIdCaseSensitive("APACHE-2.0").get());
+		assertEquals("Classpath-exception-2.0", store.listedExceptionIdCaseSensitive("classpath-exception-2.0").get());
+		assertFalse(store.isSpdxListedLicenseId(null, "Classpath-exception-2.0"));
+		assertFalse(store.isSpdxListedLicenseId(null, "New-License-Id"));
+		store.create(SpdxConstants.LISTED_LICENSE_URL, "New-License-Id", SpdxConstants.CLASS_SPDX_LISTED_LICENSE);
+		assertTrue(store.isSpdxListedLicenseId(null, "new-license-id"));
+		assertTrue(store.exists(SpdxConstants.LISTED_LICENSE_URL, "NEW-LICENSE-ID"));
+		store.delete(SpdxConstants.LISTED_LICENSE_URL, "New-License-Id");
+		assertFalse(store.isSpdxListedLicenseId(null, "New-License-Id"));
+	}
+}
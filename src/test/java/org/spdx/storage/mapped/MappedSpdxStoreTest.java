@@ -0,0 +1,311 @@
+/**
+ * Copyright (c) 2026 Source Auditor Inc.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * 
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.storage.mapped;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.spdx.library.InvalidSPDXAnalysisException;
+import org.spdx.library.ModelCopyManager;
+import org.spdx.library.Write;
+import org.spdx.library.SpdxConstants;
+import org.spdx.library.model.Checksum;
+import org.spdx.library.model.SimpleUriValue;
+import org.spdx.library.model.SpdxDocument;
+import org.spdx.library.model.SpdxFile;
+import org.spdx.library.model.SpdxIdInUseException;
+import org.spdx.library.model.SpdxIdNotFoundException;
+import org.spdx.library.model.TypedValue;
+import org.spdx.library.model.enumerations.ChecksumAlgorithm;
+import org.spdx.library.model.license.ExtractedLicenseInfo;
+import org.spdx.storage.IModelStore.IdType;
+import org.spdx.storage.simple.InMemSpdxStore;
+import org.spdx.storage.streaming.ModelItem;
+import org.spdx.storage.streaming.ModelItemPipe;
+import org.spdx.storage.streaming.ModelStoreItemLoader;
+
+import junit.framework.TestCase;
+
+/**
+ * @author Gary O'Neall
+ *
+ */
+public class MappedSpdxStoreTest extends TestCase {
+	
+	static final String TEST_DOCUMENT_URI1 = "http://test.document.uri/1";
+	static final String TEST_DOCUMENT_URI2 = "http://test.document.uri/2";
+	static final String TEST_ID1 = "id1";
+	static final String TEST_ID2 = "id2";
+	static final String TEST_TYPE1 = SpdxConstants.CLASS_ANNOTATION;
+	static final String TEST_TYPE2 = SpdxConstants.CLASS_RELATIONSHIP;
+	
+	Path tempDir;
+	MappedSpdxStore store;
+
+	protected void setUp() throws Exception {
+		super.setUp();
+		tempDir = Files.createTempDirectory("mappedstoretest");
+		// small cache and segments to exercise eviction and records spanning segments
+		store = new MappedSpdxStore(tempDir, 2, 256);
+	}
+
+	protected void tearDown() throws Exception {
+		super.tearDown();
+		Path file = store.getFile();
+		store.close();
+		assertFalse(Files.exists(file));
+		Files.deleteIfExists(tempDir);
+	}
+	
+	static List<Object> toList(Iterator<Object> iter) {
+		List<Object> retval = new ArrayList<>();
+		iter.forEachRemaining(retval::add);
+		return retval;
+	}
+	
+	public void testCreateExists() throws InvalidSPDXAnalysisException {
+		assertFalse(store.exists(TEST_DOCUMENT_URI1, TEST_ID1));
+		store.create(TEST_DOCUMENT_URI1, TEST_ID1, TEST_TYPE1);
+		assertTrue(store.exists(TEST_DOCUMENT_URI1, TEST_ID1));
+		assertTrue(store.exists(TEST_DOCUMENT_URI1, TEST_ID1.toUpperCase()));
+		assertFalse(store.exists(TEST_DOCUMENT_URI2, TEST_ID1));
+		assertEquals(TEST_ID1, store.getCaseSensisitiveId(TEST_DOCUMENT_URI1, TEST_ID1.toUpperCase()).get());
+		assertEquals(new TypedValue(TEST_ID1, TEST_TYPE1), store.getTypedValue(TEST_DOCUMENT_URI1, TEST_ID1).get());
+		try {
+			store.create(TEST_DOCUMENT_URI1, TEST_ID1, TEST_TYPE1);
+			fail("Duplicate ID");
+		} catch (InvalidSPDXAnalysisException e) {
+			// expected
+		}
+		assertEquals(Collections.singletonList(TEST_DOCUMENT_URI1), store.getDocumentUris());
+	}
+	
+	public void testValuesSurviveEviction() throws Exception {
+		String longString = String.join("", Collections.nCopies(200, "long text "));
+		for (int i = 0; i < 20; i++) {
+			String id = "id" + i;
+			store.create(TEST_DOCUMENT_URI1, id, TEST_TYPE1);
+			store.setValue(TEST_DOCUMENT_URI1, id, "string", longString + i);
+			store.setValue(TEST_DOCUMENT_URI1, id, "boolean", i % 2 == 0);
+			store.setValue(TEST_DOCUMENT_URI1, id, "integer", -i);
+			store.setValue(TEST_DOCUMENT_URI1, id, "uri", new SimpleUriValue(SpdxConstants.URI_VALUE_NOASSERTION));
+			store.addValueToCollection(TEST_DOCUMENT_URI1, id, "list", "a" + i);
+			store.addValueToCollection(TEST_DOCUMENT_URI1, id, "list", "b" + i);
+			if (i > 0) {
+				store.setValue(TEST_DOCUMENT_URI1, id, "typed", new TypedValue("id" + (i - 1), TEST_TYPE1));
+			}
+		}
+		assertTrue(store.getHotItemCount() <= 2);
+		for (int i = 0; i < 20; i++) {
+			String id = "id" + i;
+			assertEquals(longString + i, store.getValue(TEST_DOCUMENT_URI1, id, "string").get());
+			assertEquals(i % 2 == 0, store.getValue(TEST_DOCUMENT_URI1, id, "boolean").get());
+			assertEquals(-i, store.getValue(TEST_DOCUMENT_URI1, id, "integer").get());
+			assertEquals(new SimpleUriValue(SpdxConstants.URI_VALUE_NOASSERTION), store.getValue(TEST_DOCUMENT_URI1, id, "uri").get());
+			assertEquals(Arrays.asList("a" + i, "b" + i), toList(store.listValues(TEST_DOCUMENT_URI1, id, "list")));
+			assertTrue(store.isCollectionProperty(TEST_DOCUMENT_URI1, id, "list"));
+			assertTrue(store.collectionContains(TEST_DOCUMENT_URI1, id, "list", "b" + i));
+			assertEquals(2, store.collectionSize(TEST_DOCUMENT_URI1, id, "list"));
+			if (i > 0) {
+				assertEquals(new TypedValue("id" + (i - 1), TEST_TYPE1), store.getValue(TEST_DOCUMENT_URI1, id, "typed").get());
+			}
+		}
+		store.removeProperty(TEST_DOCUMENT_URI1, "id3", "string");
+		assertTrue(store.removeValueFromCollection(TEST_DOCUMENT_URI1, "id3", "list", "a3"));
+		store.clearValueCollection(TEST_DOCUMENT_URI1, "id4", "list");
+		store.flush();
+		assertFalse(store.getValue(TEST_DOCUMENT_URI1, "id3", "string").isPresent());
+		assertEquals(Arrays.asList("b3"), toList(store.listValues(TEST_DOCUMENT_URI1, "id3", "list")));
+		assertEquals(0, store.collectionSize(TEST_DOCUMENT_URI1, "id4", "list"));
+	}
+	
+	public void testRevisions() throws InvalidSPDXAnalysisException {
+		long start = store.getRevision();
+		store.create(TEST_DOCUMENT_URI1, TEST_ID1, TEST_TYPE1);
+		store.create(TEST_DOCUMENT_URI1, TEST_ID2, TEST_TYPE1);
+		long id1Revision = store.getRevision(TEST_DOCUMENT_URI1, TEST_ID1);
+		assertTrue(id1Revision > start);
+		store.setValue(TEST_DOCUMENT_URI1, TEST_ID2, "prop", "value");
+		assertEquals(id1Revision, store.getRevision(TEST_DOCUMENT_URI1, TEST_ID1));
+		assertEquals(store.getRevision(), store.getRevision(TEST_DOCUMENT_URI1, TEST_ID2));
+	}
+	
+	public void testReferenceCountsDelete() throws Exception {
+		store.create(TEST_DOCUMENT_URI1, TEST_ID1, TEST_TYPE1);
+		store.create(TEST_DOCUMENT_URI1, TEST_ID2, TEST_TYPE2);
+		TypedValue tv = new TypedValue(TEST_ID1, TEST_TYPE1);
+		try {
+			store.setValue(TEST_DOCUMENT_URI1, TEST_ID2, "prop", new TypedValue("missing", TEST_TYPE1));
+			fail("Reference to missing item");
+		} catch (SpdxIdNotFoundException e) {
+			// expected
+		}
+		store.addValueToCollection(TEST_DOCUMENT_URI1, TEST_ID2, "prop1", tv);
+		store.setValue(TEST_DOCUMENT_URI1, TEST_ID2, "prop2", tv);
+		try {
+			store.delete(TEST_DOCUMENT_URI1, TEST_ID1);
+			fail("Deleted a referenced item");
+		} catch (SpdxIdInUseException e) {
+			// expected
+		}
+		store.removeProperty(TEST_DOCUMENT_URI1, TEST_ID2, "prop2");
+		try {
+			store.delete(TEST_DOCUMENT_URI1, TEST_ID1);
+			fail("Deleted a referenced item");
+		} catch (SpdxIdInUseException e) {
+			// expected
+		}
+		store.delete(TEST_DOCUMENT_URI1, TEST_ID2);
+		store.delete(TEST_DOCUMENT_URI1, TEST_ID1);
+		assertFalse(store.exists(TEST_DOCUMENT_URI1, TEST_ID1));
+		assertFalse(store.exists(TEST_DOCUMENT_URI1, TEST_ID2));
+	}
+	
+	public void testGetAllItems() throws InvalidSPDXAnalysisException {
+		List<String> allIds = new ArrayList<>();
+		List<String> type1Ids = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			String id = "id" + i;
+			String type = i % 3 == 0 ? TEST_TYPE1 : TEST_TYPE2;
+			store.create(TEST_DOCUMENT_URI1, id, type);
+			allIds.add(id);
+			if (TEST_TYPE1.equals(type)) {
+				type1Ids.add(id);
+			}
+		}
+		assertEquals(allIds, store.getAllItems(TEST_DOCUMENT_URI1, null).map(TypedValue::getId).collect(Collectors.toList()));
+		assertEquals(type1Ids, store.getAllItems(TEST_DOCUMENT_URI1, TEST_TYPE1).map(TypedValue::getId).collect(Collectors.toList()));
+		assertEquals(0, store.getAllItems(TEST_DOCUMENT_URI2, null).count());
+	}
+	
+	public void testGetNextId() throws InvalidSPDXAnalysisException {
+		store.create(TEST_DOCUMENT_URI1, SpdxConstants.SPDX_ELEMENT_REF_PRENUM+MappedSpdxStore.GENERATED+"7", TEST_TYPE1);
+		assertEquals(SpdxConstants.SPDX_ELEMENT_REF_PRENUM+MappedSpdxStore.GENERATED+"8", store.getNextId(IdType.SpdxId, TEST_DOCUMENT_URI1));
+		assertEquals(SpdxConstants.NON_STD_LICENSE_ID_PRENUM+MappedSpdxStore.GENERATED+"0", store.getNextId(IdType.LicenseRef, TEST_DOCUMENT_URI1));
+	}
+	
+	public void testCompact() throws Exception {
+		store.create(TEST_DOCUMENT_URI1, TEST_ID1, TEST_TYPE1);
+		store.create(TEST_DOCUMENT_URI1, TEST_ID2, TEST_TYPE1);
+		store.create(TEST_DOCUMENT_URI1, "id3", TEST_TYPE1);
+		for (int i = 0; i < 500; i++) {
+			// cycle the items through the cache so that each update writes a new record
+			store.setValue(TEST_DOCUMENT_URI1, TEST_ID1, "prop", "value" + i);
+			store.setValue(TEST_DOCUMENT_URI1, TEST_ID2, "prop", "value" + i);
+			store.setValue(TEST_DOCUMENT_URI1, "id3", "prop", "value" + i);
+		}
+		store.flush();
+		// replaced records are reclaimed so the file does not hold every version
+		assertTrue(Files.size(store.getFile()) < 500L * 3 * 10);
+		assertEquals("value499", store.getValue(TEST_DOCUMENT_URI1, TEST_ID1, "prop").get());
+		store.compact();
+		assertEquals("value499", store.getValue(TEST_DOCUMENT_URI1, TEST_ID2, "prop").get());
+		assertEquals("value499", store.getValue(TEST_DOCUMENT_URI1, "id3", "prop").get());
+	}
+	
+	public void testSerializeDeserialize() throws Exception {
+		store.create(TEST_DOCUMENT_URI1, TEST_ID1, TEST_TYPE1);
+		store.create(TEST_DOCUMENT_URI1, TEST_ID2, TEST_TYPE2);
+		store.setValue(TEST_DOCUMENT_URI1, TEST_ID1, "prop", "value");
+		store.addValueToCollection(TEST_DOCUMENT_URI1, TEST_ID2, "list", new TypedValue(TEST_ID1, TEST_TYPE1));
+		store.addValueToCollection(TEST_DOCUMENT_URI1, TEST_ID2, "list", true);
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		store.serialize(TEST_DOCUMENT_URI1, out);
+		try (MappedSpdxStore store2 = new MappedSpdxStore(tempDir, 1)) {
+			assertEquals(TEST_DOCUMENT_URI1, store2.deSerialize(new ByteArrayInputStream(out.toByteArray()), false));
+			assertEquals("value", store2.getValue(TEST_DOCUMENT_URI1, TEST_ID1, "prop").get());
+			assertEquals(Arrays.asList(new TypedValue(TEST_ID1, TEST_TYPE1), true), 
+					toList(store2.listValues(TEST_DOCUMENT_URI1, TEST_ID2, "list")));
+			try {
+				store2.delete(TEST_DOCUMENT_URI1, TEST_ID1);
+				fail("Reference counts should be restored");
+			} catch (SpdxIdInUseException e) {
+				// expected
+			}
+			try {
+				store2.deSerialize(new ByteArrayInputStream(out.toByteArray()), false);
+				fail("Document already exists");
+			} catch (InvalidSPDXAnalysisException e) {
+				// expected
+			}
+			store2.deSerialize(new ByteArrayInputStream(out.toByteArray()), true);
+			assertEquals(2, store2.getAllItems(TEST_DOCUMENT_URI1, null).count());
+		}
+	}
+	
+	public void testModelObjects() throws Exception {
+		ModelCopyManager copyManager = new ModelCopyManager();
+		SpdxDocument doc = new SpdxDocument(store, TEST_DOCUMENT_URI1, copyManager, true);
+		ExtractedLicenseInfo license = new ExtractedLicenseInfo(store, TEST_DOCUMENT_URI1, "LicenseRef-1", copyManager, true);
+		license.setExtractedText("License text");
+		List<String> fileIds = new ArrayList<>();
+		for (int i = 0; i < 30; i++) {
+			Checksum sha1 = doc.createChecksum(ChecksumAlgorithm.SHA1, String.format("%040x", i));
+			SpdxFile file = doc.createSpdxFile(store.getNextId(IdType.SpdxId, TEST_DOCUMENT_URI1), "./file" + i, 
+					license, Arrays.asList(license), "Copyright " + i, sha1)
+					.setFileContributors(Arrays.asList("Contributor " + i))
+					.build();
+			fileIds.add(file.getId());
+		}
+		for (int i = 0; i < 30; i++) {
+			SpdxFile file = new SpdxFile(store, TEST_DOCUMENT_URI1, fileIds.get(i), copyManager, false);
+			assertEquals("./file" + i, file.getName().get());
+			assertEquals("Copyright " + i, file.getCopyrightText());
+			assertEquals(license, file.getLicenseConcluded());
+			assertEquals(String.format("%040x", i), file.getSha1());
+			assertTrue(file.getFileContributors().contains("Contributor " + i));
+		}
+		assertEquals(30, store.getAllItems(TEST_DOCUMENT_URI1, SpdxConstants.CLASS_SPDX_FILE).count());
+		assertEquals("License text", license.getExtractedText());
+	}
+	
+	public void testStreamingDeserialize() throws Exception {
+		store.create(TEST_DOCUMENT_URI1, TEST_ID1, TEST_TYPE1);
+		store.create(TEST_DOCUMENT_URI1, TEST_ID2, TEST_TYPE2);
+		store.setValue(TEST_DOCUMENT_URI1, TEST_ID1, "prop", "value");
+		store.addValueToCollection(TEST_DOCUMENT_URI1, TEST_ID2, "list", new TypedValue(TEST_ID1, TEST_TYPE1));
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		store.serialize(TEST_DOCUMENT_URI1, out);
+		List<ModelItem> items = new ArrayList<>();
+		assertEquals(TEST_DOCUMENT_URI1, store.deSerialize(new ByteArrayInputStream(out.toByteArray()), items::add));
+		assertEquals(2, items.size());
+		assertEquals(TEST_ID1, items.get(0).getId());
+		assertEquals("value", items.get(0).getValue("prop").get());
+		assertEquals(Arrays.asList(new TypedValue(TEST_ID1, TEST_TYPE1)), items.get(1).getCollection("list"));
+		InMemSpdxStore inMemStore = new InMemSpdxStore();
+		try (Stream<ModelItem> stream = ModelItemPipe.stream(visitor -> 
+				Write.deSerialize(store, new ByteArrayInputStream(out.toByteArray()), visitor), 1)) {
+			ModelStoreItemLoader loader = new ModelStoreItemLoader(inMemStore);
+			Iterator<ModelItem> iter = stream.iterator();
+			while (iter.hasNext()) {
+				loader.visit(iter.next());
+			}
+		}
+		assertEquals("value", inMemStore.getValue(TEST_DOCUMENT_URI1, TEST_ID1, "prop").get());
+		assertEquals(1, inMemStore.collectionSize(TEST_DOCUMENT_URI1, TEST_ID2, "list"));
+	}
+}
@@ -0,0 +1,144 @@
+/**
+ * Copyright (c) 2026 Source Auditor Inc.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * 
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.storage.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.management.ObjectName;
+
+import org.spdx.library.InvalidSPDXAnalysisException;
+import org.spdx.library.SpdxConstants;
+import org.spdx.storage.IModelStore.IModelStoreLock;
+import org.spdx.storage.simple.InMemSpdxStore;
+
+import junit.framework.TestCase;
+
+/**
+ * @author Gary O'Neall
+ *
+ */
+public class InstrumentedSpdxStoreTest extends TestCase {
+	
+	static final String DOCUMENT_URI1 = "http://test.document.uri/1";
+	static final String DOCUMENT_URI2 = "http://test.document.uri/2";
+	
+	StoreMetrics metrics;
+	InstrumentedSpdxStore store;
+
+	protected void setUp() throws Exception {
+		super.setUp();
+		metrics = new StoreMetrics();
+		store = new InstrumentedSpdxStore(new InMemSpdxStore(), metrics);
+	}
+
+	protected void tearDown() throws Exception {
+		super.tearDown();
+		store.close();
+	}
+	
+	public void testOperationCounts() throws InvalidSPDXAnalysisException {
+		store.create(DOCUMENT_URI1, "SPDXRef-1", SpdxConstants.CLASS_SPDX_FILE);
+		store.setValue(DOCUMENT_URI1, "SPDXRef-1", SpdxConstants.PROP_NAME, "name");
+		store.getValue(DOCUMENT_URI1, "SPDXRef-1", SpdxConstants.PROP_NAME);
+		store.getValue(DOCUMENT_URI1, "SPDXRef-1", SpdxConstants.PROP_NAME);
+		store.create(DOCUMENT_URI2, "SPDXRef-1", SpdxConstants.CLASS_SPDX_FILE);
+		store.addValueToCollection(DOCUMENT_URI2, "SPDXRef-1", SpdxConstants.PROP_FILE_CONTRIBUTOR, "contributor");
+		assertTrue(store.exists(DOCUMENT_URI2, "SPDXRef-1"));
+		assertEquals(2, store.getDocumentUris().size());
+		
+		assertEquals(2, metrics.getHistogram(StoreOperation.CREATE).getCount());
+		assertEquals(2, metrics.getHistogram(StoreOperation.GET_VALUE).getCount());
+		assertEquals(1, metrics.getHistogram(StoreOperation.GET_DOCUMENT_URIS).getCount());
+		assertEquals(0, metrics.getHistogram(StoreOperation.DELETE).getCount());
+		assertEquals(2, metrics.getCallCount(DOCUMENT_URI1, StoreOperation.GET_VALUE));
+		assertEquals(0, metrics.getCallCount(DOCUMENT_URI2, StoreOperation.GET_VALUE));
+		assertEquals(1, metrics.getCallCount(DOCUMENT_URI2, StoreOperation.ADD_VALUE_TO_COLLECTION));
+		assertTrue(metrics.getTotalNanos(DOCUMENT_URI1, StoreOperation.GET_VALUE) > 0);
+		
+		assertEquals(Long.valueOf(2), metrics.getCallCounts().get(StoreOperation.CREATE.name()));
+		assertFalse(metrics.getCallCounts().containsKey(StoreOperation.DELETE.name()));
+		assertEquals(Long.valueOf(4), metrics.getDocumentCallCounts().get(DOCUMENT_URI1));
+		assertEquals(Long.valueOf(3), metrics.getDocumentCallCounts().get(DOCUMENT_URI2));
+		assertTrue(metrics.getP99Nanos().get(StoreOperation.GET_VALUE.name()) <= 
+				metrics.getMaxNanos().get(StoreOperation.GET_VALUE.name()));
+		metrics.logSummary();
+		
+		metrics.reset();
+		assertTrue(metrics.getCallCounts().isEmpty());
+		assertTrue(metrics.getDocumentCallCounts().isEmpty());
+	}
+	
+	public void testLockTimes() throws Exception {
+		IModelStoreLock lock = store.enterCriticalSection(DOCUMENT_URI1, false);
+		Thread.sleep(5);
+		store.leaveCriticalSection(lock);
+		lock = store.enterCriticalSection(DOCUMENT_URI1, true);
+		lock.unlock();
+		assertEquals(1, metrics.getHistogram(StoreOperation.WRITE_LOCK_WAIT).getCount());
+		assertEquals(1, metrics.getHistogram(StoreOperation.WRITE_LOCK_HOLD).getCount());
+		assertTrue(metrics.getHistogram(StoreOperation.WRITE_LOCK_HOLD).getMax() >= 5000000L);
+		assertEquals(1, metrics.getHistogram(StoreOperation.READ_LOCK_WAIT).getCount());
+		assertEquals(1, metrics.getHistogram(StoreOperation.READ_LOCK_HOLD).getCount());
+		
+		// the lock must have been released
+		IModelStoreLock writeLock = store.enterCriticalSection(DOCUMENT_URI1, false);
+		store.leaveCriticalSection(writeLock);
+		assertEquals(2, metrics.getHistogram(StoreOperation.WRITE_LOCK_HOLD).getCount());
+	}
+	
+	public void testListener() throws InvalidSPDXAnalysisException {
+		List<StoreOperation> operations = new ArrayList<>();
+		InstrumentedSpdxStore listenerStore = new InstrumentedSpdxStore(new InMemSpdxStore(), 
+				(documentUri, operation, nanos) -> {
+					assertTrue(nanos >= 0);
+					operations.add(operation);
+				});
+		listenerStore.create(DOCUMENT_URI1, "SPDXRef-1", SpdxConstants.CLASS_SPDX_FILE);
+		listenerStore.delete(DOCUMENT_URI1, "SPDXRef-1");
+		try {
+			listenerStore.getValue(DOCUMENT_URI1, "SPDXRef-1", SpdxConstants.PROP_NAME);
+			fail("Missing item should fail");
+		} catch (InvalidSPDXAnalysisException e) {
+			// expected - failed operations are also measured
+		}
+		assertEquals(3, operations.size());
+		assertEquals(StoreOperation.CREATE, operations.get(0));
+		assertEquals(StoreOperation.DELETE, operations.get(1));
+		assertEquals(StoreOperation.GET_VALUE, operations.get(2));
+	}
+	
+	public void testRegisterMBean() throws Exception {
+		store.create(DOCUMENT_URI1, "SPDXRef-1", SpdxConstants.CLASS_SPDX_FILE);
+		ObjectName name = metrics.registerMBean("org.spdx.storage:type=StoreMetrics,name=test");
+		try {
+			assertTrue(ManagementFactory.getPlatformMBeanServer().isRegistered(name));
+			assertNotNull(ManagementFactory.getPlatformMBeanServer().getAttribute(name, "CallCounts"));
+			try {
+				metrics.registerMBean("org.spdx.storage:type=StoreMetrics,name=test");
+				fail("Duplicate registration should fail");
+			} catch (InvalidSPDXAnalysisException e) {
+				// expected
+			}
+		} finally {
+			metrics.unregisterMBean(name);
+		}
+		assertFalse(ManagementFactory.getPlatformMBeanServer().isRegistered(name));
+	}
+}
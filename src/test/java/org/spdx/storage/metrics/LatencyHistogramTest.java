@@ -0,0 +1,87 @@
+/**
+ * Copyright (c) 2026 Source Auditor Inc.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * 
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.storage.metrics;
+
+import junit.framework.TestCase;
+
+/**
+ * @author Gary O'Neall
+ *
+ */
+public class LatencyHistogramTest extends TestCase {
+	
+	public void testBucketIndex() {
+		long[] values = new long[] {0, 1, 31, 32, 33, 63, 64, 65, 1000, 123456789L, Long.MAX_VALUE};
+		int lastIndex = -1;
+		for (long value:values) {
+			int index = LatencyHistogram.bucketIndex(value);
+			assertTrue(index >= lastIndex);
+			assertTrue(index < LatencyHistogram.BUCKET_COUNT);
+			long highest = LatencyHistogram.highestValueInBucket(index);
+			assertTrue(highest >= value);
+			// within the precision of the sub buckets
+			assertTrue(highest - value <= value / LatencyHistogram.SUB_BUCKET_COUNT);
+			if (index > 0) {
+				assertTrue(LatencyHistogram.highestValueInBucket(index - 1) < value);
+			}
+			lastIndex = index;
+		}
+		assertEquals(LatencyHistogram.BUCKET_COUNT - 1, LatencyHistogram.bucketIndex(Long.MAX_VALUE));
+	}
+	
+	public void testPercentiles() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		assertEquals(0, histogram.getValueAtPercentile(99));
+		for (long i = 1; i <= 1000; i++) {
+			histogram.record(i * 1000);
+		}
+		assertEquals(1000, histogram.getCount());
+		assertEquals(1000000, histogram.getMax());
+		assertEquals(500500, histogram.getMean());
+		assertEquals(500500000L, histogram.getTotal());
+		long p50 = histogram.getValueAtPercentile(50);
+		assertTrue(p50 >= 500000 && p50 <= 500000 * 33 / 32);
+		long p99 = histogram.getValueAtPercentile(99);
+		assertTrue(p99 >= 990000 && p99 <= 1000000);
+		assertEquals(1000000, histogram.getValueAtPercentile(100));
+		long p0 = histogram.getValueAtPercentile(0);
+		assertTrue(p0 >= 1000 && p0 <= 1000 * 33 / 32);
+		histogram.reset();
+		assertEquals(0, histogram.getCount());
+		assertEquals(0, histogram.getMax());
+		assertEquals(0, histogram.getValueAtPercentile(50));
+	}
+	
+	public void testConcurrentRecord() throws Exception {
+		LatencyHistogram histogram = new LatencyHistogram();
+		Thread[] threads = new Thread[4];
+		for (int i = 0; i < threads.length; i++) {
+			threads[i] = new Thread(() -> {
+				for (int j = 0; j < 10000; j++) {
+					histogram.record(j);
+				}
+			});
+			threads[i].start();
+		}
+		for (Thread thread:threads) {
+			thread.join();
+		}
+		assertEquals(40000, histogram.getCount());
+		assertEquals(9999, histogram.getMax());
+	}
+}
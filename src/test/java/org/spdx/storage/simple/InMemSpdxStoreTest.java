@@ -17,6 +17,8 @@
  */
 package org.spdx.storage.simple;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -36,6 +38,7 @@ import org.spdx.library.InvalidSPDXAnalysisException;
 import org.spdx.library.ModelCopyManager;
 import org.spdx.library.SpdxConstants;
 import org.spdx.library.model.SpdxIdInUseException;
+import org.spdx.library.model.SpdxIdNotFoundException;
 import org.spdx.library.model.TypedValue;
 import org.spdx.storage.IModelStore.IModelStoreLock;
 import org.spdx.storage.IModelStore.IdType;
@@ -679,6 +682,51 @@ public class InMemSpdxStoreTest extends TestCase {
 		assertTrue(store.exists(TEST_DOCUMENT_URI2, id2));
 	}
 	
+	public void testGetAllItems() throws InvalidSPDXAnalysisException {
+		InMemSpdxStore store = new InMemSpdxStore();
+		assertEquals(0, store.getAllItems(TEST_DOCUMENT_URI1, null).count());
+		List<String> type1Ids = new ArrayList<>();
+		List<String> allIds = new ArrayList<>();
+		for (int i = 0; i < 1000; i++) {
+			String id = "id" + i;
+			String type = i % 3 == 0 ? TEST_TYPE1 : TEST_TYPE2;
+			store.create(TEST_DOCUMENT_URI1, id, type);
+			allIds.add(id);
+			if (TEST_TYPE1.equals(type)) {
+				type1Ids.add(id);
+			}
+		}
+		store.create(TEST_DOCUMENT_URI2, "otherDocId", TEST_TYPE1);
+		// items are returned in creation order
+		assertEquals(allIds, store.getAllItems(TEST_DOCUMENT_URI1, null).map(TypedValue::getId).collect(Collectors.toList()));
+		assertEquals(type1Ids, store.getAllItems(TEST_DOCUMENT_URI1, TEST_TYPE1).map(TypedValue::getId).collect(Collectors.toList()));
+		assertEquals(type1Ids, store.getAllItems(TEST_DOCUMENT_URI1, TEST_TYPE1).parallel().map(TypedValue::getId).collect(Collectors.toList()));
+		assertEquals(type1Ids.size(), store.getAllItems(TEST_DOCUMENT_URI1, TEST_TYPE1).spliterator().estimateSize());
+		assertEquals(0, store.getAllItems(TEST_DOCUMENT_URI1, SpdxConstants.CLASS_SPDX_FILE).count());
+		
+		store.delete(TEST_DOCUMENT_URI1, "id0");
+		type1Ids.remove("id0");
+		assertEquals(type1Ids, store.getAllItems(TEST_DOCUMENT_URI1, TEST_TYPE1).map(TypedValue::getId).collect(Collectors.toList()));
+		assertEquals(allIds.size() - 1, store.getAllItems(TEST_DOCUMENT_URI1, null).count());
+		
+		// streams are weakly consistent
+		Iterator<TypedValue> iter = store.getAllItems(TEST_DOCUMENT_URI1, TEST_TYPE1).iterator();
+		iter.next();
+		store.create(TEST_DOCUMENT_URI1, "newId", TEST_TYPE1);
+		store.delete(TEST_DOCUMENT_URI1, "id999");
+		int count = 1;
+		while (iter.hasNext()) {
+			iter.next();
+			count++;
+		}
+		assertEquals(type1Ids.size(), count);
+		
+		store.clear(TEST_DOCUMENT_URI1);
+		assertEquals(0, store.getAllItems(TEST_DOCUMENT_URI1, null).count());
+		assertEquals(0, store.getAllItems(TEST_DOCUMENT_URI1, TEST_TYPE1).count());
+		assertEquals(1, store.getAllItems(TEST_DOCUMENT_URI2, TEST_TYPE1).count());
+	}
+	
 	public void testDeleteInUse() throws InvalidSPDXAnalysisException {
 		InMemSpdxStore store = new InMemSpdxStore();
 		String id1 = "TestId1";
@@ -770,4 +818,217 @@ public class InMemSpdxStoreTest extends TestCase {
 	        assertEquals(0, item.getReferenceCount());
 	        store.delete(TEST_DOCUMENT_URI1, TEST_ID1);
 	    }
+	
+	public void testBulkLoad() throws Exception {
+		InMemSpdxStore store = new InMemSpdxStore();
+		long startRevision = store.getRevision();
+		String generatedId = SpdxConstants.SPDX_ELEMENT_REF_PRENUM+InMemSpdxStore.GENERATED+"41";
+		TypedValue tv1 = new TypedValue(TEST_ID1, TEST_TYPE1);
+		try (InMemSpdxStore.BulkLoad bulkLoad = store.beginBulkLoad(TEST_DOCUMENT_URI1, 1000)) {
+			assertTrue(store.isBulkLoading(TEST_DOCUMENT_URI1));
+			assertFalse(store.isBulkLoading(TEST_DOCUMENT_URI2));
+			try {
+				store.beginBulkLoad(TEST_DOCUMENT_URI1, 10);
+				fail("Nested bulk load should fail");
+			} catch (InvalidSPDXAnalysisException e) {
+				// expected
+			}
+			// forward reference to an item not yet created
+			store.create(TEST_DOCUMENT_URI1, TEST_ID2, TEST_TYPE2);
+			store.setValue(TEST_DOCUMENT_URI1, TEST_ID2, "prop1", tv1);
+			store.addValueToCollection(TEST_DOCUMENT_URI1, TEST_ID2, "prop2", tv1);
+			store.addValueToCollection(TEST_DOCUMENT_URI1, TEST_ID2, "prop2", "stringValue");
+			store.create(TEST_DOCUMENT_URI1, TEST_ID1, TEST_TYPE1);
+			store.create(TEST_DOCUMENT_URI1, generatedId, TEST_TYPE1);
+			store.addValueToCollection(TEST_DOCUMENT_URI1, TEST_ID2, "prop3", new TypedValue(generatedId, TEST_TYPE1));
+			store.removeProperty(TEST_DOCUMENT_URI1, TEST_ID2, "prop3");
+			assertEquals(startRevision, store.getRevision());
+			// generated IDs created during the bulk load are not reused
+			assertEquals(SpdxConstants.SPDX_ELEMENT_REF_PRENUM+InMemSpdxStore.GENERATED+"42", 
+					store.getNextId(IdType.SpdxId, TEST_DOCUMENT_URI1));
+			try {
+				store.delete(TEST_DOCUMENT_URI1, generatedId);
+				fail("Delete during a bulk load should fail");
+			} catch (InvalidSPDXAnalysisException e) {
+				// expected
+			}
+			bulkLoad.commit();
+			assertTrue(bulkLoad.isCommitted());
+		}
+		assertFalse(store.isBulkLoading(TEST_DOCUMENT_URI1));
+		assertTrue(store.getRevision() > startRevision);
+		assertEquals(store.getRevision(), store.getRevision(TEST_DOCUMENT_URI1, TEST_ID1));
+		assertEquals(2, store.getItem(TEST_DOCUMENT_URI1, TEST_ID1).getReferenceCount());
+		assertEquals(0, store.getItem(TEST_DOCUMENT_URI1, generatedId).getReferenceCount());
+		assertEquals(2, store.collectionSize(TEST_DOCUMENT_URI1, TEST_ID2, "prop2"));
+		try {
+			store.delete(TEST_DOCUMENT_URI1, TEST_ID1);
+			fail("Referenced item should not be deleted");
+		} catch (SpdxIdInUseException e) {
+			// expected
+		}
+		store.delete(TEST_DOCUMENT_URI1, generatedId);
+		// reference counting resumes after the commit
+		store.removeValueFromCollection(TEST_DOCUMENT_URI1, TEST_ID2, "prop2", tv1);
+		store.removeProperty(TEST_DOCUMENT_URI1, TEST_ID2, "prop1");
+		assertEquals(0, store.getItem(TEST_DOCUMENT_URI1, TEST_ID1).getReferenceCount());
+		store.delete(TEST_DOCUMENT_URI1, TEST_ID1);
+	}
+	
+	public void testBulkLoadMissingReference() throws Exception {
+		InMemSpdxStore store = new InMemSpdxStore();
+		InMemSpdxStore.BulkLoad bulkLoad = store.beginBulkLoad(TEST_DOCUMENT_URI1, 10);
+		store.create(TEST_DOCUMENT_URI1, TEST_ID2, TEST_TYPE2);
+		store.setValue(TEST_DOCUMENT_URI1, TEST_ID2, "prop1", new TypedValue(TEST_ID1, TEST_TYPE1));
+		try {
+			bulkLoad.commit();
+			fail("Missing reference should fail the commit");
+		} catch (SpdxIdNotFoundException e) {
+			// expected
+		}
+		// the session remains open so the commit can be retried
+		assertTrue(store.isBulkLoading(TEST_DOCUMENT_URI1));
+		assertFalse(bulkLoad.isCommitted());
+		store.create(TEST_DOCUMENT_URI1, TEST_ID1, TEST_TYPE1);
+		bulkLoad.commit();
+		assertTrue(bulkLoad.isCommitted());
+		assertFalse(store.isBulkLoading(TEST_DOCUMENT_URI1));
+		assertEquals(1, store.getItem(TEST_DOCUMENT_URI1, TEST_ID1).getReferenceCount());
+	}
+	
+	/**
+	 * Create a document with a package, an orphaned file and a relationship from the document to the package.
+	 * The package references a checksum and a license set with two extracted licenses - one of which is also
+	 * referenced by the document.
+	 */
+	private void createCollectableDocument(InMemSpdxStore store) throws InvalidSPDXAnalysisException {
+		store.create(TEST_DOCUMENT_URI1, SpdxConstants.SPDX_DOCUMENT_ID, SpdxConstants.CLASS_SPDX_DOCUMENT);
+		store.create(TEST_DOCUMENT_URI1, "SPDXRef-package", SpdxConstants.CLASS_SPDX_PACKAGE);
+		store.create(TEST_DOCUMENT_URI1, "SPDXRef-file", SpdxConstants.CLASS_SPDX_FILE);
+		store.create(TEST_DOCUMENT_URI1, "checksum", SpdxConstants.CLASS_SPDX_CHECKSUM);
+		store.create(TEST_DOCUMENT_URI1, "set", SpdxConstants.CLASS_SPDX_CONJUNCTIVE_LICENSE_SET);
+		store.create(TEST_DOCUMENT_URI1, "LicenseRef-1", SpdxConstants.CLASS_SPDX_EXTRACTED_LICENSING_INFO);
+		store.create(TEST_DOCUMENT_URI1, "LicenseRef-2", SpdxConstants.CLASS_SPDX_EXTRACTED_LICENSING_INFO);
+		store.create(TEST_DOCUMENT_URI1, "fileChecksum", SpdxConstants.CLASS_SPDX_CHECKSUM);
+		store.addValueToCollection(TEST_DOCUMENT_URI1, "SPDXRef-package", SpdxConstants.PROP_PACKAGE_CHECKSUM, 
+				new TypedValue("checksum", SpdxConstants.CLASS_SPDX_CHECKSUM));
+		store.setValue(TEST_DOCUMENT_URI1, "SPDXRef-package", SpdxConstants.PROP_LICENSE_DECLARED, 
+				new TypedValue("set", SpdxConstants.CLASS_SPDX_CONJUNCTIVE_LICENSE_SET));
+		store.addValueToCollection(TEST_DOCUMENT_URI1, "set", SpdxConstants.PROP_LICENSE_SET_MEMEBER, 
+				new TypedValue("LicenseRef-1", SpdxConstants.CLASS_SPDX_EXTRACTED_LICENSING_INFO));
+		store.addValueToCollection(TEST_DOCUMENT_URI1, "set", SpdxConstants.PROP_LICENSE_SET_MEMEBER, 
+				new TypedValue("LicenseRef-2", SpdxConstants.CLASS_SPDX_EXTRACTED_LICENSING_INFO));
+		store.addValueToCollection(TEST_DOCUMENT_URI1, SpdxConstants.SPDX_DOCUMENT_ID, SpdxConstants.PROP_SPDX_EXTRACTED_LICENSES, 
+				new TypedValue("LicenseRef-1", SpdxConstants.CLASS_SPDX_EXTRACTED_LICENSING_INFO));
+		store.addValueToCollection(TEST_DOCUMENT_URI1, "SPDXRef-file", SpdxConstants.PROP_FILE_CHECKSUM, 
+				new TypedValue("fileChecksum", SpdxConstants.CLASS_SPDX_CHECKSUM));
+	}
+	
+	public void testCollectGarbage() throws Exception {
+		InMemSpdxStore store = new InMemSpdxStore();
+		createCollectableDocument(store);
+		GarbageCollectionReport report = store.collectGarbage(TEST_DOCUMENT_URI1, Collections.emptyList());
+		assertEquals(0, report.getReclaimedCount());
+		assertEquals(8, report.getRetainedCount());
+		
+		long revision = store.getRevision();
+		store.delete(TEST_DOCUMENT_URI1, "SPDXRef-package");
+		report = store.collectGarbage(TEST_DOCUMENT_URI1, Collections.emptyList());
+		assertEquals(TEST_DOCUMENT_URI1, report.getDocumentUri());
+		List<String> reclaimedIds = report.getReclaimedItems().stream().map(TypedValue::getId).sorted().collect(Collectors.toList());
+		assertEquals(Arrays.asList("LicenseRef-2", "checksum", "set"), reclaimedIds);
+		assertEquals(Integer.valueOf(1), report.getReclaimedCountsByType().get(SpdxConstants.CLASS_SPDX_CHECKSUM));
+		assertEquals(4, report.getRetainedCount());
+		assertTrue(store.getRevision() > revision);
+		assertFalse(store.exists(TEST_DOCUMENT_URI1, "checksum"));
+		assertFalse(store.exists(TEST_DOCUMENT_URI1, "set"));
+		assertFalse(store.exists(TEST_DOCUMENT_URI1, "LicenseRef-2"));
+		// elements and everything they reference are kept even if the element is not reachable from the document
+		assertTrue(store.exists(TEST_DOCUMENT_URI1, "SPDXRef-file"));
+		assertTrue(store.exists(TEST_DOCUMENT_URI1, "fileChecksum"));
+		// the reference from the reclaimed license set was released
+		assertEquals(1, store.getItem(TEST_DOCUMENT_URI1, "LicenseRef-1").getReferenceCount());
+		store.clearValueCollection(TEST_DOCUMENT_URI1, SpdxConstants.SPDX_DOCUMENT_ID, SpdxConstants.PROP_SPDX_EXTRACTED_LICENSES);
+		store.delete(TEST_DOCUMENT_URI1, "LicenseRef-1");
+		
+		try {
+			store.collectGarbage(TEST_DOCUMENT_URI2, Collections.emptyList());
+			fail("Collected a document which does not exist");
+		} catch (SpdxIdNotFoundException e) {
+			// expected
+		}
+	}
+	
+	public void testCollectGarbagePinned() throws Exception {
+		InMemSpdxStore store = new InMemSpdxStore();
+		createCollectableDocument(store);
+		store.delete(TEST_DOCUMENT_URI1, "SPDXRef-package");
+		// unreferenced cycle
+		store.create(TEST_DOCUMENT_URI1, "cycle1", SpdxConstants.CLASS_POINTER_COMPOUNT_POINTER);
+		store.create(TEST_DOCUMENT_URI1, "cycle2", SpdxConstants.CLASS_POINTER_COMPOUNT_POINTER);
+		store.setValue(TEST_DOCUMENT_URI1, "cycle1", "next", new TypedValue("cycle2", SpdxConstants.CLASS_POINTER_COMPOUNT_POINTER));
+		store.setValue(TEST_DOCUMENT_URI1, "cycle2", "next", new TypedValue("cycle1", SpdxConstants.CLASS_POINTER_COMPOUNT_POINTER));
+		GarbageCollectionReport report = store.collectGarbage(TEST_DOCUMENT_URI1, Arrays.asList("SET", "notAnId"));
+		List<String> reclaimedIds = report.getReclaimedItems().stream().map(TypedValue::getId).sorted().collect(Collectors.toList());
+		assertEquals(Arrays.asList("checksum", "cycle1", "cycle2"), reclaimedIds);
+		assertTrue(store.exists(TEST_DOCUMENT_URI1, "set"));
+		assertTrue(store.exists(TEST_DOCUMENT_URI1, "LicenseRef-2"));
+		
+		InMemSpdxStore.BulkLoad bulkLoad = store.beginBulkLoad(TEST_DOCUMENT_URI1, 10);
+		try {
+			store.collectGarbage(TEST_DOCUMENT_URI1, Collections.emptyList());
+			fail("Collected a document during a bulk load");
+		} catch (InvalidSPDXAnalysisException e) {
+			// expected
+		}
+		bulkLoad.commit();
+	}
+	
+	public void testCollectGarbageDuringTransaction() throws Exception {
+		InMemSpdxStore store = new InMemSpdxStore();
+		createCollectableDocument(store);
+		GarbageCollectionReport[] report = new GarbageCollectionReport[1];
+		Throwable[] error = new Throwable[1];
+		Thread collector = new Thread(() -> {
+			try {
+				report[0] = store.collectGarbage(TEST_DOCUMENT_URI1, Collections.emptyList());
+			} catch (Throwable e) {
+				error[0] = e;
+			}
+		});
+		IModelStoreLock lock = store.enterCriticalSection(TEST_DOCUMENT_URI1, false);
+		try {
+			// the new checksum is not referenced until the end of the transaction
+			store.create(TEST_DOCUMENT_URI1, "newChecksum", SpdxConstants.CLASS_SPDX_CHECKSUM);
+			collector.start();
+			collector.join(200);
+			assertTrue("Garbage collection did not wait for the transaction", collector.isAlive());
+			store.addValueToCollection(TEST_DOCUMENT_URI1, "SPDXRef-file", SpdxConstants.PROP_FILE_CHECKSUM,
+					new TypedValue("newChecksum", SpdxConstants.CLASS_SPDX_CHECKSUM));
+		} finally {
+			store.leaveCriticalSection(lock);
+		}
+		collector.join(10000);
+		assertFalse(collector.isAlive());
+		assertNull(error[0]);
+		assertEquals(0, report[0].getReclaimedCount());
+		assertTrue(store.exists(TEST_DOCUMENT_URI1, "newChecksum"));
+		assertEquals(1, store.getItem(TEST_DOCUMENT_URI1, "newChecksum").getReferenceCount());
+	}
+
+	public void testCollectGarbageJournaled() throws Exception {
+		InMemSpdxStore store = new InMemSpdxStore();
+		ByteArrayOutputStream journalBytes = new ByteArrayOutputStream();
+		try (StoreJournal journal = new StoreJournal(journalBytes, false)) {
+			store.setJournal(journal);
+			createCollectableDocument(store);
+			store.delete(TEST_DOCUMENT_URI1, "SPDXRef-package");
+			store.collectGarbage(TEST_DOCUMENT_URI1, Collections.singletonList("set"));
+		}
+		InMemSpdxStore restored = new InMemSpdxStore();
+		StoreJournal.replay(new ByteArrayInputStream(journalBytes.toByteArray()), restored);
+		assertEquals(store.getAllItems(TEST_DOCUMENT_URI1, null).collect(Collectors.toList()),
+				restored.getAllItems(TEST_DOCUMENT_URI1, null).collect(Collectors.toList()));
+		assertFalse(restored.exists(TEST_DOCUMENT_URI1, "checksum"));
+	}
 }
@@ -0,0 +1,416 @@
+/**
+ * Copyright (c) 2026 Source Auditor Inc.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * 
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.storage.simple;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.Collectors;
+
+import org.spdx.library.InvalidSPDXAnalysisException;
+import org.spdx.library.SpdxConstants;
+import org.spdx.library.model.SimpleUriValue;
+import org.spdx.library.model.SpdxIdInUseException;
+import org.spdx.library.model.TypedValue;
+import org.spdx.storage.IModelStore;
+import org.spdx.storage.IModelStore.IdType;
+import org.spdx.storage.simple.InMemSpdxStore.BulkLoad;
+
+import junit.framework.TestCase;
+
+/**
+ * @author Gary O'Neall
+ *
+ */
+public class InMemStorePersistenceTest extends TestCase {
+	
+	static final String TEST_DOCUMENT_URI1 = "http://test.document.uri/1";
+	static final String TEST_DOCUMENT_URI2 = "http://test.document.uri/2";
+	static final String TEST_ID1 = "SPDXRef-1";
+	static final String TEST_ID2 = "SPDXRef-2";
+	
+	Path tempDir;
+
+	protected void setUp() throws Exception {
+		super.setUp();
+		tempDir = Files.createTempDirectory("inmemstorepersistencetest");
+	}
+
+	protected void tearDown() throws Exception {
+		super.tearDown();
+		for (Path file:listFiles()) {
+			Files.delete(file);
+		}
+		Files.deleteIfExists(tempDir);
+	}
+	
+	private List<Path> listFiles() throws IOException {
+		List<Path> retval = new ArrayList<>();
+		try (DirectoryStream<Path> files = Files.newDirectoryStream(tempDir)) {
+			files.forEach(retval::add);
+		}
+		return retval;
+	}
+	
+	private List<String> listFileNames() throws IOException {
+		return listFiles().stream().map(file -> file.getFileName().toString()).sorted().collect(Collectors.toList());
+	}
+	
+	/**
+	 * Populate a document with items covering all of the supported value types
+	 * @param store store to populate
+	 * @param documentUri document URI
+	 * @throws InvalidSPDXAnalysisException
+	 */
+	private void populate(IModelStore store, String documentUri) throws InvalidSPDXAnalysisException {
+		char[] longText = new char[100000];
+		Arrays.fill(longText, 'x');
+		store.create(documentUri, TEST_ID1, SpdxConstants.CLASS_SPDX_FILE);
+		store.create(documentUri, TEST_ID2, SpdxConstants.CLASS_SPDX_FILE);
+		String checksumId = store.getNextId(IdType.Anonymous, documentUri);
+		store.create(documentUri, checksumId, SpdxConstants.CLASS_SPDX_CHECKSUM);
+		store.setValue(documentUri, checksumId, SpdxConstants.PROP_CHECKSUM_VALUE, "d6a770ba38583ed4bb4525bd96e50461655d2758");
+		store.setValue(documentUri, TEST_ID1, SpdxConstants.PROP_NAME, "file1");
+		store.setValue(documentUri, TEST_ID1, SpdxConstants.RDFS_PROP_COMMENT, new String(longText));
+		store.setValue(documentUri, TEST_ID1, "booleanProp", true);
+		store.setValue(documentUri, TEST_ID1, "integerProp", -12345);
+		store.setValue(documentUri, TEST_ID1, SpdxConstants.PROP_LICENSE_CONCLUDED, 
+				new SimpleUriValue(SpdxConstants.URI_VALUE_NOASSERTION));
+		store.addValueToCollection(documentUri, TEST_ID1, SpdxConstants.PROP_FILE_CHECKSUM, 
+				new TypedValue(checksumId, SpdxConstants.CLASS_SPDX_CHECKSUM));
+		store.addValueToCollection(documentUri, TEST_ID1, SpdxConstants.PROP_FILE_CONTRIBUTOR, "contributor1");
+		store.addValueToCollection(documentUri, TEST_ID1, SpdxConstants.PROP_FILE_CONTRIBUTOR, "contributor2");
+	}
+	
+	private static List<Object> toList(Iterator<Object> iter) {
+		List<Object> retval = new ArrayList<>();
+		iter.forEachRemaining(retval::add);
+		return retval;
+	}
+	
+	private static void assertDocumentsEqual(IModelStore expected, IModelStore actual) throws InvalidSPDXAnalysisException {
+		List<String> expectedUris = new ArrayList<>(expected.getDocumentUris());
+		List<String> actualUris = new ArrayList<>(actual.getDocumentUris());
+		Collections.sort(expectedUris);
+		Collections.sort(actualUris);
+		assertEquals(expectedUris, actualUris);
+		for (String documentUri:expectedUris) {
+			List<TypedValue> expectedItems = expected.getAllItems(documentUri, null).collect(Collectors.toList());
+			List<TypedValue> actualItems = actual.getAllItems(documentUri, null).collect(Collectors.toList());
+			assertEquals(expectedItems, actualItems);
+			for (TypedValue item:expectedItems) {
+				List<String> propertyNames = new ArrayList<>(expected.getPropertyValueNames(documentUri, item.getId()));
+				List<String> actualPropertyNames = new ArrayList<>(actual.getPropertyValueNames(documentUri, item.getId()));
+				Collections.sort(propertyNames);
+				Collections.sort(actualPropertyNames);
+				assertEquals(propertyNames, actualPropertyNames);
+				for (String propertyName:propertyNames) {
+					if (expected.isCollectionProperty(documentUri, item.getId(), propertyName)) {
+						assertTrue(actual.isCollectionProperty(documentUri, item.getId(), propertyName));
+						List<Object> expectedValues = toList(expected.listValues(documentUri, item.getId(), propertyName));
+						List<Object> actualValues = toList(actual.listValues(documentUri, item.getId(), propertyName));
+						assertEquals(expectedValues.size(), actualValues.size());
+						assertTrue(actualValues.containsAll(expectedValues));
+					} else {
+						assertEquals(expected.getValue(documentUri, item.getId(), propertyName),
+								actual.getValue(documentUri, item.getId(), propertyName));
+					}
+				}
+			}
+		}
+	}
+	
+	public void testSnapshotRoundTrip() throws Exception {
+		InMemSpdxStore store = new InMemSpdxStore();
+		populate(store, TEST_DOCUMENT_URI1);
+		populate(store, TEST_DOCUMENT_URI2);
+		// empty collection
+		store.collectionSize(TEST_DOCUMENT_URI1, TEST_ID2, SpdxConstants.PROP_FILE_CONTRIBUTOR);
+		String nextId = store.getNextId(IdType.Anonymous, TEST_DOCUMENT_URI1);
+		ByteArrayOutputStream snapshot = new ByteArrayOutputStream();
+		store.writeSnapshot(snapshot, null);
+		
+		InMemSpdxStore restored = new InMemSpdxStore();
+		restored.readSnapshot(new ByteArrayInputStream(snapshot.toByteArray()));
+		assertDocumentsEqual(store, restored);
+		assertTrue(restored.getRevision() >= store.getRevision());
+		assertTrue(restored.getRevision(TEST_DOCUMENT_URI1, TEST_ID1) <= restored.getRevision());
+		// ID counters are restored
+		assertEquals(store.getNextId(IdType.Anonymous, TEST_DOCUMENT_URI1), restored.getNextId(IdType.Anonymous, TEST_DOCUMENT_URI1));
+		assertFalse(nextId.equals(restored.getNextId(IdType.Anonymous, TEST_DOCUMENT_URI1)));
+		// reference counts are restored
+		String checksumId = ((TypedValue)toList(restored.listValues(TEST_DOCUMENT_URI1, TEST_ID1, SpdxConstants.PROP_FILE_CHECKSUM)).get(0)).getId();
+		try {
+			restored.delete(TEST_DOCUMENT_URI1, checksumId);
+			fail("Deleted a referenced item");
+		} catch (SpdxIdInUseException ex) {
+			// expected
+		}
+		restored.clearValueCollection(TEST_DOCUMENT_URI1, TEST_ID1, SpdxConstants.PROP_FILE_CHECKSUM);
+		restored.delete(TEST_DOCUMENT_URI1, checksumId);
+		assertFalse(restored.exists(TEST_DOCUMENT_URI1, checksumId));
+	}
+	
+	public void testReadSnapshotErrors() throws Exception {
+		InMemSpdxStore store = new InMemSpdxStore();
+		populate(store, TEST_DOCUMENT_URI1);
+		ByteArrayOutputStream snapshot = new ByteArrayOutputStream();
+		store.writeSnapshot(snapshot, null);
+		try {
+			store.readSnapshot(new ByteArrayInputStream(snapshot.toByteArray()));
+			fail("Read a snapshot into a non-empty store");
+		} catch (InvalidSPDXAnalysisException ex) {
+			// expected
+		}
+		InMemSpdxStore restored = new InMemSpdxStore();
+		try {
+			restored.readSnapshot(new ByteArrayInputStream(snapshot.toByteArray(), 0, snapshot.size() - 10));
+			fail("Read an incomplete snapshot");
+		} catch (InvalidSPDXAnalysisException ex) {
+			// expected
+		}
+		assertTrue(restored.getDocumentUris().isEmpty());
+		try {
+			restored.readSnapshot(new ByteArrayInputStream(new byte[] {1, 2, 3, 4, 5, 6, 7, 8}));
+			fail("Read an invalid snapshot");
+		} catch (InvalidSPDXAnalysisException ex) {
+			// expected
+		}
+	}
+	
+	public void testJournalReplay() throws Exception {
+		InMemSpdxStore store = new InMemSpdxStore();
+		populate(store, TEST_DOCUMENT_URI1);
+		ByteArrayOutputStream snapshot = new ByteArrayOutputStream();
+		ByteArrayOutputStream journalBytes = new ByteArrayOutputStream();
+		StoreJournal journal = new StoreJournal(journalBytes, false);
+		store.writeSnapshot(snapshot, journal);
+		assertSame(journal, store.getJournal());
+		populate(store, TEST_DOCUMENT_URI2);
+		store.setValue(TEST_DOCUMENT_URI1, TEST_ID1, SpdxConstants.PROP_NAME, "newName");
+		store.removeProperty(TEST_DOCUMENT_URI1, TEST_ID1, "integerProp");
+		store.removeValueFromCollection(TEST_DOCUMENT_URI1, TEST_ID1, SpdxConstants.PROP_FILE_CONTRIBUTOR, "contributor1");
+		store.addValueToCollection(TEST_DOCUMENT_URI1, TEST_ID2, SpdxConstants.PROP_FILE_CONTRIBUTOR, "contributor3");
+		store.clearValueCollection(TEST_DOCUMENT_URI1, TEST_ID1, SpdxConstants.PROP_FILE_CHECKSUM);
+		store.delete(TEST_DOCUMENT_URI1, TEST_ID2);
+		store.create(TEST_DOCUMENT_URI1, TEST_ID2, SpdxConstants.CLASS_SPDX_PACKAGE);
+		try (BulkLoad bulkLoad = store.beginBulkLoad("http://test.document.uri/3", 2)) {
+			store.create("http://test.document.uri/3", TEST_ID1, SpdxConstants.CLASS_RELATIONSHIP);
+			// forward reference
+			store.setValue("http://test.document.uri/3", TEST_ID1, SpdxConstants.PROP_RELATED_SPDX_ELEMENT, 
+					new TypedValue(TEST_ID2, SpdxConstants.CLASS_SPDX_FILE));
+			store.create("http://test.document.uri/3", TEST_ID2, SpdxConstants.CLASS_SPDX_FILE);
+		}
+		// a failed commit is not journaled and the retried commit is
+		BulkLoad retried = store.beginBulkLoad("http://test.document.uri/4", 2);
+		store.create("http://test.document.uri/4", TEST_ID1, SpdxConstants.CLASS_RELATIONSHIP);
+		store.setValue("http://test.document.uri/4", TEST_ID1, SpdxConstants.PROP_RELATED_SPDX_ELEMENT, 
+				new TypedValue(TEST_ID2, SpdxConstants.CLASS_SPDX_FILE));
+		try {
+			retried.commit();
+			fail("Missing reference");
+		} catch (InvalidSPDXAnalysisException ex) {
+			// expected
+		}
+		store.create("http://test.document.uri/4", TEST_ID2, SpdxConstants.CLASS_SPDX_FILE);
+		retried.commit();
+		store.clear(TEST_DOCUMENT_URI2);
+		// failed mutations are not journaled
+		try {
+			store.create(TEST_DOCUMENT_URI1, TEST_ID1, SpdxConstants.CLASS_SPDX_FILE);
+			fail("Duplicate ID");
+		} catch (InvalidSPDXAnalysisException ex) {
+			// expected
+		}
+		journal.flush();
+		assertTrue(journal.getEntryCount() > 0);
+		
+		InMemSpdxStore restored = new InMemSpdxStore();
+		restored.readSnapshot(new ByteArrayInputStream(snapshot.toByteArray()));
+		long entries = StoreJournal.replay(new ByteArrayInputStream(journalBytes.toByteArray()), restored);
+		assertEquals(journal.getEntryCount(), entries);
+		assertDocumentsEqual(store, restored);
+		assertFalse(restored.isBulkLoading("http://test.document.uri/3"));
+		assertFalse(restored.isBulkLoading("http://test.document.uri/4"));
+	}
+	
+	public void testJournalIncompleteEntry() throws Exception {
+		InMemSpdxStore store = new InMemSpdxStore();
+		ByteArrayOutputStream journalBytes = new ByteArrayOutputStream();
+		StoreJournal journal = new StoreJournal(journalBytes, true);
+		store.setJournal(journal);
+		store.create(TEST_DOCUMENT_URI1, TEST_ID1, SpdxConstants.CLASS_SPDX_FILE);
+		int firstEntryLength = journalBytes.size();
+		store.setValue(TEST_DOCUMENT_URI1, TEST_ID1, SpdxConstants.PROP_NAME, "name");
+		store.setJournal(null);
+		store.setValue(TEST_DOCUMENT_URI1, TEST_ID1, SpdxConstants.PROP_NAME, "notJournaled");
+		assertEquals(2, journal.getEntryCount());
+		byte[] bytes = journalBytes.toByteArray();
+		
+		// truncated final entry
+		InMemSpdxStore restored = new InMemSpdxStore();
+		assertEquals(1, StoreJournal.replay(new ByteArrayInputStream(bytes, 0, bytes.length - 3), restored));
+		assertTrue(restored.exists(TEST_DOCUMENT_URI1, TEST_ID1));
+		assertFalse(restored.getValue(TEST_DOCUMENT_URI1, TEST_ID1, SpdxConstants.PROP_NAME).isPresent());
+		
+		// corrupt final entry
+		bytes[firstEntryLength + 6] ^= 0xFF;
+		restored = new InMemSpdxStore();
+		assertEquals(1, StoreJournal.replay(new ByteArrayInputStream(bytes), restored));
+		
+		bytes[firstEntryLength + 6] ^= 0xFF;
+		restored = new InMemSpdxStore();
+		assertEquals(2, StoreJournal.replay(new ByteArrayInputStream(bytes), restored));
+		assertEquals("name", restored.getValue(TEST_DOCUMENT_URI1, TEST_ID1, SpdxConstants.PROP_NAME).get());
+	}
+	
+	public void testJournalFailure() throws Exception {
+		InMemSpdxStore store = new InMemSpdxStore();
+		store.create(TEST_DOCUMENT_URI1, TEST_ID1, SpdxConstants.CLASS_SPDX_FILE);
+		store.setJournal(new StoreJournal(new OutputStream() {
+			@Override
+			public void write(int b) throws IOException {
+				throw new IOException("Disk full");
+			}
+		}, true));
+		try {
+			store.clearJournaled(TEST_DOCUMENT_URI1);
+			fail("Journal failure was not reported");
+		} catch (InvalidSPDXAnalysisException ex) {
+			// expected
+		}
+		try {
+			store.clear(TEST_DOCUMENT_URI1);
+			fail("Journal failure was not reported");
+		} catch (RuntimeException ex) {
+			assertTrue(ex.getCause() instanceof InvalidSPDXAnalysisException);
+		}
+	}
+	
+	public void testSnapshotWithConcurrentWriters() throws Exception {
+		InMemSpdxStore store = new InMemSpdxStore();
+		int writerCount = 4;
+		int itemsPerWriter = 2000;
+		CountDownLatch started = new CountDownLatch(writerCount);
+		List<Thread> writers = new ArrayList<>();
+		List<Throwable> errors = Collections.synchronizedList(new ArrayList<>());
+		for (int i = 0; i < writerCount; i++) {
+			String documentUri = "http://test.document.uri/writer" + i;
+			Thread writer = new Thread(() -> {
+				try {
+					for (int j = 0; j < itemsPerWriter; j++) {
+						store.create(documentUri, "SPDXRef-" + j, SpdxConstants.CLASS_SPDX_FILE);
+						store.setValue(documentUri, "SPDXRef-" + j, SpdxConstants.PROP_NAME, "file" + j);
+						if (j == 100) {
+							started.countDown();
+						}
+					}
+				} catch (Throwable e) {
+					errors.add(e);
+				}
+			});
+			writers.add(writer);
+			writer.start();
+		}
+		started.await();
+		// mutations without a journal are in progress while the snapshot is written
+		ByteArrayOutputStream snapshot = new ByteArrayOutputStream();
+		ByteArrayOutputStream journalBytes = new ByteArrayOutputStream();
+		StoreJournal journal = new StoreJournal(journalBytes, false);
+		store.writeSnapshot(snapshot, journal);
+		for (Thread writer:writers) {
+			writer.join();
+		}
+		assertTrue(errors.isEmpty());
+		journal.flush();
+		InMemSpdxStore restored = new InMemSpdxStore();
+		restored.readSnapshot(new ByteArrayInputStream(snapshot.toByteArray()));
+		StoreJournal.replay(new ByteArrayInputStream(journalBytes.toByteArray()), restored);
+		assertDocumentsEqual(store, restored);
+	}
+	
+	public void testRestoreAndCheckpoint() throws Exception {
+		InMemSpdxStore expected = new InMemSpdxStore();
+		try (InMemStorePersistence persistence = new InMemStorePersistence(tempDir, false)) {
+			InMemSpdxStore store = persistence.restore();
+			assertTrue(store.getDocumentUris().isEmpty());
+			populate(store, TEST_DOCUMENT_URI1);
+			populate(expected, TEST_DOCUMENT_URI1);
+		}
+		assertEquals(Arrays.asList("journal-0.bin"), listFileNames());
+		try (InMemStorePersistence persistence = new InMemStorePersistence(tempDir, false)) {
+			InMemSpdxStore store = persistence.restore();
+			assertDocumentsEqual(expected, store);
+			persistence.checkpoint();
+			assertEquals(1, persistence.getGeneration());
+			assertEquals(Arrays.asList("journal-1.bin", "snapshot-1.bin"), listFileNames());
+			populate(store, TEST_DOCUMENT_URI2);
+			populate(expected, TEST_DOCUMENT_URI2);
+			persistence.flush();
+		}
+		try (InMemStorePersistence persistence = new InMemStorePersistence(tempDir, true)) {
+			InMemSpdxStore store = persistence.restore();
+			assertEquals(1, persistence.getGeneration());
+			assertDocumentsEqual(expected, store);
+			store.delete(TEST_DOCUMENT_URI2, TEST_ID2);
+			expected.delete(TEST_DOCUMENT_URI2, TEST_ID2);
+		}
+		try (InMemStorePersistence persistence = new InMemStorePersistence(tempDir, true)) {
+			assertDocumentsEqual(expected, persistence.restore());
+		}
+	}
+	
+	public void testInterruptedCheckpoint() throws Exception {
+		InMemSpdxStore expected = new InMemSpdxStore();
+		try (InMemStorePersistence persistence = new InMemStorePersistence(tempDir, true)) {
+			InMemSpdxStore store = persistence.restore();
+			populate(store, TEST_DOCUMENT_URI1);
+			populate(expected, TEST_DOCUMENT_URI1);
+			persistence.checkpoint();
+			store.setValue(TEST_DOCUMENT_URI1, TEST_ID1, SpdxConstants.PROP_NAME, "gen1");
+			expected.setValue(TEST_DOCUMENT_URI1, TEST_ID1, SpdxConstants.PROP_NAME, "gen1");
+			persistence.flush();
+			byte[] snapshot1 = Files.readAllBytes(persistence.snapshotFile(1));
+			byte[] journal1 = Files.readAllBytes(persistence.journalFile(1));
+			persistence.checkpoint();
+			store.setValue(TEST_DOCUMENT_URI1, TEST_ID1, SpdxConstants.PROP_NAME, "gen2");
+			expected.setValue(TEST_DOCUMENT_URI1, TEST_ID1, SpdxConstants.PROP_NAME, "gen2");
+			persistence.flush();
+			// simulate a crash before the snapshot for generation 2 was renamed
+			Files.move(persistence.snapshotFile(2), tempDir.resolve("snapshot-2.tmp"));
+			Files.write(persistence.snapshotFile(1), snapshot1);
+			Files.write(persistence.journalFile(1), journal1);
+		}
+		try (InMemStorePersistence persistence = new InMemStorePersistence(tempDir, true)) {
+			InMemSpdxStore store = persistence.restore();
+			assertEquals(2, persistence.getGeneration());
+			assertDocumentsEqual(expected, store);
+			assertEquals(Arrays.asList("journal-1.bin", "journal-2.bin", "snapshot-1.bin"), listFileNames());
+		}
+	}
+}
@@ -0,0 +1,181 @@
+/**
+ * Copyright (c) 2026 Source Auditor Inc.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * 
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.storage.simple;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.spdx.library.InvalidSPDXAnalysisException;
+import org.spdx.library.ModelCopyManager;
+import org.spdx.library.SpdxConstants;
+import org.spdx.library.model.TypedValue;
+import org.spdx.storage.IModelStore.IModelStoreLock;
+import org.spdx.storage.streaming.ModelItem;
+import org.spdx.storage.streaming.ModelStoreItemLoader;
+
+import junit.framework.TestCase;
+
+/**
+ * @author Gary O'Neall
+ *
+ */
+public class ShardedSpdxStoreTest extends TestCase {
+	
+	static final int SHARD_COUNT = 8;
+	static final String DOCUMENT_URI_PREFIX = "http://test.document.uri/";
+	
+	ShardedSpdxStore store;
+
+	protected void setUp() throws Exception {
+		super.setUp();
+		store = new ShardedSpdxStore(SHARD_COUNT);
+	}
+
+	protected void tearDown() throws Exception {
+		super.tearDown();
+		store.close();
+	}
+	
+	/**
+	 * @return two document URIs stored in different shards
+	 */
+	private String[] documentsInDifferentShards() {
+		String documentUri1 = DOCUMENT_URI_PREFIX + 0;
+		int i = 1;
+		while (store.getShardIndex(DOCUMENT_URI_PREFIX + i) == store.getShardIndex(documentUri1)) {
+			i++;
+		}
+		return new String[] {documentUri1, DOCUMENT_URI_PREFIX + i};
+	}
+	
+	public void testDistribution() {
+		int[] counts = new int[SHARD_COUNT];
+		for (int i = 0; i < 8000; i++) {
+			int shardIndex = store.getShardIndex(DOCUMENT_URI_PREFIX + i);
+			assertEquals(shardIndex, store.getShardIndex(DOCUMENT_URI_PREFIX + i));
+			counts[shardIndex]++;
+		}
+		for (int count:counts) {
+			// within 50% of an even share
+			assertTrue(count > 500 && count < 1500);
+		}
+	}
+	
+	public void testConsistentHashing() throws Exception {
+		try (ShardedSpdxStore moreShards = new ShardedSpdxStore(SHARD_COUNT + 1)) {
+			int moved = 0;
+			for (int i = 0; i < 1000; i++) {
+				String documentUri = DOCUMENT_URI_PREFIX + i;
+				int newIndex = moreShards.getShardIndex(documentUri);
+				if (newIndex != store.getShardIndex(documentUri)) {
+					// documents only move to the new shard
+					assertEquals(SHARD_COUNT, newIndex);
+					moved++;
+				}
+			}
+			assertTrue(moved > 0 && moved < 250);
+		}
+	}
+	
+	public void testRouting() throws InvalidSPDXAnalysisException {
+		String[] documentUris = documentsInDifferentShards();
+		store.create(documentUris[0], "SPDXRef-1", SpdxConstants.CLASS_SPDX_FILE);
+		store.setValue(documentUris[0], "SPDXRef-1", SpdxConstants.PROP_NAME, "file1");
+		store.create(documentUris[1], "SPDXRef-1", SpdxConstants.CLASS_SPDX_FILE);
+		store.setValue(documentUris[1], "SPDXRef-1", SpdxConstants.PROP_NAME, "file2");
+		assertEquals("file1", store.getValue(documentUris[0], "SPDXRef-1", SpdxConstants.PROP_NAME).get());
+		assertEquals("file2", store.getValue(documentUris[1], "SPDXRef-1", SpdxConstants.PROP_NAME).get());
+		assertTrue(store.getShard(documentUris[0]).exists(documentUris[0], "SPDXRef-1"));
+		assertFalse(store.getShard(documentUris[1]).exists(documentUris[0], "SPDXRef-1"));
+		assertEquals(2, store.getDocumentUris().size());
+		assertTrue(store.getDocumentUris().contains(documentUris[0]));
+		assertTrue(store.getDocumentUris().contains(documentUris[1]));
+		assertEquals(1, store.getAllItems(documentUris[1], null).count());
+		store.delete(documentUris[1], "SPDXRef-1");
+		assertFalse(store.exists(documentUris[1], "SPDXRef-1"));
+		assertTrue(store.exists(documentUris[0], "SPDXRef-1"));
+	}
+	
+	public void testRevisions() throws InvalidSPDXAnalysisException {
+		String[] documentUris = documentsInDifferentShards();
+		store.create(documentUris[0], "SPDXRef-1", SpdxConstants.CLASS_SPDX_FILE);
+		store.create(documentUris[1], "SPDXRef-1", SpdxConstants.CLASS_SPDX_FILE);
+		store.setValue(documentUris[0], "SPDXRef-1", SpdxConstants.PROP_NAME, "file1");
+		long revision = store.getRevision();
+		long revision0 = store.getDocumentRevision(documentUris[0]);
+		long revision1 = store.getDocumentRevision(documentUris[1]);
+		assertTrue(store.getRevision(documentUris[1], "SPDXRef-1") <= revision1);
+		store.setValue(documentUris[1], "SPDXRef-1", SpdxConstants.PROP_NAME, "file2");
+		assertTrue(store.getRevision() > revision);
+		assertTrue(store.getRevision(documentUris[1], "SPDXRef-1") > revision1);
+		assertTrue(store.getRevision(documentUris[0], "SPDXRef-1") <= revision0);
+		// the shards do not share a revision counter
+		assertEquals(revision0, store.getDocumentRevision(documentUris[0]));
+	}
+	
+	public void testIndependentLocks() throws Exception {
+		String[] documentUris = documentsInDifferentShards();
+		IModelStoreLock lock = store.enterCriticalSection(documentUris[0], false);
+		try {
+			CountDownLatch acquired = new CountDownLatch(1);
+			Thread thread = new Thread(() -> {
+				try {
+					IModelStoreLock otherLock = store.enterCriticalSection(documentUris[1], false);
+					store.leaveCriticalSection(otherLock);
+					acquired.countDown();
+				} catch (InvalidSPDXAnalysisException e) {
+					throw new RuntimeException(e);
+				}
+			});
+			thread.start();
+			assertTrue(acquired.await(10, TimeUnit.SECONDS));
+			thread.join();
+		} finally {
+			store.leaveCriticalSection(lock);
+		}
+		// the lock must have been released
+		IModelStoreLock writeLock = store.enterCriticalSection(documentUris[0], false);
+		writeLock.unlock();
+	}
+	
+	public void testCopyBetweenShards() throws InvalidSPDXAnalysisException {
+		String[] documentUris = documentsInDifferentShards();
+		store.create(documentUris[0], "SPDXRef-1", SpdxConstants.CLASS_SPDX_FILE);
+		store.setValue(documentUris[0], "SPDXRef-1", SpdxConstants.PROP_NAME, "file1");
+		store.addValueToCollection(documentUris[0], "SPDXRef-1", SpdxConstants.PROP_FILE_CONTRIBUTOR, "contributor");
+		new ModelCopyManager().copy(store, documentUris[1], "SPDXRef-1", store, documentUris[0], "SPDXRef-1", 
+				SpdxConstants.CLASS_SPDX_FILE);
+		assertEquals("file1", store.getValue(documentUris[1], "SPDXRef-1", SpdxConstants.PROP_NAME).get());
+		assertTrue(store.collectionContains(documentUris[1], "SPDXRef-1", SpdxConstants.PROP_FILE_CONTRIBUTOR, "contributor"));
+	}
+	
+	public void testBulkLoad() throws InvalidSPDXAnalysisException {
+		String documentUri = DOCUMENT_URI_PREFIX + 0;
+		ModelStoreItemLoader loader = new ModelStoreItemLoader(store);
+		loader.startDocument(documentUri);
+		assertTrue(store.getShard(documentUri).isBulkLoading(documentUri));
+		loader.visit(new ModelItem.Builder(documentUri, "SPDXRef-1", SpdxConstants.CLASS_RELATIONSHIP)
+				.setValue(SpdxConstants.PROP_RELATED_SPDX_ELEMENT, new TypedValue("SPDXRef-2", SpdxConstants.CLASS_SPDX_FILE))
+				.build());
+		loader.visit(new ModelItem.Builder(documentUri, "SPDXRef-2", SpdxConstants.CLASS_SPDX_FILE).build());
+		loader.endDocument(documentUri);
+		assertFalse(store.getShard(documentUri).isBulkLoading(documentUri));
+		assertEquals(new TypedValue("SPDXRef-2", SpdxConstants.CLASS_SPDX_FILE), 
+				store.getValue(documentUri, "SPDXRef-1", SpdxConstants.PROP_RELATED_SPDX_ELEMENT).get());
+	}
+}
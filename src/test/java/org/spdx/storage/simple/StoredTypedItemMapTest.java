@@ -0,0 +1,152 @@
+/**
+ * Copyright (c) 2026 Source Auditor Inc.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * 
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.storage.simple;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import org.spdx.library.SpdxConstants;
+import org.spdx.library.model.TypedValue;
+
+import junit.framework.TestCase;
+
+/**
+ * @author Gary O'Neall
+ *
+ */
+public class StoredTypedItemMapTest extends TestCase {
+	
+	static final String TEST_DOCUMENT_URI = "http://test.document.uri/1";
+	
+	private static StoredTypedItem newItem(String id, String type) throws Exception {
+		return new StoredTypedItem(TEST_DOCUMENT_URI, id, type);
+	}
+	
+	public void testIndex() throws Exception {
+		StoredTypedItemMap map = new StoredTypedItemMap();
+		StoredTypedItem file1 = newItem("file1", SpdxConstants.CLASS_SPDX_FILE);
+		StoredTypedItem package1 = newItem("package1", SpdxConstants.CLASS_SPDX_PACKAGE);
+		StoredTypedItem file2 = newItem("file2", SpdxConstants.CLASS_SPDX_FILE);
+		assertNull(map.putIfAbsent("file1", file1));
+		assertNull(map.putIfAbsent("package1", package1));
+		assertNull(map.putIfAbsent("file2", file2));
+		assertSame(file1, map.putIfAbsent("file1", newItem("file1", SpdxConstants.CLASS_SPDX_FILE)));
+		assertEquals(3, map.size());
+		assertEquals(3, map.getItemCount(null));
+		assertEquals(2, map.getItemCount(SpdxConstants.CLASS_SPDX_FILE));
+		List<TypedValue> expected = new ArrayList<>();
+		expected.add(file1);
+		expected.add(file2);
+		assertEquals(expected, map.streamItems(SpdxConstants.CLASS_SPDX_FILE).collect(Collectors.toList()));
+		
+		assertFalse(map.remove("file1", newItem("file1", SpdxConstants.CLASS_SPDX_FILE)));
+		assertTrue(map.remove("file1", file1));
+		assertNull(map.remove("file1"));
+		assertSame(package1, map.remove("package1"));
+		assertEquals(1, map.getItemCount(null));
+		assertEquals(0, map.getItemCount(SpdxConstants.CLASS_SPDX_PACKAGE));
+		assertEquals(1, map.streamItems(null).count());
+		try {
+			map.values().clear();
+			fail("Values should not be modifiable");
+		} catch (UnsupportedOperationException e) {
+			// expected
+		}
+	}
+	
+	public void testMapView() throws Exception {
+		Map<String, StoredTypedItem> map = new StoredTypedItemMap();
+		StoredTypedItem file1 = newItem("file1", SpdxConstants.CLASS_SPDX_FILE);
+		StoredTypedItem package1 = newItem("file1", SpdxConstants.CLASS_SPDX_PACKAGE);
+		StoredTypedItem file2 = newItem("file2", SpdxConstants.CLASS_SPDX_FILE);
+		assertNull(map.put("file1", file1));
+		assertNull(map.put("file2", file2));
+		assertSame(file1, map.put("file1", package1));
+		assertSame(package1, map.get("file1"));
+		assertTrue(map.containsKey("file2"));
+		assertFalse(map.containsKey(Integer.valueOf(1)));
+		StoredTypedItemMap itemMap = (StoredTypedItemMap)map;
+		assertEquals(2, itemMap.getItemCount(null));
+		assertEquals(1, itemMap.getItemCount(SpdxConstants.CLASS_SPDX_FILE));
+		assertEquals(1, itemMap.getItemCount(SpdxConstants.CLASS_SPDX_PACKAGE));
+		assertEquals(2, map.keySet().size());
+		assertEquals(2, map.entrySet().size());
+		try {
+			map.entrySet().iterator().next().setValue(file1);
+			fail("Entries should not be modifiable");
+		} catch (UnsupportedOperationException e) {
+			// expected
+		}
+		try {
+			map.keySet().remove("file2");
+			fail("Keys should not be modifiable");
+		} catch (UnsupportedOperationException e) {
+			// expected
+		}
+		map.clear();
+		assertTrue(map.isEmpty());
+		assertEquals(0, itemMap.getItemCount(null));
+		assertEquals(0, itemMap.streamItems(SpdxConstants.CLASS_SPDX_FILE).count());
+	}
+	
+	public void testConcurrentPutRemove() throws Exception {
+		final StoredTypedItemMap map = new StoredTypedItemMap();
+		final int threads = 8;
+		final int iterations = 2000;
+		final int keys = 16;
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			CountDownLatch start = new CountDownLatch(1);
+			List<Future<?>> futures = new ArrayList<>();
+			for (int t = 0; t < threads; t++) {
+				final boolean adder = t % 2 == 0;
+				futures.add(executor.submit(() -> {
+					start.await();
+					for (int i = 0; i < iterations; i++) {
+						String key = "id" + (i % keys);
+						if (adder) {
+							map.putIfAbsent(key, newItem(key, SpdxConstants.CLASS_SPDX_FILE));
+						} else {
+							map.remove(key);
+						}
+					}
+					return null;
+				}));
+			}
+			start.countDown();
+			for (Future<?> future:futures) {
+				future.get();
+			}
+		} finally {
+			executor.shutdown();
+		}
+		List<TypedValue> indexed = map.streamItems(null).collect(Collectors.toList());
+		assertEquals(map.size(), indexed.size());
+		assertEquals(map.size(), map.getItemCount(null));
+		assertEquals(map.size(), map.getItemCount(SpdxConstants.CLASS_SPDX_FILE));
+		for (TypedValue item:indexed) {
+			assertSame(item, map.get(item.getId()));
+		}
+	}
+}
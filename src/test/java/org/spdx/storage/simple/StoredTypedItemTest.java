@@ -17,7 +17,9 @@
  */
 package org.spdx.storage.simple;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import org.spdx.library.InvalidSPDXAnalysisException;
@@ -209,6 +211,54 @@ public class StoredTypedItemTest extends TestCase {
 		assertFalse(sti.collectionContains(TEST_LIST_PROPERTIES[0], "notthere"));
 	}
 	
+	public void testPrimitiveCollectionDuplicates() throws InvalidSPDXAnalysisException {
+		StoredTypedItem sti = new StoredTypedItem(TEST_DOCUMENTURI1, TEST_ID1, TEST_TYPE1);
+		sti.addValueToList(TEST_LIST_PROPERTIES[0], "a");
+		sti.addValueToList(TEST_LIST_PROPERTIES[0], "b");
+		sti.addValueToList(TEST_LIST_PROPERTIES[0], "a");
+		assertEquals(3, sti.collectionSize(TEST_LIST_PROPERTIES[0]));
+		assertEquals(Arrays.asList("a", "a", "b"), InMemSpdxStoreTest.toImmutableList(sti.getValueList(TEST_LIST_PROPERTIES[0])));
+		assertTrue(sti.removeValueFromList(TEST_LIST_PROPERTIES[0], "a"));
+		assertTrue(sti.collectionContains(TEST_LIST_PROPERTIES[0], "a"));
+		assertEquals(2, sti.collectionSize(TEST_LIST_PROPERTIES[0]));
+		assertTrue(sti.removeValueFromList(TEST_LIST_PROPERTIES[0], "a"));
+		assertFalse(sti.collectionContains(TEST_LIST_PROPERTIES[0], "a"));
+		assertFalse(sti.removeValueFromList(TEST_LIST_PROPERTIES[0], "a"));
+		assertEquals(Arrays.asList("b"), InMemSpdxStoreTest.toImmutableList(sti.getValueList(TEST_LIST_PROPERTIES[0])));
+	}
+	
+	public void testLargePrimitiveCollection() throws InvalidSPDXAnalysisException, InterruptedException {
+		StoredTypedItem sti = new StoredTypedItem(TEST_DOCUMENTURI1, TEST_ID1, TEST_TYPE1);
+		int numThreads = 4;
+		int valuesPerThread = 25000;
+		Thread[] threads = new Thread[numThreads];
+		List<Exception> errors = Collections.synchronizedList(new ArrayList<>());
+		for (int t = 0; t < numThreads; t++) {
+			final int threadNum = t;
+			threads[t] = new Thread(() -> {
+				try {
+					for (int i = 0; i < valuesPerThread; i++) {
+						String value = "excluded/file" + threadNum + "_" + i;
+						if (!sti.collectionContains(TEST_LIST_PROPERTIES[0], value)) {
+							sti.addValueToList(TEST_LIST_PROPERTIES[0], value);
+						}
+					}
+				} catch (Exception e) {
+					errors.add(e);
+				}
+			});
+			threads[t].start();
+		}
+		for (Thread thread:threads) {
+			thread.join();
+		}
+		assertTrue(errors.isEmpty());
+		assertEquals(numThreads * valuesPerThread, sti.collectionSize(TEST_LIST_PROPERTIES[0]));
+		assertTrue(sti.collectionContains(TEST_LIST_PROPERTIES[0], "excluded/file3_24999"));
+		assertFalse(sti.collectionContains(TEST_LIST_PROPERTIES[0], "excluded/file4_0"));
+		assertEquals(numThreads * valuesPerThread, InMemSpdxStoreTest.toImmutableList(sti.getValueList(TEST_LIST_PROPERTIES[0])).size());
+	}
+	
 	public void testIsPropertyValueAssignableTo() throws InvalidSPDXAnalysisException {
 		StoredTypedItem sti = new StoredTypedItem(TEST_DOCUMENTURI1, TEST_ID1, TEST_TYPE1);
 		// String
@@ -0,0 +1,142 @@
+/**
+ * Copyright (c) 2026 Source Auditor Inc.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * 
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.storage.streaming;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.spdx.library.InvalidSPDXAnalysisException;
+import org.spdx.library.SpdxConstants;
+import org.spdx.library.model.TypedValue;
+import org.spdx.storage.mapped.MappedSpdxStore;
+import org.spdx.storage.simple.InMemSpdxStore;
+
+import junit.framework.TestCase;
+
+/**
+ * @author Gary O'Neall
+ *
+ */
+public class ChunkedModelItemWriterTest extends TestCase {
+	
+	static final String DOCUMENT_URI = ModelStoreItemReaderTest.DOCUMENT_URI;
+	
+	Path tempDir;
+	List<MappedSpdxStore> stores;
+	List<ByteArrayOutputStream> chunks;
+
+	protected void setUp() throws Exception {
+		super.setUp();
+		tempDir = Files.createTempDirectory("chunkedwritertest");
+		stores = new ArrayList<>();
+		chunks = new ArrayList<>();
+	}
+
+	protected void tearDown() throws Exception {
+		super.tearDown();
+		for (MappedSpdxStore store:stores) {
+			store.close();
+		}
+		Files.deleteIfExists(tempDir);
+	}
+	
+	private MappedSpdxStore newStore() throws InvalidSPDXAnalysisException {
+		MappedSpdxStore store = new MappedSpdxStore(tempDir, 4);
+		stores.add(store);
+		return store;
+	}
+	
+	private IModelItemWriter openChunk(String documentUri, int chunkIndex) throws InvalidSPDXAnalysisException {
+		assertEquals(DOCUMENT_URI, documentUri);
+		assertEquals(chunks.size(), chunkIndex);
+		ByteArrayOutputStream chunk = new ByteArrayOutputStream();
+		chunks.add(chunk);
+		return newStore().openWriter(chunk);
+	}
+	
+	private void assertSameDocument(InMemSpdxStore expected, InMemSpdxStore result) throws InvalidSPDXAnalysisException {
+		Iterator<TypedValue> iter = expected.getAllItems(DOCUMENT_URI, null).iterator();
+		int count = 0;
+		while (iter.hasNext()) {
+			String id = iter.next().getId();
+			assertEquals(ModelItem.fromStore(expected, DOCUMENT_URI, id), ModelItem.fromStore(result, DOCUMENT_URI, id));
+			count++;
+		}
+		assertEquals(count, result.getAllItems(DOCUMENT_URI, null).count());
+	}
+	
+	public void testChunkedRoundTrip() throws Exception {
+		InMemSpdxStore source = ModelStoreItemReaderTest.createDocument(7, 3, 12, 1, 5, 9);
+		try (ChunkedModelItemWriter writer = new ChunkedModelItemWriter(5, (documentUri, chunkIndex) -> {
+			try {
+				return openChunk(documentUri, chunkIndex);
+			} catch (InvalidSPDXAnalysisException e) {
+				throw new RuntimeException(e);
+			}
+		})) {
+			new ModelStoreItemReader(source, ModelStoreItemReader.ItemOrder.TYPE_AND_ID).read(DOCUMENT_URI, writer);
+			assertEquals(3, writer.getChunkCount());
+		}
+		assertEquals(3, chunks.size());
+		// the document in the first chunk references relationships in the last chunks
+		InMemSpdxStore result = new InMemSpdxStore();
+		ModelStoreItemLoader loader = new ModelStoreItemLoader(result);
+		MappedSpdxStore reader = newStore();
+		for (ByteArrayOutputStream chunk:chunks) {
+			assertEquals(DOCUMENT_URI, reader.deSerialize(new ByteArrayInputStream(chunk.toByteArray()), loader));
+		}
+		assertSameDocument(source, result);
+		assertFalse(reader.getAllItems(DOCUMENT_URI, null).findAny().isPresent());
+	}
+	
+	public void testIncrementalWrite() throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (IModelItemWriter writer = newStore().openWriter(out)) {
+			writer.startDocument(DOCUMENT_URI);
+			writer.visit(new ModelItem.Builder(DOCUMENT_URI, "SPDXRef-1", SpdxConstants.CLASS_RELATIONSHIP)
+					.setValue(SpdxConstants.PROP_RELATED_SPDX_ELEMENT, new TypedValue("SPDXRef-2", SpdxConstants.CLASS_SPDX_FILE))
+					.build());
+			writer.visit(new ModelItem.Builder(DOCUMENT_URI, "SPDXRef-2", SpdxConstants.CLASS_SPDX_FILE)
+					.setValue(SpdxConstants.PROP_NAME, "file")
+					.build());
+			writer.endDocument(DOCUMENT_URI);
+		}
+		MappedSpdxStore result = newStore();
+		assertEquals(DOCUMENT_URI, result.deSerialize(new ByteArrayInputStream(out.toByteArray()), false));
+		assertEquals("file", result.getValue(DOCUMENT_URI, "SPDXRef-2", SpdxConstants.PROP_NAME).get());
+		assertEquals(new TypedValue("SPDXRef-2", SpdxConstants.CLASS_SPDX_FILE), 
+				result.getValue(DOCUMENT_URI, "SPDXRef-1", SpdxConstants.PROP_RELATED_SPDX_ELEMENT).get());
+	}
+	
+	public void testVisitBeforeStart() throws Exception {
+		try (ChunkedModelItemWriter writer = new ChunkedModelItemWriter(1, (documentUri, chunkIndex) -> {
+			fail("Chunk should not be opened");
+			return null;
+		})) {
+			writer.visit(new ModelItem.Builder(DOCUMENT_URI, "SPDXRef-1", SpdxConstants.CLASS_SPDX_FILE).build());
+			fail("Visit before start should fail");
+		} catch (InvalidSPDXAnalysisException e) {
+			// expected
+		}
+	}
+}
@@ -0,0 +1,143 @@
+/**
+ * Copyright (c) 2026 Source Auditor Inc.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * 
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.storage.streaming;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.spdx.library.InvalidSPDXAnalysisException;
+import org.spdx.library.SpdxConstants;
+
+import junit.framework.TestCase;
+
+/**
+ * @author Gary O'Neall
+ *
+ */
+public class ModelItemPipeTest extends TestCase {
+	
+	static final String DOCUMENT_URI = "http://test.document.uri/1";
+	
+	static ModelItem item(int i) throws InvalidSPDXAnalysisException {
+		return new ModelItem.Builder(DOCUMENT_URI, "SPDXRef-" + i, SpdxConstants.CLASS_SPDX_FILE)
+				.setValue(SpdxConstants.PROP_NAME, "file" + i)
+				.build();
+	}
+
+	public void testStream() throws Exception {
+		try (Stream<ModelItem> items = ModelItemPipe.stream(visitor -> {
+			visitor.startDocument(DOCUMENT_URI);
+			for (int i = 0; i < 1000; i++) {
+				visitor.visit(item(i));
+			}
+			visitor.endDocument(DOCUMENT_URI);
+		}, 16)) {
+			List<String> ids = items.map(ModelItem::getId).collect(Collectors.toList());
+			assertEquals(1000, ids.size());
+			assertEquals("SPDXRef-0", ids.get(0));
+			assertEquals("SPDXRef-999", ids.get(999));
+		}
+	}
+	
+	public void testBackPressure() throws Exception {
+		AtomicInteger produced = new AtomicInteger();
+		CountDownLatch done = new CountDownLatch(1);
+		try (Stream<ModelItem> items = ModelItemPipe.stream(visitor -> {
+			try {
+				for (int i = 0; i < 100; i++) {
+					visitor.visit(item(i));
+					produced.incrementAndGet();
+				}
+			} finally {
+				done.countDown();
+			}
+		}, 4)) {
+			Iterator<ModelItem> iter = items.iterator();
+			assertEquals("SPDXRef-0", iter.next().getId());
+			// the producer is blocked once the buffer is full
+			Thread.sleep(200);
+			assertTrue(produced.get() <= 6);
+			int count = 1;
+			while (iter.hasNext()) {
+				iter.next();
+				count++;
+			}
+			assertEquals(100, count);
+			assertTrue(done.await(5, TimeUnit.SECONDS));
+		}
+	}
+	
+	public void testProducerFailure() throws Exception {
+		try (Stream<ModelItem> items = ModelItemPipe.stream(visitor -> {
+			visitor.visit(item(0));
+			throw new InvalidSPDXAnalysisException("Parse error");
+		}, 4)) {
+			items.count();
+			fail("Producer error should be rethrown");
+		} catch (RuntimeException e) {
+			assertTrue(e.getCause() instanceof InvalidSPDXAnalysisException);
+			assertEquals("Parse error", e.getCause().getMessage());
+		}
+	}
+	
+	public void testFailureAfterBufferedItems() throws Exception {
+		ModelItemPipe pipe = new ModelItemPipe(4);
+		for (int i = 0; i < 4; i++) {
+			pipe.visit(item(i));
+		}
+		// the buffer is full - the failure is added without waiting for the consumer
+		pipe.fail(new InvalidSPDXAnalysisException("Parse error"));
+		Iterator<ModelItem> iter = pipe.stream().iterator();
+		for (int i = 0; i < 4; i++) {
+			assertEquals("SPDXRef-" + i, iter.next().getId());
+		}
+		try {
+			iter.hasNext();
+			fail("Producer error should be rethrown after the buffered items");
+		} catch (RuntimeException e) {
+			assertEquals("Parse error", e.getCause().getMessage());
+		}
+	}
+	
+	public void testCancel() throws Exception {
+		AtomicReference<Throwable> producerError = new AtomicReference<>();
+		CountDownLatch done = new CountDownLatch(1);
+		Stream<ModelItem> items = ModelItemPipe.stream(visitor -> {
+			try {
+				for (int i = 0; i < 1000; i++) {
+					visitor.visit(item(i));
+				}
+			} catch (InvalidSPDXAnalysisException e) {
+				producerError.set(e);
+				throw e;
+			} finally {
+				done.countDown();
+			}
+		}, 2);
+		assertEquals("SPDXRef-0", items.findFirst().get().getId());
+		items.close();
+		assertTrue(done.await(5, TimeUnit.SECONDS));
+		assertTrue(producerError.get() instanceof InvalidSPDXAnalysisException);
+	}
+}
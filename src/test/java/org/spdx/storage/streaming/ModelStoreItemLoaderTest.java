@@ -0,0 +1,101 @@
+/**
+ * Copyright (c) 2026 Source Auditor Inc.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * 
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.storage.streaming;
+
+import java.util.Arrays;
+import java.util.Iterator;
+
+import org.spdx.library.InvalidSPDXAnalysisException;
+import org.spdx.library.SpdxConstants;
+import org.spdx.library.model.SpdxIdInUseException;
+import org.spdx.library.model.TypedValue;
+import org.spdx.storage.IModelStore;
+import org.spdx.storage.simple.ExtendedSpdxStore;
+import org.spdx.storage.simple.InMemSpdxStore;
+
+import junit.framework.TestCase;
+
+/**
+ * @author Gary O'Neall
+ *
+ */
+public class ModelStoreItemLoaderTest extends TestCase {
+	
+	static final String DOCUMENT_URI = "http://test.document.uri/1";
+	
+	/**
+	 * Load a relationship which references a file visited after it
+	 */
+	private void loadForwardReference(IModelStore store) throws InvalidSPDXAnalysisException {
+		ModelStoreItemLoader loader = new ModelStoreItemLoader(store, 10);
+		loader.startDocument(DOCUMENT_URI);
+		loader.visit(new ModelItem.Builder(DOCUMENT_URI, "SPDXRef-1", SpdxConstants.CLASS_RELATIONSHIP)
+				.setValue(SpdxConstants.PROP_RELATED_SPDX_ELEMENT, new TypedValue("SPDXRef-2", SpdxConstants.CLASS_SPDX_FILE))
+				.addValueToCollection(SpdxConstants.RDFS_PROP_COMMENT, "comment1")
+				.addValueToCollection(SpdxConstants.RDFS_PROP_COMMENT, "comment2")
+				.build());
+		loader.visit(new ModelItem.Builder(DOCUMENT_URI, "SPDXRef-2", SpdxConstants.CLASS_SPDX_FILE)
+				.setValue(SpdxConstants.PROP_NAME, "file")
+				.build());
+		loader.endDocument(DOCUMENT_URI);
+		assertEquals(2, loader.getItemCount());
+	}
+	
+	private void assertLoaded(IModelStore store) throws InvalidSPDXAnalysisException {
+		assertEquals("file", store.getValue(DOCUMENT_URI, "SPDXRef-2", SpdxConstants.PROP_NAME).get());
+		assertEquals(new TypedValue("SPDXRef-2", SpdxConstants.CLASS_SPDX_FILE), 
+				store.getValue(DOCUMENT_URI, "SPDXRef-1", SpdxConstants.PROP_RELATED_SPDX_ELEMENT).get());
+		Iterator<Object> comments = store.listValues(DOCUMENT_URI, "SPDXRef-1", SpdxConstants.RDFS_PROP_COMMENT);
+		assertEquals("comment1", comments.next());
+		assertEquals("comment2", comments.next());
+		assertFalse(comments.hasNext());
+		try {
+			store.delete(DOCUMENT_URI, "SPDXRef-2");
+			fail("Referenced item should not be deleted");
+		} catch (SpdxIdInUseException e) {
+			// expected
+		}
+	}
+	
+	public void testLoadInMemStore() throws Exception {
+		InMemSpdxStore store = new InMemSpdxStore();
+		loadForwardReference(store);
+		assertFalse(store.isBulkLoading(DOCUMENT_URI));
+		assertLoaded(store);
+	}
+	
+	public void testLoadOtherStore() throws Exception {
+		// wrap the store so that the loader does not use a bulk load
+		IModelStore store = new ExtendedSpdxStore(new InMemSpdxStore()) {
+		};
+		loadForwardReference(store);
+		assertLoaded(store);
+	}
+	
+	public void testFromStoreRoundTrip() throws Exception {
+		InMemSpdxStore store = new InMemSpdxStore();
+		loadForwardReference(store);
+		ModelItem item = ModelItem.fromStore(store, DOCUMENT_URI, "SPDXRef-1");
+		assertEquals(Arrays.asList("comment1", "comment2"), item.getCollection(SpdxConstants.RDFS_PROP_COMMENT));
+		assertEquals(Arrays.asList(new TypedValue("SPDXRef-2", SpdxConstants.CLASS_SPDX_FILE)), item.getReferences());
+		InMemSpdxStore store2 = new InMemSpdxStore();
+		new ModelStoreItemLoader(store2).visit(ModelItem.fromStore(store, DOCUMENT_URI, "SPDXRef-2"));
+		new ModelStoreItemLoader(store2).visit(item);
+		assertEquals(item, ModelItem.fromStore(store2, DOCUMENT_URI, "SPDXRef-1"));
+	}
+}
@@ -0,0 +1,115 @@
+/**
+ * Copyright (c) 2026 Source Auditor Inc.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * 
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.storage.streaming;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.spdx.library.InvalidSPDXAnalysisException;
+import org.spdx.library.SpdxConstants;
+import org.spdx.library.model.TypedValue;
+import org.spdx.storage.streaming.ModelStoreItemReader.ItemOrder;
+import org.spdx.storage.simple.InMemSpdxStore;
+
+import junit.framework.TestCase;
+
+/**
+ * @author Gary O'Neall
+ *
+ */
+public class ModelStoreItemReaderTest extends TestCase {
+	
+	static final String DOCUMENT_URI = "http://test.document.uri/1";
+	
+	/**
+	 * Create a document with relationships to files created out of ID order which are
+	 * referenced from the document
+	 * @param fileNumbers numbers used for the file IDs
+	 * @return store containing the document
+	 */
+	static InMemSpdxStore createDocument(int... fileNumbers) throws InvalidSPDXAnalysisException {
+		InMemSpdxStore store = new InMemSpdxStore();
+		store.create(DOCUMENT_URI, SpdxConstants.SPDX_DOCUMENT_ID, SpdxConstants.CLASS_SPDX_DOCUMENT);
+		store.setValue(DOCUMENT_URI, SpdxConstants.SPDX_DOCUMENT_ID, SpdxConstants.PROP_NAME, "document");
+		for (int fileNumber:fileNumbers) {
+			String fileId = "SPDXRef-File" + fileNumber;
+			store.create(DOCUMENT_URI, fileId, SpdxConstants.CLASS_SPDX_FILE);
+			store.setValue(DOCUMENT_URI, fileId, SpdxConstants.PROP_NAME, "file" + fileNumber);
+			store.addValueToCollection(DOCUMENT_URI, fileId, SpdxConstants.PROP_FILE_CONTRIBUTOR, "contributor" + fileNumber);
+			String relationshipId = "SPDXRef-Relationship" + fileNumber;
+			store.create(DOCUMENT_URI, relationshipId, SpdxConstants.CLASS_RELATIONSHIP);
+			store.setValue(DOCUMENT_URI, relationshipId, SpdxConstants.PROP_RELATED_SPDX_ELEMENT, 
+					new TypedValue(fileId, SpdxConstants.CLASS_SPDX_FILE));
+			store.addValueToCollection(DOCUMENT_URI, SpdxConstants.SPDX_DOCUMENT_ID, SpdxConstants.PROP_RELATIONSHIP, 
+					new TypedValue(relationshipId, SpdxConstants.CLASS_RELATIONSHIP));
+		}
+		return store;
+	}
+	
+	static class IdCollector implements IModelItemVisitor {
+		List<String> ids = new ArrayList<>();
+		int starts = 0;
+		int ends = 0;
+		
+		@Override
+		public void startDocument(String documentUri) {
+			starts++;
+		}
+
+		@Override
+		public void visit(ModelItem item) {
+			ids.add(item.getId());
+		}
+		
+		@Override
+		public void endDocument(String documentUri) {
+			ends++;
+		}
+	}
+	
+	public void testTypeAndIdOrder() throws Exception {
+		InMemSpdxStore store = createDocument(10, 2, 1);
+		IdCollector collector = new IdCollector();
+		assertEquals(7, new ModelStoreItemReader(store, ItemOrder.TYPE_AND_ID).read(DOCUMENT_URI, collector));
+		assertEquals(Arrays.asList(SpdxConstants.SPDX_DOCUMENT_ID, 
+				"SPDXRef-File1", "SPDXRef-File2", "SPDXRef-File10",
+				"SPDXRef-Relationship1", "SPDXRef-Relationship2", "SPDXRef-Relationship10"), collector.ids);
+		assertEquals(1, collector.starts);
+		assertEquals(1, collector.ends);
+	}
+	
+	public void testStoreOrder() throws Exception {
+		InMemSpdxStore store = createDocument(10, 2);
+		IdCollector collector = new IdCollector();
+		assertEquals(5, new ModelStoreItemReader(store).read(DOCUMENT_URI, collector));
+		assertEquals(Arrays.asList(SpdxConstants.SPDX_DOCUMENT_ID, "SPDXRef-File10", "SPDXRef-Relationship10", 
+				"SPDXRef-File2", "SPDXRef-Relationship2"), collector.ids);
+	}
+	
+	public void testIdComparator() {
+		assertTrue(ModelStoreItemReader.ID_COMPARATOR.compare("SPDXRef-2", "SPDXRef-10") < 0);
+		assertTrue(ModelStoreItemReader.ID_COMPARATOR.compare("SPDXRef-10", "SPDXRef-2") > 0);
+		assertTrue(ModelStoreItemReader.ID_COMPARATOR.compare("SPDXRef-a", "SPDXRef-b") < 0);
+		assertTrue(ModelStoreItemReader.ID_COMPARATOR.compare("SPDXRef-1", "SPDXRef-1a") < 0);
+		assertTrue(ModelStoreItemReader.ID_COMPARATOR.compare("SPDXRef-1", "SPDXRef-01") < 0);
+		assertTrue(ModelStoreItemReader.ID_COMPARATOR.compare("SPDXRef-01", "SPDXRef-2") < 0);
+		assertTrue(ModelStoreItemReader.ID_COMPARATOR.compare("SPDXRef-1-2", "SPDXRef-1-10") < 0);
+		assertEquals(0, ModelStoreItemReader.ID_COMPARATOR.compare("SPDXRef-12", "SPDXRef-12"));
+	}
+}
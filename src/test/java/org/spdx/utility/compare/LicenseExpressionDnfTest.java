@@ -0,0 +1,225 @@
+/**
+ * Copyright (c) 2026 Source Auditor Inc.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * 
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.utility.compare;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.spdx.library.DefaultModelStore;
+import org.spdx.library.InvalidSPDXAnalysisException;
+import org.spdx.library.model.license.AnyLicenseInfo;
+import org.spdx.library.model.license.InvalidLicenseStringException;
+import org.spdx.library.model.license.LicenseExpressionNode;
+import org.spdx.library.model.license.LicenseInfoFactory;
+
+import junit.framework.TestCase;
+
+/**
+ * @author Gary O'Neall
+ *
+ */
+public class LicenseExpressionDnfTest extends TestCase {
+	
+	static final String[] LEAVES = new String[] {"MIT", "Apache-2.0", "GPL-2.0+", "GPL-2.0 WITH Classpath-exception-2.0", "LicenseRef-1"};
+	
+	LicenseExpressionDnf.LeafTable table;
+
+	protected void setUp() throws Exception {
+		super.setUp();
+		DefaultModelStore.reset();
+		table = new LicenseExpressionDnf.LeafTable();
+	}
+
+	protected void tearDown() throws Exception {
+		super.tearDown();
+	}
+	
+	private LicenseExpressionDnf dnf(String expression) throws InvalidLicenseStringException, SpdxCompareException {
+		return LicenseExpressionDnf.of(expression, table);
+	}
+	
+	public void testAbsorption() throws InvalidLicenseStringException, SpdxCompareException {
+		assertEquals(dnf("MIT"), dnf("(MIT AND BSD-3-Clause) OR MIT"));
+		assertEquals(dnf("MIT"), dnf("MIT AND (MIT OR BSD-3-Clause)"));
+		assertEquals(dnf("MIT"), dnf("MIT OR MIT"));
+		assertFalse(dnf("MIT").equals(dnf("MIT AND BSD-3-Clause")));
+		assertEquals("MIT", dnf("(MIT AND BSD-3-Clause) OR MIT").toString());
+	}
+	
+	public void testDistribution() throws InvalidLicenseStringException, SpdxCompareException {
+		LicenseExpressionDnf result = dnf("(MIT OR Apache-2.0) AND (BSD-3-Clause OR MIT)");
+		assertEquals(dnf("MIT OR (Apache-2.0 AND BSD-3-Clause)"), result);
+		assertEquals(2, result.getTerms().size());
+		assertEquals(new HashSet<>(Arrays.asList("MIT")), result.getTerms().get(0));
+		assertEquals(new HashSet<>(Arrays.asList("Apache-2.0", "BSD-3-Clause")), result.getTerms().get(1));
+	}
+	
+	public void testOperatorsArePartOfLeaf() throws InvalidLicenseStringException, SpdxCompareException {
+		assertFalse(dnf("GPL-2.0").equals(dnf("GPL-2.0+")));
+		assertFalse(dnf("GPL-2.0").equals(dnf("GPL-2.0 WITH Classpath-exception-2.0")));
+		assertEquals(dnf("GPL-2.0+ WITH Classpath-exception-2.0 OR MIT"), dnf("MIT OR GPL-2.0+ WITH Classpath-exception-2.0"));
+	}
+	
+	public void testImplies() throws InvalidLicenseStringException, SpdxCompareException {
+		assertTrue(dnf("MIT").implies(dnf("MIT OR Apache-2.0")));
+		assertTrue(dnf("MIT AND Apache-2.0").implies(dnf("MIT")));
+		assertFalse(dnf("MIT OR Apache-2.0").implies(dnf("MIT")));
+		assertTrue(dnf("MIT OR (Apache-2.0 AND MIT)").implies(dnf("MIT")));
+		assertTrue(dnf("MIT").implies(dnf("MIT")));
+	}
+	
+	public void testDeduplication() throws InvalidLicenseStringException, SpdxCompareException {
+		Set<LicenseExpressionDnf> unique = new HashSet<>();
+		unique.add(dnf("MIT OR Apache-2.0"));
+		unique.add(dnf("Apache-2.0 OR MIT"));
+		unique.add(dnf("(Apache-2.0 OR MIT) OR (MIT AND Apache-2.0)"));
+		unique.add(dnf("MIT AND Apache-2.0"));
+		assertEquals(2, unique.size());
+	}
+	
+	public void testDifferentTables() throws InvalidLicenseStringException, SpdxCompareException {
+		LicenseExpressionDnf other = LicenseExpressionDnf.of("MIT", new LicenseExpressionDnf.LeafTable());
+		assertFalse(dnf("MIT").equals(other));
+		try {
+			dnf("MIT").isEquivalent(other);
+			fail("Expected exception comparing expressions from different tables");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+	}
+	
+	public void testTooComplex() throws InvalidLicenseStringException {
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < 14; i++) {
+			if (i > 0) {
+				sb.append(" AND ");
+			}
+			sb.append("(LicenseRef-a").append(i).append(" OR LicenseRef-b").append(i).append(')');
+		}
+		try {
+			dnf(sb.toString());
+			fail("Expected exception for too many terms");
+		} catch (SpdxCompareException e) {
+			// expected
+		}
+	}
+	
+	public void testManyLeaves() throws InvalidLicenseStringException, SpdxCompareException {
+		StringBuilder sb = new StringBuilder("LicenseRef-0");
+		for (int i = 1; i < 200; i++) {
+			sb.append(" AND LicenseRef-").append(i);
+		}
+		LicenseExpressionDnf all = dnf(sb.toString());
+		assertEquals(200, all.getTerms().get(0).size());
+		assertTrue(all.implies(dnf("LicenseRef-150")));
+		assertTrue(all.implies(dnf("LicenseRef-3 AND LicenseRef-199")));
+		assertFalse(dnf("LicenseRef-3 AND LicenseRef-199").implies(all));
+	}
+	
+	public void testAnyLicenseInfoMatchesNode() throws InvalidSPDXAnalysisException, SpdxCompareException {
+		Random random = new Random(36);
+		for (int i = 0; i < 500; i++) {
+			String expression = randomExpression(random, 3);
+			AnyLicenseInfo license = LicenseInfoFactory.parseSPDXLicenseString(expression);
+			assertEquals(expression, dnf(expression), LicenseExpressionDnf.of(license, table));
+		}
+	}
+	
+	public void testMatchesTruthTable() throws InvalidLicenseStringException, SpdxCompareException {
+		Random random = new Random(1036);
+		List<LicenseExpressionNode> nodes = new ArrayList<>();
+		List<LicenseExpressionDnf> dnfs = new ArrayList<>();
+		List<Integer> truthTables = new ArrayList<>();
+		for (int i = 0; i < 200; i++) {
+			LicenseExpressionNode node = LicenseInfoFactory.parseLicenseExpressionNode(randomExpression(random, 3));
+			nodes.add(node);
+			dnfs.add(LicenseExpressionDnf.of(node, table));
+			int truthTable = 0;
+			for (int assignment = 0; assignment < (1 << LEAVES.length); assignment++) {
+				if (evaluate(node, assignment)) {
+					truthTable |= 1 << assignment;
+				}
+			}
+			truthTables.add(truthTable);
+		}
+		for (int i = 0; i < nodes.size(); i++) {
+			for (int j = 0; j < nodes.size(); j++) {
+				int ttI = truthTables.get(i);
+				int ttJ = truthTables.get(j);
+				String msg = nodes.get(i) + " vs " + nodes.get(j);
+				assertEquals(msg, ttI == ttJ, dnfs.get(i).isEquivalent(dnfs.get(j)));
+				assertEquals(msg, (ttI & ~ttJ) == 0, dnfs.get(i).implies(dnfs.get(j)));
+			}
+		}
+	}
+	
+	public void testCompareHelperTranslation() throws InvalidSPDXAnalysisException, SpdxCompareException {
+		AnyLicenseInfo license1 = LicenseInfoFactory.parseSPDXLicenseString("(LicenseRef-1 AND MIT) OR LicenseRef-1");
+		AnyLicenseInfo license2 = LicenseInfoFactory.parseSPDXLicenseString("LicenseRef-2");
+		Map<String, String> xlationMap = new HashMap<>();
+		assertFalse(LicenseCompareHelper.isLicenseEquivalent(license1, license2, xlationMap));
+		assertFalse(LicenseCompareHelper.isLicenseEqual(license1, license2, xlationMap));
+		xlationMap.put("LicenseRef-1", "LicenseRef-2");
+		assertTrue(LicenseCompareHelper.isLicenseEquivalent(license1, license2, xlationMap));
+		assertFalse(LicenseCompareHelper.isLicenseEqual(license1, license2, xlationMap));
+	}
+	
+	private static String randomExpression(Random random, int depth) {
+		if (depth == 0 || random.nextInt(3) == 0) {
+			return LEAVES[random.nextInt(LEAVES.length)];
+		}
+		int count = 2 + random.nextInt(2);
+		String operator = random.nextBoolean() ? " AND " : " OR ";
+		StringBuilder sb = new StringBuilder("(");
+		for (int i = 0; i < count; i++) {
+			if (i > 0) {
+				sb.append(operator);
+			}
+			sb.append(randomExpression(random, depth - 1));
+		}
+		return sb.append(')').toString();
+	}
+	
+	private static boolean evaluate(LicenseExpressionNode node, int assignment) {
+		switch (node.getKind()) {
+			case AND: {
+				for (LicenseExpressionNode child:node.getChildren()) {
+					if (!evaluate(child, assignment)) {
+						return false;
+					}
+				}
+				return true;
+			}
+			case OR: {
+				for (LicenseExpressionNode child:node.getChildren()) {
+					if (evaluate(child, assignment)) {
+						return true;
+					}
+				}
+				return false;
+			}
+			default: return (assignment & (1 << Arrays.asList(LEAVES).indexOf(node.toString()))) != 0;
+		}
+	}
+}
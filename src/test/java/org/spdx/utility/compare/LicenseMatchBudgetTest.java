@@ -0,0 +1,126 @@
+/**
+ * Copyright (c) 2026 Source Auditor Inc.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * 
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.utility.compare;
+
+import java.util.List;
+
+import junit.framework.TestCase;
+
+/**
+ * @author Gary O'Neall
+ *
+ */
+public class LicenseMatchBudgetTest extends TestCase {
+	
+	static final String TEMPLATE = "The quick brown fox jumps over the lazy dog <<var;name=\"animal\";original=\"cat\";match=\".+\">> and runs away.";
+	static final String MATCHING_TEXT = "The quick brown fox jumps over the lazy dog and cat and runs away.";
+	// repeated greedy groups cause catastrophic backtracking when the text does not contain b
+	static final String PATHOLOGICAL_TEMPLATE = "Copyright <<var;name=\"holder\";original=\"ab\";match=\"(.*a){15}b\">> all rights reserved.";
+	static final String PATHOLOGICAL_TEXT = "Copyright aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaac all rights reserved.";
+	
+	public void testUnlimitedStatistics() throws Exception {
+		LicenseMatchStatistics statistics = new LicenseMatchStatistics("test", LicenseMatchBudget.UNLIMITED);
+		assertFalse(LicenseCompareHelper.isTextMatchingTemplate(TEMPLATE, MATCHING_TEXT, statistics).isDifferenceFound());
+		assertFalse(statistics.isBudgetExceeded());
+		assertNull(statistics.getBudgetExceededReason());
+		assertTrue(statistics.getTokensExamined() >= 12);
+		assertTrue(statistics.getElapsedNanos() > 0);
+		assertEquals(statistics.getElapsedNanos(), statistics.getElapsedNanos());
+	}
+	
+	public void testStepLimit() throws Exception {
+		LicenseMatchStatistics statistics = new LicenseMatchStatistics("test", new LicenseMatchBudget(0, 5));
+		try {
+			LicenseCompareHelper.isTextMatchingTemplate(TEMPLATE, MATCHING_TEXT, statistics);
+			fail("Step limit should be exceeded");
+		} catch (LicenseMatchBudgetExceededException e) {
+			assertSame(statistics, e.getStatistics());
+			assertTrue(e.getMessage().contains("test"));
+		}
+		assertTrue(statistics.isBudgetExceeded());
+		assertTrue(statistics.getSteps() > 5);
+	}
+	
+	public void testTimeLimitStopsPathologicalRegex() throws Exception {
+		LicenseMatchStatistics statistics = new LicenseMatchStatistics(null, new LicenseMatchBudget(100, 0));
+		long start = System.currentTimeMillis();
+		try {
+			LicenseCompareHelper.isTextMatchingTemplate(PATHOLOGICAL_TEMPLATE, PATHOLOGICAL_TEXT, statistics);
+			fail("Time limit should be exceeded");
+		} catch (LicenseMatchBudgetExceededException e) {
+			// expected
+		}
+		assertTrue(System.currentTimeMillis() - start < 10000);
+		assertTrue(statistics.isBudgetExceeded());
+		assertTrue(statistics.getRegexCharactersExamined() > 0);
+	}
+	
+	public void testTimeLimitWithinText() throws Exception {
+		TemplateRegexMatcher matcher = new TemplateRegexMatcher(PATHOLOGICAL_TEMPLATE);
+		LicenseMatchStatistics statistics = new LicenseMatchStatistics("pathological", new LicenseMatchBudget(100, 0));
+		try {
+			matcher.isTemplateMatchWithinText("Some text before. " + PATHOLOGICAL_TEXT, statistics);
+			fail("Time limit should be exceeded");
+		} catch (LicenseMatchBudgetExceededException e) {
+			// expected
+		}
+		assertTrue(statistics.isBudgetExceeded());
+	}
+	
+	public void testMonitor() throws Exception {
+		LicenseMatchMonitor monitor = new LicenseMatchMonitor();
+		LicenseMatchStatistics fast = new LicenseMatchStatistics("fast", LicenseMatchBudget.UNLIMITED);
+		LicenseCompareHelper.isTextMatchingTemplate(TEMPLATE, MATCHING_TEXT, fast);
+		monitor.record(fast);
+		monitor.record(fast);
+		LicenseMatchStatistics slow = new LicenseMatchStatistics("slow", new LicenseMatchBudget(50, 0));
+		try {
+			LicenseCompareHelper.isTextMatchingTemplate(PATHOLOGICAL_TEMPLATE, PATHOLOGICAL_TEXT, slow);
+			fail("Time limit should be exceeded");
+		} catch (LicenseMatchBudgetExceededException e) {
+			monitor.record(e.getStatistics());
+		}
+		monitor.record(new LicenseMatchStatistics(null, LicenseMatchBudget.UNLIMITED));
+		
+		LicenseMatchMonitor.LicenseMatchSummary fastSummary = monitor.getSummary("fast").get();
+		assertEquals(2, fastSummary.getComparisons());
+		assertEquals(2 * fast.getTokensExamined(), fastSummary.getTokensExamined());
+		assertEquals(2 * fast.getElapsedNanos(), fastSummary.getTotalNanos());
+		assertEquals(0, fastSummary.getBudgetExceeded());
+		assertEquals(1, monitor.getSummary("slow").get().getBudgetExceeded());
+		assertFalse(monitor.getSummary("unknown").isPresent());
+		
+		List<LicenseMatchMonitor.LicenseMatchSummary> slowest = monitor.getSlowestLicenses(1);
+		assertEquals(1, slowest.size());
+		assertEquals("slow", slowest.get(0).getLicenseId());
+		assertEquals(2, monitor.getSlowestLicenses(10).size());
+		monitor.reset();
+		assertTrue(monitor.getSlowestLicenses(10).isEmpty());
+	}
+	
+	public void testInvalidBudget() {
+		try {
+			new LicenseMatchBudget(-1, 0);
+			fail("Negative limit should fail");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+		assertTrue(LicenseMatchBudget.UNLIMITED.isUnlimited());
+		assertTrue(LicenseMatchBudget.getDefault().isUnlimited());
+	}
+}
@@ -0,0 +1,164 @@
+/**
+ * Copyright (c) 2026 Source Auditor Inc.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * 
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.utility.compare;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.spdx.library.DefaultModelStore;
+import org.spdx.library.InvalidSPDXAnalysisException;
+import org.spdx.library.ModelCopyManager;
+import org.spdx.library.model.Checksum;
+import org.spdx.library.model.SpdxDocument;
+import org.spdx.library.model.SpdxFile;
+import org.spdx.library.model.SpdxItem;
+import org.spdx.library.model.SpdxModelFactory;
+import org.spdx.library.model.SpdxPackage;
+import org.spdx.library.model.enumerations.ChecksumAlgorithm;
+import org.spdx.library.model.license.AnyLicenseInfo;
+import org.spdx.library.model.license.InvalidLicenseStringException;
+import org.spdx.library.model.license.LicenseInfoFactory;
+import org.spdx.storage.IModelStore;
+import org.spdx.storage.simple.InMemSpdxStore;
+
+import junit.framework.TestCase;
+
+/**
+ * @author Gary O'Neall
+ *
+ */
+public class LicensePolicyTest extends TestCase {
+	
+	static final String[] ALLOWED = new String[] {"MIT", "Apache-2.0", "BSD-3-Clause", "GPL-2.0+ WITH Classpath-exception-2.0", "LicenseRef-ok"};
+	static final String[] DENIED = new String[] {"GPL-3.0", "AGPL-3.0", "GPL-2.0+", "LicenseRef-bad"};
+	static final String[] EXPRESSIONS = new String[] {
+			"MIT", "GPL-3.0", "GPL-2.0", "GPL-2.0+", "GPL-2.0+ WITH Classpath-exception-2.0", "LicenseRef-ok", "LicenseRef-bad",
+			"MIT AND Apache-2.0", "MIT AND GPL-3.0", "MIT OR GPL-3.0", "GPL-3.0 OR AGPL-3.0", "(MIT OR GPL-3.0) AND Apache-2.0",
+			"(MIT AND GPL-3.0) OR (BSD-3-Clause AND LicenseRef-ok)", "(MIT AND GPL-3.0) OR (BSD-3-Clause AND Zlib)",
+			"NOASSERTION", "NONE", "GPL-2.0 WITH Classpath-exception-2.0 OR LicenseRef-bad"
+	};
+	
+	LicensePolicy policy;
+
+	protected void setUp() throws Exception {
+		super.setUp();
+		DefaultModelStore.reset();
+		policy = new LicensePolicy.Builder()
+				.allow("allowed", ALLOWED)
+				.deny("denied", DENIED)
+				.build();
+	}
+
+	protected void tearDown() throws Exception {
+		super.tearDown();
+	}
+	
+	public void testMatchesCompareHelper() throws InvalidSPDXAnalysisException {
+		long allowedMask = policy.getListMask("allowed");
+		long deniedMask = policy.getListMask("denied");
+		assertEquals(allowedMask | deniedMask, policy.getAllListsMask());
+		for (String expression:EXPRESSIONS) {
+			AnyLicenseInfo license = LicenseInfoFactory.parseSPDXLicenseString(expression);
+			boolean passAllowed = LicenseCompareHelper.isLicensePassWhiteList(license, ALLOWED);
+			boolean passDenied = LicenseCompareHelper.isLicensePassBlackList(license, DENIED);
+			long mask = policy.evaluate(license);
+			assertEquals(expression, passAllowed, (mask & allowedMask) != 0);
+			assertEquals(expression, passDenied, (mask & deniedMask) != 0);
+			assertEquals(expression, mask, policy.evaluate(expression));
+			assertEquals(expression, mask, policy.evaluate(LicenseInfoFactory.parseLicenseExpressionNode(expression)));
+			assertEquals(expression, passAllowed && passDenied, policy.isPass(license));
+			assertEquals(expression, passAllowed && passDenied, policy.isPass(expression));
+		}
+	}
+	
+	public void testEmptyAndNull() throws InvalidSPDXAnalysisException {
+		LicensePolicy empty = new LicensePolicy.Builder()
+				.allow("allowNone")
+				.deny("denyNone")
+				.build();
+		long mask = empty.evaluate("MIT OR Apache-2.0");
+		assertEquals(0, mask & empty.getListMask("allowNone"));
+		assertTrue((mask & empty.getListMask("denyNone")) != 0);
+		assertEquals(Arrays.asList("allowNone"), empty.getFailedLists(mask));
+		assertEquals(policy.getListMask("denied"), policy.evaluate((AnyLicenseInfo)null));
+		assertTrue(new LicensePolicy.Builder().build().isPass("GPL-3.0"));
+	}
+	
+	public void testNormalizedPolicyLicenses() throws InvalidSPDXAnalysisException {
+		LicensePolicy spaced = new LicensePolicy.Builder()
+				.allow("allowed", " GPL-2.0+   WITH Classpath-exception-2.0 ")
+				.build();
+		assertTrue(spaced.isPass("GPL-2.0+ WITH Classpath-exception-2.0"));
+		assertFalse(spaced.isPass("GPL-2.0 WITH Classpath-exception-2.0"));
+		assertFalse(spaced.isPass("GPL-2.0+"));
+	}
+	
+	public void testInvalidExpression() {
+		try {
+			policy.evaluate("MIT AND");
+			fail("Invalid expression should fail");
+		} catch (InvalidLicenseStringException e) {
+			// expected
+		}
+	}
+	
+	public void testBuilderErrors() {
+		try {
+			new LicensePolicy.Builder().allow("list", "MIT").deny("list", "GPL-3.0");
+			fail("Duplicate list names should fail");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+		LicensePolicy.Builder builder = new LicensePolicy.Builder();
+		for (int i = 0; i < LicensePolicy.MAX_LISTS; i++) {
+			builder.allow("list"+i, "MIT");
+		}
+		assertEquals(-1L, builder.build().getAllListsMask());
+		try {
+			builder.deny("oneTooMany", "GPL-3.0");
+			fail("Too many lists should fail");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+	}
+	
+	public void testEvaluateItems() throws InvalidSPDXAnalysisException {
+		String documentUri = "https://test.doc/uri";
+		IModelStore modelStore = new InMemSpdxStore();
+		ModelCopyManager copyManager = new ModelCopyManager();
+		SpdxDocument document = SpdxModelFactory.createSpdxDocument(modelStore, documentUri, copyManager);
+		Checksum sha1 = Checksum.create(modelStore, documentUri, ChecksumAlgorithm.SHA1, "d6a770ba38583ed4bb4525bd96e50461655d2758");
+		SpdxFile passFile = document.createSpdxFile("SPDXRef-pass", "./pass.c", 
+				LicenseInfoFactory.parseSPDXLicenseString("MIT OR GPL-3.0", modelStore, documentUri, copyManager),
+				Arrays.asList(new AnyLicenseInfo[0]), "Copyright", sha1).build();
+		SpdxFile failFile = document.createSpdxFile("SPDXRef-fail", "./fail.c", 
+				LicenseInfoFactory.parseSPDXLicenseString("MIT AND GPL-3.0", modelStore, documentUri, copyManager),
+				Arrays.asList(new AnyLicenseInfo[0]), "Copyright", sha1).build();
+		SpdxPackage pkg = document.createPackage("SPDXRef-pkg", "pkg", 
+				LicenseInfoFactory.parseSPDXLicenseString("Apache-2.0", modelStore, documentUri, copyManager), "Copyright", 
+				LicenseInfoFactory.parseSPDXLicenseString("Zlib", modelStore, documentUri, copyManager))
+				.setFilesAnalyzed(false)
+				.build();
+		Map<SpdxItem, Long> result = policy.evaluateItems(Stream.of(passFile, failFile, pkg));
+		assertEquals(3, result.size());
+		assertEquals(policy.getAllListsMask(), result.get(passFile).longValue());
+		assertEquals(0L, result.get(failFile).longValue());
+		assertEquals(policy.getListMask("denied"), result.get(pkg).longValue());
+	}
+}
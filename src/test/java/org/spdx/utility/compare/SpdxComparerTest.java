@@ -28,6 +28,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Stream;
 
 import org.spdx.library.DefaultModelStore;
@@ -1844,7 +1845,14 @@ public class SpdxComparerTest extends TestCase {
 		Collection<SpdxFile> pkgAFiles = new HashSet<>(Arrays.asList(new SpdxFile[] {FILE1A}));
 		UnitTestHelper.copyObjectsToDoc(docA, pkgAFiles);
 
-		Collection<SpdxFile> pkgBFiles = new HashSet<>(Arrays.asList(new SpdxFile[] {FILE3B}));
+		// different name and checksum from FILE1A
+		SpdxFile file3BDiffChecksum = new GenericModelObject().createSpdxFile("SPDXRef-FILE3BDIFF", FILE3_NAME, LICENSE_CONCLUDEDB, 
+				new HashSet<>(Arrays.asList(new AnyLicenseInfo[] {LICENSEB1, LICENSEB2})), 
+				COPYRIGHTA, CHECKSUM3)
+				.setFileTypes(new HashSet<>(Arrays.asList(new FileType[] {FileType.DOCUMENTATION, FileType.TEXT})))
+				.setChecksums(CHECKSUMSB)
+				.build();
+		Collection<SpdxFile> pkgBFiles = new HashSet<>(Arrays.asList(new SpdxFile[] {file3BDiffChecksum}));
 		UnitTestHelper.copyObjectsToDoc(docB, pkgBFiles);
 
 		SpdxComparer comparer = new SpdxComparer();
@@ -1854,7 +1862,64 @@ public class SpdxComparerTest extends TestCase {
 		assertTrue(FILE1A.equivalent(result.get(0)));
 		result = comparer.getUniqueFiles(1, 0);
 		assertEquals(1, result.size());
-		assertTrue(FILE3B.equivalent(result.get(0)));
+		assertTrue(file3BDiffChecksum.equivalent(result.get(0)));
+		assertTrue(comparer.getMovedFiles(0, 1).isEmpty());
+	}
+	
+	public void testGetMovedFiles() throws InvalidSPDXAnalysisException, IOException, SpdxCompareException {
+		SpdxDocument docA = new SpdxDocument(DOC_URIA);
+		SpdxDocument docB = new SpdxDocument(DOC_URIB);
+		docA.setExtractedLicenseInfos(Arrays.asList(EXTRACTED_LICENSESA));
+		docB.setExtractedLicenseInfos(Arrays.asList(EXTRACTED_LICENSESB));
+		docA.setName(DOC_NAMEA);
+		docB.setName(DOC_NAMEB);
+		docA.setCreationInfo(CREATION_INFOA);
+		docB.setCreationInfo(CREATION_INFOB);
+		
+		// FILE1A and FILE3B have the same checksums but different names
+		Collection<SpdxFile> pkgAFiles = new HashSet<>(Arrays.asList(new SpdxFile[] {FILE1A}));
+		UnitTestHelper.copyObjectsToDoc(docA, pkgAFiles);
+		Collection<SpdxFile> pkgBFiles = new HashSet<>(Arrays.asList(new SpdxFile[] {FILE3B}));
+		UnitTestHelper.copyObjectsToDoc(docB, pkgBFiles);
+
+		SpdxComparer comparer = new SpdxComparer();
+		comparer.compare(docA, docB);
+		assertTrue(comparer.getUniqueFiles(0, 1).isEmpty());
+		assertTrue(comparer.getUniqueFiles(1, 0).isEmpty());
+		assertFalse(comparer.isfilesEquals());
+		assertTrue(comparer.isDifferenceFound());
+		Map<SpdxFile, SpdxFile> moved = comparer.getMovedFiles(0, 1);
+		assertEquals(1, moved.size());
+		Map.Entry<SpdxFile, SpdxFile> entry = moved.entrySet().iterator().next();
+		assertEquals(FILE1_NAME, entry.getKey().getName().get());
+		assertEquals(FILE3_NAME, entry.getValue().getName().get());
+		moved = comparer.getMovedFiles(1, 0);
+		assertEquals(1, moved.size());
+		entry = moved.entrySet().iterator().next();
+		assertEquals(FILE3_NAME, entry.getKey().getName().get());
+		assertEquals(FILE1_NAME, entry.getValue().getName().get());
+	}
+	
+	public void testFilesMatchNormalizedPath() throws InvalidSPDXAnalysisException, SpdxCompareException {
+		SpdxDocument docA = new SpdxDocument(DOC_URIA);
+		SpdxDocument docB = new SpdxDocument(DOC_URIB);
+		docA.setName(DOC_NAMEA);
+		docB.setName(DOC_NAMEB);
+		docA.setCreationInfo(CREATION_INFOA);
+		docB.setCreationInfo(CREATION_INFOA);
+		AnyLicenseInfo noAssertionA = new SpdxNoAssertionLicense(docA.getModelStore(), docA.getDocumentUri());
+		AnyLicenseInfo noAssertionB = new SpdxNoAssertionLicense(docB.getModelStore(), docB.getDocumentUri());
+		docA.createSpdxFile("SPDXRef-pathA", "./src/main.c", noAssertionA, Arrays.asList(new AnyLicenseInfo[] {noAssertionA}), 
+				COPYRIGHTA, docA.createChecksum(ChecksumAlgorithm.SHA1, "111bf72bf99b7e471f1a27989667a903658652bb")).build();
+		docB.createSpdxFile("SPDXRef-pathB", "src\\main.c", noAssertionB, Arrays.asList(new AnyLicenseInfo[] {noAssertionB}), 
+				"Different copyright", docB.createChecksum(ChecksumAlgorithm.SHA1, "111bf72bf99b7e471f1a27989667a903658652bb")).build();
+		SpdxComparer comparer = new SpdxComparer();
+		comparer.compare(docA, docB);
+		assertTrue(comparer.getUniqueFiles(0, 1).isEmpty());
+		assertTrue(comparer.getMovedFiles(0, 1).isEmpty());
+		List<SpdxFileDifference> differences = comparer.getFileDifferences(0, 1);
+		assertEquals(1, differences.size());
+		assertFalse(differences.get(0).isCopyrightsEqual());
 	}
 	
 	public void testGetFileDifferences2()throws InvalidSPDXAnalysisException, IOException, SpdxCompareException {
@@ -2234,4 +2299,69 @@ public class SpdxComparerTest extends TestCase {
 		assertTrue(comparer.isDifferenceFound());
 		assertFalse(comparer.isSnippetsEqual());
 	}
+	
+	public void testCompareManyFilesWithPool() throws InvalidSPDXAnalysisException, SpdxCompareException {
+		int numFiles = SpdxComparer.FILE_COMPARE_BATCH_SIZE * 3 + 7;
+		SpdxDocument docA = createManyFilesDoc(DOC_URIA, DOC_NAMEA, numFiles, -1, -1);
+		SpdxDocument docB = createManyFilesDoc(DOC_URIB, DOC_NAMEB, numFiles, 5, numFiles - 2);
+		SpdxDocument docC = createManyFilesDoc(DOC_URIC, DOC_NAMEC, numFiles - 1, -1, -1);
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			SpdxComparer comparer = new SpdxComparer(pool);
+			comparer.compare(Arrays.asList(new SpdxDocument[] {docA, docB, docC}));
+			assertTrue(comparer.isDifferenceFound());
+			assertFalse(comparer.isfilesEquals());
+			List<SpdxFileDifference> differences = comparer.getFileDifferences(0, 1);
+			assertEquals(2, differences.size());
+			assertEquals(manyFilesName(5), differences.get(0).getFileName());
+			assertEquals(manyFilesName(numFiles - 2), differences.get(1).getFileName());
+			assertEquals(2, comparer.getFileDifferences(1, 0).size());
+			assertEquals(0, comparer.getFileDifferences(0, 2).size());
+			assertEquals(2, comparer.getFileDifferences(1, 2).size());
+			assertEquals(0, comparer.getUniqueFiles(0, 1).size());
+			List<SpdxFile> unique = comparer.getUniqueFiles(0, 2);
+			assertEquals(1, unique.size());
+			assertEquals(manyFilesName(numFiles - 1), unique.get(0).getName().get());
+			assertEquals(0, comparer.getUniqueFiles(2, 0).size());
+			
+			// the same results are expected with the default pool
+			SpdxComparer defaultComparer = new SpdxComparer();
+			defaultComparer.compare(Arrays.asList(new SpdxDocument[] {docA, docB, docC}));
+			assertEquals(2, defaultComparer.getFileDifferences(0, 1).size());
+			assertEquals(1, defaultComparer.getUniqueFiles(0, 2).size());
+		} finally {
+			pool.shutdown();
+		}
+	}
+	
+	private String manyFilesName(int fileNum) {
+		return String.format("./src/file%05d.c", fileNum);
+	}
+	
+	/**
+	 * @param docUri
+	 * @param docName
+	 * @param numFiles number of files to create
+	 * @param diffFile1 index of a file with a different copyright or -1
+	 * @param diffFile2 index of a file with a different copyright or -1
+	 * @return document containing the files
+	 * @throws InvalidSPDXAnalysisException
+	 */
+	private SpdxDocument createManyFilesDoc(String docUri, String docName, int numFiles, 
+			int diffFile1, int diffFile2) throws InvalidSPDXAnalysisException {
+		SpdxDocument doc = new SpdxDocument(docUri);
+		doc.setName(docName);
+		doc.setExtractedLicenseInfos(Arrays.asList(EXTRACTED_LICENSESA));
+		doc.setCreationInfo(CREATION_INFOA);
+		AnyLicenseInfo noAssertion = new SpdxNoAssertionLicense(doc.getModelStore(), doc.getDocumentUri());
+		// create in reverse order to make sure the files are sorted before comparing
+		for (int i = numFiles - 1; i >= 0; i--) {
+			String copyright = (i == diffFile1 || i == diffFile2) ? "Different copyright" : COPYRIGHTA;
+			doc.createSpdxFile("SPDXRef-manyfile" + i, manyFilesName(i), noAssertion, 
+					Arrays.asList(new AnyLicenseInfo[] {noAssertion}), copyright, 
+					doc.createChecksum(ChecksumAlgorithm.SHA1, String.format("%040d", i)))
+				.build();
+		}
+		return doc;
+	}
 }
@@ -0,0 +1,117 @@
+/**
+ * Copyright (c) 2026 Source Auditor Inc.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ * 
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ */
+package org.spdx.utility.verificationcode;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+
+import junit.framework.TestCase;
+
+/**
+ * @author Gary O'Neall
+ *
+ */
+public class FileChecksumCacheTest extends TestCase {
+	
+	Path tempDir;
+	Path dataFile;
+	Path cacheFile;
+
+	protected void setUp() throws Exception {
+		super.setUp();
+		tempDir = Files.createTempDirectory("spdxcachetest");
+		dataFile = tempDir.resolve("data.txt");
+		Files.write(dataFile, "data".getBytes("UTF-8"));
+		Files.setLastModifiedTime(dataFile, FileTime.fromMillis(System.currentTimeMillis() - 3600000L));
+		cacheFile = tempDir.resolve("cache").resolve("checksums");
+	}
+
+	protected void tearDown() throws Exception {
+		File[] cacheFiles = tempDir.resolve("cache").toFile().listFiles();
+		if (cacheFiles != null) {
+			for (File file:cacheFiles) {
+				file.delete();
+			}
+		}
+		Files.deleteIfExists(tempDir.resolve("cache"));
+		Files.deleteIfExists(dataFile);
+		Files.deleteIfExists(tempDir);
+		super.tearDown();
+	}
+	
+	private BasicFileAttributes attrs() throws IOException {
+		return Files.readAttributes(dataFile, BasicFileAttributes.class);
+	}
+	
+	public void testSaveLoad() throws IOException {
+		FileChecksumCache cache = new FileChecksumCache(cacheFile);
+		assertEquals(0, cache.size());
+		assertNull(cache.getChecksum("./data.txt", attrs()));
+		cache.putChecksum("./data.txt", attrs(), "abcd");
+		assertEquals("abcd", cache.getChecksum("./data.txt", attrs()));
+		cache.save();
+		cache = new FileChecksumCache(cacheFile);
+		assertEquals(1, cache.size());
+		assertEquals("abcd", cache.getChecksum("./data.txt", attrs()));
+		assertEquals(1, cache.getHitCount());
+		assertEquals(0, cache.getMissCount());
+	}
+	
+	public void testChangedMetadata() throws IOException {
+		FileChecksumCache cache = new FileChecksumCache(cacheFile);
+		cache.putChecksum("./data.txt", attrs(), "abcd");
+		Files.setLastModifiedTime(dataFile, FileTime.fromMillis(System.currentTimeMillis() - 7200000L));
+		assertNull(cache.getChecksum("./data.txt", attrs()));
+		cache.putChecksum("./data.txt", attrs(), "efgh");
+		Files.write(dataFile, "longer data".getBytes("UTF-8"));
+		Files.setLastModifiedTime(dataFile, FileTime.fromMillis(System.currentTimeMillis() - 7200000L));
+		assertNull(cache.getChecksum("./data.txt", attrs()));
+	}
+	
+	public void testSavePrunesUnused() throws IOException {
+		FileChecksumCache cache = new FileChecksumCache(cacheFile);
+		cache.putChecksum("./data.txt", attrs(), "abcd");
+		cache.putChecksum("./deleted.txt", attrs(), "efgh");
+		cache.save();
+		cache = new FileChecksumCache(cacheFile);
+		assertEquals(2, cache.size());
+		cache.getChecksum("./data.txt", attrs());
+		cache.save();
+		assertEquals(1, new FileChecksumCache(cacheFile).size());
+		// paths looked up before the previous save are not retained by the next save
+		cache.save();
+		assertEquals(0, new FileChecksumCache(cacheFile).size());
+	}
+	
+	public void testInvalidCacheFile() throws IOException {
+		Files.createDirectories(cacheFile.getParent());
+		Files.write(cacheFile, new byte[] {1, 2, 3, 4, 5, 6, 7, 8});
+		assertEquals(0, new FileChecksumCache(cacheFile).size());
+		FileChecksumCache cache = new FileChecksumCache(cacheFile);
+		cache.putChecksum("./data.txt", attrs(), "abcd");
+		cache.save();
+		byte[] saved = Files.readAllBytes(cacheFile);
+		Files.write(cacheFile, Arrays.copyOf(saved, saved.length - 3));
+		assertEquals(0, new FileChecksumCache(cacheFile).size());
+	}
+}
@@ -3,8 +3,19 @@ package org.spdx.utility.verificationcode;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.spdx.library.InvalidSPDXAnalysisException;
 import org.spdx.library.model.SpdxFile;
@@ -118,4 +129,187 @@ public class VerificationCodeGeneratorTest extends TestCase {
         assertEquals(ns5, VerificationCodeGenerator.normalizeFilePath(s5));
         assertEquals(ns6, VerificationCodeGenerator.normalizeFilePath(s6));
     }
+    
+    public void testParallelGeneratePackageVerificationCode() throws NoSuchAlgorithmException, IOException, InvalidSPDXAnalysisException {
+        VerificationCodeGenerator vg = new VerificationCodeGenerator(new JavaSha1ChecksumGenerator(), 4);
+        File sourceDirectory = new File(SOURCE_PATH);
+        File[] skippedFiles = new File[SKIPPED_FILE_NAMES.length];
+        for (int i = 0; i < skippedFiles.length; i++) {
+            skippedFiles[i] = new File(SKIPPED_FILE_NAMES[i]);
+        }
+        SpdxPackageVerificationCode vc = vg.generatePackageVerificationCode(sourceDirectory, skippedFiles, modelStore, DOCUMENT_URI);
+        assertEquals(SHA1_RESULT, vc.getValue());
+        compareFileNameArrays(SKIPPED_FILE_NAMES, vc.getExcludedFileNames());
+    }
+    
+    public void testSuppliedExecutor() throws NoSuchAlgorithmException, IOException, InvalidSPDXAnalysisException {
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            VerificationCodeGenerator vg = new VerificationCodeGenerator(new JavaSha1ChecksumGenerator(), executor, 3, null);
+            File[] skippedFiles = new File[SKIPPED_FILE_NAMES.length];
+            for (int i = 0; i < skippedFiles.length; i++) {
+                skippedFiles[i] = new File(SKIPPED_FILE_NAMES[i]);
+            }
+            for (int i = 0; i < 2; i++) {
+                SpdxPackageVerificationCode vc = vg.generatePackageVerificationCode(new File(SOURCE_PATH), skippedFiles, modelStore, DOCUMENT_URI);
+                assertEquals(SHA1_RESULT, vc.getValue());
+            }
+            assertFalse(executor.isShutdown());
+        } finally {
+            executor.shutdown();
+        }
+    }
+    
+    public void testNonThreadSafeGeneratorIsSequential() throws NoSuchAlgorithmException, IOException, InvalidSPDXAnalysisException {
+        JavaSha1ChecksumGenerator sha1 = new JavaSha1ChecksumGenerator();
+        AtomicInteger active = new AtomicInteger();
+        AtomicInteger maxActive = new AtomicInteger();
+        IFileChecksumGenerator hook = file -> {
+            maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+            try {
+                return sha1.getFileChecksum(file);
+            } finally {
+                active.decrementAndGet();
+            }
+        };
+        assertFalse(hook.isThreadSafe());
+        VerificationCodeGenerator vg = new VerificationCodeGenerator(hook, 8);
+        File[] skippedFiles = new File[SKIPPED_FILE_NAMES.length];
+        for (int i = 0; i < skippedFiles.length; i++) {
+            skippedFiles[i] = new File(SKIPPED_FILE_NAMES[i]);
+        }
+        SpdxPackageVerificationCode vc = vg.generatePackageVerificationCode(new File(SOURCE_PATH), skippedFiles, modelStore, DOCUMENT_URI);
+        assertEquals(SHA1_RESULT, vc.getValue());
+        assertEquals(1, maxActive.get());
+    }
+    
+    public void testInvalidParallelism() throws NoSuchAlgorithmException {
+        try {
+            new VerificationCodeGenerator(new JavaSha1ChecksumGenerator(), 0);
+            fail("Expected exception for parallelism 0");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+    
+    /**
+     * Compares the sequential and parallel results against an independently computed verification code
+     * for a synthetic directory tree.
+     */
+    public void testSyntheticTree() throws NoSuchAlgorithmException, IOException, InvalidSPDXAnalysisException {
+        int numFiles = 2000;
+        Path root = Files.createTempDirectory("spdxvc");
+        try {
+            Random random = new Random(39);
+            MessageDigest sha1 = MessageDigest.getInstance("SHA-1");
+            List<String> expectedChecksums = new ArrayList<>();
+            for (int i = 0; i < numFiles; i++) {
+                Path dir = root.resolve("d" + (i % 37)).resolve("e" + (i % 11));
+                Files.createDirectories(dir);
+                byte[] content = new byte[random.nextInt(i % 100 == 0 ? 600000 : 4000)];
+                random.nextBytes(content);
+                Files.write(dir.resolve("f" + i + ".c"), content);
+                expectedChecksums.add(toHex(sha1.digest(content)));
+            }
+            Files.write(root.resolve("skipped.txt"), new byte[] {1, 2, 3});
+            Collections.sort(expectedChecksums);
+            for (String checksum:expectedChecksums) {
+                sha1.update(checksum.getBytes("UTF-8"));
+            }
+            String expected = toHex(sha1.digest());
+            File[] skipped = new File[] {root.resolve("skipped.txt").toFile()};
+            
+            SpdxPackageVerificationCode sequential = new VerificationCodeGenerator(new JavaSha1ChecksumGenerator())
+            		.generatePackageVerificationCode(root.toFile(), skipped, modelStore, DOCUMENT_URI);
+            SpdxPackageVerificationCode parallel = new VerificationCodeGenerator(new JavaSha1ChecksumGenerator(), 
+            		Runtime.getRuntime().availableProcessors())
+            		.generatePackageVerificationCode(root.toFile(), skipped, modelStore, DOCUMENT_URI);
+            assertEquals(expected, sequential.getValue());
+            assertEquals(expected, parallel.getValue());
+            assertEquals(1, parallel.getExcludedFileNames().size());
+            assertTrue(parallel.getExcludedFileNames().contains("./skipped.txt"));
+        } finally {
+            deleteTree(root.toFile());
+        }
+    }
+    
+    public void testChecksumCache() throws NoSuchAlgorithmException, IOException, InvalidSPDXAnalysisException {
+        Path root = Files.createTempDirectory("spdxvc");
+        Path cacheDir = Files.createTempDirectory("spdxvccache");
+        try {
+            FileTime past = FileTime.fromMillis(System.currentTimeMillis() - 3600000L);
+            for (int i = 0; i < 50; i++) {
+                Path file = root.resolve("dir" + (i % 5)).resolve("file" + i + ".txt");
+                Files.createDirectories(file.getParent());
+                Files.write(file, ("content of file " + i).getBytes("UTF-8"));
+                Files.setLastModifiedTime(file, past);
+            }
+            Path cacheFile = cacheDir.resolve("checksums.cache");
+            JavaSha1ChecksumGenerator sha1 = new JavaSha1ChecksumGenerator();
+            AtomicInteger hashed = new AtomicInteger();
+            IFileChecksumGenerator countingGenerator = file -> {
+                hashed.incrementAndGet();
+                return sha1.getFileChecksum(file);
+            };
+            String expected = new VerificationCodeGenerator(sha1).generatePackageVerificationCode(root.toFile(), modelStore, DOCUMENT_URI).getValue();
+            
+            FileChecksumCache cache = new FileChecksumCache(cacheFile);
+            assertEquals(expected, new VerificationCodeGenerator(countingGenerator, 1, cache)
+            		.generatePackageVerificationCode(root.toFile(), modelStore, DOCUMENT_URI).getValue());
+            assertEquals(50, hashed.get());
+            assertEquals(50, cache.getMissCount());
+            assertTrue(Files.exists(cacheFile));
+            
+            // unchanged files are not rehashed
+            hashed.set(0);
+            cache = new FileChecksumCache(cacheFile);
+            assertEquals(50, cache.size());
+            assertEquals(expected, new VerificationCodeGenerator(countingGenerator, 1, cache)
+            		.generatePackageVerificationCode(root.toFile(), modelStore, DOCUMENT_URI).getValue());
+            assertEquals(0, hashed.get());
+            assertEquals(50, cache.getHitCount());
+            
+            // only changed files are rehashed
+            Path changed = root.resolve("dir3").resolve("file3.txt");
+            Files.write(changed, "changed content".getBytes("UTF-8"));
+            Files.setLastModifiedTime(changed, FileTime.fromMillis(past.toMillis() + 1000));
+            Files.delete(root.resolve("dir4").resolve("file4.txt"));
+            expected = new VerificationCodeGenerator(sha1).generatePackageVerificationCode(root.toFile(), modelStore, DOCUMENT_URI).getValue();
+            hashed.set(0);
+            cache = new FileChecksumCache(cacheFile);
+            assertEquals(expected, new VerificationCodeGenerator(countingGenerator, 4, cache)
+            		.generatePackageVerificationCode(root.toFile(), modelStore, DOCUMENT_URI).getValue());
+            assertEquals(1, hashed.get());
+            assertEquals(49, new FileChecksumCache(cacheFile).size());
+            
+            // recently modified files are not cached
+            Files.write(root.resolve("recent.txt"), "recent".getBytes("UTF-8"));
+            hashed.set(0);
+            cache = new FileChecksumCache(cacheFile);
+            new VerificationCodeGenerator(countingGenerator, 1, cache).generatePackageVerificationCode(root.toFile(), modelStore, DOCUMENT_URI);
+            assertEquals(1, hashed.get());
+            assertEquals(49, new FileChecksumCache(cacheFile).size());
+        } finally {
+            deleteTree(root.toFile());
+            deleteTree(cacheDir.toFile());
+        }
+    }
+    
+    private static String toHex(byte[] digest) {
+        StringBuilder sb = new StringBuilder();
+        for (byte b:digest) {
+            sb.append(String.format("%02x", b));
+        }
+        return sb.toString();
+    }
+    
+    private static void deleteTree(File file) {
+        File[] children = file.listFiles();
+        if (children != null) {
+            for (File child:children) {
+                deleteTree(child);
+            }
+        }
+        file.delete();
+    }
 }